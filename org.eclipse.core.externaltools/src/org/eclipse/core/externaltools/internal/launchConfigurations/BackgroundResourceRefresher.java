@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,18 +15,16 @@ package org.eclipse.core.externaltools.internal.launchConfigurations;
 
 
 import org.eclipse.core.runtime.jobs.Job;
-import org.eclipse.debug.core.DebugEvent;
-import org.eclipse.debug.core.DebugPlugin;
-import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.RefreshUtil;
 import org.eclipse.debug.core.model.IProcess;
+import org.eclipse.debug.internal.core.TerminationNotifier;
 
 /**
  * Refreshes resources as specified by a launch configuration, when
  * an associated process terminates.
  */
-public class BackgroundResourceRefresher implements IDebugEventSetListener  {
+public class BackgroundResourceRefresher {
 
 	private ILaunchConfiguration fConfiguration;
 	private IProcess fProcess;
@@ -41,27 +39,10 @@ public class BackgroundResourceRefresher implements IDebugEventSetListener  {
 	/**
 	 * If the process has already terminated, resource refreshing is done
 	 * immediately in the current thread. Otherwise, refreshing is done when the
-	 * process terminates.
+	 * process terminates or its launch is removed.
 	 */
 	public void startBackgroundRefresh() {
-		synchronized (fProcess) {
-			if (fProcess.isTerminated()) {
-				refresh();
-			} else {
-				DebugPlugin.getDefault().addDebugEventListener(this);
-			}
-		}
-	}
-
-	@Override
-	public void handleDebugEvents(DebugEvent[] events) {
-		for (DebugEvent event : events) {
-			if (event.getSource() == fProcess && event.getKind() == DebugEvent.TERMINATE) {
-				DebugPlugin.getDefault().removeDebugEventListener(this);
-				refresh();
-				break;
-			}
-		}
+		TerminationNotifier.whenTerminated(fProcess).whenComplete((process, e) -> refresh());
 	}
 
 	/**
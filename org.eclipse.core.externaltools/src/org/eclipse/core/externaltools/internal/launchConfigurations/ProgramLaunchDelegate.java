@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,11 @@ package org.eclipse.core.externaltools.internal.launchConfigurations;
 import java.io.File;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.core.externaltools.internal.IExternalToolConstants;
 import org.eclipse.core.resources.IProject;
@@ -32,6 +37,7 @@ import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.RefreshUtil;
 import org.eclipse.debug.core.model.IProcess;
 import org.eclipse.debug.core.model.LaunchConfigurationDelegate;
+import org.eclipse.debug.internal.core.TerminationNotifier;
 import org.eclipse.osgi.util.NLS;
 
 /**
@@ -49,6 +55,12 @@ public class ProgramLaunchDelegate extends LaunchConfigurationDelegate {
 	 */
 	private static final String ATTR_LAUNCH_IN_BACKGROUND = "org.eclipse.debug.ui.ATTR_LAUNCH_IN_BACKGROUND"; //$NON-NLS-1$
 
+	/**
+	 * Milliseconds between two checks for cancellation while waiting for a
+	 * process launched in the foreground.
+	 */
+	private static final long CANCEL_CHECK_INTERVAL = 100;
+
 	/**
 	 * @see org.eclipse.debug.core.model.ILaunchConfigurationDelegate#launch(org.eclipse.debug.core.ILaunchConfiguration,
 	 *      java.lang.String, org.eclipse.debug.core.ILaunch,
@@ -143,14 +155,16 @@ public class ProgramLaunchDelegate extends LaunchConfigurationDelegate {
 			}
 		} else {
 			// wait for process to exit
-			while (!process.isTerminated()) {
+			CompletableFuture<IProcess> termination = TerminationNotifier.whenTerminated(process);
+			while (!termination.isDone()) {
+				if (monitor.isCanceled()) {
+					process.terminate();
+					break;
+				}
 				try {
-					if (monitor.isCanceled()) {
-						process.terminate();
-						break;
-					}
-					Thread.sleep(50);
-				} catch (InterruptedException e) {
+					termination.get(CANCEL_CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+				} catch (TimeoutException | ExecutionException | CancellationException | InterruptedException e) {
+					// check for cancellation
 				}
 			}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,6 +25,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -50,6 +52,7 @@ import org.eclipse.core.runtime.Plugin;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.debug.core.model.IDebugElement;
 import org.eclipse.debug.core.model.IDisconnect;
 import org.eclipse.debug.core.model.IDropToFrame;
@@ -63,6 +66,8 @@ import org.eclipse.debug.core.model.IValue;
 import org.eclipse.debug.core.model.RuntimeProcess;
 import org.eclipse.debug.internal.core.BreakpointManager;
 import org.eclipse.debug.internal.core.DebugCoreMessages;
+import org.eclipse.debug.internal.core.DebugEventMetrics;
+import org.eclipse.debug.internal.core.DebugEventRouter;
 import org.eclipse.debug.internal.core.DebugOptions;
 import org.eclipse.debug.internal.core.ExpressionManager;
 import org.eclipse.debug.internal.core.IConfigurationElementConstants;
@@ -72,6 +77,7 @@ import org.eclipse.debug.internal.core.LogicalStructureManager;
 import org.eclipse.debug.internal.core.MemoryBlockManager;
 import org.eclipse.debug.internal.core.Preferences;
 import org.eclipse.debug.internal.core.StepFilterManager;
+import org.eclipse.debug.internal.core.TerminationNotifier;
 import org.eclipse.debug.internal.core.commands.CommandAdapterFactory;
 import org.eclipse.debug.internal.core.groups.GroupMemberChangeListener;
 import org.eclipse.debug.internal.core.sourcelookup.SourceLookupUtils;
@@ -409,9 +415,9 @@ public class DebugPlugin extends Plugin {
 	private MemoryBlockManager fMemoryBlockManager;
 
 	/**
-	 * The collection of debug event listeners.
+	 * Routing table for debug event listeners, notified in registration order.
 	 */
-	private ListenerList<IDebugEventSetListener> fEventListeners = new ListenerList<>();
+	private final DebugEventRouter fEventRouter = new DebugEventRouter();
 
 	/**
 	 * Event filters, or <code>null</code> if none.
@@ -445,11 +451,23 @@ public class DebugPlugin extends Plugin {
 
 	/**
 	 * Queue of debug events to fire to listeners and asynchronous runnables to execute
-	 * in the order received.
+	 * in the order received. Producers enqueue without locking, the
+	 * {@link EventDispatchJob} is the only consumer.
 	 *
 	 * @since 3.1
 	 */
-	private List<Object> fEventQueue = new ArrayList<>();
+	private final Queue<Object> fEventQueue = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Maximum number of queue entries the event dispatch job takes from the
+	 * queue at once.
+	 */
+	private static final int EVENT_BATCH_SIZE = 1024;
+
+	/**
+	 * Metrics of the event queue and dispatch.
+	 */
+	private final DebugEventMetrics fEventMetrics = DebugEventMetrics.getDefault();
 
 	/**
 	 * Job to fire events to listeners.
@@ -457,6 +475,21 @@ public class DebugPlugin extends Plugin {
 	 */
 	private EventDispatchJob fEventDispatchJob = new EventDispatchJob();
 
+	/**
+	 * Whether redundant change events are skipped, see
+	 * {@link IInternalDebugCoreConstants#PREF_COALESCE_CHANGE_EVENTS}.
+	 */
+	private volatile boolean fCoalesceChangeEvents;
+
+	/**
+	 * Keeps {@link #fCoalesceChangeEvents} up to date.
+	 */
+	private final IEclipsePreferences.IPreferenceChangeListener fCoalescePreferenceListener = event -> {
+		if (IInternalDebugCoreConstants.PREF_COALESCE_CHANGE_EVENTS.equals(event.getKey())) {
+			updateCoalesceChangeEvents();
+		}
+	};
+
 	/**
 	 * Event dispatch job. Processes event queue of debug events and runnables.
 	 *
@@ -478,23 +511,58 @@ public class DebugPlugin extends Plugin {
 
 		@Override
 		protected IStatus run(IProgressMonitor monitor) {
-
+			boolean coalesce = fCoalesceChangeEvents;
+			List<Object> batch = new ArrayList<>();
+			// compared across batches, duplicates straddling a batch boundary are skipped as well
+			Object previous = null;
 			while (!fEventQueue.isEmpty()) {
-				Object next = null;
-				synchronized (fEventQueue) {
-					if (!fEventQueue.isEmpty()) {
-						next = fEventQueue.remove(0);
-					}
+				Object next;
+				while (batch.size() < EVENT_BATCH_SIZE && (next = fEventQueue.poll()) != null) {
+					batch.add(next);
 				}
-				if (next instanceof Runnable) {
-					fRunner.async((Runnable) next);
-				} else if (next != null) {
-					fNotifier.dispatch((DebugEvent[]) next);
+				for (Object entry : batch) {
+					Object item = fEventMetrics.dequeued(entry);
+					if (item instanceof Runnable) {
+						fRunner.async((Runnable) item);
+					} else {
+						DebugEvent[] events = (DebugEvent[]) item;
+						if (coalesce && isRedundantChange(previous, events)) {
+							continue;
+						}
+						fNotifier.dispatch(events);
+					}
+					previous = item;
 				}
+				batch.clear();
 			}
 			return Status.OK_STATUS;
 		}
 
+		/**
+		 * Returns whether the given event set consists of a single
+		 * {@link DebugEvent#CHANGE} event which is identical to the single
+		 * event of the directly preceding event set.
+		 *
+		 * @param previous the preceding queue entry or <code>null</code>
+		 * @param events the event set to check
+		 * @return whether the event set can be skipped
+		 */
+		private boolean isRedundantChange(Object previous, DebugEvent[] events) {
+			if (!(previous instanceof DebugEvent[]) || events.length != 1) {
+				return false;
+			}
+			DebugEvent[] previousEvents = (DebugEvent[]) previous;
+			if (previousEvents.length != 1) {
+				return false;
+			}
+			DebugEvent event = events[0];
+			DebugEvent previousEvent = previousEvents[0];
+			return event.getKind() == DebugEvent.CHANGE && previousEvent.getKind() == DebugEvent.CHANGE
+					&& event.getSource() == previousEvent.getSource()
+					&& event.getDetail() == previousEvent.getDetail()
+					&& event.getData() == null && previousEvent.getData() == null;
+		}
+
 		@Override
 		public boolean shouldRun() {
 			return shouldSchedule();
@@ -502,11 +570,19 @@ public class DebugPlugin extends Plugin {
 
 		@Override
 		public boolean shouldSchedule() {
-			return !(isShuttingDown() || fEventListeners.isEmpty());
+			return !(isShuttingDown() || !hasEventListeners());
 		}
 
 	}
 
+	/**
+	 * Reads the {@link IInternalDebugCoreConstants#PREF_COALESCE_CHANGE_EVENTS}
+	 * preference.
+	 */
+	private void updateCoalesceChangeEvents() {
+		fCoalesceChangeEvents = Platform.getPreferencesService().getBoolean(getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_COALESCE_CHANGE_EVENTS, false, null);
+	}
+
 	/**
 	 * Returns the singleton instance of the debug plug-in.
 	 *
@@ -551,13 +627,81 @@ public class DebugPlugin extends Plugin {
 	/**
 	 * Adds the given listener to the collection of registered debug
 	 * event listeners. Has no effect if an identical listener is already
-	 * registered.
+	 * registered. A filtered subscription of the same listener is replaced,
+	 * i.e. a listener is notified at most once per event set. Listeners are
+	 * notified in the order they are registered, regardless of whether they
+	 * are filtered.
 	 *
 	 * @param listener the listener to add
 	 * @since 2.0
 	 */
 	public void addDebugEventListener(IDebugEventSetListener listener) {
-		fEventListeners.add(listener);
+		fEventRouter.add(listener);
+	}
+
+	/**
+	 * Adds the given listener to the collection of registered debug event
+	 * listeners which are only interested in events of the given kinds.
+	 * <p>
+	 * Equivalent to
+	 * <code>addDebugEventListener(listener, kinds, 0, null, null)</code>.
+	 * </p>
+	 *
+	 * @param listener the listener to add
+	 * @param kinds bitwise combination of the event kinds to receive, for
+	 *            example <code>DebugEvent.SUSPEND | DebugEvent.RESUME</code>
+	 * @see #addDebugEventListener(IDebugEventSetListener, int, int, String,
+	 *      ILaunch)
+	 * @since 3.21
+	 */
+	public void addDebugEventListener(IDebugEventSetListener listener, int kinds) {
+		addDebugEventListener(listener, kinds, 0, null, null);
+	}
+
+	/**
+	 * Adds the given listener to the collection of registered debug event
+	 * listeners which are only interested in specific events. The listener is
+	 * only notified of event sets containing at least one matching event and
+	 * only receives the matching events of the set.
+	 * <p>
+	 * An event matches if its kind is contained in <code>kinds</code>, its
+	 * detail is contained in <code>details</code> (unless <code>0</code>),
+	 * and its source belongs to the given debug model and launch (unless
+	 * <code>null</code>). The source belongs to a debug model if it is an
+	 * {@link IDebugElement} with the given model identifier. The source
+	 * belongs to a launch if it is a debug element or process of the launch
+	 * or the launch itself.
+	 * </p>
+	 * <p>
+	 * Subscribing the same listener again replaces its previous
+	 * subscription, including an unfiltered registration made with
+	 * {@link #addDebugEventListener(IDebugEventSetListener)}. A listener is
+	 * therefore notified at most once per event set. Event filters are
+	 * applied before events are matched.
+	 * </p>
+	 *
+	 * @param listener the listener to add
+	 * @param kinds bitwise combination of the event kinds to receive
+	 * @param details bitwise combination of the event details to receive or
+	 *            <code>0</code> for any detail
+	 * @param modelIdentifier debug model identifier of the event sources to
+	 *            receive events for or <code>null</code> for any source
+	 * @param launch launch of the event sources to receive events for or
+	 *            <code>null</code> for any launch
+	 * @see #removeDebugEventListener(IDebugEventSetListener)
+	 * @since 3.21
+	 */
+	public void addDebugEventListener(IDebugEventSetListener listener, int kinds, int details, String modelIdentifier, ILaunch launch) {
+		fEventRouter.add(listener, kinds, details, modelIdentifier, launch);
+	}
+
+	/**
+	 * Returns whether any debug event listener is registered.
+	 *
+	 * @return whether any debug event listener is registered
+	 */
+	private boolean hasEventListeners() {
+		return !fEventRouter.isEmpty();
 	}
 
 	/**
@@ -571,12 +715,10 @@ public class DebugPlugin extends Plugin {
 	 * @since 2.0
 	 */
 	public void fireDebugEventSet(DebugEvent[] events) {
-		if (isShuttingDown() || events == null || fEventListeners.isEmpty()) {
+		if (isShuttingDown() || events == null || !hasEventListeners()) {
 			return;
 		}
-		synchronized (fEventQueue) {
-			fEventQueue.add(events);
-		}
+		fEventQueue.add(fEventMetrics.enqueued(events));
 		fEventDispatchJob.schedule();
 	}
 
@@ -590,9 +732,7 @@ public class DebugPlugin extends Plugin {
 	 * @since 2.1
 	 */
 	public void asyncExec(Runnable r) {
-		synchronized (fEventQueue) {
-			fEventQueue.add(r);
-		}
+		fEventQueue.add(fEventMetrics.enqueued(r));
 		fEventDispatchJob.schedule();
 	}
 
@@ -694,7 +834,7 @@ public class DebugPlugin extends Plugin {
 	 * @since 2.0
 	 */
 	public void removeDebugEventListener(IDebugEventSetListener listener) {
-		fEventListeners.remove(listener);
+		fEventRouter.remove(listener);
 	}
 
 	@Override
@@ -702,6 +842,7 @@ public class DebugPlugin extends Plugin {
 		try {
 			setShuttingDown(true);
 
+			TerminationNotifier.shutdown();
 			if (fLaunchManager != null) {
 				fLaunchManager.shutdown();
 			}
@@ -712,8 +853,9 @@ public class DebugPlugin extends Plugin {
 				fMemoryBlockManager.shutdown();
 			}
 
-			fEventListeners.clear();
+			fEventRouter.clear();
 			fEventFilters.clear();
+			Preferences.removePreferenceListener(getUniqueIdentifier(), fCoalescePreferenceListener);
 
 			SourceLookupUtils.shutdown();
 			Preferences.savePreferences(DebugPlugin.getUniqueIdentifier());
@@ -728,6 +870,8 @@ public class DebugPlugin extends Plugin {
 	public void start(BundleContext context) throws Exception {
 		super.start(context);
 		new DebugOptions(context);
+		Preferences.addPreferenceListener(getUniqueIdentifier(), fCoalescePreferenceListener);
+		updateCoalesceChangeEvents();
 		ResourcesPlugin.getWorkspace().addSaveParticipant(getUniqueIdentifier(),
 				new ISaveParticipant() {
 					@Override
@@ -1171,7 +1315,13 @@ public class DebugPlugin extends Plugin {
 
 		void async(Runnable runnable) {
 			fRunnable = runnable;
-			SafeRunner.run(this);
+			if (fEventMetrics.isEnabled()) {
+				long start = System.nanoTime();
+				SafeRunner.run(this);
+				fEventMetrics.clientTime(runnable, System.nanoTime() - start);
+			} else {
+				SafeRunner.run(this);
+			}
 			fRunnable = null;
 
 		}
@@ -1196,6 +1346,7 @@ public class DebugPlugin extends Plugin {
 	class EventNotifier implements ISafeRunnable {
 
 		private DebugEvent[] fEvents;
+		private DebugEvent[] fListenerEvents;
 		private IDebugEventSetListener fListener;
 		private IDebugEventFilter fFilter;
 		private int fMode;
@@ -1223,13 +1374,27 @@ public class DebugPlugin extends Plugin {
 					fEvents = fFilter.filterDebugEvents(fEvents);
 					break;
 				case NOTIFY_EVENTS:
-					fListener.handleDebugEvents(fEvents);
+					fListener.handleDebugEvents(fListenerEvents);
 					break;
 				default:
 					break;
 			}
 		}
 
+		/**
+		 * Notifies the current listener and records the time it needed if
+		 * event metrics are enabled.
+		 */
+		private void notifyListener() {
+			if (fEventMetrics.isEnabled()) {
+				long start = System.nanoTime();
+				SafeRunner.run(this);
+				fEventMetrics.clientTime(fListener, System.nanoTime() - start);
+			} else {
+				SafeRunner.run(this);
+			}
+		}
+
 		/**
 		 * Filter and dispatch the given events. If an exception occurs in one
 		 * listener, events are still fired to subsequent listeners.
@@ -1255,11 +1420,13 @@ public class DebugPlugin extends Plugin {
 					DebugOptions.trace(event.toString());
 				}
 			}
-			for (IDebugEventSetListener iDebugEventSetListener : fEventListeners) {
-				fListener = iDebugEventSetListener;
-				SafeRunner.run(this);
-			}
+			fEventRouter.route(fEvents, (listener, matching) -> {
+				fListener = listener;
+				fListenerEvents = matching;
+				notifyListener();
+			});
 			fEvents = null;
+			fListenerEvents = null;
 			fFilter = null;
 			fListener = null;
 		}
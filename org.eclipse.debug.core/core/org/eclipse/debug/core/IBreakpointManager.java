@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@
 package org.eclipse.debug.core;
 
 
+import java.util.Map;
+
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.debug.core.model.IBreakpoint;
@@ -346,6 +348,26 @@ public interface IBreakpointManager {
 	 */
 	void refreshTriggerpointDisplay();
 
-}
-
+	/**
+	 * Sets the given attributes on the markers of the given breakpoints in a
+	 * single workspace operation. Attributes that already have the given value
+	 * are not set. Registered listeners are notified of all changed
+	 * breakpoints at once.
+	 * <p>
+	 * The attributes are set on the markers directly, side effects of the
+	 * setters of a breakpoint, such as registering the breakpoint with this
+	 * manager in {@link IBreakpoint#setRegistered(boolean)}, do not apply. The
+	 * display of trigger points is refreshed if a trigger point is enabled or
+	 * disabled.
+	 * </p>
+	 *
+	 * @param attributes attribute names and values to set, keyed by breakpoint
+	 * @exception CoreException if setting the attributes of one or more
+	 *                breakpoints fails, e.g. because the marker of a
+	 *                breakpoint does not exist. The attributes of the other
+	 *                breakpoints are set.
+	 * @since 3.21
+	 */
+	void setAttributes(Map<IBreakpoint, ? extends Map<String, ?>> attributes) throws CoreException;
 
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -116,10 +116,11 @@ public class Launch extends PlatformObject implements ILaunch, IDisconnect, ILau
 	}
 
 	/**
-	 * Registers debug event listener.
+	 * Registers debug event listener for termination of the processes and
+	 * debug targets of this launch.
 	 */
 	private void addEventListener() {
-		DebugPlugin.getDefault().addDebugEventListener(this);
+		DebugPlugin.getDefault().addDebugEventListener(this, DebugEvent.TERMINATE, 0, null, this);
 	}
 
 	/**
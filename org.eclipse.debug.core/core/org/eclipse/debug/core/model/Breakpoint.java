@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -51,8 +51,9 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 	 * @since 3.8
 	 */
 	public Breakpoint() {
+		fManager = (BreakpointManager) DebugPlugin.getDefault().getBreakpointManager();
 		// Make sure that the breakpoint manager is initialized (for details see bug 54993)
-		((BreakpointManager)DebugPlugin.getDefault().getBreakpointManager()).ensureInitialized();
+		fManager.ensureInitialized();
 	}
 
 	/**
@@ -60,12 +61,19 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 	 */
 	private IMarker fMarker= null;
 
+	/**
+	 * The breakpoint manager, caching the marker attributes of registered
+	 * breakpoints.
+	 */
+	private final BreakpointManager fManager;
+
 	/**
 	 * @see IBreakpoint#setMarker(IMarker)
 	 */
 	@Override
 	public void setMarker(IMarker marker) throws CoreException {
 		fMarker= marker;
+		fManager.markerChanged(this);
 
 	}
 
@@ -106,7 +114,7 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 	 */
 	@Override
 	public boolean isEnabled() throws CoreException {
-		return getMarker().getAttribute(ENABLED, false);
+		return getMarkerAttribute(ENABLED, false);
 	}
 
 	/**
@@ -114,8 +122,9 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 	 */
 	@Override
 	public boolean isRegistered() throws CoreException {
-			IMarker marker= getMarker();
-			return marker.exists() && marker.getAttribute(REGISTERED, true);
+		// the cache may still hold the attributes of a deleted marker
+		IMarker marker= getMarker();
+		return marker.exists() && getMarkerAttribute(REGISTERED, true);
 	}
 
 	/**
@@ -156,7 +165,7 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 	 */
 	@Override
 	public boolean isPersisted() throws CoreException {
-		return getMarker().getAttribute(PERSISTED, true);
+		return getMarkerAttribute(PERSISTED, true);
 	}
 
 	/**
@@ -175,7 +184,7 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 	 */
 	@Override
 	public boolean isTriggerPoint() throws CoreException {
-		return getMarker().getAttribute(TRIGGERPOINT, false);
+		return getMarkerAttribute(TRIGGERPOINT, false);
 	}
 
 	/**
@@ -208,7 +217,10 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 	 */
 	protected void setAttribute(final String attributeName, final boolean value) throws CoreException {
 		IWorkspace workspace= ResourcesPlugin.getWorkspace();
-		IWorkspaceRunnable runnable= monitor -> ensureMarker().setAttribute(attributeName, value);
+		IWorkspaceRunnable runnable= monitor -> {
+			ensureMarker().setAttribute(attributeName, value);
+			fManager.markerChanged(this);
+		};
 
 		workspace.run(runnable, getMarkerRule(), IWorkspace.AVOID_UPDATE, null);
 	}
@@ -226,7 +238,10 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 	 */
 	protected void setAttribute(final String attributeName, final int value) throws CoreException {
 		IWorkspace workspace= ResourcesPlugin.getWorkspace();
-		IWorkspaceRunnable runnable= monitor -> ensureMarker().setAttribute(attributeName, value);
+		IWorkspaceRunnable runnable= monitor -> {
+			ensureMarker().setAttribute(attributeName, value);
+			fManager.markerChanged(this);
+		};
 
 		workspace.run(runnable, getMarkerRule(), IWorkspace.AVOID_UPDATE, null);
 	}
@@ -244,7 +259,10 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 	 */
 	protected void setAttribute(final String attributeName, final Object value) throws CoreException {
 		IWorkspace workspace= ResourcesPlugin.getWorkspace();
-		IWorkspaceRunnable runnable= monitor -> ensureMarker().setAttribute(attributeName, value);
+		IWorkspaceRunnable runnable= monitor -> {
+			ensureMarker().setAttribute(attributeName, value);
+			fManager.markerChanged(this);
+		};
 
 		workspace.run(runnable, getMarkerRule(), IWorkspace.AVOID_UPDATE, null);
 	}
@@ -262,7 +280,10 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 	 */
 	protected void setAttributes(final String[] attributeNames, final Object[] values) throws CoreException {
 		IWorkspace workspace= ResourcesPlugin.getWorkspace();
-		IWorkspaceRunnable runnable= monitor -> ensureMarker().setAttributes(attributeNames, values);
+		IWorkspaceRunnable runnable= monitor -> {
+			ensureMarker().setAttributes(attributeNames, values);
+			fManager.markerChanged(this);
+		};
 
 		workspace.run(runnable, getMarkerRule(), IWorkspace.AVOID_UPDATE, null);
 	}
@@ -279,11 +300,55 @@ public abstract class Breakpoint extends PlatformObject implements IBreakpoint,
 	 */
 	protected void setAttributes(final Map<String, ? extends Object> attributes) throws CoreException {
 		IWorkspace workspace= ResourcesPlugin.getWorkspace();
-		IWorkspaceRunnable runnable= monitor -> ensureMarker().setAttributes(attributes);
+		IWorkspaceRunnable runnable= monitor -> {
+			ensureMarker().setAttributes(attributes);
+			fManager.markerChanged(this);
+		};
 
 		workspace.run(runnable, getMarkerRule(), IWorkspace.AVOID_UPDATE, null);
 	}
 
+	/**
+	 * Returns the value of the given boolean attribute of this breakpoint's
+	 * underlying marker. Registered breakpoints are read from the attributes
+	 * cached by the breakpoint manager, which are refreshed when attributes
+	 * are set through this breakpoint and when the marker delta of any other
+	 * change arrives.
+	 *
+	 * @param attributeName attribute name
+	 * @param defaultValue value if the attribute is not set or there is no
+	 *            marker
+	 * @return attribute value
+	 */
+	boolean getMarkerAttribute(String attributeName, boolean defaultValue) {
+		Map<String, Object> attributes = fManager.getMarkerAttributes(this);
+		if (attributes != null) {
+			Object value = attributes.get(attributeName);
+			return value instanceof Boolean ? ((Boolean) value).booleanValue() : defaultValue;
+		}
+		IMarker marker = getMarker();
+		return marker != null ? marker.getAttribute(attributeName, defaultValue) : defaultValue;
+	}
+
+	/**
+	 * Returns the value of the given integer attribute of this breakpoint's
+	 * underlying marker, see {@link #getMarkerAttribute(String, boolean)}.
+	 *
+	 * @param attributeName attribute name
+	 * @param defaultValue value if the attribute is not set or there is no
+	 *            marker
+	 * @return attribute value
+	 */
+	int getMarkerAttribute(String attributeName, int defaultValue) {
+		Map<String, Object> attributes = fManager.getMarkerAttributes(this);
+		if (attributes != null) {
+			Object value = attributes.get(attributeName);
+			return value instanceof Integer ? ((Integer) value).intValue() : defaultValue;
+		}
+		IMarker marker = getMarker();
+		return marker != null ? marker.getAttribute(attributeName, defaultValue) : defaultValue;
+	}
+
 	/**
 	 * Returns the marker associated with this breakpoint.
 	 *
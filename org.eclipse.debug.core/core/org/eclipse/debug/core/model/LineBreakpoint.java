@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -34,11 +34,7 @@ public abstract class LineBreakpoint extends Breakpoint implements ILineBreakpoi
 	 */
 	@Override
 	public int getLineNumber() throws CoreException {
-		IMarker m = getMarker();
-		if (m != null) {
-			return m.getAttribute(IMarker.LINE_NUMBER, -1);
-		}
-		return -1;
+		return getMarkerAttribute(IMarker.LINE_NUMBER, -1);
 	}
 
 	/**
@@ -46,11 +42,7 @@ public abstract class LineBreakpoint extends Breakpoint implements ILineBreakpoi
 	 */
 	@Override
 	public int getCharStart() throws CoreException {
-		IMarker m = getMarker();
-		if (m != null) {
-			return m.getAttribute(IMarker.CHAR_START, -1);
-		}
-		return -1;
+		return getMarkerAttribute(IMarker.CHAR_START, -1);
 	}
 
 	/**
@@ -58,11 +50,7 @@ public abstract class LineBreakpoint extends Breakpoint implements ILineBreakpoi
 	 */
 	@Override
 	public int getCharEnd() throws CoreException {
-		IMarker m = getMarker();
-		if (m != null) {
-			return m.getAttribute(IMarker.CHAR_END, -1);
-		}
-		return -1;
+		return getMarkerAttribute(IMarker.CHAR_END, -1);
 	}
 }
 
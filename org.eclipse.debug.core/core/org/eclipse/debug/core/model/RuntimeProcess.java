@@ -23,6 +23,7 @@ import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.CoreException;
@@ -37,6 +38,7 @@ import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.internal.core.DebugCoreMessages;
 import org.eclipse.debug.internal.core.NullStreamsProxy;
+import org.eclipse.debug.internal.core.StreamMonitorExecutor;
 import org.eclipse.debug.internal.core.StreamsProxy;
 
 /**
@@ -76,7 +78,7 @@ public class RuntimeProcess extends PlatformObject implements IProcess {
 	 * The monitor which listens for this runtime process' system process
 	 * to terminate.
 	 */
-	private final ProcessMonitorThread fMonitor;
+	private final ProcessMonitor fMonitor;
 
 	/**
 	 * The streams proxy for this process
@@ -152,7 +154,7 @@ public class RuntimeProcess extends PlatformObject implements IProcess {
 		fThreadNameSuffix = getPidInfo(process, launch);
 
 		fStreamsProxy = createStreamsProxy();
-		fMonitor = new ProcessMonitorThread(fThreadNameSuffix);
+		fMonitor = new ProcessMonitor(fThreadNameSuffix);
 		fMonitor.start();
 		launch.addProcess(this);
 		fireCreationEvent();
@@ -274,7 +276,7 @@ public class RuntimeProcess extends PlatformObject implements IProcess {
 			}
 
 			// clean-up
-			fMonitor.killThread();
+			fMonitor.kill();
 			IStatus status = new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(), DebugException.TARGET_REQUEST_FAILED, DebugCoreMessages.RuntimeProcess_terminate_failed, null);
 			throw new DebugException(status);
 		}
@@ -475,55 +477,62 @@ public class RuntimeProcess extends PlatformObject implements IProcess {
 	}
 
 	/**
-	 * Monitors a system process, waiting for it to terminate, and
-	 * then notifies the associated runtime process.
+	 * Monitors a system process for termination using
+	 * {@link Process#onExit()} and then notifies the associated runtime
+	 * process. No thread is blocked while waiting for the termination.
 	 */
-	private class ProcessMonitorThread extends Thread {
+	private class ProcessMonitor {
 
 		/**
-		 * Whether the thread has been told to exit.
+		 * Whether the runtime process was already notified.
 		 */
-		private volatile boolean fExit;
+		private final AtomicBoolean fNotified = new AtomicBoolean();
 
 		/**
-		 * @see Thread#run()
+		 * Name of the thread notifying the runtime process.
 		 */
-		@Override
-		public void run() {
-			Process fOSProcess = RuntimeProcess.this.getSystemProcess();
-			if (!fExit && fOSProcess != null) {
-				try {
-					fOSProcess.waitFor();
-				} catch (InterruptedException ie) {
-					// clear interrupted state
-					Thread.interrupted();
-				} finally {
-					RuntimeProcess.this.terminated();
-				}
-			}
-		}
+		private final String fName;
 
 		/**
-		 * Creates a new process monitor and starts monitoring the process for
-		 * termination.
+		 * Creates a new process monitor.
 		 *
 		 * @param suffix Thread name suffix
 		 */
-		private ProcessMonitorThread(String suffix) {
-			super(DebugCoreMessages.ProcessMonitorJob_0 + suffix);
-			setDaemon(true);
+		private ProcessMonitor(String suffix) {
+			fName = DebugCoreMessages.ProcessMonitorJob_0 + suffix;
+		}
+
+		/**
+		 * Starts monitoring the process for termination.
+		 */
+		private void start() {
+			Process process = RuntimeProcess.this.getSystemProcess();
+			if (process != null) {
+				process.onExit().whenComplete((p, e) -> notifyTerminated());
+			}
+		}
+
+		/**
+		 * Notifies the runtime process about the termination unless already
+		 * done. The notification is done asynchronously since it waits for
+		 * the stream monitors to finish.
+		 */
+		private void notifyTerminated() {
+			if (fNotified.compareAndSet(false, true)) {
+				StreamMonitorExecutor.execute(RuntimeProcess.this::terminated, fName, Thread.NORM_PRIORITY);
+			}
 		}
 
 		/**
-		 * Kills the monitoring thread.
+		 * Stops monitoring and notifies the runtime process as if the process
+		 * had terminated.
 		 *
 		 * This method is to be useful for dealing with the error
 		 * case of an underlying process which has not informed this
 		 * monitor of its termination.
 		 */
-		private void killThread() {
-			fExit = true;
-			this.interrupt(); // ignored if monitor thread is not yet running
+		private void kill() {
+			notifyTerminated();
 		}
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2020 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -16,13 +16,16 @@ package org.eclipse.debug.internal.core;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IMarkerDelta;
@@ -32,20 +35,25 @@ import org.eclipse.core.resources.IResourceChangeEvent;
 import org.eclipse.core.resources.IResourceChangeListener;
 import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.IResourceDeltaVisitor;
+import org.eclipse.core.resources.IResourceRuleFactory;
 import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IExtensionPoint;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.ListenerList;
+import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.MultiRule;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IBreakpointListener;
@@ -64,6 +72,19 @@ import org.eclipse.debug.core.model.ITriggerPoint;
  * will not automatically be initialized. Client code that expects markers and breakpoints to be
  * initialized must call {@link #ensureInitialized()}.
  * </p>
+ * <p>
+ * If {@link IInternalDebugCoreConstants#PREF_RESTORE_BREAKPOINTS_LAZILY} is
+ * set, initializing the manager only records the persisted breakpoint markers
+ * of each debug model. The breakpoints of a model are created, which
+ * activates the plug-in contributing them, once they are requested by model,
+ * by marker or resource, or as part of all breakpoints, e.g. by the
+ * Breakpoints view. Trigger points are restored right away.
+ * </p>
+ * <p>
+ * If {@link IInternalDebugCoreConstants#PREF_BREAKPOINT_NOTIFICATION_DELAY} is
+ * set, breakpoint listeners are notified in a background job after the delay,
+ * of the net effect of all notifications per breakpoint within the delay.
+ * </p>
  *
  * @see IBreakpointManager
  */
@@ -77,9 +98,29 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 	private final static int CHANGED = 2;
 
 	/**
-	 * A collection of breakpoints registered with this manager.
+	 * The breakpoints registered with this manager, indexed by marker, model
+	 * identifier, resource and line, or <code>null</code> if not yet
+	 * initialized.
 	 */
-	private Vector<IBreakpoint> fBreakpoints;
+	private BreakpointRegistry fBreakpoints;
+
+	/**
+	 * Whether the breakpoints are loaded, such that the registry can be
+	 * accessed without locking this manager.
+	 */
+	private volatile boolean fInitialized;
+
+	/**
+	 * Persisted breakpoint markers whose breakpoints are not yet restored,
+	 * keyed by model identifier.
+	 */
+	private final Map<String, Set<IMarker>> fPendingMarkers = new ConcurrentHashMap<>();
+
+	/**
+	 * Model identifiers whose breakpoints are being restored and the threads
+	 * restoring them, guarded by this manager.
+	 */
+	private final Map<String, Thread> fRestoring = new HashMap<>();
 
 	/**
 	 * Map of breakpoint import participants.
@@ -125,13 +166,6 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 	 */
 	private final HashMap<String, IConfigurationElement> fBreakpointExtensions;
 
-	/**
-	 * Collection of markers that associates markers to breakpoints
-	 * key: a marker
-	 * value: the breakpoint which contains that marker
-	 */
-	private final HashMap<IMarker, IBreakpoint> fMarkersToBreakpoints;
-
 	/**
 	 * Collection of breakpoint listeners.
 	 */
@@ -154,6 +188,11 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 	 */
 	private final ListenerList<IBreakpointManagerListener> fBreakpointManagerListeners = new ListenerList<>();
 
+	/**
+	 * Collects breakpoint notifications if they are delayed.
+	 */
+	private final BreakpointNotificationJob fNotificationJob = new BreakpointNotificationJob();
+
 	/**
 	 * Breakpoint which acts a the triggering point in a workspace.
 	 */
@@ -259,7 +298,6 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 	 * Constructs a new breakpoint manager.
 	 */
 	public BreakpointManager() {
-		fMarkersToBreakpoints = new HashMap<>(10);
 		fBreakpointExtensions = new HashMap<>(15);
 	}
 
@@ -272,8 +310,19 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 	 */
 	private void loadBreakpoints(IResource resource, boolean notify) throws CoreException {
 		initBreakpointExtensions();
+		loadBreakpoints(getPersistedMarkers(resource), notify);
+	}
+
+	/**
+	 * Creates the breakpoints of the given markers and registers them.
+	 *
+	 * @param markers the persisted breakpoint markers
+	 * @param notify whether to notify of the breakpoint additions
+	 * @throws CoreException if a problem is encountered
+	 */
+	private void loadBreakpoints(IMarker[] markers, boolean notify) throws CoreException {
 		List<IBreakpoint> added = new ArrayList<>();
-		for (IMarker marker : getPersistedMarkers(resource)) {
+		for (IMarker marker : markers) {
 			try {
 				IBreakpoint breakpoint = createBreakpoint(marker);
 				synchronized (fPostChangMarkersChanged) {
@@ -293,6 +342,143 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 		addBreakpoints(added.toArray(new IBreakpoint[added.size()]), notify);
 	}
 
+	/**
+	 * Records the persisted breakpoint markers on the given resource to
+	 * restore their breakpoints on demand. Breakpoints of models having
+	 * trigger points are restored right away.
+	 *
+	 * @param resource the resource which contains the breakpoints
+	 * @throws CoreException if a problem is encountered
+	 */
+	private void deferBreakpoints(IResource resource) throws CoreException {
+		initBreakpointExtensions();
+		Set<String> triggerPointModels = new HashSet<>();
+		List<IMarker> withoutModel = new ArrayList<>();
+		for (IMarker marker : getPersistedMarkers(resource)) {
+			synchronized (fPostChangMarkersChanged) {
+				fPostBuildMarkersAdded.add(marker);
+			}
+			boolean triggerPoint = marker.getAttribute(IBreakpoint.TRIGGERPOINT, false);
+			if (!triggerPoint && !marker.getAttribute(IBreakpoint.REGISTERED, true)) {
+				// not registered, created on demand by clients
+				continue;
+			}
+			String modelIdentifier = marker.getAttribute(IBreakpoint.ID, null);
+			if (modelIdentifier == null) {
+				withoutModel.add(marker);
+				continue;
+			}
+			fPendingMarkers.computeIfAbsent(modelIdentifier, id -> ConcurrentHashMap.newKeySet()).add(marker);
+			if (triggerPoint) {
+				triggerPointModels.add(modelIdentifier);
+			}
+		}
+		// the model of these is only known once the breakpoint is created, they
+		// are loaded right away and logged as missing the model if it is unknown
+		loadBreakpoints(withoutModel.toArray(new IMarker[withoutModel.size()]), false);
+		for (String modelIdentifier : triggerPointModels) {
+			restoreBreakpoints(modelIdentifier);
+		}
+	}
+
+	/**
+	 * Restores the breakpoints of the given debug model if they were deferred.
+	 * The model is marked as restoring while holding this manager's lock, the
+	 * breakpoints are created without holding it since this may activate
+	 * plug-ins. Other threads requesting the same model wait until the
+	 * breakpoints are restored.
+	 *
+	 * @param modelIdentifier a model identifier or <code>null</code>
+	 */
+	private void restoreBreakpoints(String modelIdentifier) {
+		if (modelIdentifier == null || !fPendingMarkers.containsKey(modelIdentifier)) {
+			return;
+		}
+		Set<IMarker> pending;
+		synchronized (this) {
+			Thread restoring;
+			while ((restoring = fRestoring.get(modelIdentifier)) != null) {
+				// restoring a breakpoint may activate a plug-in requesting the breakpoints of the same model
+				if (restoring == Thread.currentThread()) {
+					return;
+				}
+				try {
+					wait();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+			pending = fPendingMarkers.get(modelIdentifier);
+			if (pending == null) {
+				return;
+			}
+			fRestoring.put(modelIdentifier, Thread.currentThread());
+		}
+		try {
+			List<IMarker> markers = new ArrayList<>(pending.size());
+			for (IMarker marker : pending) {
+				if (marker.exists()) {
+					markers.add(marker);
+				}
+			}
+			loadBreakpoints(markers.toArray(new IMarker[markers.size()]), false);
+		} catch (CoreException e) {
+			DebugPlugin.log(e);
+		} finally {
+			synchronized (this) {
+				fPendingMarkers.remove(modelIdentifier);
+				fRestoring.remove(modelIdentifier);
+				notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Restores the breakpoint of the given marker if it was deferred.
+	 *
+	 * @param marker a marker
+	 */
+	private void restoreBreakpoints(IMarker marker) {
+		if (!fPendingMarkers.isEmpty()) {
+			restoreBreakpoints(marker.getAttribute(IBreakpoint.ID, null));
+		}
+	}
+
+	/**
+	 * Restores the deferred breakpoints on the given resource.
+	 *
+	 * @param resource a resource
+	 */
+	private void restoreBreakpoints(IResource resource) {
+		for (Map.Entry<String, Set<IMarker>> pending : fPendingMarkers.entrySet()) {
+			for (IMarker marker : pending.getValue()) {
+				if (resource.equals(marker.getResource())) {
+					restoreBreakpoints(pending.getKey());
+					break;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Restores all deferred breakpoints.
+	 */
+	private void restoreBreakpoints() {
+		for (String modelIdentifier : new ArrayList<>(fPendingMarkers.keySet())) {
+			restoreBreakpoints(modelIdentifier);
+		}
+	}
+
+	/**
+	 * Returns whether breakpoints are restored once they are requested.
+	 *
+	 * @return whether breakpoints are restored lazily
+	 */
+	private boolean isRestoreLazily() {
+		return Platform.getPreferencesService().getBoolean(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_RESTORE_BREAKPOINTS_LAZILY, false, null);
+	}
+
 	/**
 	 * Returns the persisted markers associated with the given resource.
 	 *
@@ -350,18 +536,19 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 		fBreakpointListeners.clear();
 		fBreakpointsListeners.clear();
 		fBreakpointManagerListeners.clear();
+		fNotificationJob.cancel();
+		fNotificationJob.clear();
 		if(fImportParticipants != null) {
 			fImportParticipants.clear();
 			fImportParticipants = null;
 			fDefaultParticipant = null;
 		}
+		fInitialized = false;
+		fPendingMarkers.clear();
 		if(fBreakpoints != null) {
 			fBreakpoints.clear();
 			fBreakpoints = null;
 		}
-		if(fMarkersToBreakpoints != null) {
-			fMarkersToBreakpoints.clear();
-		}
 	}
 
 	/**
@@ -396,20 +583,16 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 	 */
 	@Override
 	public IBreakpoint getBreakpoint(IMarker marker) {
-		// ensure that breakpoints are initialized
-		getBreakpoints0();
-		return fMarkersToBreakpoints.get(marker);
+		BreakpointRegistry breakpoints = getBreakpoints0();
+		restoreBreakpoints(marker);
+		return breakpoints.getBreakpoint(marker);
 	}
 
 	@Override
 	public IBreakpoint[] getBreakpoints() {
-		IBreakpoint[] temp = new IBreakpoint[0];
-		Vector<IBreakpoint> breakpoints = getBreakpoints0();
-		synchronized (breakpoints) {
-			temp = new IBreakpoint[breakpoints.size()];
-			breakpoints.copyInto(temp);
-		}
-		return temp;
+		BreakpointRegistry breakpoints = getBreakpoints0();
+		restoreBreakpoints();
+		return breakpoints.getBreakpoints().clone();
 	}
 
 	/**
@@ -430,28 +613,54 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 	 * The BreakpointManager waits to load the breakpoints
 	 * of the workspace until a request is made to retrieve the
 	 * breakpoints.
-	 * @return the underlying {@link Vector} of breakpoints
+	 * @return the registry of breakpoints
 	 */
-	private synchronized Vector<IBreakpoint> getBreakpoints0() {
-		if (fBreakpoints == null) {
-			initializeBreakpoints();
+	private BreakpointRegistry getBreakpoints0() {
+		if (!fInitialized) {
+			synchronized (this) {
+				if (fBreakpoints == null) {
+					initializeBreakpoints();
+					fInitialized = true;
+				}
+				return fBreakpoints;
+			}
 		}
 		return fBreakpoints;
 	}
 
 	@Override
 	public IBreakpoint[] getBreakpoints(String modelIdentifier) {
-		Vector<IBreakpoint> allBreakpoints = getBreakpoints0();
-		synchronized (allBreakpoints) {
-			ArrayList<IBreakpoint> temp = new ArrayList<>(allBreakpoints.size());
-			for (IBreakpoint breakpoint : allBreakpoints) {
-				String id= breakpoint.getModelIdentifier();
-				if (id != null && id.equals(modelIdentifier)) {
-					temp.add(breakpoint);
-				}
-			}
-			return temp.toArray(new IBreakpoint[temp.size()]);
-		}
+		BreakpointRegistry breakpoints = getBreakpoints0();
+		restoreBreakpoints(modelIdentifier);
+		return breakpoints.getBreakpoints(modelIdentifier);
+	}
+
+	/**
+	 * Returns the registered breakpoints whose markers are on the given
+	 * resource.
+	 *
+	 * @param resource the resource
+	 * @return the breakpoints on the resource, possibly empty
+	 */
+	public IBreakpoint[] getBreakpoints(IResource resource) {
+		BreakpointRegistry breakpoints = getBreakpoints0();
+		restoreBreakpoints(resource);
+		return breakpoints.getBreakpoints(resource);
+	}
+
+	/**
+	 * Returns the registered breakpoints whose markers are on the given line of
+	 * the given resource, according to their {@link IMarker#LINE_NUMBER}
+	 * attribute as of the last resource change notification.
+	 *
+	 * @param resource the resource
+	 * @param lineNumber the 1-based line number
+	 * @return the breakpoints on the line, possibly empty
+	 */
+	public IBreakpoint[] getBreakpoints(IResource resource, int lineNumber) {
+		BreakpointRegistry breakpoints = getBreakpoints0();
+		restoreBreakpoints(resource);
+		return breakpoints.getBreakpoints(resource, lineNumber);
 	}
 
 	/**
@@ -459,14 +668,18 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 	 * workspace. Start listening to resource deltas.
 	 */
 	private void initializeBreakpoints() {
-		setBreakpoints(new Vector<>(10));
+		fBreakpoints = new BreakpointRegistry();
 		try {
-			loadBreakpoints(getWorkspace().getRoot(), false);
+			if (isRestoreLazily()) {
+				deferBreakpoints(getWorkspace().getRoot());
+			} else {
+				loadBreakpoints(getWorkspace().getRoot(), false);
+			}
 			getWorkspace().addResourceChangeListener(this, IResourceChangeEvent.POST_BUILD);
 			getWorkspace().addResourceChangeListener(fPostChangeListener, IResourceChangeEvent.POST_CHANGE);
 		} catch (CoreException ce) {
 			DebugPlugin.log(ce);
-			setBreakpoints(new Vector<>(0));
+			fBreakpoints.clear();
 		}
 	}
 
@@ -475,10 +688,14 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 	 */
 	@Override
 	public boolean isRegistered(IBreakpoint breakpoint) {
-		return getBreakpoints0().contains(breakpoint);
+		BreakpointRegistry breakpoints = getBreakpoints0();
+		IMarker marker = breakpoint.getMarker();
+		if (marker != null) {
+			restoreBreakpoints(marker);
+		}
+		return breakpoints.contains(breakpoint);
 	}
 
-
 	/**
 	 * @see IBreakpointManager#removeBreakpoint(IBreakpoint, boolean)
 	 */
@@ -493,16 +710,14 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 	@Override
 	public void removeBreakpoints(IBreakpoint[] breakpoints, final boolean delete) throws CoreException {
 		final List<IBreakpoint> remove = new ArrayList<>(breakpoints.length);
-		List<IBreakpoint> bps = getBreakpoints0();
+		BreakpointRegistry bps = getBreakpoints0();
 		for (IBreakpoint breakpoint : breakpoints) {
-			if (bps.contains(breakpoint)) {
+			if (bps.remove(breakpoint)) {
 				remove.add(breakpoint);
 			}
 		}
 		if (!remove.isEmpty()) {
 			for (IBreakpoint breakpoint : remove) {
-				bps.remove(breakpoint);
-				fMarkersToBreakpoints.remove(breakpoint.getMarker());
 				// If the breakpoint is a trigger point, remove else do nothing.
 				removeTriggerPoint(breakpoint);
 			}
@@ -547,7 +762,7 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 	 * </ol>
 	 */
 	public IBreakpoint createBreakpoint(IMarker marker) throws DebugException {
-		IBreakpoint breakpoint= fMarkersToBreakpoints.get(marker);
+		IBreakpoint breakpoint= getBreakpoint(marker);
 		if (breakpoint != null) {
 			return breakpoint;
 		}
@@ -603,7 +818,6 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 					// If notify == false, the breakpoints are just being added at startup
 					added.add(breakpoint);
 					getBreakpoints0().add(breakpoint);
-					fMarkersToBreakpoints.put(breakpoint.getMarker(), breakpoint);
 					if (breakpoint instanceof ITriggerPoint && ((ITriggerPoint) breakpoint).isTriggerPoint()) {
 						addTriggerPoint(breakpoint);
 					}
@@ -619,11 +833,10 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 		}
 		if (!update.isEmpty()) {
 			IWorkspaceRunnable r = monitor -> {
-				List<IBreakpoint> bps = getBreakpoints0();
+				BreakpointRegistry bps = getBreakpoints0();
 				for (IBreakpoint breakpoint : update) {
 					bps.add(breakpoint);
 					breakpoint.setRegistered(true);
-					fMarkersToBreakpoints.put(breakpoint.getMarker(), breakpoint);
 				}
 			};
 			// Need to suppress change notification, since this is really
@@ -660,6 +873,105 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 		}
 	}
 
+	@Override
+	public void setAttributes(Map<IBreakpoint, ? extends Map<String, ?>> attributes) throws CoreException {
+		if (attributes.isEmpty()) {
+			return;
+		}
+		ISchedulingRule rule = getMarkerRule(attributes.keySet());
+		final MultiStatus status = new MultiStatus(DebugPlugin.getUniqueIdentifier(), DebugException.REQUEST_FAILED, DebugCoreMessages.BreakpointManager_setAttributes_failed, null);
+		final List<IBreakpoint> enabledChanged = new ArrayList<>();
+		IWorkspaceRunnable runnable = monitor -> {
+			for (Map.Entry<IBreakpoint, ? extends Map<String, ?>> entry : attributes.entrySet()) {
+				IMarker marker = entry.getKey().getMarker();
+				if (marker == null || !marker.exists()) {
+					status.add(new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(), DebugException.REQUEST_FAILED, DebugCoreMessages.Breakpoint_no_associated_marker, null));
+					continue;
+				}
+				try {
+					List<String> names = new ArrayList<>(entry.getValue().size());
+					List<Object> values = new ArrayList<>(entry.getValue().size());
+					for (Map.Entry<String, ?> attribute : entry.getValue().entrySet()) {
+						if (!Objects.equals(marker.getAttribute(attribute.getKey()), attribute.getValue())) {
+							names.add(attribute.getKey());
+							values.add(attribute.getValue());
+						}
+					}
+					if (!names.isEmpty()) {
+						marker.setAttributes(names.toArray(new String[names.size()]), values.toArray());
+						markerChanged(entry.getKey());
+						if (names.contains(IBreakpoint.ENABLED)) {
+							enabledChanged.add(entry.getKey());
+						}
+					}
+				} catch (CoreException e) {
+					status.add(e.getStatus());
+				}
+			}
+		};
+		getWorkspace().run(runnable, rule, IWorkspace.AVOID_UPDATE, null);
+		for (IBreakpoint breakpoint : enabledChanged) {
+			if (breakpoint instanceof ITriggerPoint && ((ITriggerPoint) breakpoint).isTriggerPoint()) {
+				refreshTriggerpointDisplay();
+				break;
+			}
+		}
+		if (!status.isOK()) {
+			throw new CoreException(status);
+		}
+	}
+
+	/**
+	 * Returns the rule to modify the markers of the given breakpoints.
+	 *
+	 * @param breakpoints the breakpoints
+	 * @return the combined marker rule or <code>null</code>
+	 */
+	private ISchedulingRule getMarkerRule(Collection<IBreakpoint> breakpoints) {
+		IResourceRuleFactory ruleFactory = getWorkspace().getRuleFactory();
+		ISchedulingRule rule = null;
+		for (IBreakpoint breakpoint : breakpoints) {
+			IMarker marker = breakpoint.getMarker();
+			if (marker != null) {
+				rule = MultiRule.combine(rule, ruleFactory.markerRule(marker.getResource()));
+			}
+		}
+		return rule;
+	}
+
+	/**
+	 * Returns the attributes of the marker of the given breakpoint as cached by
+	 * this manager. The cache of a breakpoint is refreshed when the attributes
+	 * are set through the breakpoint or this manager and when a change of the
+	 * marker is reported in a resource delta. Changes made to the marker
+	 * directly are therefore only visible once the workspace operation making
+	 * them ended.
+	 *
+	 * @param breakpoint a breakpoint
+	 * @return unmodifiable attributes or <code>null</code> if the breakpoint
+	 *         is not registered, in which case the marker has to be read
+	 */
+	public Map<String, Object> getMarkerAttributes(IBreakpoint breakpoint) {
+		BreakpointRegistry breakpoints = fBreakpoints;
+		if (!fInitialized || breakpoints == null) {
+			return null;
+		}
+		return breakpoints.getAttributes(breakpoint);
+	}
+
+	/**
+	 * Discards the cached marker attributes of the given breakpoint after its
+	 * marker was changed.
+	 *
+	 * @param breakpoint a breakpoint
+	 */
+	public void markerChanged(IBreakpoint breakpoint) {
+		BreakpointRegistry breakpoints = fBreakpoints;
+		if (breakpoints != null) {
+			breakpoints.update(breakpoint);
+		}
+	}
+
 	/**
 	 * Verifies that the breakpoint marker has the minimal required attributes,
 	 * and throws a debug exception if not.
@@ -824,7 +1136,7 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 				// This breakpoint has actually been moved - already removed
 				// from the Breakpoint manager during the remove callback.
 				// Schedule the marker associated with the new resource for deletion.
-				if (getBreakpoint(marker) == null) {
+				if (getBreakpoints0().getBreakpoint(marker) == null) {
 					fMoved.add(marker);
 				}
 			} else {
@@ -833,7 +1145,7 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 					if (fPostChangMarkersChanged.contains(marker)) {
 						handleChangeBreakpoint(marker, mDelta);
 						fPostChangMarkersChanged.remove(marker);
-					} else if (marker.getAttribute(DebugPlugin.ATTR_BREAKPOINT_IS_DELETED, false) && getBreakpoint(marker) == null) {
+					} else if (marker.getAttribute(DebugPlugin.ATTR_BREAKPOINT_IS_DELETED, false) && getBreakpoints0().getBreakpoint(marker) == null) {
 						try { /*
 							 * There may be breakpoints with matching resource
 							 * and same line number
@@ -862,9 +1174,10 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 		private IBreakpoint findMatchingBreakpoint(IMarker marker) {
 			try {
 				Integer line = (Integer) marker.getAttribute(IMarker.LINE_NUMBER);
-				for (IBreakpoint breakpoint : getBreakpoints0()) {
+				// the line index may not yet reflect changes of the current delta
+				for (IBreakpoint breakpoint : getBreakpoints(marker.getResource())) {
 					IMarker bpMarker = breakpoint.getMarker();
-					if (bpMarker != null && marker.getResource().equals(bpMarker.getResource()) && bpMarker.getAttribute(IMarker.LINE_NUMBER, -1) == (line == null ? -1 : line.intValue())) {
+					if (bpMarker != null && bpMarker.getAttribute(IMarker.LINE_NUMBER, -1) == (line == null ? -1 : line.intValue())) {
 						return breakpoint;
 					}
 				}
@@ -883,7 +1196,10 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 				fPostChangMarkersChanged.remove(marker);
 				fPostBuildMarkersAdded.remove(marker);
 			}
-			IBreakpoint breakpoint= getBreakpoint(marker);
+			for (Set<IMarker> pending : fPendingMarkers.values()) {
+				pending.remove(marker);
+			}
+			IBreakpoint breakpoint= getBreakpoints0().getBreakpoint(marker);
 			if (breakpoint != null) {
 				fRemoved.add(breakpoint);
 			}
@@ -895,8 +1211,12 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 		 * @param delta the {@link IMarkerDelta}
 		 */
 		protected void handleChangeBreakpoint(IMarker marker, IMarkerDelta delta) {
-			IBreakpoint breakpoint= getBreakpoint(marker);
-			if (breakpoint != null && isRegistered(breakpoint) && !isChangeSuppressed(breakpoint)) {
+			// changes of deferred breakpoints are read once they are restored
+			IBreakpoint breakpoint= getBreakpoints0().getBreakpoint(marker);
+			if (breakpoint != null) {
+				getBreakpoints0().update(breakpoint);
+			}
+			if (breakpoint != null && getBreakpoints0().contains(breakpoint) && !isChangeSuppressed(breakpoint)) {
 				fChanged.add(breakpoint);
 				fChangedDeltas.add(delta);
 			}
@@ -910,11 +1230,10 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 		private void handleProjectResourceOpenStateChange(final IResource project) {
 			if (!project.isAccessible()) {
 				//closed
-				for (@SuppressWarnings("unchecked") IBreakpoint breakpoint : (Vector<IBreakpoint>) getBreakpoints0().clone()) {
-					IResource markerResource= breakpoint.getMarker().getResource();
-					if (project.getFullPath().isPrefixOf(markerResource.getFullPath())) {
-						fRemoved.add(breakpoint);
-					}
+				fRemoved.addAll(getBreakpoints0().getBreakpointsWithin(project));
+				IPath path = project.getFullPath();
+				for (Set<IMarker> pending : fPendingMarkers.values()) {
+					pending.removeIf(marker -> path.isPrefixOf(marker.getResource().getFullPath()));
 				}
 				return;
 			}
@@ -958,6 +1277,25 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 		if (deltas != null) {
 			deltaArray = deltas.toArray(deltaArray);
 		}
+		int delay = Platform.getPreferencesService().getInt(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_BREAKPOINT_NOTIFICATION_DELAY, 0, null);
+		if (delay > 0) {
+			fNotificationJob.add(bpArray, deltaArray, update, delay);
+			return;
+		}
+		// notifications collected before the delay was disabled come first
+		fNotificationJob.flush();
+		notifyListeners(bpArray, deltaArray, update);
+	}
+
+	/**
+	 * Notifies listeners of the adds/removes/changes.
+	 *
+	 * @param bpArray associated breakpoints
+	 * @param deltaArray associated marker deltas, elements may be
+	 *            <code>null</code>
+	 * @param update type of change
+	 */
+	private void notifyListeners(IBreakpoint[] bpArray, IMarkerDelta[] deltaArray, int update) {
 		// single listeners
 		getBreakpointNotifier().notify(bpArray, deltaArray, update);
 
@@ -965,8 +1303,137 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 		getBreakpointsNotifier().notify(bpArray, deltaArray, update);
 	}
 
-	protected void setBreakpoints(Vector<IBreakpoint> breakpoints) {
-		fBreakpoints = breakpoints;
+	/**
+	 * Collects breakpoint notifications for the configured delay and notifies
+	 * listeners of the net effect per breakpoint: an add followed by a remove
+	 * cancels out, changes of an added breakpoint are part of the add, a
+	 * remove followed by an add is a change and a remove supersedes changes.
+	 * Of several changes the marker delta of the first one is kept, it holds
+	 * the attributes from before the delay.
+	 */
+	class BreakpointNotificationJob extends Job {
+
+		/**
+		 * Pending notification of a breakpoint.
+		 */
+		private final class Notification {
+			int fType;
+			IMarkerDelta fDelta;
+
+			Notification(int type, IMarkerDelta delta) {
+				fType = type;
+				fDelta = delta;
+			}
+		}
+
+		/**
+		 * Pending notifications in the order the breakpoints were first
+		 * notified, guarded by this job.
+		 */
+		private final Map<IBreakpoint, Notification> fPending = new LinkedHashMap<>();
+
+		/**
+		 * Lock serializing the notification of listeners.
+		 */
+		private final Object fNotifyLock = new Object();
+
+		BreakpointNotificationJob() {
+			super("breakpoint notification job"); //$NON-NLS-1$
+			setSystem(true);
+		}
+
+		/**
+		 * Adds notifications, which are delivered after the given delay unless
+		 * notifications are already pending.
+		 *
+		 * @param breakpoints the breakpoints
+		 * @param deltas the associated marker deltas
+		 * @param update the type of change
+		 * @param delay the delay in milliseconds
+		 */
+		synchronized void add(IBreakpoint[] breakpoints, IMarkerDelta[] deltas, int update, long delay) {
+			// not rescheduled, which would postpone notification while changes keep coming
+			boolean schedule = fPending.isEmpty();
+			for (int i = 0; i < breakpoints.length; i++) {
+				merge(breakpoints[i], deltas[i], update);
+			}
+			if (schedule) {
+				schedule(delay);
+			}
+		}
+
+		private void merge(IBreakpoint breakpoint, IMarkerDelta delta, int update) {
+			Notification pending = fPending.get(breakpoint);
+			if (pending == null) {
+				fPending.put(breakpoint, new Notification(update, delta));
+				return;
+			}
+			switch (pending.fType) {
+				case ADDED:
+					if (update == REMOVED) {
+						// listeners never knew the breakpoint
+						fPending.remove(breakpoint);
+					}
+					break;
+				case REMOVED:
+					if (update == ADDED) {
+						// listeners still know the breakpoint
+						pending.fType = CHANGED;
+						pending.fDelta = null;
+					}
+					break;
+				case CHANGED:
+					if (update == REMOVED) {
+						pending.fType = REMOVED;
+						pending.fDelta = delta;
+					}
+					break;
+				default:
+					break;
+			}
+		}
+
+		/**
+		 * Discards all pending notifications.
+		 */
+		synchronized void clear() {
+			fPending.clear();
+		}
+
+		/**
+		 * Notifies listeners of the pending notifications, removals first.
+		 */
+		void flush() {
+			synchronized (fNotifyLock) {
+				Map<IBreakpoint, Notification> pending;
+				synchronized (this) {
+					if (fPending.isEmpty()) {
+						return;
+					}
+					pending = new LinkedHashMap<>(fPending);
+					fPending.clear();
+				}
+				for (int type : new int[] { REMOVED, ADDED, CHANGED }) {
+					List<IBreakpoint> breakpoints = new ArrayList<>();
+					List<IMarkerDelta> deltas = new ArrayList<>();
+					for (Map.Entry<IBreakpoint, Notification> entry : pending.entrySet()) {
+						if (entry.getValue().fType == type) {
+							breakpoints.add(entry.getKey());
+							deltas.add(entry.getValue().fDelta);
+						}
+					}
+					if (!breakpoints.isEmpty()) {
+						notifyListeners(breakpoints.toArray(new IBreakpoint[breakpoints.size()]), deltas.toArray(new IMarkerDelta[deltas.size()]), type);
+					}
+				}
+			}
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			flush();
+			return Status.OK_STATUS;
+		}
 	}
 
 	/**
@@ -974,7 +1441,15 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 	 */
 	@Override
 	public boolean hasBreakpoints() {
-		return !getBreakpoints0().isEmpty();
+		if (!getBreakpoints0().isEmpty()) {
+			return true;
+		}
+		for (Set<IMarker> pending : fPendingMarkers.values()) {
+			if (!pending.isEmpty()) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	/**
@@ -1387,7 +1862,7 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 	 */
 	private void touchAllBreakpoints() {
 		IWorkspaceRunnable runnable = monitor -> {
-			for (IBreakpoint breakpoint : getBreakpoints()) {
+			for (IBreakpoint breakpoint : getBreakpoints0().getBreakpoints()) {
 				// Touch the marker (but don't actually change anything) so
 				// that the icon in
 				// the editor ruler will be updated (editors listen to
@@ -1398,6 +1873,16 @@ public class BreakpointManager implements IBreakpointManager, IResourceChangeLis
 					// don't care if marker was already deleted
 				}
 			}
+			// deferred breakpoints are touched without restoring them
+			for (Set<IMarker> pending : fPendingMarkers.values()) {
+				for (IMarker marker : pending) {
+					try {
+						marker.setAttribute(IBreakpoint.ENABLED, marker.getAttribute(IBreakpoint.ENABLED, false));
+					} catch (CoreException e) {
+						// don't care if marker was already deleted
+					}
+				}
+			}
 		};
 		try {
 			ResourcesPlugin.getWorkspace().run(runnable, null, IWorkspace.AVOID_UPDATE, null);
@@ -0,0 +1,386 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.debug.core.model.IBreakpoint;
+
+/**
+ * The breakpoints registered with the {@link BreakpointManager}.
+ * <p>
+ * Breakpoints are kept in registration order and indexed by their marker,
+ * model identifier, resource and line number. Model identifier and line
+ * number are read from the marker when a breakpoint is registered, the line
+ * number is read again by {@link #update(IBreakpoint)} once the marker
+ * changed. All methods are thread safe. {@link #getBreakpoints()} returns a
+ * snapshot that is only rebuilt after the registry changed.
+ * </p>
+ * <p>
+ * The registry also caches the marker attributes of registered breakpoints.
+ * They are read from the marker on first access and read again after
+ * {@link #update(IBreakpoint)}.
+ * </p>
+ */
+class BreakpointRegistry {
+
+	private static final IBreakpoint[] EMPTY = new IBreakpoint[0];
+
+	/**
+	 * Indexed values of a registered breakpoint.
+	 */
+	private static final class Entry {
+		final IMarker fMarker;
+		final String fModelIdentifier;
+		final IResource fResource;
+		int fLineNumber;
+
+		Entry(IMarker marker, String modelIdentifier, IResource resource, int lineNumber) {
+			fMarker = marker;
+			fModelIdentifier = modelIdentifier;
+			fResource = resource;
+			fLineNumber = lineNumber;
+		}
+	}
+
+	/**
+	 * A line of a resource.
+	 */
+	private static final class Line {
+		final IResource fResource;
+		final int fLineNumber;
+
+		Line(IResource resource, int lineNumber) {
+			fResource = resource;
+			fLineNumber = lineNumber;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Line)) {
+				return false;
+			}
+			Line other = (Line) obj;
+			return fLineNumber == other.fLineNumber && fResource.equals(other.fResource);
+		}
+
+		@Override
+		public int hashCode() {
+			return fResource.hashCode() * 31 + fLineNumber;
+		}
+	}
+
+	/**
+	 * Registered breakpoints in registration order.
+	 */
+	private final Map<IBreakpoint, Entry> fEntries = new LinkedHashMap<>();
+
+	private final Map<IMarker, IBreakpoint> fByMarker = new HashMap<>();
+
+	private final Map<String, Set<IBreakpoint>> fByModelIdentifier = new HashMap<>();
+
+	private final Map<IResource, Set<IBreakpoint>> fByResource = new HashMap<>();
+
+	private final Map<Line, Set<IBreakpoint>> fByLine = new HashMap<>();
+
+	/**
+	 * Registered breakpoints or <code>null</code> if to be rebuilt.
+	 */
+	private volatile IBreakpoint[] fSnapshot = EMPTY;
+
+	/**
+	 * Marker attributes of a registered breakpoint, or a placeholder while
+	 * they are read. Compared by identity.
+	 */
+	private static final class Attributes {
+		final Map<String, Object> fValue;
+
+		Attributes(Map<String, Object> value) {
+			fValue = value;
+		}
+	}
+
+	/**
+	 * Cached marker attributes of registered breakpoints. Invalidating removes
+	 * the mapping. Attributes are read from the marker without holding the
+	 * registry lock and only published if the placeholder put before reading
+	 * is still mapped, such that an invalidation is never overwritten with
+	 * attributes read before it.
+	 */
+	private final Map<IBreakpoint, Attributes> fAttributes = new ConcurrentHashMap<>();
+
+	/**
+	 * Registers the given breakpoint.
+	 *
+	 * @param breakpoint the breakpoint
+	 * @return whether the breakpoint was not registered before
+	 */
+	synchronized boolean add(IBreakpoint breakpoint) {
+		if (fEntries.containsKey(breakpoint)) {
+			return false;
+		}
+		IMarker marker = breakpoint.getMarker();
+		String modelIdentifier = null;
+		try {
+			modelIdentifier = breakpoint.getModelIdentifier();
+		} catch (CoreException e) {
+			// not indexed by model
+		}
+		IResource resource = marker != null ? marker.getResource() : null;
+		Entry entry = new Entry(marker, modelIdentifier, resource, getLineNumber(marker));
+		fEntries.put(breakpoint, entry);
+		if (marker != null) {
+			fByMarker.put(marker, breakpoint);
+		}
+		index(fByModelIdentifier, entry.fModelIdentifier, breakpoint);
+		index(fByResource, entry.fResource, breakpoint);
+		index(fByLine, getLine(entry), breakpoint);
+		fSnapshot = null;
+		return true;
+	}
+
+	/**
+	 * Unregisters the given breakpoint.
+	 *
+	 * @param breakpoint the breakpoint
+	 * @return whether the breakpoint was registered
+	 */
+	synchronized boolean remove(IBreakpoint breakpoint) {
+		Entry entry = fEntries.remove(breakpoint);
+		if (entry == null) {
+			return false;
+		}
+		if (entry.fMarker != null) {
+			fByMarker.remove(entry.fMarker);
+		}
+		fAttributes.remove(breakpoint);
+		unindex(fByModelIdentifier, entry.fModelIdentifier, breakpoint);
+		unindex(fByResource, entry.fResource, breakpoint);
+		unindex(fByLine, getLine(entry), breakpoint);
+		fSnapshot = null;
+		return true;
+	}
+
+	/**
+	 * Reads the attributes and line number of the given breakpoint again after
+	 * its marker changed.
+	 *
+	 * @param breakpoint a registered breakpoint
+	 */
+	synchronized void update(IBreakpoint breakpoint) {
+		fAttributes.remove(breakpoint);
+		Entry entry = fEntries.get(breakpoint);
+		if (entry == null || entry.fMarker == null || !entry.fMarker.exists()) {
+			return;
+		}
+		int lineNumber = getLineNumber(entry.fMarker);
+		if (lineNumber != entry.fLineNumber) {
+			unindex(fByLine, getLine(entry), breakpoint);
+			entry.fLineNumber = lineNumber;
+			index(fByLine, getLine(entry), breakpoint);
+		}
+	}
+
+	/**
+	 * Unregisters all breakpoints.
+	 */
+	synchronized void clear() {
+		fEntries.clear();
+		fByMarker.clear();
+		fByModelIdentifier.clear();
+		fByResource.clear();
+		fByLine.clear();
+		fAttributes.clear();
+		fSnapshot = EMPTY;
+	}
+
+	synchronized boolean contains(IBreakpoint breakpoint) {
+		return fEntries.containsKey(breakpoint);
+	}
+
+	boolean isEmpty() {
+		return getBreakpoints().length == 0;
+	}
+
+	/**
+	 * Returns the cached marker attributes of the given breakpoint.
+	 *
+	 * @param breakpoint a breakpoint
+	 * @return unmodifiable attributes or <code>null</code> if the breakpoint
+	 *         is not registered or its marker does not exist
+	 */
+	Map<String, Object> getAttributes(IBreakpoint breakpoint) {
+		Attributes cached = fAttributes.get(breakpoint);
+		if (cached != null && cached.fValue != null) {
+			return cached.fValue;
+		}
+		IMarker marker;
+		synchronized (this) {
+			Entry entry = fEntries.get(breakpoint);
+			marker = entry != null ? entry.fMarker : null;
+		}
+		if (marker == null) {
+			return null;
+		}
+		Attributes pending = cached;
+		if (pending == null) {
+			pending = new Attributes(null);
+			cached = fAttributes.putIfAbsent(breakpoint, pending);
+			if (cached != null) {
+				if (cached.fValue != null) {
+					return cached.fValue;
+				}
+				pending = cached;
+			}
+		}
+		Map<String, Object> attributes;
+		try {
+			if (!marker.exists()) {
+				return null;
+			}
+			Map<String, Object> markerAttributes = marker.getAttributes();
+			attributes = markerAttributes == null ? Collections.emptyMap() : Collections.unmodifiableMap(new HashMap<>(markerAttributes));
+		} catch (CoreException e) {
+			return null;
+		}
+		Attributes read = new Attributes(attributes);
+		if (fAttributes.replace(breakpoint, pending, read) && !contains(breakpoint)) {
+			// removed while reading
+			fAttributes.remove(breakpoint, read);
+		}
+		return attributes;
+	}
+
+	/**
+	 * Returns the registered breakpoint of the given marker.
+	 *
+	 * @param marker a marker
+	 * @return the breakpoint or <code>null</code>
+	 */
+	synchronized IBreakpoint getBreakpoint(IMarker marker) {
+		return fByMarker.get(marker);
+	}
+
+	/**
+	 * Returns the registered breakpoints in registration order. The returned
+	 * array is shared and must not be modified.
+	 *
+	 * @return the registered breakpoints
+	 */
+	IBreakpoint[] getBreakpoints() {
+		IBreakpoint[] snapshot = fSnapshot;
+		if (snapshot == null) {
+			synchronized (this) {
+				snapshot = fSnapshot;
+				if (snapshot == null) {
+					snapshot = fEntries.keySet().toArray(new IBreakpoint[fEntries.size()]);
+					fSnapshot = snapshot;
+				}
+			}
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Returns the registered breakpoints of the given debug model.
+	 *
+	 * @param modelIdentifier a model identifier
+	 * @return the breakpoints in registration order
+	 */
+	synchronized IBreakpoint[] getBreakpoints(String modelIdentifier) {
+		return toArray(fByModelIdentifier.get(modelIdentifier));
+	}
+
+	/**
+	 * Returns the registered breakpoints whose markers are on the given
+	 * resource.
+	 *
+	 * @param resource a resource
+	 * @return the breakpoints in registration order
+	 */
+	synchronized IBreakpoint[] getBreakpoints(IResource resource) {
+		return toArray(fByResource.get(resource));
+	}
+
+	/**
+	 * Returns the registered breakpoints whose markers are on the given line
+	 * of the given resource.
+	 *
+	 * @param resource a resource
+	 * @param lineNumber a line number
+	 * @return the breakpoints in registration order
+	 */
+	synchronized IBreakpoint[] getBreakpoints(IResource resource, int lineNumber) {
+		return toArray(fByLine.get(new Line(resource, lineNumber)));
+	}
+
+	/**
+	 * Returns the registered breakpoints whose markers are on the given
+	 * resource or its members.
+	 *
+	 * @param container a resource
+	 * @return the breakpoints
+	 */
+	synchronized List<IBreakpoint> getBreakpointsWithin(IResource container) {
+		IPath path = container.getFullPath();
+		List<IBreakpoint> breakpoints = new ArrayList<>();
+		for (Map.Entry<IResource, Set<IBreakpoint>> resource : fByResource.entrySet()) {
+			if (path.isPrefixOf(resource.getKey().getFullPath())) {
+				breakpoints.addAll(resource.getValue());
+			}
+		}
+		return breakpoints;
+	}
+
+	private static int getLineNumber(IMarker marker) {
+		return marker != null ? marker.getAttribute(IMarker.LINE_NUMBER, -1) : -1;
+	}
+
+	private static Line getLine(Entry entry) {
+		return entry.fResource != null && entry.fLineNumber >= 0 ? new Line(entry.fResource, entry.fLineNumber) : null;
+	}
+
+	private static <K> void index(Map<K, Set<IBreakpoint>> index, K key, IBreakpoint breakpoint) {
+		if (key != null) {
+			index.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(breakpoint);
+		}
+	}
+
+	private static <K> void unindex(Map<K, Set<IBreakpoint>> index, K key, IBreakpoint breakpoint) {
+		if (key == null) {
+			return;
+		}
+		Set<IBreakpoint> breakpoints = index.get(key);
+		if (breakpoints != null && breakpoints.remove(breakpoint) && breakpoints.isEmpty()) {
+			index.remove(key);
+		}
+	}
+
+	private static IBreakpoint[] toArray(Collection<IBreakpoint> breakpoints) {
+		return breakpoints == null ? EMPTY : breakpoints.toArray(new IBreakpoint[breakpoints.size()]);
+	}
+}
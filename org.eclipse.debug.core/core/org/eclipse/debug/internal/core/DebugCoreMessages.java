@@ -23,6 +23,7 @@ public class DebugCoreMessages extends NLS {
 	public static String Breakpoint_no_associated_marker;
 	public static String BreakpointManager_Missing_breakpoint_definition;
 	public static String BreakpointManager_Missing_model_identifier;
+	public static String BreakpointManager_setAttributes_failed;
 	public static String DebugEvent_illegal_detail;
 	public static String DebugEvent_illegal_kind;
 	public static String DebugPlugin_0;
@@ -49,6 +50,8 @@ public class DebugCoreMessages extends NLS {
 	public static String GroupLaunchConfigurationDelegate_Waiting_for_termination;
 	public static String GroupLaunchElement_inherit_launch_mode_label;
 	public static String GroupLaunchElement_outputRegexp;
+	public static String GroupLaunchElement_portOpen;
+	public static String GroupLaunchConfigurationDelegate_waitingForPort;
 	public static String LaunchConfiguration_0;
 	public static String LaunchConfiguration_11;
 	public static String LaunchConfiguration_13;
@@ -111,6 +114,7 @@ public class DebugCoreMessages extends NLS {
 	public static String LaunchManager_does_not_exist;
 	public static String LaunchManager_does_not_exist_no_store_found;
 	public static String LaunchManager_invalid_config_name;
+	public static String LaunchManager_prefetch_configurations;
 	public static String LaunchManager_invalid_config_name_char;
 	public static String LaunchManager_Source_locator_does_not_exist___0__13;
 	public static String LogicalStructureType_0;
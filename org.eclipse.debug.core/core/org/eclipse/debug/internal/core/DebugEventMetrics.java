@@ -0,0 +1,334 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+/**
+ * Collects metrics of the debug event pipeline, i.e. event queue depth, the
+ * latency between firing and dispatching an event set and the time spent in
+ * each listener and asynchronous runnable class.
+ * <p>
+ * Collection is disabled by default. It is enabled with the
+ * <code>org.eclipse.debug.core/debug/events/metrics</code> trace option or
+ * with {@link #setEnabled(boolean)}. If the
+ * <code>org.eclipse.debug.core/debug/events/metrics/interval</code> option is
+ * set the metrics are periodically written to the trace.
+ * </p>
+ */
+public final class DebugEventMetrics {
+
+	/**
+	 * Histogram of durations in nanoseconds with power of two buckets.
+	 */
+	public static final class Histogram {
+
+		private static final int BUCKETS = 64;
+
+		private final AtomicLongArray fBuckets = new AtomicLongArray(BUCKETS);
+		private final LongAdder fCount = new LongAdder();
+		private final LongAdder fTotal = new LongAdder();
+		private final AtomicLong fMax = new AtomicLong();
+
+		/**
+		 * Records the given duration.
+		 *
+		 * @param nanos duration in nanoseconds
+		 */
+		public void record(long nanos) {
+			long value = Math.max(0, nanos);
+			fBuckets.incrementAndGet(BUCKETS - Long.numberOfLeadingZeros(value) - (value == 0 ? 0 : 1));
+			fCount.increment();
+			fTotal.add(value);
+			fMax.accumulateAndGet(value, Math::max);
+		}
+
+		/**
+		 * @return number of recorded durations
+		 */
+		public long getCount() {
+			return fCount.sum();
+		}
+
+		/**
+		 * @return sum of all recorded durations in nanoseconds
+		 */
+		public long getTotal() {
+			return fTotal.sum();
+		}
+
+		/**
+		 * @return largest recorded duration in nanoseconds
+		 */
+		public long getMax() {
+			return fMax.get();
+		}
+
+		/**
+		 * @return mean of the recorded durations in nanoseconds
+		 */
+		public long getMean() {
+			long count = getCount();
+			return count == 0 ? 0 : getTotal() / count;
+		}
+
+		/**
+		 * Returns an upper bound for the given percentile of the recorded
+		 * durations. The result is exact up to a factor of two.
+		 *
+		 * @param percentile percentile between 0 and 100
+		 * @return upper bound of the percentile in nanoseconds
+		 */
+		public long getPercentile(double percentile) {
+			long count = 0;
+			long[] buckets = new long[BUCKETS];
+			for (int i = 0; i < BUCKETS; i++) {
+				buckets[i] = fBuckets.get(i);
+				count += buckets[i];
+			}
+			long threshold = (long) Math.ceil(count * percentile / 100);
+			long seen = 0;
+			for (int i = 0; i < BUCKETS; i++) {
+				seen += buckets[i];
+				if (seen >= threshold && seen > 0) {
+					return Math.min((1L << (i + 1)) - 1, getMax());
+				}
+			}
+			return 0;
+		}
+
+		@Override
+		public String toString() {
+			return "count=" + getCount() + ", mean=" + toMillis(getMean()) + "ms, p99=" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ toMillis(getPercentile(99)) + "ms, max=" + toMillis(getMax()) + "ms, total=" + toMillis(getTotal()) + "ms"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+
+		private static String toMillis(long nanos) {
+			return String.format("%.3f", nanos / 1_000_000d); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Queue entry wrapper which remembers when the entry was enqueued. Only
+	 * used while metrics are enabled.
+	 */
+	public static final class TimedEntry {
+		final Object fEntry;
+		final long fEnqueued;
+
+		TimedEntry(Object entry) {
+			fEntry = entry;
+			fEnqueued = System.nanoTime();
+		}
+	}
+
+	private static final DebugEventMetrics fgInstance = new DebugEventMetrics();
+
+	private volatile boolean fEnabled;
+
+	private final LongAdder fEventSets = new LongAdder();
+	private final LongAdder fRunnables = new LongAdder();
+	private final AtomicLong fQueueDepth = new AtomicLong();
+	private final AtomicLong fMaxQueueDepth = new AtomicLong();
+	private volatile Histogram fDispatchLatency = new Histogram();
+	private final Map<String, Histogram> fListenerTimes = new ConcurrentHashMap<>();
+
+	private Job fDumpJob;
+
+	private DebugEventMetrics() {
+	}
+
+	/**
+	 * @return the shared metrics instance
+	 */
+	public static DebugEventMetrics getDefault() {
+		return fgInstance;
+	}
+
+	/**
+	 * @return whether metrics are collected
+	 */
+	public boolean isEnabled() {
+		return fEnabled;
+	}
+
+	/**
+	 * Enables or disables metrics collection. Collected metrics are kept.
+	 *
+	 * @param enabled whether to collect metrics
+	 */
+	public void setEnabled(boolean enabled) {
+		fEnabled = enabled;
+	}
+
+	/**
+	 * Notification that an entry is added to the event queue.
+	 *
+	 * @param entry event set or runnable
+	 * @return the entry to enqueue. A {@link TimedEntry} if metrics are
+	 *         enabled.
+	 */
+	public Object enqueued(Object entry) {
+		if (!fEnabled) {
+			return entry;
+		}
+		if (entry instanceof Runnable) {
+			fRunnables.increment();
+		} else {
+			fEventSets.increment();
+		}
+		long depth = fQueueDepth.incrementAndGet();
+		fMaxQueueDepth.accumulateAndGet(depth, Math::max);
+		return new TimedEntry(entry);
+	}
+
+	/**
+	 * Notification that an entry is taken from the event queue for dispatch.
+	 *
+	 * @param entry the queue entry
+	 * @return the event set or runnable
+	 */
+	public Object dequeued(Object entry) {
+		if (entry instanceof TimedEntry) {
+			TimedEntry timed = (TimedEntry) entry;
+			fQueueDepth.decrementAndGet();
+			fDispatchLatency.record(System.nanoTime() - timed.fEnqueued);
+			return timed.fEntry;
+		}
+		return entry;
+	}
+
+	/**
+	 * Records the time a listener or runnable needed.
+	 *
+	 * @param client the listener or runnable
+	 * @param nanos time spent in nanoseconds
+	 */
+	public void clientTime(Object client, long nanos) {
+		fListenerTimes.computeIfAbsent(client.getClass().getName(), k -> new Histogram()).record(nanos);
+	}
+
+	/**
+	 * @return number of event sets fired while metrics were enabled
+	 */
+	public long getEventSetCount() {
+		return fEventSets.sum();
+	}
+
+	/**
+	 * @return number of runnables queued while metrics were enabled
+	 */
+	public long getRunnableCount() {
+		return fRunnables.sum();
+	}
+
+	/**
+	 * @return number of queued entries not yet dispatched
+	 */
+	public long getQueueDepth() {
+		return fQueueDepth.get();
+	}
+
+	/**
+	 * @return largest observed queue depth
+	 */
+	public long getMaxQueueDepth() {
+		return fMaxQueueDepth.get();
+	}
+
+	/**
+	 * @return histogram of the time between firing and dispatching an event
+	 *         set or runnable
+	 */
+	public Histogram getDispatchLatency() {
+		return fDispatchLatency;
+	}
+
+	/**
+	 * @return histograms of the time spent per listener or runnable class,
+	 *         sorted by class name
+	 */
+	public Map<String, Histogram> getListenerTimes() {
+		return new TreeMap<>(fListenerTimes);
+	}
+
+	/**
+	 * Returns the listener or runnable class with the largest total time.
+	 *
+	 * @return class name or <code>null</code> if nothing was recorded
+	 */
+	public String getSlowestListener() {
+		return fListenerTimes.entrySet().stream().max((a, b) -> Long.compare(a.getValue().getTotal(), b.getValue().getTotal())).map(Map.Entry::getKey).orElse(null);
+	}
+
+	/**
+	 * Discards all collected metrics except the current queue depth.
+	 */
+	public void reset() {
+		fEventSets.reset();
+		fRunnables.reset();
+		fMaxQueueDepth.set(fQueueDepth.get());
+		fListenerTimes.clear();
+		fDispatchLatency = new Histogram();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder buffer = new StringBuilder("Debug event metrics: "); //$NON-NLS-1$
+		buffer.append("eventSets=").append(getEventSetCount()); //$NON-NLS-1$
+		buffer.append(", runnables=").append(getRunnableCount()); //$NON-NLS-1$
+		buffer.append(", queueDepth=").append(getQueueDepth()); //$NON-NLS-1$
+		buffer.append(", maxQueueDepth=").append(getMaxQueueDepth()); //$NON-NLS-1$
+		buffer.append("\n  dispatch latency: ").append(getDispatchLatency()); //$NON-NLS-1$
+		getListenerTimes().forEach((name, histogram) -> buffer.append("\n  ").append(name).append(": ").append(histogram)); //$NON-NLS-1$ //$NON-NLS-2$
+		return buffer.toString();
+	}
+
+	/**
+	 * Starts or stops writing the metrics periodically to the trace.
+	 *
+	 * @param interval interval in milliseconds or <code>0</code> to stop
+	 */
+	synchronized void setDumpInterval(long interval) {
+		if (fDumpJob != null) {
+			fDumpJob.cancel();
+			fDumpJob = null;
+		}
+		if (interval > 0) {
+			fDumpJob = new Job("Debug event metrics") { //$NON-NLS-1$
+				@Override
+				protected IStatus run(IProgressMonitor monitor) {
+					if (monitor.isCanceled()) {
+						return Status.CANCEL_STATUS;
+					}
+					DebugOptions.trace(DebugOptions.DEBUG_FLAG_EVENT_METRICS, DebugEventMetrics.this.toString(), null);
+					schedule(interval);
+					return Status.OK_STATUS;
+				}
+			};
+			fDumpJob.setSystem(true);
+			fDumpJob.schedule(interval);
+		}
+	}
+}
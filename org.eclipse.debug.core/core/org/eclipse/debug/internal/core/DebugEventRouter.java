@@ -0,0 +1,298 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.IDebugEventSetListener;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.model.IDebugElement;
+import org.eclipse.debug.core.model.IProcess;
+
+/**
+ * Routes debug events to listeners subscribed for specific event kinds,
+ * details, debug models or launches, and to unfiltered listeners that receive
+ * all events.
+ * <p>
+ * Subscriptions are kept in a routing table indexed by event kind which is
+ * rebuilt on every subscription change. Routing an event set therefore only
+ * visits the subscriptions registered for the kinds present in the set.
+ * Unfiltered subscriptions are part of every route, so all listeners are
+ * notified in registration order.
+ * </p>
+ */
+public class DebugEventRouter {
+
+	/**
+	 * Number of event kinds known to the routing table, i.e.
+	 * {@link DebugEvent#RESUME} to {@link DebugEvent#MODEL_SPECIFIC}.
+	 */
+	private static final int KIND_COUNT = 6;
+
+	/**
+	 * Bitwise combination of all event kinds known to the routing table.
+	 */
+	private static final int ALL_KINDS = (1 << KIND_COUNT) - 1;
+
+	private static final Subscription[] NO_SUBSCRIPTIONS = new Subscription[0];
+
+	/**
+	 * A listener subscription.
+	 */
+	private static final class Subscription {
+		final IDebugEventSetListener fListener;
+		final int fKinds;
+		final int fDetails;
+		final String fModelIdentifier;
+		final ILaunch fLaunch;
+		/** Whether all events are passed to the listener. */
+		final boolean fUnfiltered;
+		/** Registration order. */
+		final long fOrder;
+
+		Subscription(IDebugEventSetListener listener, int kinds, int details, String modelIdentifier, ILaunch launch, boolean unfiltered, long order) {
+			fListener = listener;
+			fKinds = kinds;
+			fDetails = details;
+			fModelIdentifier = modelIdentifier;
+			fLaunch = launch;
+			fUnfiltered = unfiltered;
+			fOrder = order;
+		}
+
+		boolean matches(DebugEvent event) {
+			if (fUnfiltered) {
+				return true;
+			}
+			if ((event.getKind() & fKinds) == 0) {
+				return false;
+			}
+			if (fDetails != 0 && (event.getDetail() & fDetails) == 0) {
+				return false;
+			}
+			Object source = event.getSource();
+			if (fModelIdentifier != null) {
+				if (!(source instanceof IDebugElement) || !fModelIdentifier.equals(((IDebugElement) source).getModelIdentifier())) {
+					return false;
+				}
+			}
+			if (fLaunch != null && fLaunch != getLaunch(source)) {
+				return false;
+			}
+			return true;
+		}
+
+		private static ILaunch getLaunch(Object source) {
+			if (source instanceof IDebugElement) {
+				return ((IDebugElement) source).getLaunch();
+			}
+			if (source instanceof IProcess) {
+				return ((IProcess) source).getLaunch();
+			}
+			if (source instanceof ILaunch) {
+				return (ILaunch) source;
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * All subscriptions in registration order. Guarded by <code>this</code>.
+	 */
+	private final List<Subscription> fSubscriptions = new ArrayList<>();
+
+	/**
+	 * Routing table. Subscriptions per event kind in registration order,
+	 * followed by the unfiltered subscriptions for event sets without a known
+	 * kind.
+	 */
+	private volatile Subscription[][] fRoutes = newRoutes();
+
+	/**
+	 * Whether there are no subscriptions. Allows lock free checks.
+	 */
+	private volatile boolean fEmpty = true;
+
+	private long fNextOrder;
+
+	private static Subscription[][] newRoutes() {
+		Subscription[][] routes = new Subscription[KIND_COUNT + 1][];
+		Arrays.fill(routes, NO_SUBSCRIPTIONS);
+		return routes;
+	}
+
+	/**
+	 * Subscribes the given listener to all events. Has no effect if the
+	 * listener is already subscribed to all events, an existing filtered
+	 * subscription of the listener is replaced.
+	 *
+	 * @param listener the listener to subscribe
+	 */
+	public synchronized void add(IDebugEventSetListener listener) {
+		for (Subscription subscription : fSubscriptions) {
+			if (subscription.fListener == listener && subscription.fUnfiltered) {
+				return;
+			}
+		}
+		fSubscriptions.removeIf(s -> s.fListener == listener);
+		fSubscriptions.add(new Subscription(listener, ALL_KINDS, 0, null, null, true, fNextOrder++));
+		rebuildRoutes();
+	}
+
+	/**
+	 * Subscribes the given listener. An existing subscription of the same
+	 * listener is replaced.
+	 *
+	 * @param listener the listener to subscribe
+	 * @param kinds bitwise combination of the event kinds to receive
+	 * @param details bitwise combination of the event details to receive or
+	 *            <code>0</code> for any detail
+	 * @param modelIdentifier debug model identifier the event source must
+	 *            belong to or <code>null</code> for any source
+	 * @param launch launch the event source must belong to or
+	 *            <code>null</code> for any launch
+	 */
+	public synchronized void add(IDebugEventSetListener listener, int kinds, int details, String modelIdentifier, ILaunch launch) {
+		fSubscriptions.removeIf(s -> s.fListener == listener);
+		fSubscriptions.add(new Subscription(listener, kinds, details, modelIdentifier, launch, false, fNextOrder++));
+		rebuildRoutes();
+	}
+
+	/**
+	 * Removes the subscription of the given listener, if any.
+	 *
+	 * @param listener the listener to unsubscribe
+	 */
+	public synchronized void remove(IDebugEventSetListener listener) {
+		if (fSubscriptions.removeIf(s -> s.fListener == listener)) {
+			rebuildRoutes();
+		}
+	}
+
+	/**
+	 * Removes all subscriptions.
+	 */
+	public synchronized void clear() {
+		fSubscriptions.clear();
+		rebuildRoutes();
+	}
+
+	/**
+	 * Returns whether there are no subscriptions.
+	 *
+	 * @return whether there are no subscriptions
+	 */
+	public boolean isEmpty() {
+		return fEmpty;
+	}
+
+	private void rebuildRoutes() {
+		Subscription[][] routes = newRoutes();
+		for (int i = 0; i < KIND_COUNT; i++) {
+			int kind = 1 << i;
+			routes[i] = fSubscriptions.stream().filter(s -> (s.fKinds & kind) != 0).toArray(Subscription[]::new);
+		}
+		routes[KIND_COUNT] = fSubscriptions.stream().filter(s -> s.fUnfiltered).toArray(Subscription[]::new);
+		// share equal routes, such that routing a set of several kinds only
+		// merges routes that differ
+		for (int i = 1; i <= KIND_COUNT; i++) {
+			for (int j = 0; j < i; j++) {
+				if (Arrays.equals(routes[i], routes[j])) {
+					routes[i] = routes[j];
+					break;
+				}
+			}
+		}
+		fRoutes = routes;
+		fEmpty = fSubscriptions.isEmpty();
+	}
+
+	/**
+	 * Passes the matching events of the given event set to every subscribed
+	 * listener with at least one matching event and the complete set to every
+	 * unfiltered listener. Listeners are visited in registration order.
+	 *
+	 * @param events the event set to route
+	 * @param notifier callback invoked with each listener and its matching
+	 *            events
+	 */
+	public void route(DebugEvent[] events, BiConsumer<IDebugEventSetListener, DebugEvent[]> notifier) {
+		Subscription[][] routes = fRoutes;
+		int kinds = 0;
+		for (DebugEvent event : events) {
+			kinds |= event.getKind();
+		}
+		Subscription[] targets = null;
+		Map<Subscription, Boolean> merged = null;
+		for (int i = 0; i < KIND_COUNT; i++) {
+			if ((kinds & (1 << i)) == 0 || routes[i].length == 0) {
+				continue;
+			}
+			if (targets == null) {
+				targets = routes[i];
+			} else if (routes[i] != targets) {
+				if (merged == null) {
+					merged = new IdentityHashMap<>();
+					for (Subscription subscription : targets) {
+						merged.put(subscription, Boolean.TRUE);
+					}
+				}
+				for (Subscription subscription : routes[i]) {
+					merged.put(subscription, Boolean.TRUE);
+				}
+			}
+		}
+		if (targets == null) {
+			// no known kind, only unfiltered listeners receive the set
+			targets = routes[KIND_COUNT];
+		}
+		if (merged != null) {
+			targets = merged.keySet().toArray(new Subscription[merged.size()]);
+			Arrays.sort(targets, Comparator.comparingLong(s -> s.fOrder));
+		}
+		for (Subscription subscription : targets) {
+			DebugEvent[] matching = filter(subscription, events);
+			if (matching.length > 0 || subscription.fUnfiltered) {
+				notifier.accept(subscription.fListener, matching);
+			}
+		}
+	}
+
+	/**
+	 * Returns the events matching the given subscription. Returns the given
+	 * array if all events match.
+	 */
+	private static DebugEvent[] filter(Subscription subscription, DebugEvent[] events) {
+		List<DebugEvent> matching = null;
+		for (int i = 0; i < events.length; i++) {
+			boolean match = subscription.matches(events[i]);
+			if (!match && matching == null) {
+				matching = new ArrayList<>(events.length);
+				for (int j = 0; j < i; j++) {
+					matching.add(events[j]);
+				}
+			} else if (match && matching != null) {
+				matching.add(events[i]);
+			}
+		}
+		return matching == null ? events : matching.toArray(new DebugEvent[matching.size()]);
+	}
+}
@@ -31,10 +31,13 @@ public class DebugOptions implements DebugOptionsListener {
 	public static boolean DEBUG = false;
 	public static boolean DEBUG_COMMANDS = false;
 	public static boolean DEBUG_EVENTS = false;
+	public static boolean DEBUG_EVENT_METRICS = false;
 
 	static final String DEBUG_FLAG = "org.eclipse.debug.core/debug"; //$NON-NLS-1$
 	static final String DEBUG_FLAG_COMMANDS = "org.eclipse.debug.core/debug/commands"; //$NON-NLS-1$
 	static final String DEBUG_FLAG_EVENTS = "org.eclipse.debug.core/debug/events"; //$NON-NLS-1$
+	static final String DEBUG_FLAG_EVENT_METRICS = "org.eclipse.debug.core/debug/events/metrics"; //$NON-NLS-1$
+	static final String DEBUG_FLAG_EVENT_METRICS_INTERVAL = "org.eclipse.debug.core/debug/events/metrics/interval"; //$NON-NLS-1$
 
 	/**
 	 * The {@link DebugTrace} object to print to OSGi tracing
@@ -58,6 +61,9 @@ public class DebugOptions implements DebugOptionsListener {
 		DEBUG = options.getBooleanOption(DEBUG_FLAG, false);
 		DEBUG_COMMANDS = DEBUG && options.getBooleanOption(DEBUG_FLAG_COMMANDS, false);
 		DEBUG_EVENTS = DEBUG && options.getBooleanOption(DEBUG_FLAG_EVENTS, false);
+		DEBUG_EVENT_METRICS = DEBUG && options.getBooleanOption(DEBUG_FLAG_EVENT_METRICS, false);
+		DebugEventMetrics.getDefault().setEnabled(DEBUG_EVENT_METRICS);
+		DebugEventMetrics.getDefault().setDumpInterval(DEBUG_EVENT_METRICS ? options.getIntegerOption(DEBUG_FLAG_EVENT_METRICS_INTERVAL, 0) : 0);
 	}
 
 	/**
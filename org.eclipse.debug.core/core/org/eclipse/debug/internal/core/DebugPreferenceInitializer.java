@@ -31,6 +31,12 @@ public class DebugPreferenceInitializer extends AbstractPreferenceInitializer {
 		Preferences.setDefaultBoolean(DebugPlugin.getUniqueIdentifier(), DebugPlugin.PREF_DELETE_CONFIGS_ON_PROJECT_DELETE, false);
 		Preferences.setDefaultBoolean(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_ENABLE_STATUS_HANDLERS, true);
 		Preferences.setDefaultBoolean(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_BREAKPOINT_MANAGER_ENABLED_STATE, true);
+		Preferences.setDefaultInt(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_OUTPUT_BUFFER_LIMIT, 0);
+		Preferences.setDefaultInt(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_OUTPUT_BATCH_DELAY, 0);
+		Preferences.setDefaultInt(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_OUTPUT_BATCH_SIZE, 65536);
+		Preferences.setDefaultBoolean(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_COALESCE_CHANGE_EVENTS, false);
+		Preferences.setDefaultBoolean(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_RESTORE_BREAKPOINTS_LAZILY, false);
+		Preferences.setDefaultInt(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_BREAKPOINT_NOTIFICATION_DELAY, 0);
 		Preferences.savePreferences(DebugPlugin.getUniqueIdentifier());
 	}
 
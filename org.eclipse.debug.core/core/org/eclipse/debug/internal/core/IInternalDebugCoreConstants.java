@@ -44,4 +44,64 @@ public interface IInternalDebugCoreConstants {
 	 */
 	String PREF_BREAKPOINT_MANAGER_ENABLED_STATE =  DebugPlugin.getUniqueIdentifier() + ".PREF_BREAKPOINT_MANAGER_ENABLED_STATE"; //$NON-NLS-1$
 
+	/**
+	 * Integer preference controlling the maximum number of bytes an
+	 * {@link OutputStreamMonitor} retains while buffering stream content. If
+	 * more content is read the oldest content is discarded. Default value is
+	 * <code>0</code> which means no limit.
+	 *
+	 * @since 3.21
+	 */
+	String PREF_OUTPUT_BUFFER_LIMIT = DebugPlugin.getUniqueIdentifier() + ".PREF_OUTPUT_BUFFER_LIMIT"; //$NON-NLS-1$
+
+	/**
+	 * Integer preference controlling the maximum time in milliseconds an
+	 * {@link OutputStreamMonitor} holds back stream content to notify its
+	 * listeners with larger batches. Default value is <code>0</code> which
+	 * disables batching.
+	 *
+	 * @since 3.21
+	 */
+	String PREF_OUTPUT_BATCH_DELAY = DebugPlugin.getUniqueIdentifier() + ".PREF_OUTPUT_BATCH_DELAY"; //$NON-NLS-1$
+
+	/**
+	 * Integer preference controlling the number of bytes which causes an
+	 * {@link OutputStreamMonitor} to deliver a batch immediately. Only used if
+	 * {@link #PREF_OUTPUT_BATCH_DELAY} is set. Default value is
+	 * <code>65536</code>.
+	 *
+	 * @since 3.21
+	 */
+	String PREF_OUTPUT_BATCH_SIZE = DebugPlugin.getUniqueIdentifier() + ".PREF_OUTPUT_BATCH_SIZE"; //$NON-NLS-1$
+
+	/**
+	 * Boolean preference controlling whether the debug event dispatcher skips
+	 * an event set consisting of a single {@link org.eclipse.debug.core.DebugEvent#CHANGE}
+	 * event if the directly preceding event set holds an identical change
+	 * event for the same source. Default value is <code>false</code>.
+	 *
+	 * @since 3.21
+	 */
+	String PREF_COALESCE_CHANGE_EVENTS = DebugPlugin.getUniqueIdentifier() + ".PREF_COALESCE_CHANGE_EVENTS"; //$NON-NLS-1$
+
+	/**
+	 * Boolean preference controlling whether the breakpoint manager restores
+	 * the breakpoints of a debug model only once they are first requested,
+	 * instead of creating all breakpoints when it is initialized. Default
+	 * value is <code>false</code>.
+	 *
+	 * @since 3.21
+	 */
+	String PREF_RESTORE_BREAKPOINTS_LAZILY = DebugPlugin.getUniqueIdentifier() + ".PREF_RESTORE_BREAKPOINTS_LAZILY"; //$NON-NLS-1$
+
+	/**
+	 * Integer preference controlling the time in milliseconds the breakpoint
+	 * manager collects breakpoint notifications before listeners are notified
+	 * of the net effect per breakpoint in a background job. Default value is
+	 * <code>0</code> which notifies listeners synchronously.
+	 *
+	 * @since 3.21
+	 */
+	String PREF_BREAKPOINT_NOTIFICATION_DELAY = DebugPlugin.getUniqueIdentifier() + ".PREF_BREAKPOINT_NOTIFICATION_DELAY"; //$NON-NLS-1$
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,7 +18,7 @@ package org.eclipse.debug.internal.core;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.Charset;
-import java.util.Vector;
+import java.util.ArrayDeque;
 
 import org.eclipse.debug.core.DebugPlugin;
 
@@ -26,7 +26,9 @@ import org.eclipse.debug.core.DebugPlugin;
  * Writes to the input stream of a system process, queuing output if the stream
  * is blocked.
  *
- * The input stream monitor writes to system in via an output stream.
+ * The input stream monitor writes to system in via an output stream. Queued
+ * output is written by a task of the {@link StreamMonitorExecutor} which only
+ * runs while output is pending.
  */
 public class InputStreamMonitor {
 
@@ -38,12 +40,24 @@ public class InputStreamMonitor {
 	/**
 	 * The queue of output.
 	 */
-	private Vector<byte[]> fQueue;
+	private ArrayDeque<byte[]> fQueue;
 
 	/**
-	 * The thread which writes to the stream.
+	 * The name of the thread while the write task runs or <code>null</code>
+	 * if monitoring was not started.
 	 */
-	private Thread fThread;
+	private String fThreadName;
+
+	/**
+	 * Whether a write task is scheduled or running.
+	 */
+	private boolean fWriting;
+
+	/**
+	 * Whether the monitor was closed. The underlying stream is closed once
+	 * all queued output is written.
+	 */
+	private boolean fStopped;
 
 	/**
 	 * A lock for ensuring that writes to the queue are contiguous
@@ -53,7 +67,7 @@ public class InputStreamMonitor {
 	/**
 	 * Whether the underlying output stream has been closed
 	 */
-	private boolean fClosed = false;
+	private volatile boolean fClosed = false;
 
 	/**
 	 * The charset of the input stream.
@@ -78,7 +92,7 @@ public class InputStreamMonitor {
 	 */
 	public InputStreamMonitor(OutputStream stream, Charset charset) {
 		fStream = stream;
-		fQueue = new Vector<>();
+		fQueue = new ArrayDeque<>();
 		fLock = new Object();
 		fCharset = charset;
 	}
@@ -106,7 +120,7 @@ public class InputStreamMonitor {
 	public void write(String text) {
 		synchronized (fLock) {
 			fQueue.add(fCharset == null ? text.getBytes() : text.getBytes(fCharset));
-			fLock.notifyAll();
+			scheduleWrite();
 		}
 	}
 
@@ -123,7 +137,7 @@ public class InputStreamMonitor {
 			byte[] copy = new byte[length];
 			System.arraycopy(data, offset, copy, 0, length);
 			fQueue.add(copy);
-			fLock.notifyAll();
+			scheduleWrite();
 		}
 	}
 
@@ -132,45 +146,71 @@ public class InputStreamMonitor {
 	}
 
 	/**
-	 * Starts a thread which writes the stream.
+	 * Starts writing the stream. Output queued so far is written immediately.
 	 *
 	 * @param threadName Thread name
 	 */
 	public void startMonitoring(String threadName) {
-		synchronized (this) {
-			if (fThread == null) {
-				fThread = new Thread((Runnable) this::write, threadName);
-				fThread.setDaemon(true);
-				fThread.start();
+		synchronized (fLock) {
+			if (fThreadName == null && !fStopped) {
+				fThreadName = threadName;
+				scheduleWrite();
 			}
 		}
 	}
 
+	/**
+	 * Schedules a write task if monitoring was started, output is pending and
+	 * no write task is already scheduled. Must be called while holding
+	 * {@link #fLock}.
+	 */
+	private void scheduleWrite() {
+		if (fThreadName != null && !fWriting && !fStopped && !fQueue.isEmpty()) {
+			fWriting = true;
+			StreamMonitorExecutor.execute(this::write, fThreadName, Thread.NORM_PRIORITY);
+		}
+	}
+
 	/**
 	 * Close all communications between this
 	 * monitor and the underlying stream.
 	 */
 	public void close() {
-		Thread thread = null;
-		synchronized (this) {
-			thread = fThread;
-			fThread = null;
-		}
-		if (thread != null) {
-			thread.interrupt();
+		synchronized (fLock) {
+			if (fThreadName == null || fStopped) {
+				return;
+			}
+			fStopped = true;
+			if (fWriting) {
+				// write task closes the stream once finished
+				return;
+			}
 		}
+		closeStream();
 	}
 
 	/**
-	 * Continuously writes to the stream.
+	 * Writes the queued output to the stream until the queue is empty.
 	 */
 	protected void write() {
-		while (fThread != null) {
-			writeNext();
-		}
-		if (!fClosed) {
+		while (true) {
+			byte[] data;
+			synchronized (fLock) {
+				if (fQueue.isEmpty() || fClosed) {
+					fWriting = false;
+					if (!fStopped) {
+						return;
+					}
+				}
+				data = fWriting ? fQueue.poll() : null;
+			}
+			if (data == null) {
+				closeStream();
+				return;
+			}
 			try {
-				fStream.close();
+				fStream.write(data);
+				fStream.flush();
 			} catch (IOException e) {
 				DebugPlugin.log(e);
 			}
@@ -179,28 +219,31 @@ public class InputStreamMonitor {
 
 	/**
 	 * Write the text in the queue to the stream.
+	 *
+	 * @deprecated queued output is written by a task of the
+	 *             {@link StreamMonitorExecutor}, see {@link #write()}. This
+	 *             method is no longer called by the monitor, it only schedules
+	 *             that task if output is pending.
 	 */
+	@Deprecated
 	protected void writeNext() {
-		while (!fQueue.isEmpty() && !fClosed) {
-			byte[] data = fQueue.firstElement();
-			fQueue.removeElementAt(0);
+		synchronized (fLock) {
+			scheduleWrite();
+		}
+	}
+
+	/**
+	 * Closes the underlying stream if not already closed.
+	 */
+	private void closeStream() {
+		if (!fClosed) {
+			fClosed = true;
 			try {
-				fStream.write(data);
-				fStream.flush();
+				fStream.close();
 			} catch (IOException e) {
 				DebugPlugin.log(e);
 			}
 		}
-		try {
-			synchronized(fLock) {
-				// Queue could receive more input between last empty check and
-				// lock acquire. See https://bugs.eclipse.org/550834
-				if (fQueue.isEmpty()) {
-					fLock.wait();
-				}
-			}
-		} catch (InterruptedException e) {
-		}
 	}
 
 	/**
@@ -220,4 +263,3 @@ public class InputStreamMonitor {
 
 	}
 }
-
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -967,8 +967,8 @@ public class LaunchConfiguration extends PlatformObject implements ILaunchConfig
 	public boolean isAttributeModified(String attribute) throws CoreException {
 		ILaunchConfiguration prototype = getPrototype();
 		if (prototype != null) {
-			Object prototypeValue = prototype.getAttributes().get(attribute);
-			Object attributeValue = getAttributes().get(attribute);
+			Object prototypeValue = prototype instanceof LaunchConfiguration ? ((LaunchConfiguration) prototype).getInfo().getObjectAttribute(attribute) : prototype.getAttributes().get(attribute);
+			Object attributeValue = getInfo().getObjectAttribute(attribute);
 			return !LaunchConfigurationInfo.compareAttribute(attribute, prototypeValue, attributeValue);
 		}
 		return false;
@@ -0,0 +1,274 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.filesystem.IFileInfo;
+import org.eclipse.core.filesystem.IFileStore;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunchConfiguration;
+
+/**
+ * Persistent index of the launch configuration files known to the launch
+ * manager.
+ * <p>
+ * For every file the index stores its location, time stamp and size together
+ * with the launch configuration type identifier. Name and prototype flag of a
+ * configuration are derived from the file location and not indexed. As
+ * long as time stamp and size of a file are unchanged the type of the launch
+ * configuration is answered from the index without reading the file. Stale
+ * entries are refreshed by reading the complete file, so a file that cannot
+ * be read is never indexed. Entries are removed when a configuration is
+ * added, changed or deleted and after a complete scan for files that no
+ * longer exist.
+ * </p>
+ * <p>
+ * The index is loaded from and saved to a file in the plug-in state location.
+ * </p>
+ */
+public class LaunchConfigurationIndex {
+
+	/**
+	 * Version of the index file format.
+	 */
+	private static final int VERSION = 3;
+
+	/**
+	 * Indexed data of a single launch configuration file.
+	 */
+	static final class Entry {
+		final long fTimeStamp;
+		final long fSize;
+		final String fTypeId;
+
+		Entry(long timeStamp, long size, String typeId) {
+			fTimeStamp = timeStamp;
+			fSize = size;
+			fTypeId = typeId;
+		}
+	}
+
+	/**
+	 * Entries keyed by the URI of the launch configuration file.
+	 */
+	private final Map<String, Entry> fEntries = new HashMap<>();
+
+	/**
+	 * The file the index is persisted in or <code>null</code> if not
+	 * persisted.
+	 */
+	private final File fIndexFile;
+
+	private boolean fLoaded;
+
+	private boolean fDirty;
+
+	/**
+	 * Creates an index persisted in the given file.
+	 *
+	 * @param indexFile file to load the index from and save it to or
+	 *            <code>null</code> for a transient index
+	 */
+	public LaunchConfigurationIndex(IPath indexFile) {
+		fIndexFile = indexFile != null ? indexFile.toFile() : null;
+	}
+
+	/**
+	 * Returns the identifier of the launch configuration type of the given
+	 * configuration. The file of the configuration is only read if it changed
+	 * since it was indexed. In that case the configuration is read completely,
+	 * so that only files that can be read are indexed.
+	 *
+	 * @param config the launch configuration
+	 * @return type identifier or <code>null</code> if the file does not exist
+	 * @throws CoreException if the configuration cannot be read
+	 */
+	public String getTypeId(LaunchConfiguration config) throws CoreException {
+		IFileStore store = config.getFileStore();
+		if (store == null) {
+			return null;
+		}
+		IFileInfo info = store.fetchInfo();
+		String key = store.toURI().toString();
+		synchronized (this) {
+			load();
+			if (!info.exists()) {
+				remove(key);
+				return null;
+			}
+			Entry entry = fEntries.get(key);
+			if (entry != null && entry.fTimeStamp == info.getLastModified() && entry.fSize == info.getLength()) {
+				return entry.fTypeId;
+			}
+		}
+		// read without holding the lock of the index, reading may need the
+		// lock of the launch manager
+		String typeId;
+		try {
+			typeId = config.getType().getIdentifier();
+		} catch (CoreException e) {
+			synchronized (this) {
+				remove(key);
+			}
+			throw e;
+		}
+		synchronized (this) {
+			// time stamp and size are from before the file was read, a
+			// concurrent change is detected on the next access
+			fEntries.put(key, new Entry(info.getLastModified(), info.getLength(), typeId));
+			fDirty = true;
+		}
+		return typeId;
+	}
+
+	/**
+	 * Removes the entry of the given launch configuration. Called when the
+	 * configuration was added, changed or deleted.
+	 *
+	 * @param config the launch configuration
+	 */
+	public synchronized void remove(LaunchConfiguration config) {
+		try {
+			IFileStore store = config.getFileStore();
+			if (store != null) {
+				load();
+				remove(store.toURI().toString());
+			}
+		} catch (CoreException e) {
+			// nothing indexed
+		}
+	}
+
+	private void remove(String key) {
+		if (fEntries.remove(key) != null) {
+			fDirty = true;
+		}
+	}
+
+	/**
+	 * Removes the entries of all files that are not among the given launch
+	 * configurations. Used after a complete scan to drop files that were
+	 * deleted or moved while the index was not watching.
+	 *
+	 * @param configs all existing launch configurations
+	 */
+	public synchronized void retain(Collection<ILaunchConfiguration> configs) {
+		load();
+		Set<String> keys = new HashSet<>();
+		for (ILaunchConfiguration config : configs) {
+			if (!(config instanceof LaunchConfiguration)) {
+				continue;
+			}
+			try {
+				IFileStore store = ((LaunchConfiguration) config).getFileStore();
+				if (store != null) {
+					keys.add(store.toURI().toString());
+				}
+			} catch (CoreException e) {
+				// not indexed
+			}
+		}
+		if (fEntries.keySet().retainAll(keys)) {
+			fDirty = true;
+		}
+	}
+
+	/**
+	 * Loads the persisted index if not yet done. A missing or unreadable index
+	 * file results in an empty index.
+	 */
+	private void load() {
+		if (fLoaded) {
+			return;
+		}
+		fLoaded = true;
+		if (fIndexFile == null || !fIndexFile.isFile()) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(fIndexFile)))) {
+			if (in.readInt() != VERSION) {
+				return;
+			}
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String key = in.readUTF();
+				long timeStamp = in.readLong();
+				long size = in.readLong();
+				String typeId = in.readUTF();
+				fEntries.put(key, new Entry(timeStamp, size, typeId));
+			}
+		} catch (IOException e) {
+			fEntries.clear();
+			fDirty = true;
+		}
+	}
+
+	/**
+	 * Saves the index if it changed since it was loaded or last saved.
+	 */
+	public synchronized void save() {
+		if (!fDirty || fIndexFile == null) {
+			return;
+		}
+		File temp = new File(fIndexFile.getPath() + ".tmp"); //$NON-NLS-1$
+		try {
+			temp.getParentFile().mkdirs();
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+				out.writeInt(VERSION);
+				out.writeInt(fEntries.size());
+				for (Map.Entry<String, Entry> mapEntry : fEntries.entrySet()) {
+					Entry entry = mapEntry.getValue();
+					out.writeUTF(mapEntry.getKey());
+					out.writeLong(entry.fTimeStamp);
+					out.writeLong(entry.fSize);
+					out.writeUTF(entry.fTypeId);
+				}
+			}
+			Files.move(temp.toPath(), fIndexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			fDirty = false;
+		} catch (IOException e) {
+			DebugPlugin.log(new Status(IStatus.WARNING, DebugPlugin.getUniqueIdentifier(), "Failed to save launch configuration index", e)); //$NON-NLS-1$
+			temp.delete();
+		}
+	}
+
+	/**
+	 * Returns the number of indexed launch configuration files.
+	 *
+	 * @return number of entries
+	 */
+	public synchronized int size() {
+		load();
+		return fEntries.size();
+	}
+}
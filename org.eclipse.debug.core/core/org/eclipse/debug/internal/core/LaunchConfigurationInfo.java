@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ package org.eclipse.debug.internal.core;
 
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -31,6 +32,9 @@ import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.TransformerException;
 
 import org.eclipse.core.runtime.CoreException;
@@ -42,8 +46,6 @@ import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationType;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
 
 /**
  * The information associated with a launch configuration handle.
@@ -69,15 +71,37 @@ public class LaunchConfigurationInfo {
 	private static final String PROTOTYPE = "prototype"; //$NON-NLS-1$
 	private static final String VISIBLE_ATTRIBUTES = "visibleAttributes"; //$NON-NLS-1$
 
+	/**
+	 * XML declaration and indentation of the launch configuration file format
+	 */
+	private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>"; //$NON-NLS-1$
+	private static final String INDENT = "    "; //$NON-NLS-1$
+
+	/**
+	 * String values up to this length are interned when read from XML. Longer
+	 * values are rarely shared between configurations.
+	 */
+	private static final int MAX_INTERNED_VALUE_LENGTH = 256;
+
 	/**
 	 * This configurations attribute table. Keys are <code>String</code>s and
 	 * values are one of <code>String</code>, <code>Integer</code>,
 	 * <code>Boolean</code>, <code>Set&lt;String&gt;</code>,
 	 * <code>List&lt;String&gt;</code>, or
-	 * <code>Map&lt;String, String&gt;</code>
+	 * <code>Map&lt;String, String&gt;</code>. Keys are interned.
+	 * <p>
+	 * The table may be shared with copies of this info, see
+	 * {@link #fAttributesShared}.
+	 * </p>
 	 */
 	private TreeMap<String, Object> fAttributes;
 
+	/**
+	 * Whether the attribute table is shared with other infos. A shared table
+	 * is copied before it is modified.
+	 */
+	private boolean fAttributesShared = false;
+
 	/**
 	 * This launch configuration's type
 	 */
@@ -134,6 +158,20 @@ public class LaunchConfigurationInfo {
 		return fAttributes;
 	}
 
+	/**
+	 * Returns this configuration's attribute table for modification. A shared
+	 * table is copied first.
+	 *
+	 * @return attribute table not shared with other infos
+	 */
+	private TreeMap<String, Object> getModifiableAttributeTable() {
+		if (fAttributesShared) {
+			fAttributes = new TreeMap<>(fAttributes);
+			fAttributesShared = false;
+		}
+		return fAttributes;
+	}
+
 	/**
 	 * Sets this configuration's attribute table.
 	 *
@@ -142,6 +180,7 @@ public class LaunchConfigurationInfo {
 	 */
 	private void setAttributeTable(TreeMap<String, Object> table) {
 		fAttributes = table;
+		fAttributesShared = false;
 	}
 
 	/**
@@ -150,11 +189,55 @@ public class LaunchConfigurationInfo {
 	 * @param map the {@link Map} of attributes to set
 	 */
 	protected void setAttributes(Map<String, ?> map) {
-		if (map == null) {
-			setAttributeTable(new TreeMap<>());
-			return;
+		TreeMap<String, Object> table = new TreeMap<>();
+		if (map != null) {
+			for (Map.Entry<String, ?> entry : map.entrySet()) {
+				table.put(intern(entry.getKey()), entry.getValue());
+			}
 		}
-		setAttributeTable(new TreeMap<>(map));
+		setAttributeTable(table);
+	}
+
+	/**
+	 * Sets the attributes in this info to those of the given info. The
+	 * attribute table is shared until either info is modified.
+	 *
+	 * @param info the info to take the attributes from
+	 */
+	protected void setAttributes(LaunchConfigurationInfo info) {
+		fAttributes = info.shareAttributeTable();
+		fAttributesShared = true;
+	}
+
+	/**
+	 * Marks this configuration's attribute table as shared and returns it.
+	 *
+	 * @return attribute table
+	 */
+	private TreeMap<String, Object> shareAttributeTable() {
+		fAttributesShared = true;
+		return fAttributes;
+	}
+
+	/**
+	 * Returns the canonical instance of the given attribute key.
+	 *
+	 * @param key attribute key or <code>null</code>
+	 * @return canonical key or <code>null</code>
+	 */
+	private static String intern(String key) {
+		return key == null ? null : key.intern();
+	}
+
+	/**
+	 * Returns the canonical instance of the given string value read from XML
+	 * if it is short enough to be worth sharing.
+	 *
+	 * @param value attribute value
+	 * @return canonical or given value
+	 */
+	private static String internValue(String value) {
+		return value.length() <= MAX_INTERNED_VALUE_LENGTH ? value.intern() : value;
 	}
 
 	/**
@@ -380,14 +463,15 @@ public class LaunchConfigurationInfo {
 	}
 
 	/**
-	 * Returns a copy of this info object
+	 * Returns a copy of this info object. The copy shares the attribute table
+	 * with this info until either of them is modified.
 	 *
 	 * @return copy of this info
 	 */
 	protected LaunchConfigurationInfo getCopy() {
 		LaunchConfigurationInfo copy = new LaunchConfigurationInfo();
 		copy.setType(getType());
-		copy.setAttributeTable(getAttributes());
+		copy.setAttributes(this);
 		copy.setIsPrototype(isPrototype());
 		copy.setPrototype(getPrototype());
 		copy.setVisibleAttributes(getVisibleAttributes());
@@ -414,10 +498,12 @@ public class LaunchConfigurationInfo {
 	 */
 	protected void setAttribute(String key, Object value) {
 		if (value == null) {
-			getAttributeTable().remove(key);
+			if (getAttributeTable().containsKey(key)) {
+				getModifiableAttributeTable().remove(key);
+			}
 			setAttributeVisibility(key, false);
 		} else {
-			Object attribute = getAttributeTable().put(key, value);
+			Object attribute = getModifiableAttributeTable().put(intern(key), value);
 			// If attribute is new in the table and the configuration is a
 			// prototype, then add it to the visible attributes
 			if (attribute == null && fIsPrototype) {
@@ -427,8 +513,11 @@ public class LaunchConfigurationInfo {
 	}
 
 	/**
-	 * Returns the content of this info as XML
+	 * Returns the content of this info as XML. The XML is written directly
+	 * and is identical to what serializing the equivalent DOM with an
+	 * indenting transformer produces.
 	 *
+	 * @param lineDelimeter the line delimiter to use
 	 * @return the content of this info as XML
 	 * @throws CoreException
 	 *             if a attribute has been set with a null key
@@ -441,20 +530,22 @@ public class LaunchConfigurationInfo {
 	 */
 	@SuppressWarnings("unchecked")
 	protected String getAsXML(String lineDelimeter) throws CoreException, IOException, ParserConfigurationException, TransformerException {
-		Document doc = LaunchManager.getDocument();
-		Element configRootElement = doc.createElement(LAUNCH_CONFIGURATION);
-		doc.appendChild(configRootElement);
-
-		configRootElement.setAttribute(TYPE, getType().getIdentifier());
-
+		StringBuilder xml = new StringBuilder(1024);
+		xml.append(XML_DECLARATION).append(lineDelimeter);
+		xml.append('<').append(LAUNCH_CONFIGURATION);
+		// attributes are written in alphabetical order
 		ILaunchConfiguration prototype = getPrototype();
 		if (prototype != null) {
-			configRootElement.setAttribute(PROTOTYPE, prototype.getName());
-		} else if (isPrototype()) {
-			configRootElement.setAttribute(VISIBLE_ATTRIBUTES, getVisibleAttributes().stream().collect(Collectors.joining(", "))); //$NON-NLS-1$
+			appendAttribute(xml, PROTOTYPE, prototype.getName());
+		}
+		appendAttribute(xml, TYPE, getType().getIdentifier());
+		if (prototype == null && isPrototype()) {
+			appendAttribute(xml, VISIBLE_ATTRIBUTES, getVisibleAttributes().stream().collect(Collectors.joining(", "))); //$NON-NLS-1$
 		}
 
-		for (String key : getAttributeTable().keySet()) {
+		boolean empty = true;
+		for (Map.Entry<String, Object> entry : getAttributeTable().entrySet()) {
+			String key = entry.getKey();
 			if (key == null) {
 				throw new DebugException(
 					new Status(
@@ -463,32 +554,179 @@ public class LaunchConfigurationInfo {
 					)
 				);
 			}
-			Object value = getAttributeTable().get(key);
+			Object value = entry.getValue();
 			if (value == null) {
 				continue;
 			}
-			Element element = null;
-			String valueString = null;
+			if (empty) {
+				xml.append('>').append(lineDelimeter);
+				empty = false;
+			}
 			if (value instanceof String) {
-				valueString = (String)value;
-				element = createKeyValueElement(doc, STRING_ATTRIBUTE, key, valueString);
+				appendKeyValueElement(xml, STRING_ATTRIBUTE, key, (String) value, lineDelimeter);
 			} else if (value instanceof Integer) {
-				valueString = ((Integer)value).toString();
-				element = createKeyValueElement(doc, INT_ATTRIBUTE, key, valueString);
+				appendKeyValueElement(xml, INT_ATTRIBUTE, key, value.toString(), lineDelimeter);
 			} else if (value instanceof Boolean) {
-				valueString = ((Boolean)value).toString();
-				element = createKeyValueElement(doc, BOOLEAN_ATTRIBUTE, key, valueString);
+				appendKeyValueElement(xml, BOOLEAN_ATTRIBUTE, key, value.toString(), lineDelimeter);
 			} else if (value instanceof List) {
-				element = createListElement(doc, LIST_ATTRIBUTE, key, (List<String>) value);
+				appendListElement(xml, LIST_ATTRIBUTE, key, (List<String>) value, lineDelimeter);
 			} else if (value instanceof Map) {
-				element = createMapElement(doc, MAP_ATTRIBUTE, key, (Map<String, String>) value);
-			} else if(value instanceof Set) {
-				element = createSetElement(doc, SET_ATTRIBUTE, key, (Set<String>) value);
+				appendMapElement(xml, MAP_ATTRIBUTE, key, (Map<String, String>) value, lineDelimeter);
+			} else if (value instanceof Set) {
+				appendSetElement(xml, SET_ATTRIBUTE, key, (Set<String>) value, lineDelimeter);
 			}
-			configRootElement.appendChild(element);
 		}
+		if (empty) {
+			xml.append("/>"); //$NON-NLS-1$
+		} else {
+			appendEndTag(xml, LAUNCH_CONFIGURATION);
+		}
+		xml.append(lineDelimeter);
+		return xml.toString();
+	}
 
-		return LaunchManager.serializeDocument(doc, lineDelimeter);
+	/**
+	 * Appends an element of the specified type with 'key' and 'value'
+	 * attributes.
+	 *
+	 * @param xml the buffer to append to
+	 * @param elementType the element type
+	 * @param key the element key
+	 * @param value the element value
+	 * @param lineDelimeter the line delimiter to use
+	 */
+	private static void appendKeyValueElement(StringBuilder xml, String elementType, String key, String value, String lineDelimeter) {
+		xml.append(INDENT).append('<').append(elementType);
+		appendAttribute(xml, KEY, key);
+		appendAttribute(xml, VALUE, value);
+		xml.append("/>").append(lineDelimeter); //$NON-NLS-1$
+	}
+
+	/**
+	 * Appends an element for the specified <code>java.util.List</code>.
+	 *
+	 * @param xml the buffer to append to
+	 * @param elementType the type of the element
+	 * @param listKey the key for the element
+	 * @param list the entries of the element
+	 * @param lineDelimeter the line delimiter to use
+	 */
+	private static void appendListElement(StringBuilder xml, String elementType, String listKey, List<String> list, String lineDelimeter) {
+		appendStartTag(xml, elementType, listKey, list.isEmpty(), lineDelimeter);
+		for (String value : list) {
+			appendEntryElement(xml, LIST_ENTRY, null, value, lineDelimeter);
+		}
+		appendEndTag(xml, elementType, list.isEmpty(), lineDelimeter);
+	}
+
+	/**
+	 * Appends an element for the specified <code>java.util.Set</code>. The
+	 * entries are written in sorted order.
+	 *
+	 * @param xml the buffer to append to
+	 * @param elementType the type of the element
+	 * @param setKey the key for the element
+	 * @param set the entries of the element
+	 * @param lineDelimeter the line delimiter to use
+	 */
+	private static void appendSetElement(StringBuilder xml, String elementType, String setKey, Set<String> set, String lineDelimeter) {
+		List<String> list = new ArrayList<>(set);
+		Collections.sort(list);
+		appendStartTag(xml, elementType, setKey, list.isEmpty(), lineDelimeter);
+		for (String value : list) {
+			appendEntryElement(xml, SET_ENTRY, null, value, lineDelimeter);
+		}
+		appendEndTag(xml, elementType, list.isEmpty(), lineDelimeter);
+	}
+
+	/**
+	 * Appends an element for the specified <code>java.util.Map</code>. The
+	 * entries are written in the order of their keys.
+	 *
+	 * @param xml the buffer to append to
+	 * @param elementType the type of the element
+	 * @param mapKey the key for the element
+	 * @param map the entries of the element
+	 * @param lineDelimeter the line delimiter to use
+	 */
+	private static void appendMapElement(StringBuilder xml, String elementType, String mapKey, Map<String, String> map, String lineDelimeter) {
+		List<String> keys = new ArrayList<>(map.keySet());
+		Collections.sort(keys);
+		appendStartTag(xml, elementType, mapKey, keys.isEmpty(), lineDelimeter);
+		for (String key : keys) {
+			appendEntryElement(xml, MAP_ENTRY, key, map.get(key), lineDelimeter);
+		}
+		appendEndTag(xml, elementType, keys.isEmpty(), lineDelimeter);
+	}
+
+	private static void appendStartTag(StringBuilder xml, String elementType, String key, boolean empty, String lineDelimeter) {
+		xml.append(INDENT).append('<').append(elementType);
+		appendAttribute(xml, KEY, key);
+		xml.append(empty ? "/>" : ">").append(lineDelimeter); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static void appendEndTag(StringBuilder xml, String elementType, boolean empty, String lineDelimeter) {
+		if (!empty) {
+			xml.append(INDENT);
+			appendEndTag(xml, elementType);
+			xml.append(lineDelimeter);
+		}
+	}
+
+	private static void appendEndTag(StringBuilder xml, String elementType) {
+		xml.append("</").append(elementType).append('>'); //$NON-NLS-1$
+	}
+
+	private static void appendEntryElement(StringBuilder xml, String elementType, String key, String value, String lineDelimeter) {
+		xml.append(INDENT).append(INDENT).append('<').append(elementType);
+		if (key != null) {
+			appendAttribute(xml, KEY, key);
+		}
+		appendAttribute(xml, VALUE, value);
+		xml.append("/>").append(lineDelimeter); //$NON-NLS-1$
+	}
+
+	/**
+	 * Appends an XML attribute. The value is escaped the same way the JAXP
+	 * serializer does: markup characters are replaced by entities, control
+	 * characters and supplementary characters by character references. A
+	 * <code>null</code> value is written as empty string.
+	 *
+	 * @param xml the buffer to append to
+	 * @param name the attribute name
+	 * @param value the attribute value or <code>null</code>
+	 */
+	private static void appendAttribute(StringBuilder xml, String name, String value) {
+		xml.append(' ').append(name).append("=\""); //$NON-NLS-1$
+		if (value != null) {
+			int length = value.length();
+			for (int i = 0; i < length; i++) {
+				char c = value.charAt(i);
+				switch (c) {
+					case '&':
+						xml.append("&amp;"); //$NON-NLS-1$
+						break;
+					case '<':
+						xml.append("&lt;"); //$NON-NLS-1$
+						break;
+					case '>':
+						xml.append("&gt;"); //$NON-NLS-1$
+						break;
+					case '"':
+						xml.append("&quot;"); //$NON-NLS-1$
+						break;
+					default:
+						if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+							xml.append("&#").append(Character.toCodePoint(c, value.charAt(++i))).append(';'); //$NON-NLS-1$
+						} else if (c < 0x20 || Character.isSurrogate(c)) {
+							xml.append("&#").append((int) c).append(';'); //$NON-NLS-1$
+						} else {
+							xml.append(c);
+						}
+				}
+			}
+		}
+		xml.append('"');
 	}
 
 	/**
@@ -499,7 +737,10 @@ public class LaunchConfigurationInfo {
 	 * @param key the {@link Element} key
 	 * @param value the {@link Element} value
 	 * @return the new {@link Element}
+	 * @deprecated configurations are no longer written with a DOM, see
+	 *             {@link #getAsXML(String)}
 	 */
+	@Deprecated
 	protected Element createKeyValueElement(Document doc, String elementType, String key, String value) {
 		Element element = doc.createElement(elementType);
 		element.setAttribute(KEY, key);
@@ -516,7 +757,10 @@ public class LaunchConfigurationInfo {
 	 * @param listKey the key for the element
 	 * @param list the list to fill the new element with
 	 * @return the new element
+	 * @deprecated configurations are no longer written with a DOM, see
+	 *             {@link #getAsXML(String)}
 	 */
+	@Deprecated
 	protected Element createListElement(Document doc, String elementType, String listKey, List<String> list) {
 		Element listElement = doc.createElement(elementType);
 		listElement.setAttribute(KEY, listKey);
@@ -539,16 +783,18 @@ public class LaunchConfigurationInfo {
 	 * @return the new element
 	 *
 	 * @since 3.3
+	 * @deprecated configurations are no longer written with a DOM, see
+	 *             {@link #getAsXML(String)}
 	 */
+	@Deprecated
 	protected Element createSetElement(Document doc, String elementType, String setKey, Set<String> set) {
 		Element setElement = doc.createElement(elementType);
 		setElement.setAttribute(KEY, setKey);
 		// persist in sorted order
 		List<String> list = new ArrayList<>(set);
 		Collections.sort(list);
-		Element element = null;
 		for (String str : list) {
-			element = doc.createElement(SET_ENTRY);
+			Element element = doc.createElement(SET_ENTRY);
 			element.setAttribute(VALUE, str);
 			setElement.appendChild(element);
 		}
@@ -564,8 +810,10 @@ public class LaunchConfigurationInfo {
 	 * @param mapKey the key for the element
 	 * @param map the map to fill the new element with
 	 * @return the new element
-	 *
+	 * @deprecated configurations are no longer written with a DOM, see
+	 *             {@link #getAsXML(String)}
 	 */
+	@Deprecated
 	protected Element createMapElement(Document doc, String elementType, String mapKey, Map<String, String> map) {
 		Element mapElement = doc.createElement(elementType);
 		mapElement.setAttribute(KEY, mapKey);
@@ -573,10 +821,9 @@ public class LaunchConfigurationInfo {
 		List<String> keys = new ArrayList<>(map.keySet());
 		Collections.sort(keys);
 		for (String key : keys) {
-			String value = map.get(key);
 			Element element = doc.createElement(MAP_ENTRY);
 			element.setAttribute(KEY, key);
-			element.setAttribute(VALUE, value);
+			element.setAttribute(VALUE, map.get(key));
 			mapElement.appendChild(element);
 		}
 		return mapElement;
@@ -586,31 +833,93 @@ public class LaunchConfigurationInfo {
 	 * Initializes the mapping of attributes from the XML file
 	 * @param root the root node from the XML document
 	 * @throws CoreException if a problem is encountered
+	 * @deprecated use {@link #initializeFromXML(XMLStreamReader)} instead
 	 */
+	@Deprecated
 	protected void initializeFromXML(Element root) throws CoreException {
 		initializeFromXML(root, false);
 	}
 
 	/**
-	 * Initializes the mapping of attributes from the XML file
+	 * Initializes the mapping of attributes from the XML file. The element is
+	 * serialized and read with {@link #initializeFromXML(XMLStreamReader, boolean)}.
 	 *
 	 * @param root the root node from the XML document
 	 * @param isPrototype if the XML file corresponds to a prototype
 	 * @throws CoreException if a problem is encountered
 	 *
 	 * @since 3.12
+	 * @deprecated use {@link #initializeFromXML(XMLStreamReader, boolean)}
+	 *             instead
 	 */
+	@Deprecated
 	protected void initializeFromXML(Element root, boolean isPrototype) throws CoreException {
-		if (!root.getNodeName().equalsIgnoreCase(LAUNCH_CONFIGURATION)) {
+		try {
+			XMLStreamReader reader = createXMLStreamReader(root);
+			try {
+				initializeFromXML(reader, isPrototype);
+			} finally {
+				reader.close();
+			}
+		} catch (XMLStreamException e) {
 			throw getInvalidFormatDebugException();
 		}
+	}
 
-		// read type
-		String id = root.getAttribute(TYPE);
-		if (id == null) {
+	/**
+	 * Serializes the given element and returns a reader over the result,
+	 * positioned before the element.
+	 *
+	 * @param element the element to read
+	 * @return a reader over the element
+	 * @throws CoreException if the element cannot be serialized
+	 */
+	private XMLStreamReader createXMLStreamReader(Element element) throws CoreException {
+		try {
+			Document doc = LaunchManager.getDocument();
+			doc.appendChild(doc.importNode(element, true));
+			String xml = LaunchManager.serializeDocument(doc);
+			return LaunchManager.createXMLInputFactory().createXMLStreamReader(new StringReader(xml));
+		} catch (ParserConfigurationException | TransformerException | IOException | XMLStreamException e) {
+			throw getInvalidFormatDebugException();
+		}
+	}
+
+	/**
+	 * Initializes the mapping of attributes from the XML stream. The reader
+	 * must be positioned before the root element.
+	 *
+	 * @param reader the reader of the XML document
+	 * @throws CoreException if a problem is encountered
+	 * @throws XMLStreamException if the XML is not well formed
+	 *
+	 * @since 3.21
+	 */
+	protected void initializeFromXML(XMLStreamReader reader) throws CoreException, XMLStreamException {
+		initializeFromXML(reader, false);
+	}
+
+	/**
+	 * Initializes the mapping of attributes from the XML stream. The reader
+	 * must be positioned before the root element.
+	 *
+	 * @param reader the reader of the XML document
+	 * @param isPrototype if the XML file corresponds to a prototype
+	 * @throws CoreException if a problem is encountered
+	 * @throws XMLStreamException if the XML is not well formed
+	 *
+	 * @since 3.21
+	 */
+	protected void initializeFromXML(XMLStreamReader reader, boolean isPrototype) throws CoreException, XMLStreamException {
+		while (reader.next() != XMLStreamConstants.START_ELEMENT) {
+			// skip prolog
+		}
+		if (!reader.getLocalName().equalsIgnoreCase(LAUNCH_CONFIGURATION)) {
 			throw getInvalidFormatDebugException();
 		}
 
+		// read type
+		String id = getAttribute(reader, TYPE);
 		ILaunchConfigurationType type = DebugPlugin.getDefault().getLaunchManager().getLaunchConfigurationType(id);
 		if (type == null) {
 			String message = MessageFormat.format(DebugCoreMessages.LaunchConfigurationInfo_missing_type, id);
@@ -621,48 +930,44 @@ public class LaunchConfigurationInfo {
 				);
 		}
 		setType(type);
-
-		NodeList list = root.getChildNodes();
-		Node node = null;
-		Element element = null;
-		String nodeName = null;
-		for (int i = 0; i < list.getLength(); ++i) {
-			node = list.item(i);
-			short nodeType = node.getNodeType();
-			if (nodeType == Node.ELEMENT_NODE) {
-				element = (Element) node;
-				nodeName = element.getNodeName();
-				if (nodeName.equalsIgnoreCase(STRING_ATTRIBUTE)) {
-					setStringAttribute(element);
-				} else if (nodeName.equalsIgnoreCase(INT_ATTRIBUTE)) {
-					setIntegerAttribute(element);
-				} else if (nodeName.equalsIgnoreCase(BOOLEAN_ATTRIBUTE))  {
-					setBooleanAttribute(element);
-				} else if (nodeName.equalsIgnoreCase(LIST_ATTRIBUTE)) {
-					setListAttribute(element);
-				} else if (nodeName.equalsIgnoreCase(MAP_ATTRIBUTE)) {
-					setMapAttribute(element);
-				} else if(nodeName.equalsIgnoreCase(SET_ATTRIBUTE)) {
-					setSetAttribute(element);
-				}
+		String prototype = getAttribute(reader, PROTOTYPE);
+		String visibleAttributes = getAttribute(reader, VISIBLE_ATTRIBUTES);
+
+		while (nextTag(reader) == XMLStreamConstants.START_ELEMENT) {
+			String nodeName = reader.getLocalName();
+			if (nodeName.equalsIgnoreCase(STRING_ATTRIBUTE)) {
+				setAttribute(getKeyAttribute(reader), internValue(getValueAttribute(reader)));
+			} else if (nodeName.equalsIgnoreCase(INT_ATTRIBUTE)) {
+				setAttribute(getKeyAttribute(reader), Integer.valueOf(getValueAttribute(reader)));
+			} else if (nodeName.equalsIgnoreCase(BOOLEAN_ATTRIBUTE)) {
+				setAttribute(getKeyAttribute(reader), Boolean.valueOf(getValueAttribute(reader)));
+			} else if (nodeName.equalsIgnoreCase(LIST_ATTRIBUTE)) {
+				setListAttribute(reader);
+				continue;
+			} else if (nodeName.equalsIgnoreCase(MAP_ATTRIBUTE)) {
+				setMapAttribute(reader);
+				continue;
+			} else if (nodeName.equalsIgnoreCase(SET_ATTRIBUTE)) {
+				setSetAttribute(reader);
+				continue;
 			}
+			skipElement(reader);
 		}
 
 		if (isPrototype) {
 			setIsPrototype(true);
-			String visibleAttributes = root.getAttribute(VISIBLE_ATTRIBUTES);
-			if (visibleAttributes != null && visibleAttributes.length() > 0) {
+			if (visibleAttributes.length() > 0) {
 				String[] split = visibleAttributes.split(", "); //$NON-NLS-1$
 				setVisibleAttributes(new HashSet<>(Arrays.asList(split)));
 			}
 		} else {
 			setIsPrototype(false);
-			String prototype = root.getAttribute(PROTOTYPE);
-			if (prototype != null && prototype.length() > 0) {
+			if (prototype.length() > 0) {
 				ILaunchConfiguration[] launchConfigurations = DebugPlugin.getDefault().getLaunchManager().getLaunchConfigurations(ILaunchConfiguration.PROTOTYPE);
 				for (ILaunchConfiguration iLaunchConfiguration : launchConfigurations) {
 					if (prototype.equals(iLaunchConfiguration.getName())) {
 						setPrototype(iLaunchConfiguration);
+						shareAttributeValues(iLaunchConfiguration);
 						break;
 					}
 				}
@@ -670,11 +975,202 @@ public class LaunchConfigurationInfo {
 		}
 	}
 
+	/**
+	 * Replaces attribute values equal to the value of the same attribute of
+	 * the given prototype by the prototype's value, so children of a prototype
+	 * do not keep duplicates of the prototype's values. Collections are handed
+	 * out by the attribute getters and stay private to this info, only their
+	 * entries are shared.
+	 *
+	 * @param prototype the prototype of this configuration
+	 */
+	@SuppressWarnings("unchecked")
+	private void shareAttributeValues(ILaunchConfiguration prototype) {
+		if (!(prototype instanceof LaunchConfiguration)) {
+			return;
+		}
+		LaunchConfigurationInfo prototypeInfo;
+		try {
+			prototypeInfo = ((LaunchConfiguration) prototype).getInfo();
+		} catch (CoreException e) {
+			// nothing to share
+			return;
+		}
+		for (Map.Entry<String, Object> entry : getModifiableAttributeTable().entrySet()) {
+			Object value = entry.getValue();
+			Object prototypeValue = prototypeInfo.getObjectAttribute(entry.getKey());
+			if (prototypeValue == null || prototypeValue == value || !prototypeValue.equals(value)) {
+				continue;
+			}
+			if (value instanceof String) {
+				entry.setValue(prototypeValue);
+			} else if (value instanceof List) {
+				entry.setValue(new ArrayList<>((List<String>) prototypeValue));
+			} else if (value instanceof Set) {
+				entry.setValue(new HashSet<>((Set<String>) prototypeValue));
+			} else if (value instanceof Map) {
+				entry.setValue(new HashMap<>((Map<String, String>) prototypeValue));
+			}
+		}
+	}
+
+	/**
+	 * Reads a <code>List</code> attribute from the current element of the
+	 * reader and loads it into the mapping of attributes. The reader is left at
+	 * the end of the element.
+	 *
+	 * @param reader the reader positioned at the start of the list attribute
+	 * @throws CoreException if the element has an invalid format
+	 * @throws XMLStreamException if the XML is not well formed
+	 *
+	 * @since 3.21
+	 */
+	protected void setListAttribute(XMLStreamReader reader) throws CoreException, XMLStreamException {
+		String listKey = getAttribute(reader, KEY);
+		ArrayList<String> list = new ArrayList<>();
+		while (nextTag(reader) == XMLStreamConstants.START_ELEMENT) {
+			if (!reader.getLocalName().equalsIgnoreCase(LIST_ENTRY)) {
+				throw getInvalidFormatDebugException();
+			}
+			list.add(internValue(getValueAttribute(reader)));
+			skipElement(reader);
+		}
+		list.trimToSize();
+		setAttribute(listKey, list);
+	}
+
+	/**
+	 * Reads a <code>Set</code> attribute from the current element of the
+	 * reader and loads it into the mapping of attributes. The reader is left at
+	 * the end of the element.
+	 *
+	 * @param reader the reader positioned at the start of the set attribute
+	 * @throws CoreException if the element has an invalid format
+	 * @throws XMLStreamException if the XML is not well formed
+	 *
+	 * @since 3.21
+	 */
+	protected void setSetAttribute(XMLStreamReader reader) throws CoreException, XMLStreamException {
+		String setKey = getAttribute(reader, KEY);
+		Set<String> set = new HashSet<>();
+		while (nextTag(reader) == XMLStreamConstants.START_ELEMENT) {
+			if (!reader.getLocalName().equalsIgnoreCase(SET_ENTRY)) {
+				throw getInvalidFormatDebugException();
+			}
+			set.add(internValue(getValueAttribute(reader)));
+			skipElement(reader);
+		}
+		setAttribute(setKey, set);
+	}
+
+	/**
+	 * Reads a <code>Map</code> attribute from the current element of the
+	 * reader and loads it into the mapping of attributes. The reader is left at
+	 * the end of the element.
+	 *
+	 * @param reader the reader positioned at the start of the map attribute
+	 * @throws CoreException if the element has an invalid format
+	 * @throws XMLStreamException if the XML is not well formed
+	 *
+	 * @since 3.21
+	 */
+	protected void setMapAttribute(XMLStreamReader reader) throws CoreException, XMLStreamException {
+		String mapKey = getAttribute(reader, KEY);
+		Map<String, String> map = new HashMap<>();
+		while (nextTag(reader) == XMLStreamConstants.START_ELEMENT) {
+			if (!reader.getLocalName().equalsIgnoreCase(MAP_ENTRY)) {
+				throw getInvalidFormatDebugException();
+			}
+			map.put(intern(getKeyAttribute(reader)), internValue(getValueAttribute(reader)));
+			skipElement(reader);
+		}
+		setAttribute(mapKey, map);
+	}
+
+	/**
+	 * Advances the reader to the next start or end tag, ignoring text,
+	 * comments and processing instructions.
+	 *
+	 * @param reader the reader
+	 * @return the event type of the tag
+	 * @throws XMLStreamException if the XML is not well formed
+	 */
+	private static int nextTag(XMLStreamReader reader) throws XMLStreamException {
+		int event = reader.next();
+		while (event != XMLStreamConstants.START_ELEMENT && event != XMLStreamConstants.END_ELEMENT) {
+			event = reader.next();
+		}
+		return event;
+	}
+
+	/**
+	 * Advances the reader to the end of the current element, ignoring any
+	 * content.
+	 *
+	 * @param reader the reader positioned at the start of an element
+	 * @throws XMLStreamException if the XML is not well formed
+	 */
+	private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+		int depth = 1;
+		while (depth > 0) {
+			int event = reader.next();
+			if (event == XMLStreamConstants.START_ELEMENT) {
+				depth++;
+			} else if (event == XMLStreamConstants.END_ELEMENT) {
+				depth--;
+			}
+		}
+	}
+
+	/**
+	 * Returns the value of the specified attribute of the current element or
+	 * an empty string if the element does not have the attribute.
+	 *
+	 * @param reader the reader positioned at the start of an element
+	 * @param name the attribute name
+	 * @return the attribute value, never <code>null</code>
+	 */
+	private static String getAttribute(XMLStreamReader reader, String name) {
+		String value = reader.getAttributeValue(null, name);
+		return value == null ? IInternalDebugCoreConstants.EMPTY_STRING : value;
+	}
+
+	/**
+	 * Returns the <code>String</code> representation of the 'key' attribute
+	 * from the current element
+	 *
+	 * @param reader the reader positioned at the start of an element
+	 * @return the value
+	 * @throws CoreException if a problem is encountered
+	 *
+	 * @since 3.21
+	 */
+	protected String getKeyAttribute(XMLStreamReader reader) throws CoreException {
+		return getAttribute(reader, KEY);
+	}
+
+	/**
+	 * Returns the <code>String</code> representation of the 'value' attribute
+	 * from the current element
+	 *
+	 * @param reader the reader positioned at the start of an element
+	 * @return the value
+	 * @throws CoreException if a problem is encountered
+	 *
+	 * @since 3.21
+	 */
+	protected String getValueAttribute(XMLStreamReader reader) throws CoreException {
+		return getAttribute(reader, VALUE);
+	}
+
 	/**
 	 * Loads a <code>String</code> from the specified element into the local attribute mapping
 	 * @param element the element to load from
 	 * @throws CoreException if a problem is encountered
+	 * @deprecated configurations are read with a {@link XMLStreamReader}, see
+	 *             {@link #initializeFromXML(XMLStreamReader, boolean)}
 	 */
+	@Deprecated
 	protected void setStringAttribute(Element element) throws CoreException {
 		setAttribute(getKeyAttribute(element), getValueAttribute(element));
 	}
@@ -683,7 +1179,10 @@ public class LaunchConfigurationInfo {
 	 * Loads an <code>Integer</code> from the specified element into the local attribute mapping
 	 * @param element the element to load from
 	 * @throws CoreException if a problem is encountered
+	 * @deprecated configurations are read with a {@link XMLStreamReader}, see
+	 *             {@link #initializeFromXML(XMLStreamReader, boolean)}
 	 */
+	@Deprecated
 	protected void setIntegerAttribute(Element element) throws CoreException {
 		setAttribute(getKeyAttribute(element), Integer.valueOf(getValueAttribute(element)));
 	}
@@ -692,7 +1191,10 @@ public class LaunchConfigurationInfo {
 	 * Loads a <code>Boolean</code> from the specified element into the local attribute mapping
 	 * @param element the element to load from
 	 * @throws CoreException if a problem is encountered
+	 * @deprecated configurations are read with a {@link XMLStreamReader}, see
+	 *             {@link #initializeFromXML(XMLStreamReader, boolean)}
 	 */
+	@Deprecated
 	protected void setBooleanAttribute(Element element) throws CoreException {
 		setAttribute(getKeyAttribute(element), Boolean.valueOf(getValueAttribute(element)));
 	}
@@ -703,25 +1205,21 @@ public class LaunchConfigurationInfo {
 	 *
 	 * @param element the element to read the list attribute from
 	 * @throws CoreException if the element has an invalid format
+	 * @deprecated use {@link #setListAttribute(XMLStreamReader)} instead
 	 */
+	@Deprecated
 	protected void setListAttribute(Element element) throws CoreException {
-		String listKey = element.getAttribute(KEY);
-		NodeList nodeList = element.getChildNodes();
-		int entryCount = nodeList.getLength();
-		List<String> list = new ArrayList<>(entryCount);
-		Node node = null;
-		Element selement = null;
-		for (int i = 0; i < entryCount; i++) {
-			node = nodeList.item(i);
-			if (node.getNodeType() == Node.ELEMENT_NODE) {
-				selement = (Element) node;
-				if (!selement.getNodeName().equalsIgnoreCase(LIST_ENTRY)) {
-					throw getInvalidFormatDebugException();
-				}
-				list.add(getValueAttribute(selement));
+		try {
+			XMLStreamReader reader = createXMLStreamReader(element);
+			try {
+				nextTag(reader);
+				setListAttribute(reader);
+			} finally {
+				reader.close();
 			}
+		} catch (XMLStreamException e) {
+			throw getInvalidFormatDebugException();
 		}
-		setAttribute(listKey, list);
 	}
 
 	/**
@@ -732,25 +1230,21 @@ public class LaunchConfigurationInfo {
 	 * @throws CoreException if the element has an invalid format
 	 *
 	 * @since 3.3
+	 * @deprecated use {@link #setSetAttribute(XMLStreamReader)} instead
 	 */
+	@Deprecated
 	protected void setSetAttribute(Element element) throws CoreException {
-		String setKey = element.getAttribute(KEY);
-		NodeList nodeList = element.getChildNodes();
-		int entryCount = nodeList.getLength();
-		Set<String> set = new HashSet<>(entryCount);
-		Node node = null;
-		Element selement = null;
-		for(int i = 0; i < entryCount; i++) {
-			node = nodeList.item(i);
-			if(node.getNodeType() == Node.ELEMENT_NODE) {
-				selement = (Element)node;
-				if(!selement.getNodeName().equalsIgnoreCase(SET_ENTRY)) {
-					throw getInvalidFormatDebugException();
-				}
-				set.add(getValueAttribute(selement));
+		try {
+			XMLStreamReader reader = createXMLStreamReader(element);
+			try {
+				nextTag(reader);
+				setSetAttribute(reader);
+			} finally {
+				reader.close();
 			}
+		} catch (XMLStreamException e) {
+			throw getInvalidFormatDebugException();
 		}
-		setAttribute(setKey, set);
 	}
 
 	/**
@@ -759,25 +1253,21 @@ public class LaunchConfigurationInfo {
 	 *
 	 * @param element the element to read the map attribute from
 	 * @throws CoreException if the element has an invalid format
+	 * @deprecated use {@link #setMapAttribute(XMLStreamReader)} instead
 	 */
+	@Deprecated
 	protected void setMapAttribute(Element element) throws CoreException {
-		String mapKey = element.getAttribute(KEY);
-		NodeList nodeList = element.getChildNodes();
-		int entryCount = nodeList.getLength();
-		Map<String, String> map = new HashMap<>(entryCount);
-		Node node = null;
-		Element selement = null;
-		for (int i = 0; i < entryCount; i++) {
-			node = nodeList.item(i);
-			if (node.getNodeType() == Node.ELEMENT_NODE) {
-				selement = (Element) node;
-				if (!selement.getNodeName().equalsIgnoreCase(MAP_ENTRY)) {
-					throw getInvalidFormatDebugException();
-				}
-				map.put(getKeyAttribute(selement), getValueAttribute(selement));
+		try {
+			XMLStreamReader reader = createXMLStreamReader(element);
+			try {
+				nextTag(reader);
+				setMapAttribute(reader);
+			} finally {
+				reader.close();
 			}
+		} catch (XMLStreamException e) {
+			throw getInvalidFormatDebugException();
 		}
-		setAttribute(mapKey, map);
 	}
 
 	/**
@@ -785,13 +1275,11 @@ public class LaunchConfigurationInfo {
 	 * @param element the element to read from
 	 * @return the value
 	 * @throws CoreException if a problem is encountered
+	 * @deprecated use {@link #getKeyAttribute(XMLStreamReader)} instead
 	 */
+	@Deprecated
 	protected String getKeyAttribute(Element element) throws CoreException {
-		String key = element.getAttribute(KEY);
-		if (key == null) {
-			throw getInvalidFormatDebugException();
-		}
-		return key;
+		return element.getAttribute(KEY);
 	}
 
 	/**
@@ -799,13 +1287,11 @@ public class LaunchConfigurationInfo {
 	 * @param element the element to read from
 	 * @return the value
 	 * @throws CoreException if a problem is encountered
+	 * @deprecated use {@link #getValueAttribute(XMLStreamReader)} instead
 	 */
+	@Deprecated
 	protected String getValueAttribute(Element element) throws CoreException {
-		String value = element.getAttribute(VALUE);
-		if (value == null) {
-			throw getInvalidFormatDebugException();
-		}
-		return value;
+		return element.getAttribute(VALUE);
 	}
 
 	/**
@@ -863,6 +1349,10 @@ public class LaunchConfigurationInfo {
 	 * @return whether the two attribute maps are equal
 	 */
 	protected boolean compareAttributes(TreeMap<String, Object> map1, TreeMap<String, Object> map2) {
+		if (map1 == map2) {
+			// shared table
+			return true;
+		}
 		if (map1.size() == map2.size()) {
 			Iterator<String> attributes = map1.keySet().iterator();
 			while (attributes.hasNext()) {
@@ -949,8 +1439,8 @@ public class LaunchConfigurationInfo {
 	 * @since 3.4.0
 	 */
 	protected Object removeAttribute(String attributeName) {
-		if(attributeName != null) {
-			return fAttributes.remove(attributeName);
+		if (attributeName != null && fAttributes.containsKey(attributeName)) {
+			return getModifiableAttributeTable().remove(attributeName);
 		}
 		return null;
 	}
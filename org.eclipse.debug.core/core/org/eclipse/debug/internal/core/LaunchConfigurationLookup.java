@@ -0,0 +1,274 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunchConfiguration;
+
+/**
+ * Lookup tables of the launch configurations known to the launch manager by
+ * type identifier, by name, by project and by mapped resource.
+ * <p>
+ * The tables are updated incrementally as configurations are added, changed
+ * and removed. The table of mapped resources is only built on first use since
+ * reading the mapped resources of a configuration requires its attributes.
+ * Added or changed configurations are resolved into that table on the next
+ * lookup.
+ * </p>
+ * <p>
+ * This class is thread safe. All methods synchronize on the lookup itself,
+ * such that reads do not contend with the lock of the launch manager. The
+ * mapped resources of configurations are read without holding the lock.
+ * </p>
+ */
+class LaunchConfigurationLookup {
+
+	/**
+	 * Type identifier of every configuration in the tables. The identifier is
+	 * <code>null</code> if the type could not be determined.
+	 */
+	private final Map<ILaunchConfiguration, String> fTypeIds = new HashMap<>();
+
+	private final Map<String, List<ILaunchConfiguration>> fByType = new HashMap<>();
+
+	private final Map<String, List<ILaunchConfiguration>> fByName = new HashMap<>();
+
+	private final Map<IProject, List<ILaunchConfiguration>> fByProject = new HashMap<>();
+
+	/**
+	 * Configurations by mapped resource or <code>null</code> if not yet
+	 * built. Configurations mapping a file are also registered with the
+	 * project of the file.
+	 */
+	private Map<IResource, List<ILaunchConfiguration>> fByMappedResource = null;
+
+	/**
+	 * The mapped resources every configuration is registered with in
+	 * {@link #fByMappedResource}.
+	 */
+	private final Map<ILaunchConfiguration, IResource[]> fMappedResources = new HashMap<>();
+
+	/**
+	 * Configurations whose mapped resources are not yet resolved, with the
+	 * stamp they were queued with. Resolved resources are only registered if
+	 * the configuration was not queued again while they were read.
+	 */
+	private final Map<ILaunchConfiguration, Long> fUnresolved = new LinkedHashMap<>();
+
+	private long fStamp;
+
+	/**
+	 * Adds a configuration to the lookup tables.
+	 *
+	 * @param config the configuration
+	 * @param typeId the identifier of the configuration's type or
+	 *            <code>null</code> if unknown
+	 */
+	synchronized void add(ILaunchConfiguration config, String typeId) {
+		if (fTypeIds.containsKey(config)) {
+			remove(config);
+		}
+		fTypeIds.put(config, typeId);
+		if (typeId != null) {
+			addTo(fByType, typeId, config);
+		}
+		addTo(fByName, config.getName(), config);
+		IFile file = config.getFile();
+		if (file != null) {
+			addTo(fByProject, file.getProject(), config);
+		}
+		if (fByMappedResource != null) {
+			fUnresolved.put(config, Long.valueOf(++fStamp));
+		}
+	}
+
+	/**
+	 * Removes a configuration from the lookup tables.
+	 *
+	 * @param config the configuration
+	 */
+	synchronized void remove(ILaunchConfiguration config) {
+		if (!fTypeIds.containsKey(config)) {
+			return;
+		}
+		String typeId = fTypeIds.remove(config);
+		if (typeId != null) {
+			removeFrom(fByType, typeId, config);
+		}
+		removeFrom(fByName, config.getName(), config);
+		IFile file = config.getFile();
+		if (file != null) {
+			removeFrom(fByProject, file.getProject(), config);
+		}
+		fUnresolved.remove(config);
+		IResource[] resources = fMappedResources.remove(config);
+		if (resources != null) {
+			for (IResource resource : resources) {
+				removeFrom(fByMappedResource, resource, config);
+				if (resource.getType() == IResource.FILE) {
+					removeFrom(fByMappedResource, resource.getProject(), config);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the given configuration is in the lookup tables.
+	 *
+	 * @param config the configuration
+	 * @return whether the configuration was added
+	 */
+	synchronized boolean contains(ILaunchConfiguration config) {
+		return fTypeIds.containsKey(config);
+	}
+
+	/**
+	 * Removes all configurations from the lookup tables.
+	 */
+	synchronized void clear() {
+		fTypeIds.clear();
+		fByType.clear();
+		fByName.clear();
+		fByProject.clear();
+		fByMappedResource = null;
+		fMappedResources.clear();
+		fUnresolved.clear();
+	}
+
+	/**
+	 * Returns the configurations of the given type.
+	 *
+	 * @param typeId launch configuration type identifier
+	 * @return the configurations, possibly empty
+	 */
+	synchronized List<ILaunchConfiguration> getByType(String typeId) {
+		return get(fByType, typeId);
+	}
+
+	/**
+	 * Returns the configurations with the given name.
+	 *
+	 * @param name configuration name
+	 * @return the configurations, possibly empty
+	 */
+	synchronized List<ILaunchConfiguration> getByName(String name) {
+		return get(fByName, name);
+	}
+
+	/**
+	 * Returns the configurations stored as resources in the given project.
+	 *
+	 * @param project a project
+	 * @return the configurations, possibly empty
+	 */
+	synchronized List<ILaunchConfiguration> getByProject(IProject project) {
+		return get(fByProject, project);
+	}
+
+	/**
+	 * Returns the configurations mapping the given resource. For a project
+	 * this includes the configurations mapping a file in the project.
+	 *
+	 * @param resource the resource
+	 * @param all all configurations in the tables, used to build the table of
+	 *            mapped resources on first use
+	 * @return the configurations, possibly empty
+	 */
+	List<ILaunchConfiguration> getByMappedResource(IResource resource, Collection<ILaunchConfiguration> all) {
+		Map<ILaunchConfiguration, Long> unresolved;
+		synchronized (this) {
+			if (fByMappedResource == null) {
+				fByMappedResource = new HashMap<>();
+				for (ILaunchConfiguration config : all) {
+					fUnresolved.put(config, Long.valueOf(++fStamp));
+				}
+			}
+			if (fUnresolved.isEmpty()) {
+				return get(fByMappedResource, resource);
+			}
+			unresolved = new LinkedHashMap<>(fUnresolved);
+		}
+		// reading the mapped resources may read the configuration files
+		Map<ILaunchConfiguration, IResource[]> resolved = new HashMap<>();
+		for (ILaunchConfiguration config : unresolved.keySet()) {
+			resolved.put(config, getMappedResources(config));
+		}
+		synchronized (this) {
+			if (fByMappedResource == null) {
+				// cleared meanwhile
+				return Collections.emptyList();
+			}
+			for (Map.Entry<ILaunchConfiguration, Long> entry : unresolved.entrySet()) {
+				ILaunchConfiguration config = entry.getKey();
+				if (fUnresolved.remove(config, entry.getValue())) {
+					registerMappedResources(config, resolved.get(config));
+				}
+			}
+			return get(fByMappedResource, resource);
+		}
+	}
+
+	private static IResource[] getMappedResources(ILaunchConfiguration config) {
+		try {
+			return config.getMappedResources();
+		} catch (CoreException ce) {
+			DebugPlugin.log(ce);
+			return null;
+		}
+	}
+
+	private void registerMappedResources(ILaunchConfiguration config, IResource[] resources) {
+		if (resources == null) {
+			return;
+		}
+		fMappedResources.put(config, resources);
+		for (IResource resource : resources) {
+			addTo(fByMappedResource, resource, config);
+			if (resource.getType() == IResource.FILE) {
+				addTo(fByMappedResource, resource.getProject(), config);
+			}
+		}
+	}
+
+	private static <K> void addTo(Map<K, List<ILaunchConfiguration>> table, K key, ILaunchConfiguration config) {
+		List<ILaunchConfiguration> configs = table.computeIfAbsent(key, k -> new ArrayList<>(1));
+		if (!configs.contains(config)) {
+			configs.add(config);
+		}
+	}
+
+	private static <K> void removeFrom(Map<K, List<ILaunchConfiguration>> table, K key, ILaunchConfiguration config) {
+		List<ILaunchConfiguration> configs = table.get(key);
+		if (configs != null && configs.remove(config) && configs.isEmpty()) {
+			table.remove(key);
+		}
+	}
+
+	private static <K> List<ILaunchConfiguration> get(Map<K, List<ILaunchConfiguration>> table, K key) {
+		List<ILaunchConfiguration> configs = table.get(key);
+		return configs == null ? Collections.emptyList() : new ArrayList<>(configs);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -206,7 +206,8 @@ public class LaunchConfigurationWorkingCopy extends LaunchConfiguration implemen
 				wc.rename(getName());
 				wc.setContainer(getContainer());
 			}
-			wc.setAttributes(getInfo().getAttributes());
+			wc.getInfo().setAttributes(getInfo());
+			wc.setDirty();
 			updateMonitor(lmonitor, 1);
 			return wc;
 		}
@@ -0,0 +1,268 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.variables.IStringVariableManager;
+import org.eclipse.core.variables.IValueVariable;
+import org.eclipse.core.variables.VariablesPlugin;
+import org.eclipse.osgi.service.environment.Constants;
+
+/**
+ * Assembles the environments of launches from the native environment and the
+ * environment variables of launch configurations.
+ * <p>
+ * The native environment is taken once from {@link System#getenv()}, the
+ * environment of this process does not change. Assembled environments are
+ * cached by the environment variables and append mode of the configuration.
+ * A cached environment is only reused if all string substitution variables
+ * it references are value variables whose values did not change. Values
+ * referencing dynamic variables are resolved on every launch.
+ * </p>
+ */
+class LaunchEnvironment {
+
+	/**
+	 * Maximum number of cached environments.
+	 */
+	private static final int CACHE_SIZE = 16;
+
+	private static final String VARIABLE_START = "${"; //$NON-NLS-1$
+
+	private static final boolean WIN32 = Platform.getOS().equals(Constants.OS_WIN32);
+
+	/**
+	 * Native environment with the case of the variable names preserved.
+	 */
+	private final Map<String, String> fNativeEnvCasePreserved;
+
+	/**
+	 * Native environment with upper case variable names on Win32.
+	 */
+	private final Map<String, String> fNativeEnv;
+
+	/**
+	 * Cached environments in access order.
+	 */
+	private final Map<CacheKey, CachedEnvironment> fCache = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<CacheKey, CachedEnvironment> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+
+	/**
+	 * The environment variables and append mode of a configuration.
+	 */
+	private static final class CacheKey {
+		final Map<String, String> fVariables;
+		final boolean fAppend;
+
+		CacheKey(Map<String, String> variables, boolean append) {
+			fVariables = variables;
+			fAppend = append;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey other = (CacheKey) obj;
+			return fAppend == other.fAppend && fVariables.equals(other.fVariables);
+		}
+
+		@Override
+		public int hashCode() {
+			return fVariables.hashCode() * 31 + Boolean.hashCode(fAppend);
+		}
+	}
+
+	/**
+	 * An assembled environment with the values of the value variables it was
+	 * resolved with.
+	 */
+	private static final class CachedEnvironment {
+		final String[] fEnvironment;
+		final Map<String, String> fVariableValues;
+
+		CachedEnvironment(String[] environment, Map<String, String> variableValues) {
+			fEnvironment = environment;
+			fVariableValues = variableValues;
+		}
+	}
+
+	LaunchEnvironment() {
+		fNativeEnvCasePreserved = Collections.unmodifiableMap(new HashMap<>(System.getenv()));
+		if (WIN32) {
+			Map<String, String> env = new HashMap<>();
+			for (Entry<String, String> entry : fNativeEnvCasePreserved.entrySet()) {
+				env.put(entry.getKey().toUpperCase(), entry.getValue());
+			}
+			fNativeEnv = Collections.unmodifiableMap(env);
+		} else {
+			fNativeEnv = fNativeEnvCasePreserved;
+		}
+	}
+
+	/**
+	 * Returns the native environment with the case of the variable names
+	 * preserved.
+	 *
+	 * @return unmodifiable native environment
+	 */
+	Map<String, String> getNativeEnvironmentCasePreserved() {
+		return fNativeEnvCasePreserved;
+	}
+
+	/**
+	 * Returns the native environment. On Win32 the variable names are upper
+	 * case.
+	 *
+	 * @return unmodifiable native environment
+	 */
+	Map<String, String> getNativeEnvironment() {
+		return fNativeEnv;
+	}
+
+	/**
+	 * Returns the environment of a launch as <code>name=value</code> strings.
+	 *
+	 * @param configEnv the environment variables of the configuration
+	 * @param append whether the variables are appended to the native
+	 *            environment
+	 * @return the environment, the caller may modify the array
+	 * @throws CoreException if a variable value cannot be resolved
+	 */
+	String[] getEnvironment(Map<String, String> configEnv, boolean append) throws CoreException {
+		IStringVariableManager manager = VariablesPlugin.getDefault().getStringVariableManager();
+		CacheKey key = new CacheKey(new HashMap<>(configEnv), append);
+		CachedEnvironment cached;
+		synchronized (fCache) {
+			cached = fCache.get(key);
+		}
+		if (cached != null && isCurrent(cached.fVariableValues, manager)) {
+			return cached.fEnvironment.clone();
+		}
+		Map<String, String> variableValues = new HashMap<>();
+		boolean cacheable = true;
+		Map<String, String> env = append ? new HashMap<>(fNativeEnvCasePreserved) : new HashMap<>();
+		for (Entry<String, String> entry : configEnv.entrySet()) {
+			String name = entry.getKey();
+			String value = entry.getValue();
+			// translate any string substitution variables
+			if (value != null && value.contains(VARIABLE_START)) {
+				cacheable &= collectValueVariables(value, manager, variableValues);
+				value = manager.performStringSubstitution(value);
+			}
+			putVariable(env, name, value);
+		}
+		String[] environment = new String[env.size()];
+		int i = 0;
+		for (Entry<String, String> entry : env.entrySet()) {
+			environment[i++] = entry.getKey() + '=' + entry.getValue();
+		}
+		if (cacheable) {
+			synchronized (fCache) {
+				fCache.put(key, new CachedEnvironment(environment.clone(), variableValues));
+			}
+		}
+		return environment;
+	}
+
+	/**
+	 * Adds a variable to the given environment. Win32 variable names are case
+	 * insensitive, a variable overrides a native variable whose name differs
+	 * only in case and the case of the native name is kept (see bug 86725).
+	 *
+	 * @param env the environment
+	 * @param name variable name
+	 * @param value variable value
+	 */
+	private static void putVariable(Map<String, String> env, String name, String value) {
+		if (WIN32 && !env.containsKey(name)) {
+			for (Entry<String, String> nativeEntry : env.entrySet()) {
+				if (nativeEntry.getKey().equalsIgnoreCase(name)) {
+					nativeEntry.setValue(value);
+					return;
+				}
+			}
+		}
+		env.put(name, value);
+	}
+
+	/**
+	 * Collects the current values of the variables referenced by the given
+	 * expression.
+	 *
+	 * @param expression an expression containing variable references
+	 * @param manager the string variable manager
+	 * @param values map to add the variable names and values to
+	 * @return whether the expression only references value variables with
+	 *         literal values, so its resolution can be cached
+	 */
+	private static boolean collectValueVariables(String expression, IStringVariableManager manager, Map<String, String> values) {
+		int start = expression.indexOf(VARIABLE_START);
+		while (start >= 0) {
+			int nameStart = start + VARIABLE_START.length();
+			int end = expression.indexOf('}', nameStart);
+			if (end < 0) {
+				return false;
+			}
+			String name = expression.substring(nameStart, end);
+			if (name.contains(VARIABLE_START) || name.indexOf(':') >= 0) {
+				// nested references and arguments are only supported by dynamic variables
+				return false;
+			}
+			IValueVariable variable = manager.getValueVariable(name);
+			if (variable == null) {
+				return false;
+			}
+			String value = variable.getValue();
+			if (value != null && value.contains(VARIABLE_START)) {
+				return false;
+			}
+			values.put(name, value);
+			start = expression.indexOf(VARIABLE_START, end + 1);
+		}
+		return true;
+	}
+
+	/**
+	 * Returns whether the given value variables still have the given values.
+	 *
+	 * @param values variable names and values
+	 * @param manager the string variable manager
+	 * @return whether all values are unchanged
+	 */
+	private static boolean isCurrent(Map<String, String> values, IStringVariableManager manager) {
+		for (Entry<String, String> entry : values.entrySet()) {
+			IValueVariable variable = manager.getValueVariable(entry.getKey());
+			if (variable == null || !Objects.equals(variable.getValue(), entry.getValue())) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,16 +21,13 @@ package org.eclipse.debug.internal.core;
 
 
 import java.io.BufferedInputStream;
-import java.io.BufferedReader;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.ArrayList;
@@ -44,13 +41,21 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Properties;
+import java.util.Queue;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
@@ -80,13 +85,15 @@ import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.ListenerList;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.PlatformObject;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
-import org.eclipse.core.variables.VariablesPlugin;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILaunch;
@@ -108,14 +115,11 @@ import org.eclipse.debug.core.sourcelookup.ISourceContainerType;
 import org.eclipse.debug.core.sourcelookup.ISourcePathComputer;
 import org.eclipse.debug.internal.core.sourcelookup.SourceContainerType;
 import org.eclipse.debug.internal.core.sourcelookup.SourcePathComputer;
-import org.eclipse.osgi.service.environment.Constants;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
-import org.xml.sax.helpers.DefaultHandler;
 
 /**
  * Manages launch configurations, launch configuration types, and registered launches.
@@ -500,11 +504,10 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	public static final int TERMINATE= 3;
 
 	/**
-	 * The collection of native environment variables on the user's system. Cached
-	 * after being computed once as the environment cannot change.
+	 * Assembles launch environments from the native environment variables on
+	 * the user's system, which are cached as the environment cannot change.
 	 */
-	private static HashMap<String, String> fgNativeEnv = null;
-	private static HashMap<String, String> fgNativeEnvCasePreserved = null;
+	private final LaunchEnvironment fEnvironment = new LaunchEnvironment();
 
 	/**
 	 * Path to the local directory where local launch configurations
@@ -565,49 +568,89 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	/**
 	 * Collection of defined launch configuration type
 	 * extensions.
+	 * <p>
+	 * This and the other extension registries of this manager are built once
+	 * while holding the lock of this manager and published fully initialized,
+	 * such that they can be read without locking.
+	 * </p>
 	 */
-	private List<ILaunchConfigurationType> fLaunchConfigurationTypes = null;
+	private volatile List<ILaunchConfigurationType> fLaunchConfigurationTypes = null;
 
 	/**
 	 * Launch configuration cache. Keys are <code>LaunchConfiguration</code>,
 	 * values are <code>LaunchConfigurationInfo</code>.
 	 */
-	private Map<ILaunchConfiguration, LaunchConfigurationInfo> fLaunchConfigurations = new HashMap<>(10);
+	private final Map<ILaunchConfiguration, LaunchConfigurationInfo> fLaunchConfigurations = new ConcurrentHashMap<>();
+
+	/**
+	 * Incremented whenever info objects are removed from the cache, before
+	 * they are removed. An info object read while the generation changed may
+	 * be stale and is not cached.
+	 */
+	private final AtomicInteger fInfoGeneration = new AtomicInteger();
 
 	/**
-	 * A cache of launch configuration names currently in the workspace.
+	 * Sorted launch configuration names of the workspace or <code>null</code>
+	 * if not computed since the cache was last cleared.
 	 */
-	private volatile String[] fSortedConfigNames = null;
+	private static final class SortedConfigNames {
+		final String[] fNames;
+
+		SortedConfigNames(String[] names) {
+			fNames = names;
+		}
+	}
+
+	/**
+	 * A cache of launch configuration names currently in the workspace. Every
+	 * clear installs a new empty instance, so names computed concurrently with
+	 * a clear are not published.
+	 */
+	private final AtomicReference<SortedConfigNames> fSortedConfigNames = new AtomicReference<>(new SortedConfigNames(null));
 
 	/**
 	 * Collection of all launch configurations in the workspace.
-	 * <code>List</code> of <code>ILaunchConfiguration</code>.
+	 * <code>List</code> of <code>ILaunchConfiguration</code>. The list is
+	 * copy-on-write, it is modified while holding the lock of this manager and
+	 * read without locking.
 	 */
-	private List<ILaunchConfiguration> fLaunchConfigurationIndex = null;
+	private volatile List<ILaunchConfiguration> fLaunchConfigurationIndex = null;
+
+	/**
+	 * Persistent index of launch configuration types by file, or
+	 * <code>null</code> if not yet created.
+	 */
+	private volatile LaunchConfigurationIndex fPersistentIndex = null;
+
+	/**
+	 * Lookup tables of the configurations in {@link #fLaunchConfigurationIndex}
+	 * by type, name, project and mapped resource.
+	 */
+	private final LaunchConfigurationLookup fLaunchConfigurationLookup = new LaunchConfigurationLookup();
 
 	/**
 	 * Launch configuration comparator extensions,
 	 * keyed by attribute name.
 	 */
-	private Map<String, LaunchConfigurationComparator> fComparators = null;
+	private volatile Map<String, LaunchConfigurationComparator> fComparators = null;
 
 	/**
 	 * Registered launch modes, or <code>null</code> if not initialized.
 	 * Keys are mode identifiers, values are <code>ILaunchMode</code>s.
 	 */
-	private Map<String, ILaunchMode> fLaunchModes = null;
+	private volatile Map<String, ILaunchMode> fLaunchModes = null;
 
 	/**
 	 * A map of LaunchDelegate objects stored by id of delegate, or launch config type
 	 */
-	private HashMap<String, LaunchDelegate> fLaunchDelegates = null;
+	private volatile Map<String, LaunchDelegate> fLaunchDelegates = null;
 
 	/**
 	 * Initial startup cache of preferred delegate so that the debug preferences are only parsed once
 	 *
 	 * @since 3.3
 	 */
-	private Set<PreferredDelegate> fPreferredDelegates = null;
+	private volatile Set<PreferredDelegate> fPreferredDelegates = null;
 
 	/**
 	 * Collection of launches
@@ -661,7 +704,7 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 * are identifiers, and values are associated
 	 * configuration elements.
 	 */
-	private Map<String, IConfigurationElement> fSourceLocators = null;
+	private volatile Map<String, IConfigurationElement> fSourceLocators = null;
 
 	/**
 	 * The handles of launch configurations being moved, or <code>null</code>
@@ -674,18 +717,18 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 * Map of source container type extensions. Keys are extension ids
 	 * and values are associated configuration elements.
 	 */
-	private Map<String, ISourceContainerType> sourceContainerTypes;
+	private volatile Map<String, ISourceContainerType> sourceContainerTypes;
 
 	/**
 	 * Map of source path computer extensions. Keys are extension ids
 	 * and values are associated configuration elements.
 	 */
-	private Map<String, ISourcePathComputer> sourcePathComputers;
+	private volatile Map<String, ISourcePathComputer> sourcePathComputers;
 
 	/**
 	 * TODO, we can probably remove this too
 	 */
-	private Set<String> fActiveModes;
+	private volatile Set<String> fActiveModes;
 
 	@Override
 	public void addLaunch(ILaunch launch) {
@@ -727,139 +770,17 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 		fListeners.add(listener);
 	}
 
-	/**
-	 * Computes and caches the native system environment variables as a map of
-	 * variable names and values (Strings) in the given map.
-	 * <p>
-	 * Note that WIN32 system environment preserves
-	 * the case of variable names but is otherwise case insensitive.
-	 * Depending on what you intend to do with the environment, the
-	 * lack of normalization may or may not be create problems. This
-	 * method preserves mixed-case keys using the variable names
-	 * recorded by the OS.
-	 * </p>
-	 * @param cache the map
-	 * @since 3.1
-	 */
-	private void cacheNativeEnvironment(Map<String, String> cache) {
-		try {
-			String nativeCommand= null;
-			boolean isWin9xME= false; //see bug 50567
-			String fileName= null;
-			if (Platform.getOS().equals(Constants.OS_WIN32)) {
-				String osName= System.getProperty("os.name"); //$NON-NLS-1$
-				isWin9xME= osName != null && (osName.startsWith("Windows 9") || osName.startsWith("Windows ME")); //$NON-NLS-1$ //$NON-NLS-2$
-				if (isWin9xME) {
-					// Win 95, 98, and ME
-					// SET might not return therefore we pipe into a file
-					IPath stateLocation= DebugPlugin.getDefault().getStateLocation();
-					fileName= stateLocation.toOSString() + File.separator  + "env.txt"; //$NON-NLS-1$
-					nativeCommand= "command.com /C set > " + fileName; //$NON-NLS-1$
-				} else {
-					// Win NT, 2K, XP
-					nativeCommand= "cmd.exe /C set"; //$NON-NLS-1$
-				}
-			} else if (!Platform.getOS().equals(Constants.OS_UNKNOWN)){
-				nativeCommand= "env";		 //$NON-NLS-1$
-			}
-			if (nativeCommand == null) {
-				return;
-			}
-			Process process= Runtime.getRuntime().exec(nativeCommand);
-			if (isWin9xME) {
-				//read piped data on Win 95, 98, and ME
-				Properties p= new Properties();
-				File file= new File(fileName);
-				try(InputStream stream = new BufferedInputStream(new FileInputStream(file))){
-					p.load(stream);
-					if (!file.delete()) {
-						file.deleteOnExit(); // if delete() fails try again on VM close
-					}
-					for (Entry<Object, Object> entry : p.entrySet()) {
-						// Win32's environment variables are case insensitive. Put everything
-						// to uppercase so that (for example) the "PATH" variable will match
-						// "pAtH" correctly on Windows.
-						String key = (String) entry.getKey();
-						//no need to cast value
-						cache.put(key, (String) p.get(key));
-					}
-				}
-			} else {
-				//read process directly on other platforms
-				//we need to parse out matching '{' and '}' for function declarations in .bash environments
-				// pattern is [func name]=() { and we must find the '}' on its own line with no trailing ';'
-				try (InputStream stream = process.getInputStream();
-				InputStreamReader isreader = new InputStreamReader(stream);
-				BufferedReader reader = new BufferedReader(isreader)) {
-					String line = reader.readLine();
-					String key = null;
-					String value = null;
-					String newLine = System.lineSeparator();
-					while (line != null) {
-						int func = line.indexOf("=()"); //$NON-NLS-1$
-						if (func > 0) {
-							key = line.substring(0, func);
-							// scan until we find the closing '}' with no
-							// following chars
-							value = line.substring(func + 1);
-							while (line != null && !line.equals("}")) { //$NON-NLS-1$
-								line = reader.readLine();
-								if (line != null) {
-									value += newLine + line;
-								}
-							}
-							line = reader.readLine();
-						}
-						else {
-							int separator = line.indexOf('=');
-							if (separator > 0) {
-								key = line.substring(0, separator);
-								value = line.substring(separator + 1);
-								line = reader.readLine();
-								if (line != null) {
-									// this line has a '=' read ahead to check
-									// next line for '=', might be broken on
-									// more than one line
-									// also if line starts with non-identifier -
-									// it is remainder of previous variable
-									while (line.indexOf('=') < 0 || (line.length() > 0 && !Character.isJavaIdentifierStart(line.charAt(0)))) {
-										value += newLine + line;
-										line = reader.readLine();
-										if (line == null) {
-											// if next line read is the end of
-											// the file quit the loop
-											break;
-										}
-									}
-								}
-							}
-						}
-						if (key != null) {
-							cache.put(key, value);
-							key = null;
-							value = null;
-						} else {
-							line = reader.readLine();
-						}
-					}
-				}
-			}
-		} catch (IOException e) {
-			// Native environment-fetching code failed.
-			// This can easily happen and is not useful to log.
-		}
-	}
-
 	/**
 	 * Clears all launch configurations (if any have been accessed)
 	 */
 	private void clearAllLaunchConfigurations() {
 		if (fLaunchConfigurationTypes != null) {
-			fLaunchConfigurationTypes.clear();
+			fLaunchConfigurationTypes = Collections.emptyList();
 		}
 		if (fLaunchConfigurationIndex != null) {
 			fLaunchConfigurationIndex.clear();
 		}
+		fLaunchConfigurationLookup.clear();
 	}
 
 	@Override
@@ -890,8 +811,8 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	/**
 	 * The launch config name cache is cleared when a config is added, deleted or changed.
 	 */
-	protected synchronized void clearConfigNameCache() {
-		fSortedConfigNames = null;
+	protected void clearConfigNameCache() {
+		fSortedConfigNames.set(new SortedConfigNames(null));
 	}
 
 	/**
@@ -909,6 +830,21 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 				);
 	}
 
+	/**
+	 * Returns a factory for readers of launch configuration XML. Document type
+	 * declarations and external entities are not supported, so reading a file
+	 * never resolves external resources.
+	 *
+	 * @return a new XML input factory
+	 */
+	static XMLInputFactory createXMLInputFactory() {
+		XMLInputFactory factory = XMLInputFactory.newDefaultFactory();
+		factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.FALSE);
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+		return factory;
+	}
+
 	/**
 	 * Return a LaunchConfigurationInfo object initialized from XML contained in
 	 * the specified stream.  Simply pass out any exceptions encountered so that
@@ -942,18 +878,24 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 * @throws ParserConfigurationException if the stream fails to parse
 	 * @throws IOException if there is a problem handling the given stream or
 	 *             writing the new info file
-	 * @throws SAXException if there is a SAX parse exception
+	 * @throws SAXException if the stream is not well formed XML, the
+	 *             exception wraps the underlying {@link XMLStreamException}
 	 *
 	 * @since 3.12
 	 */
 	protected LaunchConfigurationInfo createInfoFromXML(InputStream stream, boolean isPrototype) throws CoreException, ParserConfigurationException, IOException, SAXException {
-		Element root = null;
-		DocumentBuilder parser = DocumentBuilderFactory.newInstance().newDocumentBuilder();
-		parser.setErrorHandler(new DefaultHandler());
-		root = parser.parse(new InputSource(stream)).getDocumentElement();
-		LaunchConfigurationInfo info = new LaunchConfigurationInfo();
-		info.initializeFromXML(root, isPrototype);
-		return info;
+		try {
+			XMLStreamReader reader = createXMLInputFactory().createXMLStreamReader(stream);
+			try {
+				LaunchConfigurationInfo info = new LaunchConfigurationInfo();
+				info.initializeFromXML(reader, isPrototype);
+				return info;
+			} finally {
+				reader.close();
+			}
+		} catch (XMLStreamException e) {
+			throw new SAXException(e.getMessage(), e);
+		}
 	}
 
 	/**
@@ -992,9 +934,14 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 */
 	public ILaunchConfiguration findLaunchConfiguration(String name) {
 		if(name != null) {
-			for (ILaunchConfiguration config : getLaunchConfigurations()) {
-				if(name.equals(config.getName())) {
-					return config;
+			getAllLaunchConfigurations();
+			for (ILaunchConfiguration config : fLaunchConfigurationLookup.getByName(name)) {
+				try {
+					if ((config.getKind() & ILaunchConfiguration.CONFIGURATION) > 0) {
+						return config;
+					}
+				} catch (CoreException e) {
+					DebugPlugin.log(e);
 				}
 			}
 		}
@@ -1133,18 +1080,40 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 
 	/**
 	 * Returns a collection of all launch configuration handles in
-	 * the workspace. This collection is initialized lazily.
+	 * the workspace. This collection is initialized lazily. Once initialized,
+	 * the collection is returned without locking.
 	 *
 	 * @return all launch configuration handles
 	 */
-	public synchronized List<ILaunchConfiguration> getAllLaunchConfigurations() {
+	public List<ILaunchConfiguration> getAllLaunchConfigurations() {
+		List<ILaunchConfiguration> index = fLaunchConfigurationIndex;
+		if (index == null) {
+			index = initializeLaunchConfigurationIndex();
+		}
+		return index;
+	}
+
+	/**
+	 * Builds the collection of all launch configuration handles in the
+	 * workspace if not yet done.
+	 *
+	 * @return all launch configuration handles
+	 */
+	private synchronized List<ILaunchConfiguration> initializeLaunchConfigurationIndex() {
 		if (fLaunchConfigurationIndex == null) {
 			try {
-				fLaunchConfigurationIndex = new ArrayList<>(20);
+				List<ILaunchConfiguration> index = new ArrayList<>(20);
 				List<ILaunchConfiguration> configs = findLocalLaunchConfigurations();
-				verifyConfigurations(configs, fLaunchConfigurationIndex);
+				verifyConfigurations(configs, index);
 				configs = findLaunchConfigurations(ResourcesPlugin.getWorkspace().getRoot());
-				verifyConfigurations(configs, fLaunchConfigurationIndex);
+				verifyConfigurations(configs, index);
+				for (ILaunchConfiguration config : index) {
+					// the configurations were just verified, so their types are indexed
+					fLaunchConfigurationLookup.add(config, getLookupTypeId(config));
+				}
+				fLaunchConfigurationIndex = new CopyOnWriteArrayList<>(index);
+				getPersistentIndex().retain(index);
+				getPersistentIndex().save();
 			} finally {
 				hookResourceChangeListener();
 			}
@@ -1152,23 +1121,82 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 		return fLaunchConfigurationIndex;
 	}
 
+	/**
+	 * Returns the persistent index of launch configuration files.
+	 *
+	 * @return the persistent index
+	 */
+	protected LaunchConfigurationIndex getPersistentIndex() {
+		LaunchConfigurationIndex index = fPersistentIndex;
+		if (index == null) {
+			synchronized (this) {
+				if (fPersistentIndex == null) {
+					fPersistentIndex = new LaunchConfigurationIndex(DebugPlugin.getDefault().getStateLocation().append(".launchConfigurationIndex")); //$NON-NLS-1$
+				}
+				index = fPersistentIndex;
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the type identifier the given configuration is looked up by.
+	 * The configuration file is read if it is not indexed, so callers should
+	 * not hold the lock of this manager.
+	 *
+	 * @param config a configuration in the index of all configurations
+	 * @return the type identifier or <code>null</code> if it cannot be
+	 *         determined
+	 */
+	private String getLookupTypeId(ILaunchConfiguration config) {
+		try {
+			return getTypeId(config);
+		} catch (CoreException e) {
+			// reported when the configuration is verified
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the identifier of the type of the given launch configuration. For
+	 * stored configurations the persistent index is used such that the file is
+	 * not parsed if it did not change since it was indexed.
+	 *
+	 * @param config the launch configuration
+	 * @return the type identifier
+	 * @throws CoreException if the type cannot be determined
+	 */
+	private String getTypeId(ILaunchConfiguration config) throws CoreException {
+		if (config instanceof LaunchConfiguration && !config.isWorkingCopy()) {
+			String typeId = getPersistentIndex().getTypeId((LaunchConfiguration) config);
+			if (typeId != null) {
+				return typeId;
+			}
+		}
+		return config.getType().getIdentifier();
+	}
+
 	/**
 	 * Return a sorted array of the names of all <code>ILaunchConfiguration</code>s in
 	 * the workspace.  These are cached, and cache is cleared when a new config is added,
 	 * deleted or changed.
 	 * @return the sorted array of {@link ILaunchConfiguration} names
 	 */
-	protected synchronized String[] getAllSortedConfigNames() {
-		if (fSortedConfigNames == null) {
+	protected String[] getAllSortedConfigNames() {
+		SortedConfigNames cached = fSortedConfigNames.get();
+		String[] names = cached.fNames;
+		if (names == null) {
 			List<ILaunchConfiguration> collection = getAllLaunchConfigurations();
 			ILaunchConfiguration[] configs = collection.toArray(new ILaunchConfiguration[collection.size()]);
-			fSortedConfigNames = new String[configs.length];
+			names = new String[configs.length];
 			for (int i = 0; i < configs.length; i++) {
-				fSortedConfigNames[i] = configs[i].getName();
+				names[i] = configs[i].getName();
 			}
-			Arrays.sort(fSortedConfigNames);
+			Arrays.sort(names);
+			// not published if the cache was cleared meanwhile
+			fSortedConfigNames.compareAndSet(cached, new SortedConfigNames(names));
 		}
-		return fSortedConfigNames;
+		return names;
 	}
 
 	/**
@@ -1286,59 +1314,8 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 		if (configEnv == null) {
 			return null;
 		}
-		Map<String, String> env = new HashMap<>();
-		// build base environment
 		boolean append = configuration.getAttribute(ATTR_APPEND_ENVIRONMENT_VARIABLES, true);
-		if (append) {
-			env.putAll(getNativeEnvironmentCasePreserved());
-		}
-
-		// Add variables from config
-		boolean win32= Platform.getOS().equals(Constants.OS_WIN32);
-		String key = null;
-		String value = null;
-		Object nativeValue = null;
-		String nativeKey = null;
-		for (Entry<String, String> entry : configEnv.entrySet()) {
-			key = entry.getKey();
-			value = entry.getValue();
-			// translate any string substitution variables
-			if (value != null) {
-				value = VariablesPlugin.getDefault().getStringVariableManager().performStringSubstitution(value);
-			}
-			boolean added= false;
-			if (win32) {
-				// First, check if the key is an exact match for an existing key.
-				nativeValue = env.get(key);
-				if (nativeValue != null) {
-					// If an exact match is found, just replace the value
-					env.put(key, value);
-				} else {
-					// Win32 variables are case-insensitive. If an exact match isn't found, iterate to
-					// check for a case-insensitive match. We maintain the key's case (see bug 86725),
-					// but do a case-insensitive comparison (for example, "pAtH" will still override "PATH").
-					for (Entry<String, String> nativeEntry : env.entrySet()) {
-						nativeKey = (nativeEntry).getKey();
-						if (nativeKey.equalsIgnoreCase(key)) {
-							nativeEntry.setValue(value);
-							added = true;
-							break;
-						}
-					}
-				}
-			}
-			if (!added) {
-				env.put(key, value);
-			}
-		}
-		List<String> strings = new ArrayList<>(env.size());
-		StringBuilder buffer = null;
-		for (Entry<String, String> entry : env.entrySet()) {
-			buffer = new StringBuilder(entry.getKey());
-			buffer.append('=').append(entry.getValue());
-			strings.add(buffer.toString());
-		}
-		return strings.toArray(new String[strings.size()]);
+		return fEnvironment.getEnvironment(configEnv, append);
 	}
 
 	/**
@@ -1356,43 +1333,124 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	protected LaunchConfigurationInfo getInfo(LaunchConfiguration config) throws CoreException {
 		LaunchConfigurationInfo info = fLaunchConfigurations.get(config);
 		if (info == null) {
-			IFileStore store = config.getFileStore();
-			if (config.exists()) {
-				BufferedInputStream stream = null;
-				try {
-					stream = new BufferedInputStream(store.openInputStream(EFS.NONE, null));
-					info = createInfoFromXML(stream, isPrototype(store));
-					synchronized (this) {
-						fLaunchConfigurations.put(config, info);
-					}
-				} catch (FileNotFoundException e) {
-					throwException(config, e);
-				} catch (SAXException e) {
-					throwException(config, e);
-				} catch (ParserConfigurationException e) {
-					throwException(config, e);
-				} catch (IOException e) {
-					throwException(config, e);
-				} finally {
-					if (stream != null) {
-						try {
-							stream.close();
-						} catch (IOException e) {
-							throwException(config, e);
-						}
+			int generation = fInfoGeneration.get();
+			info = readInfo(config);
+			LaunchConfigurationInfo cached = fLaunchConfigurations.putIfAbsent(config, info);
+			if (cached != null) {
+				info = cached;
+			} else if (generation != fInfoGeneration.get()) {
+				// the file may have changed while it was read
+				fLaunchConfigurations.remove(config, info);
+			}
+		}
+		return info;
+	}
+
+	/**
+	 * Reads the info object of the specified launch configuration from its
+	 * file.
+	 *
+	 * @param config the {@link LaunchConfiguration} to read
+	 * @return the {@link LaunchConfigurationInfo} read from the file
+	 * @exception CoreException if an exception occurs building the info object
+	 * @exception DebugException if the config does not exist
+	 */
+	private LaunchConfigurationInfo readInfo(LaunchConfiguration config) throws CoreException {
+		LaunchConfigurationInfo info = null;
+		IFileStore store = config.getFileStore();
+		if (config.exists()) {
+			BufferedInputStream stream = null;
+			try {
+				stream = new BufferedInputStream(store.openInputStream(EFS.NONE, null));
+				info = createInfoFromXML(stream, isPrototype(store));
+			} catch (SAXException | ParserConfigurationException | IOException e) {
+				throwException(config, e);
+			} finally {
+				if (stream != null) {
+					try {
+						stream.close();
+					} catch (IOException e) {
+						throwException(config, e);
 					}
 				}
-
-			} else if (store != null){
-				throw createDebugException(MessageFormat.format(DebugCoreMessages.LaunchManager_does_not_exist, new Object[] {
-						config.getName(), store.toURI().toString() }), null);
-			} else {
-				throw createDebugException(MessageFormat.format(DebugCoreMessages.LaunchManager_does_not_exist_no_store_found, new Object[] { config.getName() }), null);
 			}
+		} else if (store != null){
+			throw createDebugException(MessageFormat.format(DebugCoreMessages.LaunchManager_does_not_exist, new Object[] {
+					config.getName(), store.toURI().toString() }), null);
+		} else {
+			throw createDebugException(MessageFormat.format(DebugCoreMessages.LaunchManager_does_not_exist_no_store_found, new Object[] { config.getName() }), null);
 		}
 		return info;
 	}
 
+	/**
+	 * Loads the info objects of the given launch configurations into the
+	 * cache. The configurations are read in parallel by at most one job per
+	 * available processor. Configurations that are already cached and working
+	 * copies are skipped. Configurations that cannot be read are skipped as
+	 * well, the error is reported when the configuration is accessed.
+	 * <p>
+	 * Clients that are about to access the attributes of many configurations
+	 * should call this method first.
+	 * </p>
+	 *
+	 * @param configs the configurations to load
+	 * @param monitor progress monitor or <code>null</code>, cancelling
+	 *            stops loading
+	 */
+	public void prefetchLaunchConfigurations(ILaunchConfiguration[] configs, IProgressMonitor monitor) {
+		ConcurrentLinkedQueue<LaunchConfiguration> pending = new ConcurrentLinkedQueue<>();
+		for (ILaunchConfiguration config : configs) {
+			if (config instanceof LaunchConfiguration && !config.isWorkingCopy() && !fLaunchConfigurations.containsKey(config)) {
+				pending.add((LaunchConfiguration) config);
+			}
+		}
+		int workers = Math.min(pending.size(), Runtime.getRuntime().availableProcessors());
+		if (workers <= 1 || Thread.holdsLock(this)) {
+			// reading may need the lock of this manager, do not wait for jobs while holding it
+			prefetchInfos(pending, monitor);
+			return;
+		}
+		JobGroup group = new JobGroup(DebugCoreMessages.LaunchManager_prefetch_configurations, workers, workers);
+		for (int i = 0; i < workers; i++) {
+			Job job = Job.create(DebugCoreMessages.LaunchManager_prefetch_configurations, jobMonitor -> {
+				prefetchInfos(pending, jobMonitor);
+			});
+			job.setSystem(true);
+			job.setJobGroup(group);
+			job.schedule();
+		}
+		try {
+			group.join(0, monitor);
+		} catch (OperationCanceledException e) {
+			group.cancel();
+		} catch (InterruptedException e) {
+			group.cancel();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Loads the info objects of the configurations polled from the given queue
+	 * until the queue is empty or the monitor is cancelled.
+	 *
+	 * @param pending the configurations to load
+	 * @param monitor progress monitor or <code>null</code>
+	 */
+	private void prefetchInfos(Queue<LaunchConfiguration> pending, IProgressMonitor monitor) {
+		LaunchConfiguration config;
+		while ((config = pending.poll()) != null) {
+			if (monitor != null && monitor.isCanceled()) {
+				return;
+			}
+			try {
+				getInfo(config);
+			} catch (CoreException e) {
+				// reported when the configuration is accessed
+			}
+		}
+	}
+
 	/**
 	 * Check if the given {@link IFileStore} is a prototype.
 	 *
@@ -1438,7 +1496,7 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	}
 
 	@Override
-	public synchronized ILaunchConfiguration[] getLaunchConfigurations() {
+	public ILaunchConfiguration[] getLaunchConfigurations() {
 		return getLaunchConfigurations(ILaunchConfiguration.CONFIGURATION);
 	}
 
@@ -1466,15 +1524,16 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	}
 
 	@Override
-	public synchronized ILaunchConfiguration[] getLaunchConfigurations(ILaunchConfigurationType type) throws CoreException {
+	public ILaunchConfiguration[] getLaunchConfigurations(ILaunchConfigurationType type) throws CoreException {
 		return getLaunchConfigurations(type, ILaunchConfiguration.CONFIGURATION);
 	}
 
 	@Override
-	public synchronized ILaunchConfiguration[] getLaunchConfigurations(ILaunchConfigurationType type, int kinds) throws CoreException {
+	public ILaunchConfiguration[] getLaunchConfigurations(ILaunchConfigurationType type, int kinds) throws CoreException {
+		getAllLaunchConfigurations();
 		List<ILaunchConfiguration> configs = new ArrayList<>();
-		for (ILaunchConfiguration config : getAllLaunchConfigurations()) {
-			if (config.getType().equals(type) && ((config.getKind() & kinds) > 0)) {
+		for (ILaunchConfiguration config : fLaunchConfigurationLookup.getByType(type.getIdentifier())) {
+			if ((config.getKind() & kinds) > 0) {
 				configs.add(config);
 			}
 		}
@@ -1489,15 +1548,9 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 * @return collection of launch configurations that are stored as resources
 	 *  in the given project
 	 */
-	protected synchronized List<ILaunchConfiguration> getLaunchConfigurations(IProject project) {
-		List<ILaunchConfiguration> configs = new ArrayList<>();
-		for (ILaunchConfiguration config : getAllLaunchConfigurations()) {
-			IFile file = config.getFile();
-			if (file != null && file.getProject().equals(project)) {
-				configs.add(config);
-			}
-		}
-		return configs;
+	protected List<ILaunchConfiguration> getLaunchConfigurations(IProject project) {
+		getAllLaunchConfigurations();
+		return fLaunchConfigurationLookup.getByProject(project);
 	}
 
 	@Override
@@ -1513,7 +1566,8 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	@Override
 	public ILaunchConfigurationType[] getLaunchConfigurationTypes() {
 		initializeLaunchConfigurationTypes();
-		return fLaunchConfigurationTypes.toArray(new ILaunchConfigurationType[fLaunchConfigurationTypes.size()]);
+		List<ILaunchConfigurationType> types = fLaunchConfigurationTypes;
+		return types.toArray(new ILaunchConfigurationType[types.size()]);
 	}
 
 	@Override
@@ -1595,24 +1649,30 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 *
 	 * @since 3.3
 	 */
-	private synchronized void initializeLaunchDelegates() {
-		if(fLaunchDelegates == null) {
-			fLaunchDelegates = new HashMap<>();
-			//get all launch delegate contributions
-			IExtensionPoint extensionPoint = Platform.getExtensionRegistry().getExtensionPoint(DebugPlugin.getUniqueIdentifier(), DebugPlugin.EXTENSION_POINT_LAUNCH_DELEGATES);
-			LaunchDelegate delegate = null;
-			for (IConfigurationElement info : extensionPoint.getConfigurationElements()) {
-				delegate = new LaunchDelegate(info);
-				fLaunchDelegates.put(delegate.getId(), delegate);
-			}
-			//get all delegates from launch configuration type contributions
-			extensionPoint = Platform.getExtensionRegistry().getExtensionPoint(DebugPlugin.getUniqueIdentifier(), DebugPlugin.EXTENSION_POINT_LAUNCH_CONFIGURATION_TYPES);
-			for (IConfigurationElement info : extensionPoint.getConfigurationElements()) {
-				//must check to see if delegate is provided in contribution
-				if(info.getAttribute(IConfigurationElementConstants.DELEGATE) != null) {
+	private void initializeLaunchDelegates() {
+		if (fLaunchDelegates != null) {
+			return;
+		}
+		synchronized (this) {
+			if (fLaunchDelegates == null) {
+				Map<String, LaunchDelegate> delegates = new HashMap<>();
+				//get all launch delegate contributions
+				IExtensionPoint extensionPoint = Platform.getExtensionRegistry().getExtensionPoint(DebugPlugin.getUniqueIdentifier(), DebugPlugin.EXTENSION_POINT_LAUNCH_DELEGATES);
+				LaunchDelegate delegate = null;
+				for (IConfigurationElement info : extensionPoint.getConfigurationElements()) {
 					delegate = new LaunchDelegate(info);
-					fLaunchDelegates.put(delegate.getId(), delegate);
+					delegates.put(delegate.getId(), delegate);
+				}
+				//get all delegates from launch configuration type contributions
+				extensionPoint = Platform.getExtensionRegistry().getExtensionPoint(DebugPlugin.getUniqueIdentifier(), DebugPlugin.EXTENSION_POINT_LAUNCH_CONFIGURATION_TYPES);
+				for (IConfigurationElement info : extensionPoint.getConfigurationElements()) {
+					//must check to see if delegate is provided in contribution
+					if(info.getAttribute(IConfigurationElementConstants.DELEGATE) != null) {
+						delegate = new LaunchDelegate(info);
+						delegates.put(delegate.getId(), delegate);
+					}
 				}
+				fLaunchDelegates = delegates;
 			}
 		}
 	}
@@ -1627,34 +1687,42 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 * </p>
 	 * @since 3.3
 	 */
-	private synchronized void initializePreferredDelegates() {
-		if(fPreferredDelegates == null) {
-			fPreferredDelegates = new HashSet<>();
-			String preferred = Platform.getPreferencesService().getString(DebugPlugin.getUniqueIdentifier(), LaunchManager.PREF_PREFERRED_DELEGATES, IInternalDebugCoreConstants.EMPTY_STRING, null);
-			if(!IInternalDebugCoreConstants.EMPTY_STRING.equals(preferred)) {
-				try {
-					Element root = DebugPlugin.parseDocument(preferred);
-					NodeList nodes = root.getElementsByTagName(IConfigurationElementConstants.DELEGATE);
-					Element element = null;
-					String typeid = null;
-					Set<String> modeset = null;
-					for(int i = 0; i < nodes.getLength(); i++) {
-						element = (Element) nodes.item(i);
-						String delegateid = element.getAttribute(IConfigurationElementConstants.ID);
-						typeid = element.getAttribute(IConfigurationElementConstants.TYPE_ID);
-						String[] modes = element.getAttribute(IConfigurationElementConstants.MODES).split(","); //$NON-NLS-1$
-						modeset = new HashSet<>(Arrays.asList(modes));
-						LaunchDelegate delegate = getLaunchDelegateExtension(typeid, delegateid, modeset);
-						if (delegate != null) {
-							//take type id, modeset, delegate and create entry
-							if(!IInternalDebugCoreConstants.EMPTY_STRING.equals(typeid) && modeset != null) {
-								fPreferredDelegates.add(new PreferredDelegate(delegate, typeid, modeset));
+	private Set<PreferredDelegate> initializePreferredDelegates() {
+		Set<PreferredDelegate> preferredDelegates = fPreferredDelegates;
+		if (preferredDelegates != null) {
+			return preferredDelegates;
+		}
+		synchronized (this) {
+			if(fPreferredDelegates == null) {
+				preferredDelegates = new HashSet<>();
+				String preferred = Platform.getPreferencesService().getString(DebugPlugin.getUniqueIdentifier(), LaunchManager.PREF_PREFERRED_DELEGATES, IInternalDebugCoreConstants.EMPTY_STRING, null);
+				if(!IInternalDebugCoreConstants.EMPTY_STRING.equals(preferred)) {
+					try {
+						Element root = DebugPlugin.parseDocument(preferred);
+						NodeList nodes = root.getElementsByTagName(IConfigurationElementConstants.DELEGATE);
+						Element element = null;
+						String typeid = null;
+						Set<String> modeset = null;
+						for(int i = 0; i < nodes.getLength(); i++) {
+							element = (Element) nodes.item(i);
+							String delegateid = element.getAttribute(IConfigurationElementConstants.ID);
+							typeid = element.getAttribute(IConfigurationElementConstants.TYPE_ID);
+							String[] modes = element.getAttribute(IConfigurationElementConstants.MODES).split(","); //$NON-NLS-1$
+							modeset = new HashSet<>(Arrays.asList(modes));
+							LaunchDelegate delegate = getLaunchDelegateExtension(typeid, delegateid, modeset);
+							if (delegate != null) {
+								//take type id, modeset, delegate and create entry
+								if(!IInternalDebugCoreConstants.EMPTY_STRING.equals(typeid) && modeset != null) {
+									preferredDelegates.add(new PreferredDelegate(delegate, typeid, modeset));
+								}
 							}
 						}
 					}
+					catch (CoreException e) {DebugPlugin.log(e);}
 				}
-				catch (CoreException e) {DebugPlugin.log(e);}
+				fPreferredDelegates = preferredDelegates;
 			}
+			return fPreferredDelegates;
 		}
 	}
 
@@ -1679,8 +1747,7 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	protected ILaunchDelegate getPreferredDelegate(String typeid, Set<String> modes) {
 		// Retrieve preferred delegates using legacy mechanism for backward
 		// compatibility.
-		initializePreferredDelegates();
-		for (PreferredDelegate pd : fPreferredDelegates) {
+		for (PreferredDelegate pd : initializePreferredDelegates()) {
 			if (pd.getModes().equals(modes) && pd.getTypeId().equals(typeid)) {
 				return pd.getDelegate();
 			}
@@ -1738,7 +1805,7 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 *
 	 * @return collection of launch configurations stored locally
 	 */
-	protected synchronized List<ILaunchConfiguration> getLocalLaunchConfigurations() {
+	protected List<ILaunchConfiguration> getLocalLaunchConfigurations() {
 		List<ILaunchConfiguration> configs = new ArrayList<>();
 		for (ILaunchConfiguration config : getAllLaunchConfigurations()) {
 			if (config.isLocal()) {
@@ -1755,27 +1822,7 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 * @since 3.2
 	 */
 	public ILaunchConfiguration[] getMappedConfigurations(IResource resource) {
-		List<ILaunchConfiguration> configurations = new ArrayList<>();
-		for (ILaunchConfiguration config : getAllLaunchConfigurations()) {
-			try {
-				IResource[] resources = config.getMappedResources();
-				if(resources != null) {
-					for (IResource res : resources) {
-						if(res.equals(resource)) {
-							configurations.add(config);
-							break;
-						} else if (resource.getType() == IResource.PROJECT && res.getType() == IResource.FILE){
-							if (res.getProject().equals(resource)) {
-								configurations.add(config);
-								break;
-							}
-						}
-					}
-				}
-			} catch (CoreException ce) {
-				DebugPlugin.log(ce);
-			}
-		}
+		List<ILaunchConfiguration> configurations = fLaunchConfigurationLookup.getByMappedResource(resource, getAllLaunchConfigurations());
 		return configurations.toArray(new ILaunchConfiguration[configurations.size()]);
 	}
 
@@ -1807,28 +1854,13 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	}
 
 	@Override
-	public synchronized Map<String, String> getNativeEnvironment() {
-		if (fgNativeEnv == null) {
-			Map<String, String> casePreserved = getNativeEnvironmentCasePreserved();
-			if (Platform.getOS().equals(Constants.OS_WIN32)) {
-				fgNativeEnv = new HashMap<>();
-				for (Entry<String, String> entry : casePreserved.entrySet()) {
-					fgNativeEnv.put(entry.getKey().toUpperCase(), entry.getValue());
-				}
-			} else {
-				fgNativeEnv = new HashMap<>(casePreserved);
-			}
-		}
-		return new HashMap<>(fgNativeEnv);
+	public Map<String, String> getNativeEnvironment() {
+		return new HashMap<>(fEnvironment.getNativeEnvironment());
 	}
 
 	@Override
-	public synchronized Map<String, String> getNativeEnvironmentCasePreserved() {
-		if (fgNativeEnvCasePreserved == null) {
-			fgNativeEnvCasePreserved = new HashMap<>();
-			cacheNativeEnvironment(fgNativeEnvCasePreserved);
-		}
-		return new HashMap<>(fgNativeEnvCasePreserved);
+	public Map<String, String> getNativeEnvironmentCasePreserved() {
+		return new HashMap<>(fEnvironment.getNativeEnvironmentCasePreserved());
 	}
 
 	@Override
@@ -1888,24 +1920,30 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	/**
 	 * Load comparator extensions.
 	 */
-	private synchronized void initializeComparators() {
-		if (fComparators == null) {
-			IExtensionPoint extensionPoint= Platform.getExtensionRegistry().getExtensionPoint(DebugPlugin.getUniqueIdentifier(), DebugPlugin.EXTENSION_POINT_LAUNCH_CONFIGURATION_COMPARATORS);
-			IConfigurationElement[] infos= extensionPoint.getConfigurationElements();
-			fComparators = new HashMap<>(infos.length);
-			IConfigurationElement configurationElement = null;
-			String attr = null;
-			for (IConfigurationElement info : infos) {
-				configurationElement = info;
-				attr = configurationElement.getAttribute("attribute"); //$NON-NLS-1$
-				if (attr != null) {
-					fComparators.put(attr, new LaunchConfigurationComparator(configurationElement));
-				} else {
-					// invalid status handler
-					IStatus s = new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(), DebugException.INTERNAL_ERROR,
-							MessageFormat.format("Invalid launch configuration comparator extension defined by plug-in {0} - attribute not specified.", configurationElement.getContributor().getName()), null); //$NON-NLS-1$
-					DebugPlugin.log(s);
+	private void initializeComparators() {
+		if (fComparators != null) {
+			return;
+		}
+		synchronized (this) {
+			if (fComparators == null) {
+				IExtensionPoint extensionPoint= Platform.getExtensionRegistry().getExtensionPoint(DebugPlugin.getUniqueIdentifier(), DebugPlugin.EXTENSION_POINT_LAUNCH_CONFIGURATION_COMPARATORS);
+				IConfigurationElement[] infos= extensionPoint.getConfigurationElements();
+				Map<String, LaunchConfigurationComparator> comparators = new HashMap<>(infos.length);
+				IConfigurationElement configurationElement = null;
+				String attr = null;
+				for (IConfigurationElement info : infos) {
+					configurationElement = info;
+					attr = configurationElement.getAttribute("attribute"); //$NON-NLS-1$
+					if (attr != null) {
+						comparators.put(attr, new LaunchConfigurationComparator(configurationElement));
+					} else {
+						// invalid status handler
+						IStatus s = new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(), DebugException.INTERNAL_ERROR,
+								MessageFormat.format("Invalid launch configuration comparator extension defined by plug-in {0} - attribute not specified.", configurationElement.getContributor().getName()), null); //$NON-NLS-1$
+						DebugPlugin.log(s);
+					}
 				}
+				fComparators = comparators;
 			}
 		}
 	}
@@ -1913,14 +1951,20 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	/**
 	 * Initializes the listing of <code>LaunchConfigurationType</code>s.
 	 */
-	private synchronized void initializeLaunchConfigurationTypes() {
-		if (fLaunchConfigurationTypes == null) {
-			hookResourceChangeListener();
-			IExtensionPoint extensionPoint= Platform.getExtensionRegistry().getExtensionPoint(DebugPlugin.getUniqueIdentifier(), DebugPlugin.EXTENSION_POINT_LAUNCH_CONFIGURATION_TYPES);
-			IConfigurationElement[] infos = extensionPoint.getConfigurationElements();
-			fLaunchConfigurationTypes = new ArrayList<>(infos.length);
-			for (IConfigurationElement info : infos) {
-				fLaunchConfigurationTypes.add(new LaunchConfigurationType(info));
+	private void initializeLaunchConfigurationTypes() {
+		if (fLaunchConfigurationTypes != null) {
+			return;
+		}
+		synchronized (this) {
+			if (fLaunchConfigurationTypes == null) {
+				hookResourceChangeListener();
+				IExtensionPoint extensionPoint= Platform.getExtensionRegistry().getExtensionPoint(DebugPlugin.getUniqueIdentifier(), DebugPlugin.EXTENSION_POINT_LAUNCH_CONFIGURATION_TYPES);
+				IConfigurationElement[] infos = extensionPoint.getConfigurationElements();
+				List<ILaunchConfigurationType> types = new ArrayList<>(infos.length);
+				for (IConfigurationElement info : infos) {
+					types.add(new LaunchConfigurationType(info));
+				}
+				fLaunchConfigurationTypes = types;
 			}
 		}
 	}
@@ -1928,42 +1972,56 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	/**
 	 * Load comparator extensions.
 	 */
-	private synchronized void initializeLaunchModes() {
-		if (fLaunchModes == null) {
-			try {
-				IExtensionPoint extensionPoint= Platform.getExtensionRegistry().getExtensionPoint(DebugPlugin.getUniqueIdentifier(), DebugPlugin.EXTENSION_POINT_LAUNCH_MODES);
-				IConfigurationElement[] infos= extensionPoint.getConfigurationElements();
-				fLaunchModes = new HashMap<>();
-				ILaunchMode mode = null;
-				for (IConfigurationElement info : infos) {
-					mode = new LaunchMode(info);
-					fLaunchModes.put(mode.getIdentifier(), mode);
+	private void initializeLaunchModes() {
+		if (fLaunchModes != null) {
+			return;
+		}
+		synchronized (this) {
+			if (fLaunchModes == null) {
+				Map<String, ILaunchMode> modes = new HashMap<>();
+				try {
+					IExtensionPoint extensionPoint= Platform.getExtensionRegistry().getExtensionPoint(DebugPlugin.getUniqueIdentifier(), DebugPlugin.EXTENSION_POINT_LAUNCH_MODES);
+					IConfigurationElement[] infos= extensionPoint.getConfigurationElements();
+					ILaunchMode mode = null;
+					for (IConfigurationElement info : infos) {
+						mode = new LaunchMode(info);
+						modes.put(mode.getIdentifier(), mode);
+					}
 				}
+				catch (CoreException e) {DebugPlugin.log(e);}
+				fLaunchModes = modes;
 			}
-			catch (CoreException e) {DebugPlugin.log(e);}
 		}
 	}
 
 	/**
 	 * Initializes source container type and source path computer extensions.
 	 */
-	private synchronized void initializeSourceContainerTypes() {
-		if (sourceContainerTypes == null) {
-			IExtensionPoint extensionPoint= Platform.getExtensionRegistry().getExtensionPoint(DebugPlugin.getUniqueIdentifier(), DebugPlugin.EXTENSION_POINT_SOURCE_CONTAINER_TYPES);
-			IConfigurationElement[] extensions = extensionPoint.getConfigurationElements();
-			sourceContainerTypes = new HashMap<>();
-			for (IConfigurationElement extension : extensions) {
-				sourceContainerTypes.put(
-						extension.getAttribute(IConfigurationElementConstants.ID),
-						new SourceContainerType(extension));
-			}
-			extensionPoint= Platform.getExtensionRegistry().getExtensionPoint(DebugPlugin.getUniqueIdentifier(), DebugPlugin.EXTENSION_POINT_SOURCE_PATH_COMPUTERS);
-			extensions = extensionPoint.getConfigurationElements();
-			sourcePathComputers = new HashMap<>();
-			for (IConfigurationElement extension : extensions) {
-				sourcePathComputers.put(
-						extension.getAttribute(IConfigurationElementConstants.ID),
-						new SourcePathComputer(extension));
+	private void initializeSourceContainerTypes() {
+		if (sourceContainerTypes != null) {
+			return;
+		}
+		synchronized (this) {
+			if (sourceContainerTypes == null) {
+				IExtensionPoint extensionPoint= Platform.getExtensionRegistry().getExtensionPoint(DebugPlugin.getUniqueIdentifier(), DebugPlugin.EXTENSION_POINT_SOURCE_CONTAINER_TYPES);
+				IConfigurationElement[] extensions = extensionPoint.getConfigurationElements();
+				Map<String, ISourceContainerType> containerTypes = new HashMap<>();
+				for (IConfigurationElement extension : extensions) {
+					containerTypes.put(
+							extension.getAttribute(IConfigurationElementConstants.ID),
+							new SourceContainerType(extension));
+				}
+				extensionPoint= Platform.getExtensionRegistry().getExtensionPoint(DebugPlugin.getUniqueIdentifier(), DebugPlugin.EXTENSION_POINT_SOURCE_PATH_COMPUTERS);
+				extensions = extensionPoint.getConfigurationElements();
+				Map<String, ISourcePathComputer> pathComputers = new HashMap<>();
+				for (IConfigurationElement extension : extensions) {
+					pathComputers.put(
+							extension.getAttribute(IConfigurationElementConstants.ID),
+							new SourcePathComputer(extension));
+				}
+				// source container types are published last, they guard both tables
+				sourcePathComputers = pathComputers;
+				sourceContainerTypes = containerTypes;
 			}
 		}
 	}
@@ -1971,24 +2029,30 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	/**
 	 * Register source locators.
 	 */
-	private synchronized void initializeSourceLocators() {
-		if (fSourceLocators == null) {
-			IExtensionPoint extensionPoint= Platform.getExtensionRegistry().getExtensionPoint(DebugPlugin.getUniqueIdentifier(), DebugPlugin.EXTENSION_POINT_SOURCE_LOCATORS);
-			IConfigurationElement[] infos= extensionPoint.getConfigurationElements();
-			fSourceLocators = new HashMap<>(infos.length);
-			IConfigurationElement configurationElement = null;
-			String id = null;
-			for (IConfigurationElement info : infos) {
-				configurationElement = info;
-				id = configurationElement.getAttribute(IConfigurationElementConstants.ID);
-				if (id != null) {
-					fSourceLocators.put(id,configurationElement);
-				} else {
-					// invalid status handler
-					IStatus s = new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(), DebugException.INTERNAL_ERROR,
-							MessageFormat.format("Invalid source locator extension defined by plug-in \"{0}\": \"id\" not specified.", configurationElement.getContributor().getName()), null); //$NON-NLS-1$
-					DebugPlugin.log(s);
+	private void initializeSourceLocators() {
+		if (fSourceLocators != null) {
+			return;
+		}
+		synchronized (this) {
+			if (fSourceLocators == null) {
+				IExtensionPoint extensionPoint= Platform.getExtensionRegistry().getExtensionPoint(DebugPlugin.getUniqueIdentifier(), DebugPlugin.EXTENSION_POINT_SOURCE_LOCATORS);
+				IConfigurationElement[] infos= extensionPoint.getConfigurationElements();
+				Map<String, IConfigurationElement> locators = new HashMap<>(infos.length);
+				IConfigurationElement configurationElement = null;
+				String id = null;
+				for (IConfigurationElement info : infos) {
+					configurationElement = info;
+					id = configurationElement.getAttribute(IConfigurationElementConstants.ID);
+					if (id != null) {
+						locators.put(id,configurationElement);
+					} else {
+						// invalid status handler
+						IStatus s = new Status(IStatus.ERROR, DebugPlugin.getUniqueIdentifier(), DebugException.INTERNAL_ERROR,
+								MessageFormat.format("Invalid source locator extension defined by plug-in \"{0}\": \"id\" not specified.", configurationElement.getContributor().getName()), null); //$NON-NLS-1$
+						DebugPlugin.log(s);
+					}
 				}
+				fSourceLocators = locators;
 			}
 		}
 	}
@@ -2084,7 +2148,14 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 */
 	protected boolean isValid(ILaunchConfiguration config) {
 		try {
-			config.getType();
+			String typeId = null;
+			if (config instanceof LaunchConfiguration && !config.isWorkingCopy()) {
+				// unchanged files are answered from the index, others are read completely
+				typeId = getPersistentIndex().getTypeId((LaunchConfiguration) config);
+			}
+			if (typeId == null || getLaunchConfigurationType(typeId) == null) {
+				config.getType();
+			}
 		} catch (CoreException e) {
 			if (e.getStatus().getCode() != DebugException.MISSING_LAUNCH_CONFIGURATION_TYPE) {
 				// only log warnings due to something other than a missing
@@ -2107,12 +2178,18 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 		if (config.isWorkingCopy()) {
 			return;
 		}
+		if (config instanceof LaunchConfiguration) {
+			// a new file may replace a file that was indexed at the same location
+			getPersistentIndex().remove((LaunchConfiguration) config);
+		}
 		if (isValid(config)) {
 			boolean added = false;
+			String typeId = getLookupTypeId(config);
 			synchronized (this) {
 				List<ILaunchConfiguration> allConfigs = getAllLaunchConfigurations();
-				if (!allConfigs.contains(config)) {
+				if (!fLaunchConfigurationLookup.contains(config)) {
 					allConfigs.add(config);
+					fLaunchConfigurationLookup.add(config, typeId);
 					added = true;
 				}
 			}
@@ -2135,8 +2212,20 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 * @param config the launch configuration that was changed
 	 */
 	protected void launchConfigurationChanged(ILaunchConfiguration config) {
-		synchronized(this) {
-			fLaunchConfigurations.remove(config);
+		fInfoGeneration.incrementAndGet();
+		fLaunchConfigurations.remove(config);
+		if (config instanceof LaunchConfiguration) {
+			getPersistentIndex().remove((LaunchConfiguration) config);
+		}
+		if (fLaunchConfigurationLookup.contains(config)) {
+			// type and mapped resources may have changed, read the type
+			// before taking the lock
+			String typeId = getLookupTypeId(config);
+			synchronized (this) {
+				if (fLaunchConfigurationLookup.contains(config)) {
+					fLaunchConfigurationLookup.add(config, typeId);
+				}
+			}
 		}
 		clearConfigNameCache();
 		if (isValid(config)) {
@@ -2161,9 +2250,14 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	protected void launchConfigurationDeleted(ILaunchConfiguration config) {
 		boolean removed = false;
 		synchronized (this) {
+			fInfoGeneration.incrementAndGet();
 			Object key = fLaunchConfigurations.remove(config);
 			removed = key != null;
 			getAllLaunchConfigurations().remove(config);
+			fLaunchConfigurationLookup.remove(config);
+		}
+		if (config instanceof LaunchConfiguration) {
+			getPersistentIndex().remove((LaunchConfiguration) config);
 		}
 		if (removed) {
 			getConfigurationNotifier().notify(config, REMOVED);
@@ -2352,6 +2446,9 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 		}
 
 		persistPreferredLaunchDelegates();
+		if (fPersistentIndex != null) {
+			fPersistentIndex.save();
+		}
 		clearAllLaunchConfigurations();
 		fStepFilterManager = null;
 		ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
@@ -2616,18 +2713,20 @@ public class LaunchManager extends PlatformObject implements ILaunchManager, IRe
 	 * @param mode launch mode
 	 * @return whether any launch config supports the given mode
 	 */
-	public synchronized boolean launchModeAvailable(String mode) {
-		if (fActiveModes == null) {
-			fActiveModes = new HashSet<>(3);
+	public boolean launchModeAvailable(String mode) {
+		Set<String> activeModes = fActiveModes;
+		if (activeModes == null) {
+			activeModes = new HashSet<>(3);
 			for (ILaunchConfigurationType type : getLaunchConfigurationTypes()) {
 				for (ILaunchMode launchMode : getLaunchModes()) {
 					if (type.supportsMode(launchMode.getIdentifier())) {
-						fActiveModes.add(launchMode.getIdentifier());
+						activeModes.add(launchMode.getIdentifier());
 					}
 				}
 			}
+			fActiveModes = activeModes;
 		}
-		return fActiveModes.contains(mode);
+		return activeModes.contains(mode);
 	}
 
 	@Override
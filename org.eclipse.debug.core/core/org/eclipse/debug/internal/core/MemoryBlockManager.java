@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2018 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -125,7 +125,7 @@ public class MemoryBlockManager implements IMemoryBlockManager, IDebugEventSetLi
 					memoryBlocks.add(m);
 					// add listener for the first memory block added
 					if (memoryBlocks.size() == 1) {
-						DebugPlugin.getDefault().addDebugEventListener(this);
+						DebugPlugin.getDefault().addDebugEventListener(this, DebugEvent.TERMINATE);
 					}
 				}
 			}
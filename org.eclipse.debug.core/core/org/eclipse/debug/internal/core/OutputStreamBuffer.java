@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+
+/**
+ * Chunked storage for the content buffered by an {@link OutputStreamMonitor}.
+ * <p>
+ * Content is stored in a sequence of fixed size chunks. If a limit is set the
+ * oldest chunks are discarded as soon as the remaining chunks still hold at
+ * least the limit. The buffer therefore always retains at least the last
+ * <code>limit</code> bytes and never more than <code>limit</code> plus one
+ * chunk. The number of discarded bytes is available from
+ * {@link #getDroppedBytes()}.
+ * </p>
+ * <p>
+ * Decoding is done lazily and incrementally, i.e. every byte is decoded at
+ * most once no matter how often the text content is requested. If a chunk is
+ * discarded before it was decoded, a character spanning the cut may be
+ * replaced by the charset's replacement character.
+ * </p>
+ * <p>
+ * This class is not thread safe. Clients must synchronize access.
+ * </p>
+ */
+public class OutputStreamBuffer {
+
+	/**
+	 * The size of a single chunk in bytes.
+	 */
+	static final int CHUNK_SIZE = 16384;
+
+	/**
+	 * A single chunk of content.
+	 */
+	private static final class Chunk {
+		final byte[] data = new byte[CHUNK_SIZE];
+		/** Number of valid bytes in {@link #data}. */
+		int length;
+		/** Number of bytes already decoded into {@link #text}. */
+		int decoded;
+		/** The decoded content of this chunk. Created on first decode. */
+		StringBuilder text;
+	}
+
+	private final ArrayDeque<Chunk> fChunks = new ArrayDeque<>();
+
+	private final StreamDecoder fDecoder;
+
+	/**
+	 * Maximum number of bytes to retain or <code>0</code> for no limit.
+	 */
+	private long fLimit;
+
+	/**
+	 * Number of bytes currently stored.
+	 */
+	private long fSize;
+
+	/**
+	 * Number of bytes discarded because of the limit.
+	 */
+	private long fDropped;
+
+	/**
+	 * Creates a new buffer.
+	 *
+	 * @param charset charset used to decode the content; not <code>null</code>
+	 * @param limit maximum number of bytes to retain or <code>0</code> for no
+	 *            limit
+	 */
+	public OutputStreamBuffer(Charset charset, long limit) {
+		fDecoder = new StreamDecoder(charset);
+		setLimit(limit);
+	}
+
+	/**
+	 * Appends the given data to the buffer.
+	 *
+	 * @param data the data to append
+	 * @param offset start of valid data
+	 * @param length number of valid bytes
+	 */
+	public void write(byte[] data, int offset, int length) {
+		if (length <= 0) {
+			return;
+		}
+		int position = offset;
+		int remaining = length;
+		while (remaining > 0) {
+			Chunk chunk = fChunks.peekLast();
+			if (chunk == null || chunk.length == CHUNK_SIZE) {
+				chunk = new Chunk();
+				fChunks.addLast(chunk);
+			}
+			int count = Math.min(remaining, CHUNK_SIZE - chunk.length);
+			System.arraycopy(data, position, chunk.data, chunk.length, count);
+			chunk.length += count;
+			position += count;
+			remaining -= count;
+		}
+		fSize += length;
+		trim();
+	}
+
+	/**
+	 * Discards the oldest chunks which are not required to satisfy the limit.
+	 */
+	private void trim() {
+		if (fLimit <= 0) {
+			return;
+		}
+		Chunk first = fChunks.peekFirst();
+		while (first != null && fSize - first.length >= fLimit) {
+			fChunks.removeFirst();
+			fSize -= first.length;
+			fDropped += first.length;
+			first = fChunks.peekFirst();
+		}
+	}
+
+	/**
+	 * Returns a copy of the buffered content.
+	 *
+	 * @return the buffered content; never <code>null</code>
+	 */
+	public byte[] getData() {
+		byte[] data = new byte[(int) fSize];
+		int position = 0;
+		for (Chunk chunk : fChunks) {
+			System.arraycopy(chunk.data, 0, data, position, chunk.length);
+			position += chunk.length;
+		}
+		return data;
+	}
+
+	/**
+	 * Returns the decoded buffered content. Only content not decoded by a
+	 * previous call is decoded.
+	 *
+	 * @return the decoded content; never <code>null</code>
+	 */
+	public String getText() {
+		StringBuilder text = new StringBuilder();
+		for (Chunk chunk : fChunks) {
+			if (chunk.decoded < chunk.length) {
+				if (chunk.text == null) {
+					chunk.text = new StringBuilder();
+				}
+				chunk.text.append(fDecoder.decode(chunk.data, chunk.decoded, chunk.length - chunk.decoded));
+				chunk.decoded = chunk.length;
+			}
+			if (chunk.text != null) {
+				text.append(chunk.text);
+			}
+		}
+		return text.toString();
+	}
+
+	/**
+	 * Removes all content from this buffer. The decoder state is kept to
+	 * correctly decode characters spanning the flush.
+	 */
+	public void clear() {
+		// decode pending content to keep decoder state consistent
+		for (Chunk chunk : fChunks) {
+			if (chunk.decoded < chunk.length) {
+				fDecoder.decode(chunk.data, chunk.decoded, chunk.length - chunk.decoded);
+			}
+		}
+		fChunks.clear();
+		fSize = 0;
+	}
+
+	/**
+	 * Returns the number of bytes currently buffered.
+	 *
+	 * @return the number of buffered bytes
+	 */
+	public long size() {
+		return fSize;
+	}
+
+	/**
+	 * Returns the total number of bytes discarded from this buffer because
+	 * of its limit. Content removed by {@link #clear()} is not counted.
+	 *
+	 * @return number of discarded bytes
+	 */
+	public long getDroppedBytes() {
+		return fDropped;
+	}
+
+	/**
+	 * Returns the buffer limit.
+	 *
+	 * @return maximum number of bytes to retain or <code>0</code> for no
+	 *         limit
+	 */
+	public long getLimit() {
+		return fLimit;
+	}
+
+	/**
+	 * Sets the buffer limit. If the buffer already holds more content than
+	 * the new limit allows the oldest chunks are discarded immediately.
+	 *
+	 * @param limit maximum number of bytes to retain or <code>0</code> for no
+	 *            limit
+	 */
+	public void setLimit(long limit) {
+		fLimit = Math.max(0, limit);
+		trim();
+	}
+}
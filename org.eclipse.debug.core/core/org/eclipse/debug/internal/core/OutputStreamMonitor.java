@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,15 +16,20 @@
 package org.eclipse.debug.internal.core;
 
 import java.io.BufferedInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.ListenerList;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.SafeRunner;
+import org.eclipse.core.runtime.preferences.IPreferencesService;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IBinaryStreamListener;
 import org.eclipse.debug.core.IStreamListener;
@@ -42,6 +47,11 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 	 */
 	private static final int BUFFER_SIZE = 8192;
 
+	/**
+	 * The default number of bytes which causes a batch to be delivered.
+	 */
+	private static final int DEFAULT_BATCH_SIZE = 65536;
+
 	/**
 	 * The stream being monitored (connected system out or err).
 	 */
@@ -63,19 +73,20 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 	 *
 	 * @see #isBuffered()
 	 */
-	private ByteArrayOutputStream fContents;
+	private OutputStreamBuffer fContents;
 
 	/**
-	 * Decoder used for the buffered content. This is required to keep the state
-	 * of an incomplete character.
+	 * Maximum number of bytes retained in the buffer or <code>0</code> for no
+	 * limit.
+	 *
+	 * @see IInternalDebugCoreConstants#PREF_OUTPUT_BUFFER_LIMIT
 	 */
-	private StreamDecoder fBufferedDecoder;
-	private String fCachedDecodedContents;
+	private long fBufferLimit;
 
 	/**
-	 * The thread which reads from the stream
+	 * The task which reads from the stream
 	 */
-	private Thread fThread;
+	private Future<?> fReader;
 
 	/**
 	 * Whether or not this monitor has been killed. When the monitor is killed,
@@ -89,6 +100,29 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 
 	private final AtomicBoolean fDone;
 
+	/**
+	 * Maximum time in milliseconds content is held back to be delivered in
+	 * one batch or <code>0</code> if batching is disabled.
+	 */
+	private volatile long fBatchDelay;
+
+	/**
+	 * Number of bytes which causes a batch to be delivered immediately.
+	 */
+	private volatile int fBatchSize;
+
+	/**
+	 * Content read but not yet delivered, guarded by this monitor.
+	 */
+	private byte[] fBatch;
+	private int fBatchLength;
+
+	/**
+	 * Number of delivered batches, identifies the batch a scheduled delivery
+	 * belongs to.
+	 */
+	private long fBatchCount;
+
 	/**
 	 * Creates an output stream monitor on the given stream (connected to system
 	 * out or err).
@@ -103,9 +137,26 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 		fCharset = charset;
 		fDecoder = new StreamDecoder(charset == null ? Charset.defaultCharset() : charset);
 		fDone = new AtomicBoolean(false);
+		fBufferLimit = getIntPreference(IInternalDebugCoreConstants.PREF_OUTPUT_BUFFER_LIMIT, 0);
+		setBatching(getIntPreference(IInternalDebugCoreConstants.PREF_OUTPUT_BATCH_DELAY, 0), getIntPreference(IInternalDebugCoreConstants.PREF_OUTPUT_BATCH_SIZE, DEFAULT_BATCH_SIZE));
 		setBuffered(true);
 	}
 
+	/**
+	 * Returns the value of a non negative integer preference of this plug-in.
+	 *
+	 * @param key the preference key
+	 * @param defaultValue value to use if the preference is not available
+	 * @return the preference value
+	 */
+	private static int getIntPreference(String key, int defaultValue) {
+		IPreferencesService service = Platform.getPreferencesService();
+		if (service == null) {
+			return defaultValue;
+		}
+		return Math.max(0, service.getInt(DebugPlugin.getUniqueIdentifier(), key, defaultValue, null));
+	}
+
 	/**
 	 * Creates an output stream monitor on the given stream (connected to system
 	 * out or err).
@@ -135,17 +186,19 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 	 * underlying stream by waiting for the thread to terminate.
 	 */
 	protected void close() {
-		Thread thread = null;
+		Future<?> reader = null;
 
 		synchronized (this) {
-			thread = fThread;
-			fThread = null;
+			reader = fReader;
+			fReader = null;
 		}
 
-		if (thread != null) {
+		if (reader != null) {
 			try {
-				thread.join();
+				reader.get();
 			} catch (InterruptedException ie) {
+			} catch (ExecutionException e) {
+				DebugPlugin.log(e.getCause());
 			}
 
 			fListeners.clear();
@@ -204,20 +257,19 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 
 	@Override
 	public synchronized String getContents() {
-		if (!isBuffered()) {
-			return ""; //$NON-NLS-1$
-		}
-		if (fCachedDecodedContents != null) {
-			return fCachedDecodedContents;
-		}
-		byte[] data = getData();
-		fCachedDecodedContents = fBufferedDecoder.decode(data, 0, data.length);
-		return fCachedDecodedContents;
+		return isBuffered() ? fContents.getText() : ""; //$NON-NLS-1$
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Every call returns a new copy of the buffered content, so the cost is
+	 * linear in the size of the buffer. Callers may modify the returned array.
+	 * </p>
+	 */
 	@Override
 	public synchronized byte[] getData() {
-		return isBuffered() ? fContents.toByteArray() : new byte[0];
+		return isBuffered() ? fContents.getData() : new byte[0];
 	}
 
 	private void read() {
@@ -248,12 +300,11 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 					}
 					read = fStream.read(buffer);
 					if (read > 0) {
-						synchronized (this) {
-							if (isBuffered()) {
-								fCachedDecodedContents = null;
-								fContents.write(buffer, 0, read);
-							}
-							fireStreamAppended(buffer, 0, read);
+						if (fBatchDelay > 0) {
+							appendToBatch(buffer, read);
+						} else {
+							flushBatch();
+							appendContent(buffer, 0, read);
 						}
 					}
 				} catch (IOException ioe) {
@@ -264,7 +315,7 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 				} catch (NullPointerException e) {
 					// killing the stream monitor while reading can cause an NPE
 					// when reading from the stream
-					if (!fKilled && fThread != null) {
+					if (!fKilled && fReader != null) {
 						DebugPlugin.log(e);
 					}
 					return;
@@ -278,6 +329,7 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 				}
 			}
 		} finally {
+			flushBatch();
 			try {
 				fStream.close();
 			} catch (IOException e) {
@@ -286,6 +338,70 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 		}
 	}
 
+	/**
+	 * Buffers the given content and notifies the listeners.
+	 *
+	 * @param data the content read from the stream
+	 * @param offset start of valid data
+	 * @param length number of valid bytes
+	 */
+	private synchronized void appendContent(byte[] data, int offset, int length) {
+		if (isBuffered()) {
+			fContents.write(data, offset, length);
+		}
+		fireStreamAppended(data, offset, length);
+	}
+
+	/**
+	 * Adds the given content to the pending batch. The batch is delivered once
+	 * it reached the size limit or by a delivery scheduled when the batch was
+	 * started, after the delay limit.
+	 *
+	 * @param data the content read from the stream
+	 * @param length number of valid bytes
+	 */
+	private synchronized void appendToBatch(byte[] data, int length) {
+		if (fBatchLength == 0) {
+			long batch = fBatchCount;
+			CompletableFuture.runAsync(() -> flushBatch(batch), CompletableFuture.delayedExecutor(fBatchDelay, TimeUnit.MILLISECONDS));
+		}
+		if (fBatch == null || fBatch.length < fBatchLength + length) {
+			byte[] batch = new byte[Math.max(fBatchLength + length, Math.max(fBatchSize, BUFFER_SIZE))];
+			if (fBatchLength > 0) {
+				System.arraycopy(fBatch, 0, batch, 0, fBatchLength);
+			}
+			fBatch = batch;
+		}
+		System.arraycopy(data, 0, fBatch, fBatchLength, length);
+		fBatchLength += length;
+		if (fBatchLength >= fBatchSize) {
+			flushBatch();
+		}
+	}
+
+	/**
+	 * Delivers the pending batch, if any.
+	 */
+	private synchronized void flushBatch() {
+		if (fBatchLength > 0) {
+			int length = fBatchLength;
+			fBatchLength = 0;
+			fBatchCount++;
+			appendContent(fBatch, 0, length);
+		}
+	}
+
+	/**
+	 * Delivers the pending batch if it is still the given batch.
+	 *
+	 * @param batch the number of the batch to deliver
+	 */
+	private synchronized void flushBatch(long batch) {
+		if (fBatchCount == batch) {
+			flushBatch();
+		}
+	}
+
 	protected void kill() {
 		fKilled = true;
 	}
@@ -301,18 +417,16 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 	}
 
 	/**
-	 * Starts a thread which reads from the stream
+	 * Starts a task which reads from the stream
 	 *
 	 * @param name Thread name
+	 * @see StreamMonitorExecutor
 	 */
 	protected void startMonitoring(String name) {
 		synchronized (this) {
-			if (fThread == null) {
+			if (fReader == null) {
 				fDone.set(false);
-				fThread = new Thread((Runnable) this::read, name);
-				fThread.setDaemon(true);
-				fThread.setPriority(Thread.MIN_PRIORITY);
-				fThread.start();
+				fReader = StreamMonitorExecutor.execute(this::read, name, Thread.MIN_PRIORITY);
 			}
 		}
 	}
@@ -320,13 +434,10 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 	@Override
 	public synchronized void setBuffered(boolean buffer) {
 		if (isBuffered() != buffer) {
-			fCachedDecodedContents = null;
 			if (buffer) {
-				fContents = new ByteArrayOutputStream();
-				fBufferedDecoder = new StreamDecoder(fCharset == null ? Charset.defaultCharset() : fCharset);
+				fContents = new OutputStreamBuffer(fCharset == null ? Charset.defaultCharset() : fCharset, fBufferLimit);
 			} else {
 				fContents = null;
-				fBufferedDecoder = null;
 			}
 		}
 	}
@@ -334,11 +445,69 @@ public class OutputStreamMonitor implements IBinaryStreamMonitor {
 	@Override
 	public synchronized void flushContents() {
 		if (isBuffered()) {
-			fCachedDecodedContents = null;
-			fContents.reset();
+			fContents.clear();
+		}
+	}
+
+	/**
+	 * Enables or disables batched notification of listeners. If enabled, content
+	 * read from the stream is held back and delivered to the listeners as one
+	 * chunk once <code>maxBytes</code> are collected or the first held back
+	 * byte is <code>maxDelay</code> milliseconds old. Buffered content is
+	 * updated together with the notification.
+	 * <p>
+	 * Batching bounds the number of listener notifications for processes
+	 * writing a lot of output in small pieces. Content may be delivered from
+	 * a thread other than the one reading the stream.
+	 * </p>
+	 *
+	 * @param maxDelay maximum time in milliseconds content is held back or
+	 *            <code>0</code> to disable batching
+	 * @param maxBytes number of bytes which causes immediate delivery of a
+	 *            batch
+	 */
+	public void setBatching(long maxDelay, int maxBytes) {
+		fBatchSize = maxBytes > 0 ? maxBytes : DEFAULT_BATCH_SIZE;
+		fBatchDelay = Math.max(0, maxDelay);
+	}
+
+	/**
+	 * Sets the maximum number of bytes retained while buffering. If more
+	 * content is read the oldest content is discarded. The limit is applied
+	 * with a granularity of some kilobytes, i.e. at least <code>limit</code>
+	 * bytes are retained.
+	 *
+	 * @param limit maximum number of bytes to retain or <code>0</code> for no
+	 *            limit
+	 */
+	public synchronized void setBufferLimit(long limit) {
+		fBufferLimit = Math.max(0, limit);
+		if (isBuffered()) {
+			fContents.setLimit(fBufferLimit);
 		}
 	}
 
+	/**
+	 * Returns the maximum number of bytes retained while buffering.
+	 *
+	 * @return maximum number of bytes to retain or <code>0</code> for no
+	 *         limit
+	 */
+	public synchronized long getBufferLimit() {
+		return fBufferLimit;
+	}
+
+	/**
+	 * Returns the number of bytes discarded from the buffer since buffering
+	 * was enabled because the buffer limit was exceeded.
+	 *
+	 * @return number of discarded bytes
+	 * @see #setBufferLimit(long)
+	 */
+	public synchronized long getDroppedBytes() {
+		return isBuffered() ? fContents.getDroppedBytes() : 0;
+	}
+
 	@Override
 	public synchronized boolean isBuffered() {
 		return fContents != null;
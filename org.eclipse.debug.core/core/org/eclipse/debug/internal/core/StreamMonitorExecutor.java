@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared executor for the tasks reading and writing the standard streams of
+ * system processes and watching for their termination.
+ * <p>
+ * If the runtime supports virtual threads each task runs in its own virtual
+ * thread. Otherwise tasks run in a shared pool of daemon threads which are
+ * reused across processes and discarded after some idle time. Since stream
+ * tasks block on I/O the pool is not bounded.
+ * </p>
+ * <p>
+ * The executor can be replaced with {@link #setExecutor(Executor)}.
+ * </p>
+ */
+public final class StreamMonitorExecutor {
+
+	/**
+	 * Time in seconds an idle pool thread is kept alive.
+	 */
+	private static final long KEEP_ALIVE = 30;
+
+	private static volatile Executor fgExecutor;
+
+	private StreamMonitorExecutor() {
+	}
+
+	/**
+	 * Returns the executor used for stream monitor tasks.
+	 *
+	 * @return the executor; never <code>null</code>
+	 */
+	public static Executor getExecutor() {
+		Executor executor = fgExecutor;
+		if (executor == null) {
+			synchronized (StreamMonitorExecutor.class) {
+				executor = fgExecutor;
+				if (executor == null) {
+					executor = createDefaultExecutor();
+					fgExecutor = executor;
+				}
+			}
+		}
+		return executor;
+	}
+
+	/**
+	 * Replaces the executor used for stream monitor tasks. Tasks already
+	 * running are not affected. The executor must not limit the number of
+	 * concurrently running tasks since each task may block for the lifetime
+	 * of its process.
+	 *
+	 * @param executor the new executor or <code>null</code> to restore the
+	 *            default executor
+	 */
+	public static void setExecutor(Executor executor) {
+		fgExecutor = executor;
+	}
+
+	/**
+	 * Runs the given task with the stream monitor executor. While the task is
+	 * running the executing thread is renamed to the given name.
+	 *
+	 * @param task the task to run
+	 * @param name name of the executing thread while the task runs
+	 * @param priority priority of the executing thread while the task runs;
+	 *            ignored for virtual threads
+	 * @return future representing the task execution
+	 */
+	public static Future<?> execute(Runnable task, String name, int priority) {
+		FutureTask<?> future = new FutureTask<>(() -> {
+			Thread thread = Thread.currentThread();
+			String oldName = thread.getName();
+			int oldPriority = thread.getPriority();
+			thread.setName(name);
+			thread.setPriority(priority);
+			try {
+				task.run();
+			} finally {
+				thread.setName(oldName);
+				thread.setPriority(oldPriority);
+			}
+		}, null);
+		getExecutor().execute(future);
+		return future;
+	}
+
+	/**
+	 * Creates a virtual thread per task executor if supported by the runtime
+	 * or a shared thread pool otherwise.
+	 *
+	 * @return the default executor
+	 */
+	private static Executor createDefaultExecutor() {
+		try {
+			// requires Java 21, the bundle is compiled for Java 17
+			return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null); //$NON-NLS-1$
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			// virtual threads not available
+		}
+		AtomicInteger count = new AtomicInteger();
+		ThreadFactory factory = r -> {
+			Thread thread = new Thread(r, "Stream Monitor Worker-" + count.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		};
+		return new ThreadPoolExecutor(0, Integer.MAX_VALUE, KEEP_ALIVE, TimeUnit.SECONDS, new SynchronousQueue<>(), factory);
+	}
+}
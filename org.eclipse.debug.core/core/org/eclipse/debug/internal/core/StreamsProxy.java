@@ -51,7 +51,8 @@ public class StreamsProxy implements IBinaryStreamsProxy {
 
 	/**
 	 * Creates a <code>StreamsProxy</code> on the streams of the given system
-	 * process.
+	 * process. The streams are read and written by tasks of the shared
+	 * {@link StreamMonitorExecutor}.
 	 *
 	 * @param process system process to create a streams proxy on
 	 * @param charset the process's charset or <code>null</code> if default
@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IDebugEventSetListener;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.ILaunchesListener2;
+import org.eclipse.debug.core.model.IProcess;
+
+/**
+ * Completes futures when processes and launches terminate, such that clients
+ * can block on or chain from the termination instead of polling
+ * {@link IProcess#isTerminated()}.
+ * <p>
+ * Processes are tracked by their {@link DebugEvent#TERMINATE} events and
+ * launches by the termination notification of the launch manager. In
+ * addition, the exit of the system process identified by
+ * {@link IProcess#ATTR_PROCESS_ID} triggers a re-check of
+ * {@link IProcess#isTerminated()}, which covers processes that do not fire
+ * terminate events.
+ * </p>
+ * <p>
+ * All futures of the same process or launch complete from one shared future.
+ * Every caller gets its own copy, completing or canceling it has no effect on
+ * other callers.
+ * </p>
+ * <p>
+ * Once a launch is removed from the launch manager, the futures of the launch
+ * and its processes that did not terminate yet are canceled and no longer
+ * tracked. All pending futures are canceled when the debug plug-in stops.
+ * </p>
+ */
+public final class TerminationNotifier implements IDebugEventSetListener, ILaunchesListener2 {
+
+	private static TerminationNotifier fgDefault;
+
+	private final Map<IProcess, CompletableFuture<IProcess>> fProcesses = new ConcurrentHashMap<>();
+
+	private final Map<ILaunch, CompletableFuture<ILaunch>> fLaunches = new ConcurrentHashMap<>();
+
+	private TerminationNotifier() {
+	}
+
+	/**
+	 * Stops tracking terminations and cancels all pending futures. Called when
+	 * the debug plug-in stops.
+	 */
+	public static synchronized void shutdown() {
+		if (fgDefault == null) {
+			return;
+		}
+		DebugPlugin.getDefault().removeDebugEventListener(fgDefault);
+		DebugPlugin.getDefault().getLaunchManager().removeLaunchListener(fgDefault);
+		fgDefault.fProcesses.values().forEach(termination -> termination.cancel(false));
+		fgDefault.fProcesses.clear();
+		fgDefault.fLaunches.values().forEach(termination -> termination.cancel(false));
+		fgDefault.fLaunches.clear();
+		fgDefault = null;
+	}
+
+	private static synchronized TerminationNotifier getDefault() {
+		if (fgDefault == null) {
+			fgDefault = new TerminationNotifier();
+			DebugPlugin.getDefault().addDebugEventListener(fgDefault, DebugEvent.TERMINATE);
+			DebugPlugin.getDefault().getLaunchManager().addLaunchListener(fgDefault);
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Returns a future that completes with the given process once it is
+	 * terminated. The future is already completed if the process is
+	 * terminated.
+	 *
+	 * @param process the process
+	 * @return the termination of the process
+	 */
+	public static CompletableFuture<IProcess> whenTerminated(IProcess process) {
+		return getDefault().track(process);
+	}
+
+	/**
+	 * Returns a future that completes with the given launch once all its
+	 * processes and debug targets are terminated. The future is already
+	 * completed if the launch is terminated.
+	 *
+	 * @param launch the launch
+	 * @return the termination of the launch
+	 */
+	public static CompletableFuture<ILaunch> whenTerminated(ILaunch launch) {
+		return getDefault().track(launch);
+	}
+
+	private CompletableFuture<IProcess> track(IProcess process) {
+		CompletableFuture<IProcess> created = new CompletableFuture<>();
+		CompletableFuture<IProcess> termination = fProcesses.putIfAbsent(process, created);
+		if (termination == null) {
+			termination = created;
+			checkOnSystemProcessExit(process);
+		}
+		// terminated before the future was registered
+		checkTerminated(process);
+		return termination.copy();
+	}
+
+	private CompletableFuture<ILaunch> track(ILaunch launch) {
+		CompletableFuture<ILaunch> created = new CompletableFuture<>();
+		CompletableFuture<ILaunch> termination = fLaunches.putIfAbsent(launch, created);
+		if (termination == null) {
+			termination = created;
+		}
+		if (launch.isTerminated()) {
+			terminated(launch);
+		}
+		return termination.copy();
+	}
+
+	/**
+	 * Re-checks the termination of the given process once its system process
+	 * exits.
+	 *
+	 * @param process the process
+	 */
+	private void checkOnSystemProcessExit(IProcess process) {
+		String pid = process.getAttribute(IProcess.ATTR_PROCESS_ID);
+		if (pid == null) {
+			return;
+		}
+		try {
+			ProcessHandle.of(Long.parseLong(pid)).ifPresent(handle -> handle.onExit().thenRun(() -> checkTerminated(process)));
+		} catch (NumberFormatException | UnsupportedOperationException | SecurityException e) {
+			// terminate events only
+		}
+	}
+
+	private void checkTerminated(IProcess process) {
+		if (process.isTerminated()) {
+			terminated(process);
+		}
+	}
+
+	private void terminated(IProcess process) {
+		CompletableFuture<IProcess> termination = fProcesses.remove(process);
+		if (termination != null) {
+			termination.complete(process);
+		}
+	}
+
+	private void terminated(ILaunch launch) {
+		CompletableFuture<ILaunch> termination = fLaunches.remove(launch);
+		if (termination != null) {
+			termination.complete(launch);
+		}
+	}
+
+	@Override
+	public void handleDebugEvents(DebugEvent[] events) {
+		if (fProcesses.isEmpty()) {
+			return;
+		}
+		for (DebugEvent event : events) {
+			if (event.getKind() == DebugEvent.TERMINATE && event.getSource() instanceof IProcess) {
+				terminated((IProcess) event.getSource());
+			}
+		}
+	}
+
+	@Override
+	public void launchesTerminated(ILaunch[] launches) {
+		for (ILaunch launch : launches) {
+			terminated(launch);
+		}
+	}
+
+	@Override
+	public void launchesRemoved(ILaunch[] launches) {
+		for (ILaunch launch : launches) {
+			for (IProcess process : launch.getProcesses()) {
+				removed(fProcesses.remove(process), process, process.isTerminated());
+			}
+			removed(fLaunches.remove(launch), launch, launch.isTerminated());
+		}
+	}
+
+	/**
+	 * Completes the future of a process or launch that is no longer tracked.
+	 *
+	 * @param termination the future, may be <code>null</code>
+	 * @param source the process or launch
+	 * @param terminated whether the process or launch is terminated, the
+	 *            future is canceled otherwise
+	 */
+	private static <T> void removed(CompletableFuture<T> termination, T source, boolean terminated) {
+		if (termination == null) {
+			return;
+		}
+		if (terminated) {
+			termination.complete(source);
+		} else {
+			termination.cancel(false);
+		}
+	}
+
+	@Override
+	public void launchesAdded(ILaunch[] launches) {
+	}
+
+	@Override
+	public void launchesChanged(ILaunch[] launches) {
+	}
+}
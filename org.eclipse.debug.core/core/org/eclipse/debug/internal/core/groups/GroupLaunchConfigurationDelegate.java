@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2009, 2019 QNX Software Systems and others.
+ *  Copyright (c) 2009, 2026 QNX Software Systems and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -18,14 +18,17 @@ package org.eclipse.debug.internal.core.groups;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
@@ -33,6 +36,9 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
@@ -40,13 +46,12 @@ import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
 import org.eclipse.debug.core.ILaunchManager;
 import org.eclipse.debug.core.IStatusHandler;
 import org.eclipse.debug.core.model.ILaunchConfigurationDelegate2;
-import org.eclipse.debug.core.model.IProcess;
 import org.eclipse.debug.core.model.LaunchConfigurationDelegate;
 import org.eclipse.debug.internal.core.DebugCoreMessages;
 import org.eclipse.debug.internal.core.IInternalDebugCoreConstants;
+import org.eclipse.debug.internal.core.LaunchManager;
+import org.eclipse.debug.internal.core.TerminationNotifier;
 import org.eclipse.debug.internal.core.groups.GroupLaunchElement.GroupElementPostLaunchAction;
-import org.eclipse.debug.internal.core.groups.observer.ProcessObserver;
-import org.eclipse.debug.internal.core.groups.observer.StreamObserver;
 import org.eclipse.osgi.util.NLS;
 
 /**
@@ -66,8 +71,30 @@ public class GroupLaunchConfigurationDelegate extends LaunchConfigurationDelegat
 	private static final String MODE_PROP = "mode"; //$NON-NLS-1$
 	private static final String ACTION_PROP = "action"; //$NON-NLS-1$
 	private static final String ACTION_PARAM_PROP = "actionParam"; //$NON-NLS-1$
+	private static final String DEPENDS_ON_PROP = "dependsOn"; //$NON-NLS-1$
 	private static final String MULTI_LAUNCH_CONSTANTS_PREFIX = "org.eclipse.debug.core.launchGroup"; //$NON-NLS-1$
 
+	/**
+	 * Boolean attribute of a group launch configuration specifying whether its
+	 * elements are launched along their dependencies instead of one after the
+	 * other. Elements without pending dependencies are launched concurrently,
+	 * an element is launched once all elements it depends on are ready.
+	 * Default value is <code>false</code>.
+	 * <p>
+	 * Note that the attribute must not start with the prefix of the element
+	 * attributes.
+	 * </p>
+	 */
+	public static final String ATTR_LAUNCH_DEPENDENCY_GRAPH = "org.eclipse.debug.core.groupLaunch.dependencyGraph"; //$NON-NLS-1$
+
+	/**
+	 * Milliseconds between two checks for cancellation while waiting for
+	 * launched elements to become ready. Readiness and termination are
+	 * signalled by events, the check only covers canceled progress monitors and
+	 * launches that terminate without notification.
+	 */
+	private static final long CANCELLATION_CHECK_INTERVAL = 500;
+
 	private static final String DEBUG_CORE = "org.eclipse.debug.core"; //$NON-NLS-1$
 
 	private static final Status UNSUPPORTED_MODE = new Status(IStatus.ERROR, DEBUG_CORE, 230, IInternalDebugCoreConstants.EMPTY_STRING, null);
@@ -95,45 +122,26 @@ public class GroupLaunchConfigurationDelegate extends LaunchConfigurationDelegat
 			SubMonitor progress = SubMonitor.convert(monitor, NLS.bind(DebugCoreMessages.GroupLaunchConfigurationDelegate_Launching, groupConfig.getName()), 1000);
 
 			List<GroupLaunchElement> launches = createLaunchElements(groupConfig);
-			for (int i = 0; i < launches.size(); ++i) {
-				GroupLaunchElement le = launches.get(i);
-
-				if (!le.enabled) {
-					continue;
-				}
-
-				// find launch; if not found, skip (error?)
-				final ILaunchConfiguration conf = findLaunchConfiguration(le.name);
-				if (conf == null) {
-					continue;
-				}
-
-				// determine mode for each launch
-				final String localMode;
-				if (!le.mode.equals(GroupLaunchElement.MODE_INHERIT)) {
-					localMode = le.mode;
-				} else {
-					localMode = mode;
-				}
-				if (!conf.supportsMode(localMode)) {
-					IStatusHandler handler = DebugPlugin.getDefault().getStatusHandler(UNSUPPORTED_MODE);
-					handler.handleStatus(UNSUPPORTED_MODE, new String[] {
-							conf.getName(), localMode });
-					continue;
-				}
+			if (groupConfig.getAttribute(ATTR_LAUNCH_DEPENDENCY_GRAPH, false)) {
+				launchGraph(progress, groupConfig, mode, group, launches);
+			} else {
+				for (int i = 0; i < launches.size(); ++i) {
+					GroupLaunchElement le = launches.get(i);
+					final String localMode = getLocalMode(le, mode);
+					final ILaunchConfiguration conf = getChildConfiguration(groupConfig, le, localMode);
+					if (conf == null) {
+						continue;
+					}
 
-				if (groupConfig.getName().equals(conf.getName())) {
-					// loop detected. report as appropriate and die.
-					IStatusHandler cycleHandler = DebugPlugin.getDefault().getStatusHandler(GROUP_CYCLE);
-					cycleHandler.handleStatus(GROUP_CYCLE, conf.getName());
-				} else if (!launchChild(progress.newChild(1000 / launches.size()), group, le, conf, localMode, (i == launches.size() - 1))) {
-					break;
-				}
+					if (!launchChild(progress.newChild(1000 / launches.size()), group, le, conf, localMode, (i == launches.size() - 1))) {
+						break;
+					}
 
-				// in case the group has been terminated while waiting in the
-				// post launch action.
-				if (group.isTerminated()) {
-					break;
+					// in case the group has been terminated while waiting in
+					// the post launch action.
+					if (group.isTerminated()) {
+						break;
+					}
 				}
 			}
 
@@ -149,7 +157,84 @@ public class GroupLaunchConfigurationDelegate extends LaunchConfigurationDelegat
 		}
 	}
 
+	/**
+	 * Returns the mode to launch the given element in.
+	 *
+	 * @param le the group element
+	 * @param mode the mode of the group launch
+	 * @return the mode of the element
+	 */
+	private static String getLocalMode(GroupLaunchElement le, String mode) {
+		if (le == null || le.mode.equals(GroupLaunchElement.MODE_INHERIT)) {
+			return mode;
+		}
+		return le.mode;
+	}
+
+	/**
+	 * Returns the configuration to launch for the given element. Unsupported
+	 * modes and elements referring to the group itself are reported.
+	 *
+	 * @param groupConfig the group configuration
+	 * @param le the group element
+	 * @param localMode the mode to launch the element in
+	 * @return the configuration or <code>null</code> if the element is not
+	 *         launched
+	 * @throws CoreException if the configuration cannot be looked up
+	 */
+	private static ILaunchConfiguration getChildConfiguration(ILaunchConfiguration groupConfig, GroupLaunchElement le, String localMode) throws CoreException {
+		if (le == null || !le.enabled) {
+			return null;
+		}
+
+		// find launch; if not found, skip (error?)
+		final ILaunchConfiguration conf = findLaunchConfiguration(le.name);
+		if (conf == null) {
+			return null;
+		}
+
+		if (!conf.supportsMode(localMode)) {
+			IStatusHandler handler = DebugPlugin.getDefault().getStatusHandler(UNSUPPORTED_MODE);
+			handler.handleStatus(UNSUPPORTED_MODE, new String[] {
+					conf.getName(), localMode });
+			return null;
+		}
+
+		if (groupConfig.getName().equals(conf.getName())) {
+			// loop detected. report as appropriate and die.
+			IStatusHandler cycleHandler = DebugPlugin.getDefault().getStatusHandler(GROUP_CYCLE);
+			cycleHandler.handleStatus(GROUP_CYCLE, conf.getName());
+			return null;
+		}
+		return conf;
+	}
+
 	private boolean launchChild(SubMonitor monitor, final GroupLaunch group, GroupLaunchElement le, final ILaunchConfiguration child, final String localMode, boolean lastConfig) throws CoreException {
+		ILaunch subLaunch = launchMember(monitor, group, le, child, localMode);
+
+		// if this is the last child, mark the group as "launching finished", so
+		// that from now on the last terminating child will also terminate the
+		// group.
+		if (lastConfig) {
+			group.markLaunched();
+		}
+
+		// in case we adopted the launch, and did not launch outselves, don't
+		// execute the post launch action!
+		if (subLaunch != null) {
+			return postLaunchAction(subLaunch, le, monitor);
+		} else {
+			return true;
+		}
+	}
+
+	/**
+	 * Launches the given element or adopts its running launch and adds the
+	 * launch to the group.
+	 *
+	 * @return the launch or <code>null</code> if a running launch was adopted
+	 */
+	private ILaunch launchMember(SubMonitor monitor, final GroupLaunch group, GroupLaunchElement le, final ILaunchConfiguration child, final String localMode) throws CoreException {
 		final Set<ILaunch> running = le.adoptIfRunning ? findRunningLaunch(le.name) : Collections.emptySet();
 		ILaunch subLaunch = running.stream().findFirst().orElse(null);
 		boolean launched = false;
@@ -183,90 +268,260 @@ public class GroupLaunchConfigurationDelegate extends LaunchConfigurationDelegat
 			postLaunchHandler.handleStatus(GROUP_ELEMENT_STARTED, new ILaunch[] {
 					group, subLaunch });
 		}
+		return launched ? subLaunch : null;
+	}
 
-		// if this is the last child, mark the group as "launching finished", so
-		// that from now on the last terminating child will also terminate the
-		// group.
-		if (lastConfig) {
-			group.markLaunched();
+	private boolean postLaunchAction(ILaunch subLaunch, GroupLaunchElement le, IProgressMonitor monitor) {
+		String task = getWaitingMessage(subLaunch, le);
+		if (task != null) {
+			monitor.subTask(task);
 		}
-
-		// in case we adopted the launch, and did not launch outselves, don't
-		// execute the post launch action!
-		if (launched) {
-			return postLaunchAction(subLaunch, le, monitor);
-		} else {
-			return true;
+		try {
+			return awaitReady(GroupLaunchReadiness.start(subLaunch, le), monitor);
+		} finally {
+			if (task != null) {
+				monitor.subTask(""); //$NON-NLS-1$
+			}
 		}
 	}
 
-	private boolean postLaunchAction(ILaunch subLaunch, GroupLaunchElement le, IProgressMonitor monitor) {
+	private static String getWaitingMessage(ILaunch subLaunch, GroupLaunchElement le) {
+		String name = subLaunch.getLaunchConfiguration().getName();
 		switch (le.action) {
-			case NONE:
-				return true;
 			case WAIT_FOR_TERMINATION:
-				monitor.subTask(NLS.bind(DebugCoreMessages.GroupLaunchConfigurationDelegate_Waiting_for_termination, subLaunch.getLaunchConfiguration().getName()));
-				while (!subLaunch.isTerminated() && !monitor.isCanceled()) {
-					try {
-						Thread.sleep(1000);
-					} catch (InterruptedException e) {
-						break;
-					}
-				}
-				monitor.subTask(""); //$NON-NLS-1$
-				break;
+				return NLS.bind(DebugCoreMessages.GroupLaunchConfigurationDelegate_Waiting_for_termination, name);
 			case DELAY:
-				Integer waitSecs = (Integer) le.actionParam;
-				if (waitSecs != null) {
-					monitor.subTask(NLS.bind(DebugCoreMessages.GroupLaunchConfigurationDelegate_Delaying, waitSecs.toString()));
+				return le.actionParam != null ? NLS.bind(DebugCoreMessages.GroupLaunchConfigurationDelegate_Delaying, le.actionParam.toString()) : null;
+			case OUTPUT_REGEXP:
+				return le.actionParam != null ? NLS.bind(DebugCoreMessages.GroupLaunchConfigurationDelegate_waiting, le.actionParam, name) : null;
+			case PORT_OPEN:
+				return le.actionParam != null ? NLS.bind(DebugCoreMessages.GroupLaunchConfigurationDelegate_waitingForPort, le.actionParam, name) : null;
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Blocks until the launched element is ready or the monitor is canceled.
+	 *
+	 * @return whether the element became ready
+	 */
+	private static boolean awaitReady(GroupLaunchReadiness readiness, IProgressMonitor monitor) {
+		try {
+			while (!monitor.isCanceled()) {
+				try {
+					return readiness.getReady().get(CANCELLATION_CHECK_INTERVAL, TimeUnit.MILLISECONDS).booleanValue();
+				} catch (TimeoutException e) {
+					readiness.check();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			DebugPlugin.log(e);
+		} finally {
+			readiness.cancel();
+		}
+		return false;
+	}
+
+	/**
+	 * An enabled element of a group launched along the dependencies of its
+	 * elements.
+	 */
+	private static final class GraphNode {
+		final GroupLaunchElement fElement;
+		final ILaunchConfiguration fConfiguration;
+		final String fMode;
+		final List<GraphNode> fDependencies = new ArrayList<>();
+
+		/**
+		 * Completes with whether the element was launched and became ready.
+		 */
+		final CompletableFuture<Boolean> fReady = new CompletableFuture<>();
+
+		GraphNode(GroupLaunchElement element, ILaunchConfiguration configuration, String mode) {
+			fElement = element;
+			fConfiguration = configuration;
+			fMode = mode;
+		}
+	}
+
+	/**
+	 * Launches the elements of a group along their dependencies. An element is
+	 * launched in a job as soon as all elements it depends on are ready, so
+	 * independent elements are launched concurrently. Elements depending on an
+	 * element that failed to launch or never became ready are not launched.
+	 * Dependencies on unknown or disabled elements are ignored.
+	 */
+	private void launchGraph(SubMonitor progress, ILaunchConfiguration groupConfig, String mode, final GroupLaunch group, List<GroupLaunchElement> launches) throws CoreException {
+		List<GraphNode> nodes = new ArrayList<>();
+		Map<String, List<GraphNode>> nodesByName = new HashMap<>();
+		for (GroupLaunchElement le : launches) {
+			String localMode = getLocalMode(le, mode);
+			ILaunchConfiguration conf = getChildConfiguration(groupConfig, le, localMode);
+			if (conf != null) {
+				GraphNode node = new GraphNode(le, conf, localMode);
+				nodes.add(node);
+				nodesByName.computeIfAbsent(le.name, name -> new ArrayList<>()).add(node);
+			}
+		}
+		for (GraphNode node : nodes) {
+			for (String name : node.fElement.dependsOn) {
+				node.fDependencies.addAll(nodesByName.getOrDefault(name, Collections.emptyList()));
+			}
+		}
+		List<GraphNode> cycle = findDependencyCycle(nodes);
+		if (cycle != null) {
+			IStatusHandler cycleHandler = DebugPlugin.getDefault().getStatusHandler(GROUP_CYCLE);
+			cycleHandler.handleStatus(GROUP_CYCLE, new String[] {
+					groupConfig.getName(),
+					cycle.stream().map(n -> n.fElement.name).collect(Collectors.joining(" -> ")) }); //$NON-NLS-1$
+			return;
+		}
+
+		final AtomicReference<CoreException> failure = new AtomicReference<>();
+		final List<GroupLaunchReadiness> pending = Collections.synchronizedList(new ArrayList<>());
+		final List<Job> jobs = Collections.synchronizedList(new ArrayList<>());
+		Runnable cancel = () -> {
+			for (GraphNode node : nodes) {
+				node.fReady.complete(Boolean.FALSE);
+			}
+			synchronized (jobs) {
+				for (Job job : jobs) {
+					job.cancel();
+				}
+			}
+		};
+		for (GraphNode node : nodes) {
+			CompletableFuture<?>[] dependencies = node.fDependencies.stream().map(d -> d.fReady).toArray(CompletableFuture[]::new);
+			CompletableFuture.allOf(dependencies).thenRun(() -> {
+				boolean ready = node.fDependencies.stream().allMatch(d -> d.fReady.join().booleanValue());
+				if (!ready || node.fReady.isDone() || progress.isCanceled()) {
+					node.fReady.complete(Boolean.FALSE);
+					return;
+				}
+				Job job = Job.create(NLS.bind(DebugCoreMessages.GroupLaunchConfigurationDelegate_Launching, node.fConfiguration.getName()), monitor -> {
+					boolean launched = false;
 					try {
-						Thread.sleep(waitSecs * 1000); // param is milliseconds
-					} catch (InterruptedException e) {
-						// ok
+						if (monitor.isCanceled() || progress.isCanceled() || node.fReady.isDone()) {
+							return Status.CANCEL_STATUS;
+						}
+						ILaunch subLaunch = launchMember(SubMonitor.convert(monitor), group, node.fElement, node.fConfiguration, node.fMode);
+						launched = true;
+						if (subLaunch == null) {
+							// adopted, the post launch action is not executed
+							node.fReady.complete(Boolean.TRUE);
+							return Status.OK_STATUS;
+						}
+						GroupLaunchReadiness readiness = GroupLaunchReadiness.start(subLaunch, node.fElement);
+						pending.add(readiness);
+						readiness.getReady().thenAccept(r -> {
+							pending.remove(readiness);
+							node.fReady.complete(r);
+						});
+						node.fReady.thenRun(readiness::cancel);
+					} catch (CoreException e) {
+						// reported when the group launch returns
+						failure.compareAndSet(null, e);
+					} finally {
+						if (!launched) {
+							node.fReady.complete(Boolean.FALSE);
+						}
 					}
-				}
-				break;
+					return Status.OK_STATUS;
+				});
+				job.addJobChangeListener(new JobChangeAdapter() {
+					@Override
+					public void done(IJobChangeEvent event) {
+						// canceled before it was run
+						if (event.getResult().getSeverity() == IStatus.CANCEL) {
+							node.fReady.complete(Boolean.FALSE);
+						}
+					}
+				});
+				job.setSystem(true);
+				jobs.add(job);
+				job.schedule();
+			});
+		}
 
-			case OUTPUT_REGEXP:
-				String regexp = (String) le.actionParam;
-				if (regexp != null) {
-					monitor.subTask(NLS.bind(DebugCoreMessages.GroupLaunchConfigurationDelegate_waiting, regexp, subLaunch.getLaunchConfiguration().getName()));
-					if (!waitForOutputMatching(subLaunch, monitor, regexp)) {
-						return false;
+		CompletableFuture<Void> all = CompletableFuture.allOf(nodes.stream().map(n -> n.fReady).toArray(CompletableFuture[]::new));
+		CompletableFuture<ILaunch> groupTermination = TerminationNotifier.whenTerminated(group);
+		groupTermination.thenRun(cancel);
+		progress.setWorkRemaining(nodes.size());
+		int done = 0;
+		try {
+			while (!all.isDone()) {
+				try {
+					all.get(CANCELLATION_CHECK_INTERVAL, TimeUnit.MILLISECONDS);
+				} catch (TimeoutException e) {
+					if (progress.isCanceled() || group.isTerminated()) {
+						cancel.run();
+					} else {
+						GroupLaunchReadiness[] readinesses;
+						synchronized (pending) {
+							readinesses = pending.toArray(new GroupLaunchReadiness[pending.size()]);
+						}
+						for (GroupLaunchReadiness readiness : readinesses) {
+							readiness.check();
+						}
 					}
 				}
-
-				break;
-
-			default:
-				assert false : "new post launch action type is missing logic"; //$NON-NLS-1$
+				int nowDone = (int) nodes.stream().filter(n -> n.fReady.isDone()).count();
+				progress.worked(nowDone - done);
+				done = nowDone;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			cancel.run();
+		} catch (ExecutionException e) {
+			DebugPlugin.log(e);
+		} finally {
+			groupTermination.cancel(false);
+		}
+		if (failure.get() != null) {
+			throw failure.get();
 		}
+	}
 
-		return true;
+	/**
+	 * Returns a cycle in the dependencies of the given nodes.
+	 *
+	 * @return the nodes of the cycle, starting and ending with the same node,
+	 *         or <code>null</code> if there is no cycle
+	 */
+	private static List<GraphNode> findDependencyCycle(List<GraphNode> nodes) {
+		Set<GraphNode> visited = new HashSet<>();
+		List<GraphNode> path = new ArrayList<>();
+		for (GraphNode node : nodes) {
+			List<GraphNode> cycle = findDependencyCycle(node, visited, path);
+			if (cycle != null) {
+				return cycle;
+			}
+		}
+		return null;
 	}
 
-	// blocks until a specific string is in the log output
-	private boolean waitForOutputMatching(ILaunch launch, IProgressMonitor m, String regexp) {
-		int processCount = launch.getProcesses().length;
-		final ExecutorService executor = Executors.newCachedThreadPool();
-		final CountDownLatch countDownLatch = new CountDownLatch(processCount);
-		Future<Integer> process = null;
-		for (IProcess p : launch.getProcesses()) {
-			process = executor.submit(new ProcessObserver(m, p, countDownLatch));
-			executor.submit(new StreamObserver(m, p, regexp, countDownLatch));
+	private static List<GraphNode> findDependencyCycle(GraphNode node, Set<GraphNode> visited, List<GraphNode> path) {
+		int index = path.indexOf(node);
+		if (index >= 0) {
+			List<GraphNode> cycle = new ArrayList<>(path.subList(index, path.size()));
+			cycle.add(node);
+			return cycle;
 		}
-		try {
-			countDownLatch.await();
-		} catch (InterruptedException e) {
-			// should not happen at all!
+		if (!visited.add(node)) {
+			return null;
 		}
-		executor.shutdown();
-		// process terminated before condition
-		if (process == null || process.isDone()) {
-			return false;
+		path.add(node);
+		for (GraphNode dependency : node.fDependencies) {
+			List<GraphNode> cycle = findDependencyCycle(dependency, visited, path);
+			if (cycle != null) {
+				return cycle;
+			}
 		}
-		// condition matched
-		return true;
+		path.remove(path.size() - 1);
+		return null;
 	}
 
 	@Override
@@ -281,14 +536,7 @@ public class GroupLaunchConfigurationDelegate extends LaunchConfigurationDelegat
 	}
 
 	protected static ILaunchConfiguration findLaunchConfiguration(String name) throws CoreException {
-		ILaunchManager launchManager = DebugPlugin.getDefault().getLaunchManager();
-		ILaunchConfiguration[] launchConfigurations = launchManager.getLaunchConfigurations();
-		for (ILaunchConfiguration config : launchConfigurations) {
-			if (config.getName().equals(name)) {
-				return config;
-			}
-		}
-		return null;
+		return ((LaunchManager) DebugPlugin.getDefault().getLaunchManager()).findLaunchConfiguration(name);
 	}
 
 	protected static Set<ILaunch> findRunningLaunch(String name) {
@@ -352,11 +600,20 @@ public class GroupLaunchConfigurationDelegate extends LaunchConfigurationDelegat
 							if (action == GroupElementPostLaunchAction.OUTPUT_REGEXP) {
 								actionParam = attrs.get(getProp(index, ACTION_PARAM_PROP));
 							}
+							if (action == GroupElementPostLaunchAction.PORT_OPEN) {
+								actionParam = attrs.get(getProp(index, ACTION_PARAM_PROP));
+							}
 							el.action = action;
 							el.actionParam = actionParam;
 							if (attrs.containsKey(getProp(index, ADOPT_PROP))) {
 								el.adoptIfRunning = (Boolean) attrs.get(getProp(index, ADOPT_PROP));
 							}
+							Object dependsOn = attrs.get(getProp(index, DEPENDS_ON_PROP));
+							if (dependsOn instanceof List) {
+								for (Object dependency : (List<?>) dependsOn) {
+									el.dependsOn.add((String) dependency);
+								}
+							}
 							el.mode = (String) attrs.get(getProp(index, MODE_PROP));
 							el.enabled = (Boolean) attrs.get(getProp(index, ENABLED_PROP));
 							try {
@@ -397,6 +654,8 @@ public class GroupLaunchConfigurationDelegate extends LaunchConfigurationDelegat
 			configuration.setAttribute(getProp(i, ACTION_PARAM_PROP), el.actionParam != null ? el.actionParam.toString() : null);
 			configuration.setAttribute(getProp(i, MODE_PROP), el.mode);
 			configuration.setAttribute(getProp(i, ENABLED_PROP), el.enabled);
+			List<String> dependsOn = el.dependsOn.isEmpty() ? null : new ArrayList<>(el.dependsOn);
+			configuration.setAttribute(getProp(i, DEPENDS_ON_PROP), dependsOn);
 			i++;
 		}
 	}
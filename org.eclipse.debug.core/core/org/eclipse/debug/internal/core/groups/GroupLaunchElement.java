@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2009, 2022 QNX Software Systems and others.
+ *  Copyright (c) 2009, 2026 QNX Software Systems and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,10 @@
  *******************************************************************************/
 package org.eclipse.debug.internal.core.groups;
 
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.internal.core.DebugCoreMessages;
 
@@ -32,13 +36,16 @@ public class GroupLaunchElement {
 	 * <p>
 	 * These actions get performed after the associated
 	 * {@link GroupLaunchElement} has been launched, before the next one is
-	 * launched (or launching is finished).
+	 * launched (or launching is finished). When the group launches along the
+	 * dependencies of its elements, the action determines when an element is
+	 * ready, so that the elements depending on it are launched.
 	 */
 	public enum GroupElementPostLaunchAction {
 		NONE(DebugCoreMessages.GroupLaunchConfigurationDelegate_None), //
 		WAIT_FOR_TERMINATION(DebugCoreMessages.GroupLaunchConfigurationDelegate_Wait_until_terminated), //
 		DELAY(DebugCoreMessages.GroupLaunchConfigurationDelegate_Delay), //
-		OUTPUT_REGEXP(DebugCoreMessages.GroupLaunchElement_outputRegexp);
+		OUTPUT_REGEXP(DebugCoreMessages.GroupLaunchElement_outputRegexp), //
+		PORT_OPEN(DebugCoreMessages.GroupLaunchElement_portOpen);
 
 		private final String description;
 
@@ -68,4 +75,46 @@ public class GroupLaunchElement {
 	public Object actionParam;
 	public String name;
 	public ILaunchConfiguration data;
+
+	/**
+	 * Names of the elements that must be ready before this element is
+	 * launched. Only considered if the group launches along the dependencies
+	 * of its elements.
+	 */
+	public List<String> dependsOn = new ArrayList<>();
+
+	/**
+	 * Returns the address described by the parameter of the
+	 * {@link GroupElementPostLaunchAction#PORT_OPEN} action. The parameter has
+	 * the form <code>[host:]port</code>, the host defaults to
+	 * <code>localhost</code>.
+	 *
+	 * @param param the action parameter
+	 * @return the unresolved address or <code>null</code> if the parameter is
+	 *         not valid
+	 */
+	public static InetSocketAddress getPortAddress(Object param) {
+		if (!(param instanceof String)) {
+			return null;
+		}
+		String value = ((String) param).trim();
+		String host = "localhost"; //$NON-NLS-1$
+		int colon = value.lastIndexOf(':');
+		if (colon >= 0) {
+			host = value.substring(0, colon).trim();
+			value = value.substring(colon + 1).trim();
+			if (host.isEmpty()) {
+				return null;
+			}
+		}
+		try {
+			int port = Integer.parseInt(value);
+			if (port <= 0 || port > 0xFFFF) {
+				return null;
+			}
+			return InetSocketAddress.createUnresolved(host, port);
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.core.groups;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.model.IProcess;
+import org.eclipse.debug.internal.core.TerminationNotifier;
+import org.eclipse.debug.internal.core.groups.observer.StreamObserver;
+
+/**
+ * Tracks when a launched {@link GroupLaunchElement} is ready according to its
+ * {@link GroupLaunchElement.GroupElementPostLaunchAction post launch action}.
+ * <p>
+ * Readiness is signalled by events: launch termination is reported by the
+ * {@link TerminationNotifier}, console output by {@link StreamObserver}s and
+ * delays by a timer. Only an open port has to be probed. The
+ * future returned by {@link #getReady()} completes with <code>true</code> once
+ * the element is ready and with <code>false</code> if it can never become
+ * ready, e.g. because the launch terminated before the expected output
+ * appeared. All listeners are removed once the future completes.
+ * </p>
+ */
+class GroupLaunchReadiness {
+
+	/**
+	 * Milliseconds between two attempts to connect to a port.
+	 */
+	private static final int PORT_PROBE_INTERVAL = 250;
+
+	/**
+	 * Milliseconds to wait for a single connection attempt.
+	 */
+	private static final int PORT_CONNECT_TIMEOUT = 1000;
+
+	private final ILaunch fLaunch;
+
+	private final GroupLaunchElement fElement;
+
+	private final CompletableFuture<Boolean> fReady = new CompletableFuture<>();
+
+	/**
+	 * Futures to complete once the element is ready or not.
+	 */
+	private final List<CompletableFuture<?>> fObservers = new ArrayList<>();
+
+	private GroupLaunchReadiness(ILaunch launch, GroupLaunchElement element) {
+		fLaunch = launch;
+		fElement = element;
+	}
+
+	/**
+	 * Starts tracking the readiness of a launched group element.
+	 *
+	 * @param launch the launch of the element
+	 * @param element the group element
+	 * @return the readiness of the element
+	 */
+	static GroupLaunchReadiness start(ILaunch launch, GroupLaunchElement element) {
+		GroupLaunchReadiness readiness = new GroupLaunchReadiness(launch, element);
+		readiness.start();
+		return readiness;
+	}
+
+	private void start() {
+		switch (fElement.action) {
+			case NONE:
+				fReady.complete(Boolean.TRUE);
+				break;
+			case DELAY:
+				Integer waitSecs = (Integer) fElement.actionParam;
+				if (waitSecs == null) {
+					fReady.complete(Boolean.TRUE);
+				} else {
+					fReady.completeOnTimeout(Boolean.TRUE, waitSecs.longValue(), TimeUnit.SECONDS);
+				}
+				break;
+			case WAIT_FOR_TERMINATION:
+				observeTermination(Boolean.TRUE);
+				break;
+			case OUTPUT_REGEXP:
+				String regexp = (String) fElement.actionParam;
+				if (regexp == null) {
+					fReady.complete(Boolean.TRUE);
+				} else if (fLaunch.getProcesses().length == 0) {
+					// no output to wait for
+					fReady.complete(Boolean.FALSE);
+				} else {
+					for (IProcess process : fLaunch.getProcesses()) {
+						CompletableFuture<Boolean> matched = new StreamObserver(process, regexp).observe();
+						fObservers.add(matched);
+						matched.thenAccept(m -> {
+							if (Boolean.TRUE.equals(m)) {
+								fReady.complete(Boolean.TRUE);
+							}
+						});
+					}
+					// terminated before the awaited output
+					observeTermination(Boolean.FALSE);
+				}
+				break;
+			case PORT_OPEN:
+				InetSocketAddress address = GroupLaunchElement.getPortAddress(fElement.actionParam);
+				if (address == null) {
+					fReady.complete(Boolean.TRUE);
+				} else {
+					// terminated before the port was opened
+					observeTermination(Boolean.FALSE);
+					CompletableFuture.runAsync(() -> probePort(address));
+				}
+				break;
+			default:
+				assert false : "new post launch action type is missing logic"; //$NON-NLS-1$
+				fReady.complete(Boolean.TRUE);
+		}
+		fReady.whenComplete((ready, e) -> dispose());
+	}
+
+	/**
+	 * Completes the readiness with the given value once the launch terminates.
+	 * The element is not ready if the launch is removed before it terminates.
+	 *
+	 * @param ready whether the element is ready after termination
+	 */
+	private void observeTermination(Boolean ready) {
+		CompletableFuture<ILaunch> termination = TerminationNotifier.whenTerminated(fLaunch);
+		fObservers.add(termination);
+		termination.whenComplete((launch, e) -> fReady.complete(e == null ? ready : Boolean.FALSE));
+	}
+
+	/**
+	 * Returns the future completed once the element is ready or can no longer
+	 * become ready.
+	 *
+	 * @return the readiness future
+	 */
+	CompletableFuture<Boolean> getReady() {
+		return fReady;
+	}
+
+	/**
+	 * Re-evaluates whether the launch terminated. Waiters call this
+	 * periodically since processes that are not created through
+	 * {@link DebugPlugin} may terminate without notification.
+	 */
+	void check() {
+		if (fReady.isDone() || !fLaunch.isTerminated()) {
+			return;
+		}
+		// terminated before the awaited output or port
+		fReady.complete(Boolean.valueOf(fElement.action == GroupLaunchElement.GroupElementPostLaunchAction.WAIT_FOR_TERMINATION));
+	}
+
+	/**
+	 * Stops waiting, the element is considered not ready unless it became
+	 * ready before.
+	 */
+	void cancel() {
+		fReady.complete(Boolean.FALSE);
+	}
+
+	private void probePort(InetSocketAddress address) {
+		check();
+		if (fReady.isDone()) {
+			return;
+		}
+		try (Socket socket = new Socket()) {
+			socket.connect(new InetSocketAddress(address.getHostString(), address.getPort()), PORT_CONNECT_TIMEOUT);
+			fReady.complete(Boolean.TRUE);
+			return;
+		} catch (IOException e) {
+			// not yet listening
+		}
+		CompletableFuture.runAsync(() -> probePort(address), CompletableFuture.delayedExecutor(PORT_PROBE_INTERVAL, TimeUnit.MILLISECONDS));
+	}
+
+	/**
+	 * Stops the observers that did not complete.
+	 */
+	private void dispose() {
+		for (CompletableFuture<?> observer : fObservers) {
+			observer.complete(null);
+		}
+	}
+}
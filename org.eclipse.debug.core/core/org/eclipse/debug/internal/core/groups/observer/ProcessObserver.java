@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2012, 2016 SSI Schaefer and others.
+ *  Copyright (c) 2012, 2026 SSI Schaefer and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -13,45 +13,36 @@
  *******************************************************************************/
 package org.eclipse.debug.internal.core.groups.observer;
 
-import java.util.concurrent.Callable;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
-import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IProcess;
+import org.eclipse.debug.internal.core.TerminationNotifier;
 
 /**
- * The {@code ProcessObserver} observes a given {@linkplain IProcess process} instance and notifies
- * a {@linkplain CountDownLatch synchronization object} when the process terminates.
+ * The {@code ProcessObserver} observes a given {@linkplain IProcess process} instance and completes
+ * a {@linkplain CompletableFuture future} when the process terminates.
  */
-public final class ProcessObserver implements Callable<Integer> {
+public final class ProcessObserver {
 	private final IProcess p;
-	private final IProgressMonitor pMonitor;
-	private final CountDownLatch countDownLatch;
 
-	public ProcessObserver(IProgressMonitor monitor, IProcess p, CountDownLatch countDownLatch) {
+	public ProcessObserver(IProcess p) {
 		this.p = p;
-		this.pMonitor = monitor;
-		this.countDownLatch = countDownLatch;
 	}
 
-	@Override
-	public Integer call() throws Exception {
-		try {
-			while (!p.isTerminated() && !pMonitor.isCanceled()) {
-				TimeUnit.MILLISECONDS.sleep(250);
-
-				if (countDownLatch.getCount() == 0) {
-					break;
-				}
-			}
-			// check if terminated or timeout
-			if (p.isTerminated()) {
-				return p.getExitValue();
+	/**
+	 * Starts observing the process.
+	 *
+	 * @return a future completed with the exit value of the process once it
+	 *         terminates
+	 */
+	public CompletableFuture<Integer> observe() {
+		return TerminationNotifier.whenTerminated(p).thenApply(process -> {
+			try {
+				return process.getExitValue();
+			} catch (DebugException e) {
+				return 0;
 			}
-			return 0;
-		} finally {
-			countDownLatch.countDown();
-		}
+		});
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2012, 2016 SSI Schaefer and others.
+ *  Copyright (c) 2012, 2026 SSI Schaefer and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,9 @@
  *******************************************************************************/
 package org.eclipse.debug.internal.core.groups.observer;
 
-import java.util.concurrent.CountDownLatch;
-import java.util.regex.Matcher;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Pattern;
 
-import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.debug.core.IStreamListener;
 import org.eclipse.debug.core.model.IProcess;
 import org.eclipse.debug.core.model.IStreamMonitor;
@@ -25,25 +23,35 @@ import org.eclipse.debug.core.model.IStreamsProxy;
 
 /**
  * The {@code StreamObserver} observes a given {@linkplain IStreamsProxy output stream} instance and
- * notifies a {@linkplain CountDownLatch synchronization object} when a given string appears in the
- * output.
+ * completes a {@linkplain CompletableFuture future} when a given string appears in the output.
  */
-public class StreamObserver implements Runnable {
+public class StreamObserver {
 	private final String stringPattern;
 	private final IProcess process;
-	private final CountDownLatch countDownLatch;
-	private final IProgressMonitor pMonitor;
 
-	public StreamObserver(IProgressMonitor monitor, IProcess process, String pattern,
-			CountDownLatch countDownLatch) {
+	public StreamObserver(IProcess process, String pattern) {
 		this.process = process;
-		this.pMonitor = monitor;
 		this.stringPattern = pattern;
-		this.countDownLatch = countDownLatch;
 	}
 
-	@Override
-	public void run() {
+	/**
+	 * Starts observing the output of the process. The listener on the output
+	 * is removed once the returned future completes, clients may complete it
+	 * to stop observing.
+	 *
+	 * @return a future completed with <code>true</code> once the output matches
+	 *         and with <code>false</code> if the process terminates before or
+	 *         has no output
+	 */
+	public CompletableFuture<Boolean> observe() {
+		CompletableFuture<Boolean> matched = new CompletableFuture<>();
+		IStreamsProxy proxy = process.getStreamsProxy();
+		final IStreamMonitor outputStreamMonitor = proxy != null ? proxy.getOutputStreamMonitor() : null;
+		if (outputStreamMonitor == null) {
+			matched.complete(Boolean.FALSE);
+			return matched;
+		}
+
 		// append wild card if not provided
 		StringBuilder patternBuilder = new StringBuilder();
 		if (!stringPattern.startsWith(".*")) { //$NON-NLS-1$
@@ -55,22 +63,17 @@ public class StreamObserver implements Runnable {
 		}
 		// create pattern and start listening to the output
 		final Pattern pattern = Pattern.compile(patternBuilder.toString(), Pattern.MULTILINE);
-		final IStreamMonitor outputStreamMonitor = process.getStreamsProxy()
-				.getOutputStreamMonitor();
-		outputStreamMonitor.addListener(new IStreamListener() {
-			@Override
-			public void streamAppended(String text, IStreamMonitor monitor) {
-				if (countDownLatch.getCount() == 0) {
-					outputStreamMonitor.removeListener(this);
-					return;
-				}
-
-				Matcher matcher = pattern.matcher(text);
-				if (!matcher.find() && !pMonitor.isCanceled()) {
-					return;
-				}
-				countDownLatch.countDown();
+		IStreamListener listener = (text, monitor) -> {
+			if (text != null && pattern.matcher(text).find()) {
+				matched.complete(Boolean.TRUE);
 			}
-		});
+		};
+		outputStreamMonitor.addListener(listener);
+		// output written before the listener was added
+		listener.streamAppended(outputStreamMonitor.getContents(), outputStreamMonitor);
+		new ProcessObserver(process).observe().thenRun(() -> matched.complete(Boolean.FALSE));
+		// listeners are not removed while they are notified
+		matched.whenCompleteAsync((result, e) -> outputStreamMonitor.removeListener(listener));
+		return matched;
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2021 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ package org.eclipse.debug.tests;
 import org.eclipse.debug.tests.breakpoint.BreakpointOrderingTests;
 import org.eclipse.debug.tests.breakpoint.BreakpointTests;
 import org.eclipse.debug.tests.breakpoint.SerialExecutorTest;
+import org.eclipse.debug.tests.console.AnsiConsoleStyleTests;
 import org.eclipse.debug.tests.console.ConsoleDocumentAdapterTests;
 import org.eclipse.debug.tests.console.ConsoleManagerTests;
 import org.eclipse.debug.tests.console.ConsoleTests;
@@ -31,6 +32,7 @@ import org.eclipse.debug.tests.console.ProcessConsoleTests;
 import org.eclipse.debug.tests.console.RuntimeProcessTests;
 import org.eclipse.debug.tests.console.StreamsProxyTests;
 import org.eclipse.debug.tests.console.TextConsoleViewerTest;
+import org.eclipse.debug.tests.events.DebugEventDispatchTests;
 import org.eclipse.debug.tests.launching.AcceleratorSubstitutionTests;
 import org.eclipse.debug.tests.launching.ArgumentParsingTests;
 import org.eclipse.debug.tests.launching.LaunchConfigurationTests;
@@ -106,6 +108,9 @@ import org.junit.runners.Suite;
 		ArgumentParsingTests.class,
 		LaunchTests.class,
 
+		// Debug events
+		DebugEventDispatchTests.class,
+
 		// Status handlers
 		StatusHandlerTests.class,
 
@@ -113,6 +118,7 @@ import org.junit.runners.Suite;
 		StepFiltersTests.class,
 
 		// Console view
+		AnsiConsoleStyleTests.class,
 		ConsoleDocumentAdapterTests.class,
 		ConsoleManagerTests.class,
 		ConsoleTests.class,
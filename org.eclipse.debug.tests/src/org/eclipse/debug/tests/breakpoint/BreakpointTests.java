@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 Paul Pazderski and others.
+ * Copyright (c) 2020, 2026 Paul Pazderski and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,17 +16,34 @@ package org.eclipse.debug.tests.breakpoint;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.commands.operations.IOperationHistory;
 import org.eclipse.core.commands.operations.IUndoContext;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IMarkerDelta;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IBreakpointManager;
+import org.eclipse.debug.core.IBreakpointsListener;
 import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.debug.internal.core.BreakpointManager;
+import org.eclipse.debug.internal.core.IInternalDebugCoreConstants;
+import org.eclipse.debug.internal.core.Preferences;
 import org.eclipse.debug.internal.ui.DebugUIPlugin;
+import org.eclipse.debug.internal.ui.actions.breakpoints.BreakpointEnablement;
 import org.eclipse.debug.internal.ui.views.breakpoints.BreakpointsView;
 import org.eclipse.debug.tests.AbstractDebugTest;
 import org.eclipse.debug.tests.TestUtil;
@@ -130,4 +147,244 @@ public class BreakpointTests extends AbstractDebugTest {
 			}
 		}
 	}
+
+	/**
+	 * Tests the lookup of registered breakpoints by model identifier, resource
+	 * and line, including a line change of the breakpoint marker.
+	 */
+	@Test
+	public void testIndexedLookup() throws Exception {
+		BreakpointManager manager = (BreakpointManager) bpm;
+		TestBreakpoint bp = new TestBreakpoint("indexed"); //$NON-NLS-1$
+		IResource resource = bp.getMarker().getResource();
+		bp.getMarker().setAttribute(IMarker.LINE_NUMBER, 7);
+		bpm.addBreakpoint(bp);
+		assertTrue(Arrays.asList(bpm.getBreakpoints(TestBreakpoint.MODEL)).contains(bp));
+		assertTrue(Arrays.asList(manager.getBreakpoints(resource)).contains(bp));
+		assertTrue(Arrays.asList(manager.getBreakpoints(resource, 7)).contains(bp));
+		assertFalse(Arrays.asList(manager.getBreakpoints(resource, 9)).contains(bp));
+
+		bp.getMarker().setAttribute(IMarker.LINE_NUMBER, 9);
+		TestUtil.waitWhile(c -> !Arrays.asList(manager.getBreakpoints(resource, 9)).contains(bp), this, testTimeout, c -> "Line change not indexed"); //$NON-NLS-1$
+		assertFalse(Arrays.asList(manager.getBreakpoints(resource, 7)).contains(bp));
+
+		bpm.removeBreakpoint(bp, true);
+		assertFalse(Arrays.asList(bpm.getBreakpoints(TestBreakpoint.MODEL)).contains(bp));
+		assertFalse(Arrays.asList(manager.getBreakpoints(resource)).contains(bp));
+		assertFalse(Arrays.asList(manager.getBreakpoints(resource, 9)).contains(bp));
+	}
+
+	/**
+	 * Tests that attributes of several breakpoints are set in one operation
+	 * with a single change notification.
+	 */
+	@Test
+	public void testSetAttributes() throws Exception {
+		List<TestBreakpoint> breakpoints = new ArrayList<>();
+		Map<IBreakpoint, Map<String, Boolean>> attributes = new LinkedHashMap<>();
+		for (int i = 0; i < 3; i++) {
+			TestBreakpoint bp = new TestBreakpoint("batch" + i); //$NON-NLS-1$
+			bpm.addBreakpoint(bp);
+			breakpoints.add(bp);
+			attributes.put(bp, Collections.singletonMap(IBreakpoint.ENABLED, Boolean.TRUE));
+		}
+		List<IBreakpoint[]> notifications = Collections.synchronizedList(new ArrayList<>());
+		IBreakpointsListener listener = new IBreakpointsListener() {
+			@Override
+			public void breakpointsAdded(IBreakpoint[] added) {
+			}
+
+			@Override
+			public void breakpointsRemoved(IBreakpoint[] removed, IMarkerDelta[] deltas) {
+			}
+
+			@Override
+			public void breakpointsChanged(IBreakpoint[] changed, IMarkerDelta[] deltas) {
+				notifications.add(changed);
+			}
+		};
+		bpm.addBreakpointListener(listener);
+		try {
+			bpm.setAttributes(attributes);
+			TestUtil.waitWhile(c -> notifications.isEmpty(), this, testTimeout, c -> "No change notification"); //$NON-NLS-1$
+			assertEquals("Changes should be notified at once", 1, notifications.size()); //$NON-NLS-1$
+			assertEquals(3, notifications.get(0).length);
+			for (TestBreakpoint bp : breakpoints) {
+				assertTrue("Breakpoint should be enabled", bp.isEnabled()); //$NON-NLS-1$
+			}
+		} finally {
+			bpm.removeBreakpointListener(listener);
+		}
+	}
+
+	/**
+	 * Tests that enabling breakpoints at once calls the setter of breakpoints
+	 * overriding {@link TestBreakpoint#setEnabled(boolean)}.
+	 */
+	@Test
+	public void testSetBreakpointsEnabled() throws Exception {
+		AtomicInteger setterCalls = new AtomicInteger();
+		TestBreakpoint plain = new TestBreakpoint("plain"); //$NON-NLS-1$
+		TestBreakpoint overriding = new TestBreakpoint("overriding") { //$NON-NLS-1$
+			@Override
+			public void setEnabled(boolean enabled) throws CoreException {
+				setterCalls.incrementAndGet();
+				super.setEnabled(enabled);
+			}
+		};
+		bpm.addBreakpoint(plain);
+		bpm.addBreakpoint(overriding);
+
+		BreakpointEnablement.setEnabled(new IBreakpoint[] { plain, overriding }, true);
+		assertTrue("Breakpoint should be enabled", plain.isEnabled()); //$NON-NLS-1$
+		assertTrue("Breakpoint should be enabled", overriding.isEnabled()); //$NON-NLS-1$
+		assertEquals("Overriding setter should be called once", 1, setterCalls.get()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the cached attributes of a registered breakpoint match the
+	 * attributes of its marker after changes through the breakpoint and
+	 * directly on the marker.
+	 */
+	@Test
+	public void testCachedAttributes() throws Exception {
+		BreakpointManager manager = (BreakpointManager) bpm;
+		TestBreakpoint bp = new TestBreakpoint("cached"); //$NON-NLS-1$
+		bpm.addBreakpoint(bp);
+		IMarker marker = bp.getMarker();
+		assertNotNull(manager.getMarkerAttributes(bp));
+		assertCachedAttributes(bp);
+
+		bp.setEnabled(!bp.isEnabled());
+		assertCachedAttributes(bp);
+		bp.setTriggerPoint(true);
+		assertCachedAttributes(bp);
+		bp.setPersisted(false);
+		assertCachedAttributes(bp);
+
+		boolean enabled = bp.isEnabled();
+		marker.setAttribute(IBreakpoint.ENABLED, !enabled);
+		TestUtil.waitWhile(c -> bp.isEnabled() == enabled, this, testTimeout, c -> "Marker change not cached"); //$NON-NLS-1$
+		assertCachedAttributes(bp);
+
+		bp.setRegistered(false);
+		assertFalse(bp.isRegistered());
+		assertNull(manager.getMarkerAttributes(bp));
+		bp.delete();
+	}
+
+	/**
+	 * Tests that a breakpoint whose marker was deleted is not registered even
+	 * though the marker delta did not arrive yet.
+	 */
+	@Test
+	public void testDeletedMarkerNotRegistered() throws Exception {
+		TestBreakpoint bp = new TestBreakpoint("deleted"); //$NON-NLS-1$
+		bpm.addBreakpoint(bp);
+		assertNotNull(((BreakpointManager) bpm).getMarkerAttributes(bp));
+		AtomicBoolean registered = new AtomicBoolean(true);
+		ResourcesPlugin.getWorkspace().run(monitor -> {
+			bp.getMarker().delete();
+			registered.set(bp.isRegistered());
+		}, null);
+		assertFalse("Breakpoint with deleted marker registered", registered.get()); //$NON-NLS-1$
+	}
+
+	private static void assertCachedAttributes(TestBreakpoint bp) throws Exception {
+		IMarker marker = bp.getMarker();
+		assertEquals(marker.getAttribute(IBreakpoint.ENABLED, false), bp.isEnabled());
+		assertEquals(marker.getAttribute(IBreakpoint.PERSISTED, true), bp.isPersisted());
+		assertEquals(marker.getAttribute(IBreakpoint.REGISTERED, true), bp.isRegistered());
+		assertEquals(marker.getAttribute(IBreakpoint.TRIGGERPOINT, false), bp.isTriggerPoint());
+	}
+
+	/**
+	 * Tests that a breakpoint manager restoring breakpoints lazily creates the
+	 * breakpoints of a model once they are requested.
+	 */
+	@Test
+	public void testLazyRestore() throws Exception {
+		TestBreakpoint bp = new TestBreakpoint("lazy"); //$NON-NLS-1$
+		bpm.addBreakpoint(bp);
+		BreakpointManager manager = new BreakpointManager();
+		try {
+			Preferences.setBoolean(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_RESTORE_BREAKPOINTS_LAZILY, true, InstanceScope.INSTANCE);
+			manager.ensureInitialized();
+			assertTrue(manager.hasBreakpoints());
+			assertNull("Breakpoint should not be restored", manager.getMarkerAttributes(bp)); //$NON-NLS-1$
+			assertTrue(Arrays.asList(manager.getBreakpoints(TestBreakpoint.MODEL)).contains(bp));
+			assertNotNull("Breakpoint should be restored", manager.getMarkerAttributes(bp)); //$NON-NLS-1$
+		} finally {
+			manager.shutdown();
+			Preferences.setBoolean(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_RESTORE_BREAKPOINTS_LAZILY, false, InstanceScope.INSTANCE);
+		}
+	}
+
+	/**
+	 * Tests that a breakpoint manager restoring breakpoints lazily loads the
+	 * breakpoints of markers without model identifier right away.
+	 */
+	@Test
+	public void testLazyRestoreWithoutModel() throws Exception {
+		TestBreakpoint bp = new TestBreakpoint("no model"); //$NON-NLS-1$
+		bpm.addBreakpoint(bp);
+		bp.getMarker().setAttribute(IBreakpoint.ID, null);
+		BreakpointManager manager = new BreakpointManager();
+		try {
+			Preferences.setBoolean(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_RESTORE_BREAKPOINTS_LAZILY, true, InstanceScope.INSTANCE);
+			manager.ensureInitialized();
+			assertNotNull("Breakpoint should be loaded", manager.getMarkerAttributes(bp)); //$NON-NLS-1$
+			assertTrue(Arrays.asList(manager.getBreakpoints(TestBreakpoint.MODEL)).contains(bp));
+		} finally {
+			manager.shutdown();
+			Preferences.setBoolean(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_RESTORE_BREAKPOINTS_LAZILY, false, InstanceScope.INSTANCE);
+		}
+	}
+
+	/**
+	 * Tests that delayed breakpoint notifications are merged to their net
+	 * effect per breakpoint.
+	 */
+	@Test
+	public void testCoalescedNotification() throws Exception {
+		List<IBreakpoint> added = Collections.synchronizedList(new ArrayList<>());
+		List<IBreakpoint> removed = Collections.synchronizedList(new ArrayList<>());
+		List<IBreakpoint> changed = Collections.synchronizedList(new ArrayList<>());
+		IBreakpointsListener listener = new IBreakpointsListener() {
+			@Override
+			public void breakpointsAdded(IBreakpoint[] breakpoints) {
+				added.addAll(Arrays.asList(breakpoints));
+			}
+
+			@Override
+			public void breakpointsRemoved(IBreakpoint[] breakpoints, IMarkerDelta[] deltas) {
+				removed.addAll(Arrays.asList(breakpoints));
+			}
+
+			@Override
+			public void breakpointsChanged(IBreakpoint[] breakpoints, IMarkerDelta[] deltas) {
+				changed.addAll(Arrays.asList(breakpoints));
+			}
+		};
+		bpm.addBreakpointListener(listener);
+		try {
+			Preferences.setInt(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_BREAKPOINT_NOTIFICATION_DELAY, 2000, InstanceScope.INSTANCE);
+			TestBreakpoint kept = new TestBreakpoint("kept"); //$NON-NLS-1$
+			TestBreakpoint dropped = new TestBreakpoint("dropped"); //$NON-NLS-1$
+			bpm.addBreakpoint(kept);
+			bpm.addBreakpoint(dropped);
+			kept.setEnabled(!kept.isEnabled());
+			kept.setEnabled(!kept.isEnabled());
+			bpm.removeBreakpoint(dropped, true);
+			assertTrue("Notification should be delayed", added.isEmpty()); //$NON-NLS-1$
+
+			TestUtil.waitWhile(c -> added.isEmpty(), this, testTimeout, c -> "No add notification"); //$NON-NLS-1$
+			assertEquals(Collections.singletonList(kept), added);
+			assertTrue("Changes should be part of the add", changed.isEmpty()); //$NON-NLS-1$
+			assertTrue("Removed breakpoint was never added", removed.isEmpty()); //$NON-NLS-1$
+		} finally {
+			Preferences.setInt(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_BREAKPOINT_NOTIFICATION_DELAY, 0, InstanceScope.INSTANCE);
+			bpm.removeBreakpointListener(listener);
+		}
+	}
 }
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.console;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.eclipse.jface.text.DefaultPositionUpdater;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.StyleRange;
+import org.eclipse.ui.internal.console.ansi.participants.AnsiPosition;
+import org.eclipse.ui.internal.console.ansi.participants.AnsiPositionIndex;
+import org.eclipse.ui.internal.console.ansi.participants.AnsiStyleCache;
+import org.eclipse.ui.internal.console.ansi.utils.AnsiConsoleAttributes;
+import org.junit.Test;
+
+/**
+ * Tests the data structures used to style ANSI console output.
+ */
+@SuppressWarnings("restriction")
+public class AnsiConsoleStyleTests extends AbstractDebugTest {
+
+	private static final String RESET = "\u001b[0m"; //$NON-NLS-1$
+	private static final String RED = "\u001b[31m"; //$NON-NLS-1$
+	private static final String BOLD = "\u001b[1m"; //$NON-NLS-1$
+	private static final String ERASE_LINE = "\u001b[K"; //$NON-NLS-1$
+
+	/**
+	 * Test that extending the position index on append gives the same result
+	 * as rebuilding it.
+	 */
+	@Test
+	public void testPositionIndexExtendedOnAppend() {
+		final AnsiConsoleAttributes initial = new AnsiConsoleAttributes();
+		final List<AnsiPosition> positions = new ArrayList<>();
+		positions.add(new AnsiPosition(0, RESET));
+		positions.add(new AnsiPosition(10, RED));
+		final AnsiPositionIndex index = new AnsiPositionIndex();
+		index.reset(positions.toArray(new AnsiPosition[0]), initial);
+
+		// appended output
+		final AnsiPosition erase = new AnsiPosition(30, ERASE_LINE);
+		final AnsiPosition bold = new AnsiPosition(40, BOLD);
+		positions.add(erase);
+		positions.add(bold);
+		index.add(erase);
+		index.add(bold);
+
+		final AnsiPositionIndex rebuilt = new AnsiPositionIndex();
+		rebuilt.reset(positions.toArray(new AnsiPosition[0]), initial);
+		assertEquals("Wrong index size.", rebuilt.size(), index.size());
+		for (int i = 0; i <= index.size(); i++) {
+			assertSame("Wrong attributes before position " + i, rebuilt.getAttributesBefore(i), index.getAttributesBefore(i));
+		}
+		for (int offset = 0; offset < 50; offset++) {
+			assertEquals("Wrong position found for offset " + offset, rebuilt.findFirstEndingAfter(offset), index.findFirstEndingAfter(offset));
+		}
+		assertSame("Initial attributes not used.", initial, index.getAttributesBefore(0));
+		assertSame("Escape without attributes must keep previous attributes.", positions.get(1).attributes, index.getAttributesBefore(3));
+		assertEquals("Position ending at offset not skipped.", 2, index.findFirstEndingAfter(10 + RED.length()));
+		assertEquals("Position containing offset not found.", 2, index.findFirstEndingAfter(31));
+		assertEquals("Offset after last position.", 4, index.findFirstEndingAfter(45));
+	}
+
+	/**
+	 * Test that the position index follows offset updates of the document and
+	 * is correct after rebuilding it once positions were removed.
+	 */
+	@Test
+	public void testPositionIndexRebuild() throws Exception {
+		final IDocument document = new Document("a" + RESET + "b" + RED + "c" + BOLD + "d"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		document.addPositionCategory(AnsiPosition.POSITION_NAME);
+		document.addPositionUpdater(new DefaultPositionUpdater(AnsiPosition.POSITION_NAME));
+		final AnsiPosition reset = new AnsiPosition(1, RESET);
+		final AnsiPosition red = new AnsiPosition(reset.offset + reset.length + 1, RED);
+		final AnsiPosition bold = new AnsiPosition(red.offset + red.length + 1, BOLD);
+		document.addPosition(AnsiPosition.POSITION_NAME, reset);
+		document.addPosition(AnsiPosition.POSITION_NAME, red);
+		document.addPosition(AnsiPosition.POSITION_NAME, bold);
+		final AnsiPositionIndex index = new AnsiPositionIndex();
+		index.reset(document.getPositions(AnsiPosition.POSITION_NAME), null);
+
+		// trim the beginning of the console, removes the first escape
+		final int trimmed = reset.offset + reset.length + 1;
+		document.replace(0, trimmed, ""); //$NON-NLS-1$
+		assertEquals("Remaining positions not moved.", 0, red.offset);
+		assertEquals("Stale index expected to contain removed position.", 3, index.size());
+
+		index.reset(document.getPositions(AnsiPosition.POSITION_NAME), reset.attributes);
+		assertEquals("Wrong index size after rebuild.", 2, index.size());
+		assertSame("Wrong first position after rebuild.", red, index.get(0));
+		assertSame("Attributes of removed position lost.", reset.attributes, index.getAttributesBefore(0));
+		assertEquals("Wrong position found after rebuild.", 0, index.findFirstEndingAfter(0));
+		assertEquals("Wrong position found after rebuild.", 1, index.findFirstEndingAfter(red.length));
+		assertSame("Wrong attributes after rebuild.", bold.attributes, index.getAttributesBefore(2));
+	}
+
+	/**
+	 * Test that the style cache evicts the least recently used line.
+	 */
+	@Test
+	public void testStyleCacheEviction() {
+		final AnsiStyleCache cache = new AnsiStyleCache(2);
+		final StyleRange[] styles = { new StyleRange(0, 5, null, null) };
+		cache.put(0, 5, null, styles);
+		cache.put(6, 5, null, styles);
+		// use first line so the second one is least recently used
+		assertNotNull("Cached styles not found.", cache.get(0, 5, null));
+		cache.put(12, 5, null, styles);
+
+		assertEquals("Cache exceeds capacity.", 2, cache.size());
+		assertNotNull("Recently used line evicted.", cache.get(0, 5, null));
+		assertNull("Least recently used line not evicted.", cache.get(6, 5, null));
+		assertNotNull("Added line evicted.", cache.get(12, 5, null));
+
+		cache.clear();
+		assertEquals("Cache not cleared.", 0, cache.size());
+	}
+
+	/**
+	 * Test that cached styles are only used for the same line length and the
+	 * same styles provided by other listeners.
+	 */
+	@Test
+	public void testStyleCacheKeyedOnIncomingStyles() {
+		final AnsiStyleCache cache = new AnsiStyleCache(10);
+		final StyleRange[] styles = { new StyleRange(0, 5, null, null, SWT.BOLD) };
+		cache.put(0, 5, null, styles);
+
+		assertArrayEquals("Cached styles not returned.", styles, cache.get(0, 5, null));
+		assertNull("Styles of line with different length returned.", cache.get(0, 6, null));
+		final StyleRange[] link = { new StyleRange(1, 3, null, null) };
+		assertNull("Styles computed without incoming styles returned.", cache.get(0, 5, link));
+
+		cache.put(0, 5, link, styles);
+		final StyleRange[] sameLink = { new StyleRange(1, 3, null, null) };
+		assertArrayEquals("Styles for equal incoming styles not returned.", styles, cache.get(0, 5, sameLink));
+		assertNull("Styles for outdated incoming styles returned.", cache.get(0, 5, null));
+
+		final StyleRange[] returned = cache.get(0, 5, link);
+		returned[0] = null;
+		assertArrayEquals("Cached styles modified through returned array.", styles, cache.get(0, 5, link));
+	}
+}
@@ -21,10 +21,15 @@ import static org.junit.Assert.fail;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.eclipse.core.commands.Command;
 import org.eclipse.debug.tests.AbstractDebugTest;
 import org.eclipse.debug.tests.TestUtil;
+import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.ui.IViewPart;
 import org.eclipse.ui.IWorkbenchCommandConstants;
@@ -37,7 +42,10 @@ import org.eclipse.ui.console.IConsoleConstants;
 import org.eclipse.ui.console.IConsoleManager;
 import org.eclipse.ui.console.IOConsole;
 import org.eclipse.ui.console.IOConsoleOutputStream;
+import org.eclipse.ui.console.IPatternMatchListener;
 import org.eclipse.ui.console.MessageConsole;
+import org.eclipse.ui.console.PatternMatchEvent;
+import org.eclipse.ui.console.TextConsole;
 import org.eclipse.ui.texteditor.IWorkbenchActionDefinitionIds;
 import org.junit.Test;
 
@@ -229,4 +237,75 @@ public class ConsoleTests extends AbstractDebugTest {
 			consoleInput.available();
 		}
 	}
+
+	/**
+	 * Tests pattern match listeners with literal line qualifiers which share a
+	 * prefix and output appended in incomplete lines.
+	 */
+	@Test
+	public void testPatternMatchListenersWithLiteralQualifiers() throws Exception {
+		MessageConsole console = new MessageConsole("Test Console 7", //$NON-NLS-1$
+				IConsoleConstants.MESSAGE_CONSOLE_TYPE, null, StandardCharsets.UTF_8.name(), true);
+		List<String> frames = Collections.synchronizedList(new ArrayList<>());
+		List<String> orgFrames = Collections.synchronizedList(new ArrayList<>());
+		console.addPatternMatchListener(new TestPatternMatchListener("at \\w+", "at ", frames, console)); //$NON-NLS-1$ //$NON-NLS-2$
+		console.addPatternMatchListener(new TestPatternMatchListener("at org\\.\\w+", "at org\\.", orgFrames, console)); //$NON-NLS-1$ //$NON-NLS-2$
+		try (IOConsoleOutputStream outStream = console.newOutputStream()) {
+			outStream.write("Exception\n\tat foo\n\ta"); //$NON-NLS-1$
+			TestUtil.waitForJobs(name.getMethodName(), 200, 5000);
+			outStream.write("t org.bar\n\tat baz\n"); //$NON-NLS-1$
+			TestUtil.waitForJobs(name.getMethodName(), 200, 5000);
+		}
+		assertEquals("Unexpected matches", Arrays.asList("at foo", "at org", "at baz"), frames); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		assertEquals("Unexpected matches", Arrays.asList("at org.bar"), orgFrames); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Pattern match listener which records the matched text.
+	 */
+	private static class TestPatternMatchListener implements IPatternMatchListener {
+		private final String pattern;
+		private final String qualifier;
+		private final List<String> matches;
+		private final TextConsole console;
+
+		TestPatternMatchListener(String pattern, String qualifier, List<String> matches, TextConsole console) {
+			this.pattern = pattern;
+			this.qualifier = qualifier;
+			this.matches = matches;
+			this.console = console;
+		}
+
+		@Override
+		public void connect(TextConsole textConsole) {
+		}
+
+		@Override
+		public void disconnect() {
+		}
+
+		@Override
+		public void matchFound(PatternMatchEvent event) {
+			try {
+				matches.add(console.getDocument().get(event.getOffset(), event.getLength()));
+			} catch (BadLocationException e) {
+				fail(e.getMessage());
+			}
+		}
+
+		@Override
+		public String getPattern() {
+			return pattern;
+		}
+
+		@Override
+		public int getCompilerFlags() {
+			return 0;
+		}
+
+		@Override
+		public String getLineQualifier() {
+			return qualifier;
+		}
+	}
 }
@@ -43,6 +43,7 @@ import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.debug.tests.AbstractDebugTest;
 import org.eclipse.debug.tests.TestUtil;
 import org.eclipse.debug.tests.TestsPlugin;
+import org.eclipse.jface.text.ITypedRegion;
 import org.eclipse.jface.util.PropertyChangeEvent;
 import org.eclipse.swt.custom.StyleRange;
 import org.eclipse.swt.custom.StyledText;
@@ -709,6 +710,65 @@ public class IOConsoleTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Test that partitions stay valid if the console is trimmed repeatedly
+	 * while output is appended.
+	 */
+	@Test
+	public void testRepeatedTrim() throws Exception {
+		final IOConsoleTestUtil c = getTestUtil("Test repeated trim");
+		try (IOConsoleOutputStream otherOut = c.getConsole().newOutputStream()) {
+			c.getConsole().setWaterMarks(100, 200);
+			for (int i = 0; i < 50; i++) {
+				c.writeFast("line " + i + "\n", (i & 1) == 0 ? c.getDefaultOutputStream() : otherOut);
+				if (i % 10 == 9) {
+					c.waitForScheduledJobs();
+					c.verifyPartitions();
+					assertTrue("Document not trimmed.", c.getContentLength() <= 200);
+				}
+			}
+			c.write("last\n");
+			c.verifyContentByLine("last", -2).verifyPartitions();
+			final ITypedRegion[] partitioning = c.getDocument().computePartitioning(0, c.getContentLength());
+			assertEquals("First partition does not start at document start.", 0, partitioning[0].getOffset());
+		}
+		closeConsole(c);
+	}
+
+	/**
+	 * Test that output written from a background thread is appended in order and
+	 * partitioned by stream, also if it is mixed with output requiring control
+	 * character interpretation.
+	 */
+	@Test
+	public void testBackgroundOutput() throws Exception {
+		final IOConsoleTestUtil c = getTestUtil("Test background output");
+		final StringBuilder expected = new StringBuilder();
+		try (IOConsoleOutputStream otherOut = c.getConsole().newOutputStream()) {
+			final Thread writer = new Thread(() -> {
+				try {
+					for (int i = 0; i < 200; i++) {
+						c.writeFast("out" + i + "\n", (i % 3) == 0 ? otherOut : c.getDefaultOutputStream());
+						if (i % 50 == 0) {
+							c.writeFast("x\b");
+						}
+					}
+				} catch (IOException e) {
+					throw new AssertionError(e);
+				}
+			});
+			for (int i = 0; i < 200; i++) {
+				expected.append("out").append(i).append('\n');
+			}
+			writer.start();
+			writer.join(10000);
+			assertFalse("Writer did not finish.", writer.isAlive());
+			c.waitForScheduledJobs();
+			c.verifyContent(expected.toString()).verifyPartitions();
+		}
+		closeConsole(c);
+	}
+
 	/**
 	 * Some extra tests for IOConsolePartitioner.
 	 */
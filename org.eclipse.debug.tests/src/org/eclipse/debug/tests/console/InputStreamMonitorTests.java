@@ -22,10 +22,13 @@ import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
 import java.nio.charset.Charset;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.debug.internal.core.InputStreamMonitor;
+import org.eclipse.debug.internal.core.StreamMonitorExecutor;
 import org.eclipse.debug.tests.AbstractDebugTest;
 import org.eclipse.debug.tests.TestUtil;
 import org.eclipse.debug.tests.TestsPlugin;
@@ -139,6 +142,36 @@ public class InputStreamMonitorTests extends AbstractDebugTest {
 		assertEquals("Leaked monitor threads.", 0, (long) getInputStreamMonitorThreads.get());
 	}
 
+	/**
+	 * Test that the monitor only occupies an executor task while output is
+	 * pending.
+	 */
+	@Test
+	@SuppressWarnings("resource")
+	public void testWriteTaskOnDemand() throws Exception {
+		AtomicInteger tasks = new AtomicInteger();
+		Executor executor = StreamMonitorExecutor.getExecutor();
+		StreamMonitorExecutor.setExecutor(task -> {
+			tasks.incrementAndGet();
+			executor.execute(task);
+		});
+		PipedInputStream sysin = new PipedInputStream();
+		InputStreamMonitor monitor = new InputStreamMonitor(new PipedOutputStream(sysin));
+		try {
+			monitor.startMonitoring();
+			assertEquals("Write task started without pending output.", 0, tasks.get());
+			byte[] content = new byte[] { 1, 2, 3 };
+			monitor.write(content, 0, content.length);
+			byte[] readBack = new byte[content.length];
+			assertEquals("Monitor wrote to few bytes.", content.length, sysin.read(readBack));
+			assertArrayEquals("Monitor wrote wrong content.", content, readBack);
+			assertEquals("Unexpected number of write tasks.", 1, tasks.get());
+		} finally {
+			monitor.close();
+			StreamMonitorExecutor.setExecutor(executor);
+		}
+	}
+
 	/**
 	 * Extension of output stream to log calls to {@link #close()}.
 	 */
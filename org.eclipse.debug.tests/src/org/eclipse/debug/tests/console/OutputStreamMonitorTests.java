@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 Paul Pazderski and others.
+ * Copyright (c) 2020, 2026 Paul Pazderski and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.debug.tests.console;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -24,6 +25,7 @@ import java.io.PipedOutputStream;
 import java.io.PrintStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.debug.core.IBinaryStreamListener;
 import org.eclipse.debug.core.IStreamListener;
@@ -185,6 +187,72 @@ public class OutputStreamMonitorTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Test that the buffer limit discards the oldest content and keeps at
+	 * least the configured number of bytes.
+	 */
+	@Test
+	public void testBufferLimit() throws Exception {
+		final int limit = 20000;
+		final int total = 100000;
+		byte[] input = new byte[total];
+		for (int i = 0; i < input.length; i++) {
+			input[i] = (byte) ('a' + i % 26);
+		}
+		try {
+			monitor.addBinaryListener(fBinaryListener);
+			monitor.setBufferLimit(limit);
+			monitor.startMonitoring();
+			sysout.write(input);
+			sysout.flush();
+			TestUtil.waitWhile(() -> notifiedBytes.size() < total, 1000);
+
+			byte[] data = monitor.getData();
+			assertTrue("Buffer retained less than limit.", data.length >= limit);
+			assertTrue("Buffer retained too much content.", data.length < total);
+			assertEquals("Wrong number of dropped bytes.", total - data.length, monitor.getDroppedBytes());
+			byte[] expected = new byte[data.length];
+			System.arraycopy(input, total - data.length, expected, 0, expected.length);
+			assertArrayEquals("Buffer did not retain the latest content.", expected, data);
+			assertEquals("Decoded and binary content differ.", new String(expected, StandardCharsets.UTF_8), monitor.getContents());
+			assertArrayEquals("Notified content is incomplete.", input, notifiedBytes.toByteArray());
+		} finally {
+			sysout.close();
+			monitor.close();
+		}
+	}
+
+	/**
+	 * Test that batched notification delivers the complete content to
+	 * listeners and buffer.
+	 */
+	@Test
+	public void testBatchedNotification() throws Exception {
+		String input = "o\u00F6O\u00EFiI\u00D6\u00D8\u00F8";
+		byte[] byteInput = input.getBytes(StandardCharsets.UTF_8);
+		try {
+			monitor.addBinaryListener(fBinaryListener);
+			monitor.addListener(fStreamListener);
+			AtomicInteger notifications = new AtomicInteger();
+			monitor.addBinaryListener((data, mon) -> notifications.incrementAndGet());
+			monitor.setBatching(2000, 65536);
+			monitor.startMonitoring();
+			for (int i = 0; i < byteInput.length; i++) {
+				sysout.write(byteInput[i]);
+				sysout.flush();
+			}
+			TestUtil.waitWhile(() -> notifiedBytes.size() < byteInput.length, 5000);
+			assertTrue("Burst of small writes should be delivered in few batches, was " + notifications.get(), notifications.get() <= 2); //$NON-NLS-1$
+			assertArrayEquals("Wrong binary content through listener.", byteInput, notifiedBytes.toByteArray());
+			assertEquals("Wrong content through listener.", input, notifiedChars.toString());
+			assertArrayEquals("Monitor read wrong binary content.", byteInput, monitor.getData());
+			assertEquals("Monitor read wrong content.", input, monitor.getContents());
+		} finally {
+			sysout.close();
+			monitor.close();
+		}
+	}
+
 	/**
 	 * {@link OutputStreamMonitor} with public {@link #startMonitoring()} for
 	 * testing.
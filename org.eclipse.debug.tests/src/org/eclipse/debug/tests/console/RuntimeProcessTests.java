@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, 2022 Paul Pazderski and others.
+ * Copyright (c) 2020, 2026 Paul Pazderski and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ package org.eclipse.debug.tests.console;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
@@ -23,15 +24,20 @@ import java.io.InputStream;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunch;
+import org.eclipse.debug.core.ILaunchManager;
 import org.eclipse.debug.core.model.IProcess;
 import org.eclipse.debug.core.model.RuntimeProcess;
 import org.eclipse.debug.internal.core.DebugCoreMessages;
+import org.eclipse.debug.internal.core.TerminationNotifier;
 import org.eclipse.debug.tests.AbstractDebugTest;
 import org.eclipse.debug.tests.TestUtil;
 import org.eclipse.debug.tests.sourcelookup.TestLaunch;
@@ -70,6 +76,52 @@ public class RuntimeProcessTests extends AbstractDebugTest {
 		assertEquals("RuntimeProcess reported wrong exit code.", 1, runtimeProcess.getExitValue());
 	}
 
+	/**
+	 * Test that {@link TerminationNotifier} completes its futures when a
+	 * {@link RuntimeProcess} terminates.
+	 */
+	@Test
+	public void testTerminationNotifier() throws Exception {
+		MockProcess mockProcess = new MockProcess(MockProcess.RUN_FOREVER);
+		RuntimeProcess runtimeProcess = mockProcess.toRuntimeProcess();
+
+		CompletableFuture<IProcess> termination = TerminationNotifier.whenTerminated(runtimeProcess);
+		CompletableFuture<IProcess> canceled = TerminationNotifier.whenTerminated(runtimeProcess);
+		assertFalse("Termination completed while running.", termination.isDone());
+		canceled.cancel(false);
+
+		mockProcess.destroy();
+
+		assertSame(runtimeProcess, termination.get(1, TimeUnit.SECONDS));
+		assertTrue("RuntimeProcess not terminated.", runtimeProcess.isTerminated());
+		assertTrue("Termination of terminated process not completed.", TerminationNotifier.whenTerminated(runtimeProcess).isDone());
+		assertTrue("Termination of launch not completed.", TerminationNotifier.whenTerminated(runtimeProcess.getLaunch()).isDone());
+	}
+
+	/**
+	 * Test that {@link TerminationNotifier} cancels the futures of a launch
+	 * removed before it terminated.
+	 */
+	@Test
+	public void testTerminationNotifierLaunchRemoved() throws Exception {
+		ILaunchManager launchManager = DebugPlugin.getDefault().getLaunchManager();
+		MockProcess mockProcess = new MockProcess(MockProcess.RUN_FOREVER);
+		RuntimeProcess runtimeProcess = mockProcess.toRuntimeProcess("testTerminationNotifierLaunchRemoved", null);
+		ILaunch launch = runtimeProcess.getLaunch();
+		launchManager.addLaunch(launch);
+		try {
+			CompletableFuture<IProcess> processTermination = TerminationNotifier.whenTerminated(runtimeProcess);
+			CompletableFuture<ILaunch> launchTermination = TerminationNotifier.whenTerminated(launch);
+			launchManager.removeLaunch(launch);
+
+			TestUtil.waitWhile(() -> !processTermination.isDone() || !launchTermination.isDone(), testTimeout);
+			assertTrue("Termination of process of removed launch not canceled.", processTermination.isCompletedExceptionally());
+			assertTrue("Termination of removed launch not canceled.", launchTermination.isCompletedExceptionally());
+		} finally {
+			mockProcess.destroy();
+		}
+	}
+
 	/** Test {@link RuntimeProcess} terminating the wrapped process. */
 	@Test
 	public void testTerminateProcess() throws Exception {
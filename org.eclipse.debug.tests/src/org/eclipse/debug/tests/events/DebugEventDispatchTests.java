@@ -0,0 +1,271 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.events;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IDebugEventSetListener;
+import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.core.Launch;
+import org.eclipse.debug.internal.core.DebugEventMetrics;
+import org.eclipse.debug.internal.core.IInternalDebugCoreConstants;
+import org.eclipse.debug.internal.core.Preferences;
+import org.eclipse.debug.tests.AbstractDebugTest;
+import org.eclipse.debug.tests.TestUtil;
+import org.junit.Test;
+
+/**
+ * Tests the dispatching of debug events by {@link DebugPlugin}.
+ */
+public class DebugEventDispatchTests extends AbstractDebugTest {
+
+	/** The event sets received by the test listener. */
+	private final List<DebugEvent[]> received = new ArrayList<>();
+
+	private final IDebugEventSetListener listener = events -> {
+		synchronized (received) {
+			received.add(events);
+		}
+	};
+
+	/**
+	 * Waits until all event sets fired so far are dispatched.
+	 */
+	private void waitForDispatch() throws Exception {
+		AtomicBoolean done = new AtomicBoolean();
+		DebugPlugin.getDefault().asyncExec(() -> done.set(true));
+		TestUtil.waitWhile(() -> !done.get(), testTimeout);
+		assertEquals("Event dispatch did not finish.", true, done.get());
+	}
+
+	/**
+	 * Test that a filtered listener only receives matching events of matching
+	 * event sets.
+	 */
+	@Test
+	public void testFilteredSubscription() throws Exception {
+		DebugPlugin plugin = DebugPlugin.getDefault();
+		Launch launch1 = new Launch(null, ILaunchManager.RUN_MODE, null);
+		Launch launch2 = new Launch(null, ILaunchManager.RUN_MODE, null);
+		plugin.addDebugEventListener(listener, DebugEvent.CHANGE | DebugEvent.TERMINATE, 0, null, launch1);
+		try {
+			DebugEvent change1 = new DebugEvent(launch1, DebugEvent.CHANGE);
+			DebugEvent terminate1 = new DebugEvent(launch1, DebugEvent.TERMINATE);
+			plugin.fireDebugEventSet(new DebugEvent[] { change1 });
+			plugin.fireDebugEventSet(new DebugEvent[] { new DebugEvent(launch2, DebugEvent.CHANGE) });
+			plugin.fireDebugEventSet(new DebugEvent[] { new DebugEvent(launch1, DebugEvent.CREATE) });
+			plugin.fireDebugEventSet(new DebugEvent[] { new DebugEvent(launch1, DebugEvent.CREATE), terminate1 });
+			waitForDispatch();
+
+			synchronized (received) {
+				assertEquals("Wrong number of event sets received.", 2, received.size());
+				assertEquals("Wrong number of events in first set.", 1, received.get(0).length);
+				assertSame("Wrong event received.", change1, received.get(0)[0]);
+				assertEquals("Non matching events not removed from set.", 1, received.get(1).length);
+				assertSame("Wrong event received.", terminate1, received.get(1)[0]);
+			}
+		} finally {
+			plugin.removeDebugEventListener(listener);
+		}
+	}
+
+	/**
+	 * Test that registering a listener with and without filter replaces the
+	 * previous registration instead of notifying the listener twice.
+	 */
+	@Test
+	public void testReplacedSubscription() throws Exception {
+		DebugPlugin plugin = DebugPlugin.getDefault();
+		Launch launch = new Launch(null, ILaunchManager.RUN_MODE, null);
+		try {
+			plugin.addDebugEventListener(listener);
+			plugin.addDebugEventListener(listener, DebugEvent.CHANGE, 0, null, launch);
+			plugin.fireDebugEventSet(new DebugEvent[] { new DebugEvent(launch, DebugEvent.CHANGE) });
+			waitForDispatch();
+			synchronized (received) {
+				assertEquals("Filtered listener notified twice.", 1, received.size());
+				received.clear();
+			}
+
+			plugin.addDebugEventListener(listener);
+			plugin.fireDebugEventSet(new DebugEvent[] { new DebugEvent(launch, DebugEvent.CHANGE) });
+			waitForDispatch();
+			synchronized (received) {
+				assertEquals("Unfiltered listener notified twice.", 1, received.size());
+			}
+		} finally {
+			plugin.removeDebugEventListener(listener);
+		}
+	}
+
+	/**
+	 * Test that filtered and unfiltered listeners are notified in the order
+	 * they are registered.
+	 */
+	@Test
+	public void testNotificationOrder() throws Exception {
+		DebugPlugin plugin = DebugPlugin.getDefault();
+		Launch launch = new Launch(null, ILaunchManager.RUN_MODE, null);
+		List<String> order = new ArrayList<>();
+		IDebugEventSetListener filtered1 = events -> order.add("filtered1"); //$NON-NLS-1$
+		IDebugEventSetListener unfiltered = events -> {
+			if (events[0].getSource() == launch) {
+				order.add("unfiltered"); //$NON-NLS-1$
+			}
+		};
+		IDebugEventSetListener filtered2 = events -> order.add("filtered2"); //$NON-NLS-1$
+		plugin.addDebugEventListener(filtered1, DebugEvent.CHANGE, 0, null, launch);
+		plugin.addDebugEventListener(unfiltered);
+		plugin.addDebugEventListener(filtered2, DebugEvent.CHANGE, 0, null, launch);
+		try {
+			plugin.fireDebugEventSet(new DebugEvent[] { new DebugEvent(launch, DebugEvent.CHANGE) });
+			waitForDispatch();
+			assertEquals("Listeners not notified in registration order.", List.of("filtered1", "unfiltered", "filtered2"), order); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		} finally {
+			plugin.removeDebugEventListener(filtered1);
+			plugin.removeDebugEventListener(unfiltered);
+			plugin.removeDebugEventListener(filtered2);
+		}
+	}
+
+	/**
+	 * Test that a removed filtered listener is not notified anymore.
+	 */
+	@Test
+	public void testRemoveFilteredSubscription() throws Exception {
+		DebugPlugin plugin = DebugPlugin.getDefault();
+		Launch launch = new Launch(null, ILaunchManager.RUN_MODE, null);
+		plugin.addDebugEventListener(listener, DebugEvent.CHANGE);
+		plugin.removeDebugEventListener(listener);
+		plugin.fireDebugEventSet(new DebugEvent[] { new DebugEvent(launch, DebugEvent.CHANGE) });
+		waitForDispatch();
+		synchronized (received) {
+			assertEquals("Removed listener was notified.", 0, received.size());
+		}
+	}
+
+	/**
+	 * Test that event metrics record fired event sets, dispatch latency and
+	 * listener times.
+	 */
+	@Test
+	public void testEventMetrics() throws Exception {
+		DebugPlugin plugin = DebugPlugin.getDefault();
+		DebugEventMetrics metrics = DebugEventMetrics.getDefault();
+		boolean wasEnabled = metrics.isEnabled();
+		Launch launch = new Launch(null, ILaunchManager.RUN_MODE, null);
+		// other event sets may be fired concurrently, only count the ones of the test launch
+		plugin.addDebugEventListener(listener, DebugEvent.CHANGE, 0, null, launch);
+		try {
+			metrics.setEnabled(true);
+			metrics.reset();
+			for (int i = 0; i < 10; i++) {
+				plugin.fireDebugEventSet(new DebugEvent[] { new DebugEvent(launch, DebugEvent.CHANGE) });
+			}
+			waitForDispatch();
+
+			assertTrue("Wrong number of event sets counted.", metrics.getEventSetCount() >= 10);
+			assertTrue("Dispatch latency not recorded.", metrics.getDispatchLatency().getCount() >= 10);
+			assertEquals("Queue not drained.", 0, metrics.getQueueDepth());
+			DebugEventMetrics.Histogram times = metrics.getListenerTimes().get(listener.getClass().getName());
+			assertNotNull("Listener time not recorded.", times);
+			assertEquals("Wrong number of listener notifications recorded.", 10, times.getCount());
+		} finally {
+			metrics.setEnabled(wasEnabled);
+			metrics.reset();
+			plugin.removeDebugEventListener(listener);
+		}
+	}
+
+	/**
+	 * Test that identical single change events queued one after the other are
+	 * dispatched once if coalescing is enabled.
+	 */
+	@Test
+	public void testCoalescedChangeEvents() throws Exception {
+		assertEquals("Wrong number of change events dispatched.", 1, fireQueuedChangeEvents(true)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Test that identical single change events are all dispatched if
+	 * coalescing is disabled.
+	 */
+	@Test
+	public void testNonCoalescedChangeEvents() throws Exception {
+		assertEquals("Wrong number of change events dispatched.", 5, fireQueuedChangeEvents(false)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Fires five identical change events while the dispatch job is blocked,
+	 * such that they are queued together.
+	 *
+	 * @param coalesce whether change events are coalesced
+	 * @return the number of change events received
+	 */
+	private int fireQueuedChangeEvents(boolean coalesce) throws Exception {
+		DebugPlugin plugin = DebugPlugin.getDefault();
+		Launch blocker = new Launch(null, ILaunchManager.RUN_MODE, null);
+		Launch launch = new Launch(null, ILaunchManager.RUN_MODE, null);
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		IDebugEventSetListener blocking = events -> {
+			if (events[0].getSource() == blocker) {
+				blocked.countDown();
+				try {
+					release.await(testTimeout, TimeUnit.MILLISECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		};
+		plugin.addDebugEventListener(blocking);
+		plugin.addDebugEventListener(listener);
+		try {
+			Preferences.setBoolean(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_COALESCE_CHANGE_EVENTS, coalesce, InstanceScope.INSTANCE);
+			plugin.fireDebugEventSet(new DebugEvent[] { new DebugEvent(blocker, DebugEvent.CHANGE) });
+			assertTrue("Dispatch job not blocked.", blocked.await(testTimeout, TimeUnit.MILLISECONDS)); //$NON-NLS-1$
+			for (int i = 0; i < 5; i++) {
+				plugin.fireDebugEventSet(new DebugEvent[] { new DebugEvent(launch, DebugEvent.CHANGE) });
+			}
+			release.countDown();
+			waitForDispatch();
+			int count = 0;
+			synchronized (received) {
+				for (DebugEvent[] events : received) {
+					if (events[0].getSource() == launch) {
+						count++;
+					}
+				}
+			}
+			return count;
+		} finally {
+			release.countDown();
+			Preferences.setBoolean(DebugPlugin.getUniqueIdentifier(), IInternalDebugCoreConstants.PREF_COALESCE_CHANGE_EVENTS, false, InstanceScope.INSTANCE);
+			plugin.removeDebugEventListener(blocking);
+			plugin.removeDebugEventListener(listener);
+		}
+	}
+}
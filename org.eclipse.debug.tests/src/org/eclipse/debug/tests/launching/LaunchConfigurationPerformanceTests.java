@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.launching;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchConfigurationType;
+import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
+import org.eclipse.debug.internal.core.LaunchConfigurationInfo;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+import org.junit.Test;
+
+/**
+ * Measures reading and writing the XML of a launch configuration with many
+ * attributes.
+ */
+public class LaunchConfigurationPerformanceTests extends AbstractLaunchTest {
+
+	private static final int ATTRIBUTES = 100;
+
+	private static final int ENTRIES = 20;
+
+	/**
+	 * Exposes the XML methods of the info.
+	 */
+	private static class TestInfo extends LaunchConfigurationInfo {
+
+		void read(XMLInputFactory factory, String xml) throws Exception {
+			XMLStreamReader reader = factory.createXMLStreamReader(new StringReader(xml));
+			try {
+				initializeFromXML(reader);
+			} finally {
+				reader.close();
+			}
+		}
+
+		String write() throws Exception {
+			return getAsXML(System.lineSeparator());
+		}
+	}
+
+	public String getDefaultScenarioId() {
+		return this.getClass().getName() + '#' + name.getMethodName() + "()"; //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the XML of a saved configuration with string, integer, boolean,
+	 * list, set and map attributes.
+	 */
+	private String createConfigurationXML() throws Exception {
+		ILaunchConfigurationType type = getLaunchManager().getLaunchConfigurationType(LaunchConfigurationTests.ID_TEST_LAUNCH_TYPE);
+		ILaunchConfigurationWorkingCopy wc = type.newInstance(null, "parsePerformance"); //$NON-NLS-1$
+		for (int i = 0; i < ATTRIBUTES; i++) {
+			List<String> list = new ArrayList<>(ENTRIES);
+			Set<String> set = new HashSet<>(ENTRIES);
+			Map<String, String> map = new HashMap<>(ENTRIES);
+			for (int j = 0; j < ENTRIES; j++) {
+				list.add("entry" + j); //$NON-NLS-1$
+				set.add("entry" + j); //$NON-NLS-1$
+				map.put("key" + j, "value <" + j + "> & \"quoted\""); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+			wc.setAttribute("String" + i, "value " + i); //$NON-NLS-1$ //$NON-NLS-2$
+			wc.setAttribute("Integer" + i, i); //$NON-NLS-1$
+			wc.setAttribute("Boolean" + i, i % 2 == 0); //$NON-NLS-1$
+			wc.setAttribute("List" + i, list); //$NON-NLS-1$
+			wc.setAttribute("Set" + i, set); //$NON-NLS-1$
+			wc.setAttribute("Map" + i, map); //$NON-NLS-1$
+		}
+		ILaunchConfiguration config = wc.doSave();
+		try {
+			return new String(Files.readAllBytes(config.getLocation().toFile().toPath()), StandardCharsets.UTF_8);
+		} finally {
+			config.delete();
+		}
+	}
+
+	/**
+	 * Returns a factory configured like the one of the launch manager.
+	 */
+	private static XMLInputFactory createXMLInputFactory() {
+		XMLInputFactory factory = XMLInputFactory.newDefaultFactory();
+		factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.FALSE);
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+		return factory;
+	}
+
+	@Test
+	public void testParseConfiguration() throws Exception {
+		String xml = createConfigurationXML();
+		XMLInputFactory factory = createXMLInputFactory();
+		Performance perf = Performance.getDefault();
+		PerformanceMeter meter = perf.createPerformanceMeter(getDefaultScenarioId());
+		try {
+			for (int i = 0; i < 10; i++) {
+				meter.start();
+				for (int j = 0; j < 100; j++) {
+					new TestInfo().read(factory, xml);
+				}
+				meter.stop();
+			}
+			meter.commit();
+			perf.assertPerformance(meter);
+		} finally {
+			meter.dispose();
+		}
+	}
+
+	@Test
+	public void testSerializeConfiguration() throws Exception {
+		String xml = createConfigurationXML();
+		XMLInputFactory factory = createXMLInputFactory();
+		TestInfo info = new TestInfo();
+		info.read(factory, xml);
+		Performance perf = Performance.getDefault();
+		PerformanceMeter meter = perf.createPerformanceMeter(getDefaultScenarioId());
+		try {
+			for (int i = 0; i < 10; i++) {
+				meter.start();
+				for (int j = 0; j < 100; j++) {
+					info.write();
+				}
+				meter.stop();
+			}
+			meter.commit();
+			perf.assertPerformance(meter);
+		} finally {
+			meter.dispose();
+		}
+	}
+}
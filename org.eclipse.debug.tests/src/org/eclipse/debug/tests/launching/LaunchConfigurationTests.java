@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,13 +14,17 @@
  *******************************************************************************/
 package org.eclipse.debug.tests.launching;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.IOException;
@@ -32,7 +36,10 @@ import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -40,6 +47,11 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.core.filesystem.EFS;
@@ -58,6 +70,9 @@ import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.core.variables.IStringVariableManager;
+import org.eclipse.core.variables.IValueVariable;
+import org.eclipse.core.variables.VariablesPlugin;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
@@ -69,6 +84,7 @@ import org.eclipse.debug.core.ILaunchesListener2;
 import org.eclipse.debug.core.Launch;
 import org.eclipse.debug.core.model.IProcess;
 import org.eclipse.debug.internal.core.LaunchConfiguration;
+import org.eclipse.debug.internal.core.LaunchConfigurationIndex;
 import org.eclipse.debug.internal.core.LaunchManager;
 import org.eclipse.debug.tests.TestsPlugin;
 import org.eclipse.debug.tests.console.MockProcess;
@@ -79,6 +95,8 @@ import org.eclipse.ui.PlatformUI;
 import org.junit.Test;
 import org.osgi.framework.Bundle;
 import org.osgi.service.prefs.Preferences;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
 
 /**
  * Tests for launch configurations
@@ -985,6 +1003,396 @@ public class LaunchConfigurationTests extends AbstractLaunchTest implements ILau
 	}
 
 
+	/**
+	 * Tests that the persistent launch configuration index answers the type of
+	 * a configuration after being saved and reloaded and picks up changes of
+	 * the configuration file.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testPersistentConfigurationIndex() throws Exception {
+		File indexFile = File.createTempFile("launchConfigurationIndex", null); //$NON-NLS-1$
+		indexFile.delete();
+		ILaunchConfigurationWorkingCopy wc = newConfiguration(null, "indexedConfig"); //$NON-NLS-1$
+		LaunchConfiguration config = (LaunchConfiguration) wc.doSave();
+		try {
+			LaunchConfigurationIndex index = new LaunchConfigurationIndex(Path.fromOSString(indexFile.getAbsolutePath()));
+			assertEquals(ID_TEST_LAUNCH_TYPE, index.getTypeId(config));
+			index.save();
+			assertTrue("Index should be saved", indexFile.isFile()); //$NON-NLS-1$
+
+			LaunchConfigurationIndex reloaded = new LaunchConfigurationIndex(Path.fromOSString(indexFile.getAbsolutePath()));
+			assertEquals("Index should be reloaded", 1, reloaded.size()); //$NON-NLS-1$
+			assertEquals(ID_TEST_LAUNCH_TYPE, reloaded.getTypeId(config));
+
+			reloaded.remove(config);
+			assertEquals("Entry should be removed", 0, reloaded.size()); //$NON-NLS-1$
+			config.delete();
+			assertNull("Deleted config should not have a type", reloaded.getTypeId(config)); //$NON-NLS-1$
+		} finally {
+			if (config.exists()) {
+				config.delete();
+			}
+			indexFile.delete();
+		}
+	}
+
+	/**
+	 * Tests that a malformed configuration file is neither indexed nor valid
+	 * and that entries of configurations that no longer exist are dropped.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testConfigurationIndexValidity() throws Exception {
+		IFile file = getProject().getFile("truncatedConfig.launch"); //$NON-NLS-1$
+		ILaunchConfigurationWorkingCopy wc = newConfiguration(null, "retainedConfig"); //$NON-NLS-1$
+		LaunchConfiguration retained = (LaunchConfiguration) wc.doSave();
+		try {
+			String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" //$NON-NLS-1$
+					+ "<launchConfiguration type=\"" + ID_TEST_LAUNCH_TYPE + "\">\n" //$NON-NLS-1$ //$NON-NLS-2$
+					+ "<stringAttribute key=\"String1\" value="; //$NON-NLS-1$
+			file.create(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), true, null);
+			LaunchConfiguration config = (LaunchConfiguration) getLaunchManager().getLaunchConfiguration(file);
+			assertFalse("Truncated config should not be valid", existsIn(getLaunchManager().getLaunchConfigurations(), config)); //$NON-NLS-1$
+
+			LaunchConfigurationIndex index = new LaunchConfigurationIndex(null);
+			assertThrows(CoreException.class, () -> index.getTypeId(config));
+			assertEquals("Truncated config should not be indexed", 0, index.size()); //$NON-NLS-1$
+
+			assertEquals(ID_TEST_LAUNCH_TYPE, index.getTypeId(retained));
+			index.retain(Collections.emptyList());
+			assertEquals("Entry of a missing config should be dropped", 0, index.size()); //$NON-NLS-1$
+		} finally {
+			if (file.exists()) {
+				file.delete(true, null);
+			}
+			retained.delete();
+		}
+	}
+
+	/**
+	 * Tests that a saved configuration is written exactly like the DOM
+	 * serialization of its attributes and that such a file is read back with
+	 * the same attributes.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testXMLFormat() throws Exception {
+		ILaunchConfigurationWorkingCopy wc = newConfiguration(null, "xmlFormat"); //$NON-NLS-1$
+		wc.setAttribute("String2", "a&b<c>d\"e'f\tg\nh\u00e9\ud83d\ude00\r\ni\u0080j\u0085k\u009fl"); //$NON-NLS-1$ //$NON-NLS-2$
+		wc.setAttribute("List1", List.of("z", "a&b")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		wc.setAttribute("List2", new ArrayList<String>()); //$NON-NLS-1$
+		wc.setAttribute("Set1", Set.of("b", "a")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		wc.setAttribute("Map1", Map.of("k2", "<v2>", "k1", "v1")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+		LaunchConfiguration config = (LaunchConfiguration) wc.doSave();
+		IFile copy = getProject().getFile("xmlFormatCopy.launch"); //$NON-NLS-1$
+		try {
+			String expected = getAsDOMXML(config);
+			String actual;
+			try (InputStream stream = config.getFileStore().openInputStream(EFS.NONE, null)) {
+				actual = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+			}
+			assertEquals("XML should be identical to DOM serialization", expected, actual); //$NON-NLS-1$
+
+			copy.create(new ByteArrayInputStream(expected.getBytes(StandardCharsets.UTF_8)), true, null);
+			ILaunchConfiguration read = getLaunchManager().getLaunchConfiguration(copy);
+			assertEquals("Attributes should be read back", config.getAttributes(), read.getAttributes()); //$NON-NLS-1$
+		} finally {
+			config.delete();
+			if (copy.exists()) {
+				copy.delete(true, null);
+			}
+		}
+	}
+
+	/**
+	 * Tests that external entities are not resolved when a configuration file
+	 * is read.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testXMLExternalEntity() throws Exception {
+		File secret = File.createTempFile("secret", ".txt"); //$NON-NLS-1$ //$NON-NLS-2$
+		IFile file = getProject().getFile("xmlExternalEntity.launch"); //$NON-NLS-1$
+		try {
+			Files.writeString(secret.toPath(), "secret"); //$NON-NLS-1$
+			String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" //$NON-NLS-1$
+					+ "<!DOCTYPE launchConfiguration [<!ENTITY xxe SYSTEM \"" + secret.toURI() + "\">]>\n" //$NON-NLS-1$ //$NON-NLS-2$
+					+ "<launchConfiguration type=\"" + ID_TEST_LAUNCH_TYPE + "\">\n" //$NON-NLS-1$ //$NON-NLS-2$
+					+ "<stringAttribute key=\"String1\" value=\"&xxe;\"/>\n" //$NON-NLS-1$
+					+ "</launchConfiguration>\n"; //$NON-NLS-1$
+			file.create(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), true, null);
+			ILaunchConfiguration config = getLaunchManager().getLaunchConfiguration(file);
+			try {
+				assertFalse("External entity should not be resolved", "secret".equals(config.getAttribute("String1", ""))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			} catch (CoreException e) {
+				// rejecting the file is fine as well
+			}
+		} finally {
+			if (file.exists()) {
+				file.delete(true, null);
+			}
+			secret.delete();
+		}
+	}
+
+	/**
+	 * Returns the attributes of the given configuration serialized with the
+	 * DOM and JAXP transformer.
+	 */
+	private String getAsDOMXML(ILaunchConfiguration config) throws Exception {
+		Document doc = LaunchManager.getDocument();
+		Element root = doc.createElement("launchConfiguration"); //$NON-NLS-1$
+		doc.appendChild(root);
+		root.setAttribute("type", config.getType().getIdentifier()); //$NON-NLS-1$
+		for (Map.Entry<String, Object> attribute : new TreeMap<>(config.getAttributes()).entrySet()) {
+			Object value = attribute.getValue();
+			Element element;
+			if (value instanceof List || value instanceof Set) {
+				boolean list = value instanceof List;
+				element = doc.createElement(list ? "listAttribute" : "setAttribute"); //$NON-NLS-1$ //$NON-NLS-2$
+				Collection<?> entries = list ? (List<?>) value : new TreeSet<>((Set<?>) value);
+				for (Object entry : entries) {
+					Element child = doc.createElement(list ? "listEntry" : "setEntry"); //$NON-NLS-1$ //$NON-NLS-2$
+					child.setAttribute("value", (String) entry); //$NON-NLS-1$
+					element.appendChild(child);
+				}
+			} else if (value instanceof Map) {
+				element = doc.createElement("mapAttribute"); //$NON-NLS-1$
+				for (Map.Entry<?, ?> entry : new TreeMap<>((Map<?, ?>) value).entrySet()) {
+					Element child = doc.createElement("mapEntry"); //$NON-NLS-1$
+					child.setAttribute("key", (String) entry.getKey()); //$NON-NLS-1$
+					child.setAttribute("value", (String) entry.getValue()); //$NON-NLS-1$
+					element.appendChild(child);
+				}
+			} else {
+				element = doc.createElement(value instanceof Integer ? "intAttribute" : value instanceof Boolean ? "booleanAttribute" : "stringAttribute"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				element.setAttribute("value", value.toString()); //$NON-NLS-1$
+			}
+			element.setAttribute("key", attribute.getKey()); //$NON-NLS-1$
+			root.appendChild(element);
+		}
+		return LaunchManager.serializeDocument(doc, System.lineSeparator());
+	}
+
+	/**
+	 * Tests that lookups of configurations by name, type, project and mapped
+	 * resource follow additions, changes and deletions.
+	 *
+	 * @throws CoreException
+	 */
+	@Test
+	public void testConfigurationLookups() throws CoreException {
+		LaunchManager manager = (LaunchManager) getLaunchManager();
+		IProject project = getProject();
+		IFile file = project.getFile("mapped.txt"); //$NON-NLS-1$
+		ILaunchConfigurationWorkingCopy wc = newConfiguration(project, "lookupConfig"); //$NON-NLS-1$
+		wc.setMappedResources(new IResource[] { file });
+		ILaunchConfiguration config = wc.doSave();
+		try {
+			assertEquals(config, manager.findLaunchConfiguration("lookupConfig")); //$NON-NLS-1$
+			ILaunchConfigurationType type = getLaunchManager().getLaunchConfigurationType(ID_TEST_LAUNCH_TYPE);
+			assertTrue("Config should be found by type", existsIn(getLaunchManager().getLaunchConfigurations(type), config)); //$NON-NLS-1$
+			assertTrue("Config should be found by file", existsIn(manager.getMappedConfigurations(file), config)); //$NON-NLS-1$
+			assertTrue("Config should be found by project of file", existsIn(manager.getMappedConfigurations(project), config)); //$NON-NLS-1$
+
+			wc = config.getWorkingCopy();
+			wc.setMappedResources(new IResource[] { project });
+			config = wc.doSave();
+			assertFalse("Config should not be found by old file", existsIn(manager.getMappedConfigurations(file), config)); //$NON-NLS-1$
+			assertTrue("Config should be found by project", existsIn(manager.getMappedConfigurations(project), config)); //$NON-NLS-1$
+		} finally {
+			config.delete();
+		}
+		assertNull("Deleted config should not be found", manager.findLaunchConfiguration("lookupConfig")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertFalse("Deleted config should not be found by project", existsIn(manager.getMappedConfigurations(project), config)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that prefetched configurations answer their attributes and that a
+	 * change after the prefetch is not hidden by the prefetched attributes.
+	 */
+	@Test
+	public void testPrefetchLaunchConfigurations() throws CoreException {
+		LaunchManager manager = (LaunchManager) getLaunchManager();
+		ILaunchConfiguration[] configs = new ILaunchConfiguration[8];
+		try {
+			for (int i = 0; i < configs.length; i++) {
+				ILaunchConfigurationWorkingCopy wc = newConfiguration(null, "prefetchConfig" + i); //$NON-NLS-1$
+				wc.setAttribute("Index", i); //$NON-NLS-1$
+				configs[i] = wc.doSave();
+			}
+			manager.prefetchLaunchConfigurations(configs, null);
+			for (int i = 0; i < configs.length; i++) {
+				assertEquals("Wrong String1 value", "String1", configs[i].getAttribute("String1", "Missing")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+				assertEquals("Wrong Index value", i, configs[i].getAttribute("Index", -1)); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+
+			ILaunchConfigurationWorkingCopy wc = configs[0].getWorkingCopy();
+			wc.setAttribute("Index", 42); //$NON-NLS-1$
+			configs[0] = wc.doSave();
+			manager.prefetchLaunchConfigurations(configs, null);
+			assertEquals("Wrong changed Index value", 42, configs[0].getAttribute("Index", -1)); //$NON-NLS-1$ //$NON-NLS-2$
+		} finally {
+			for (ILaunchConfiguration config : configs) {
+				if (config != null) {
+					config.delete();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tests that working copies sharing the attributes of their original do
+	 * not leak modifications into each other.
+	 */
+	@Test
+	public void testSharedAttributesAreCopiedOnWrite() throws CoreException {
+		ILaunchConfigurationWorkingCopy wc = newConfiguration(null, "sharedConfig"); //$NON-NLS-1$
+		ILaunchConfiguration config = wc.doSave();
+		try {
+			ILaunchConfigurationWorkingCopy copy1 = config.getWorkingCopy();
+			ILaunchConfigurationWorkingCopy copy2 = config.getWorkingCopy();
+			ILaunchConfigurationWorkingCopy nested = copy1.getWorkingCopy();
+			copy1.setAttribute("String1", "copy1"); //$NON-NLS-1$ //$NON-NLS-2$
+			copy2.removeAttribute("Int1"); //$NON-NLS-1$
+			nested.setAttribute("Boolean1", false); //$NON-NLS-1$
+
+			assertEquals("Wrong original String1 value", "String1", config.getAttribute("String1", "Missing")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			assertEquals("Wrong original Int1 value", 1, config.getAttribute("Int1", -1)); //$NON-NLS-1$ //$NON-NLS-2$
+			assertTrue("Wrong original Boolean1 value", config.getAttribute("Boolean1", false)); //$NON-NLS-1$ //$NON-NLS-2$
+			assertEquals("Wrong copy1 String1 value", "copy1", copy1.getAttribute("String1", "Missing")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			assertEquals("Wrong copy1 Int1 value", 1, copy1.getAttribute("Int1", -1)); //$NON-NLS-1$ //$NON-NLS-2$
+			assertEquals("Wrong copy2 String1 value", "String1", copy2.getAttribute("String1", "Missing")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			assertFalse("Int1 should be removed from copy2", copy2.hasAttribute("Int1")); //$NON-NLS-1$ //$NON-NLS-2$
+			assertEquals("Wrong nested String1 value", "String1", nested.getAttribute("String1", "Missing")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+			nested.doSave();
+			assertFalse("Wrong copy1 Boolean1 value", copy1.getAttribute("Boolean1", true)); //$NON-NLS-1$ //$NON-NLS-2$
+			assertEquals("Wrong copy1 String1 value after nested save", "String1", copy1.getAttribute("String1", "Missing")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			assertTrue("Copy1 should be dirty", copy1.isDirty()); //$NON-NLS-1$
+			assertTrue("Wrong original Boolean1 value after nested save", config.getAttribute("Boolean1", false)); //$NON-NLS-1$ //$NON-NLS-2$
+		} finally {
+			config.delete();
+		}
+	}
+
+	/**
+	 * Tests that reading launch configurations does not wait for a thread
+	 * holding the lock of the launch manager.
+	 */
+	@Test
+	public void testReadsDoNotWaitForManagerLock() throws Exception {
+		LaunchManager manager = (LaunchManager) getLaunchManager();
+		ILaunchConfigurationType type = manager.getLaunchConfigurationType(ID_TEST_LAUNCH_TYPE);
+		ILaunchConfiguration config = newConfiguration(null, "lockConfig").doSave(); //$NON-NLS-1$
+		CountDownLatch locked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Thread holder = new Thread(() -> {
+			synchronized (manager) {
+				locked.countDown();
+				try {
+					release.await(30, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		});
+		holder.start();
+		try {
+			assertTrue("Lock should be held", locked.await(10, TimeUnit.SECONDS)); //$NON-NLS-1$
+			CompletableFuture<Boolean> read = CompletableFuture.supplyAsync(() -> {
+				try {
+					return existsIn(manager.getLaunchConfigurations(), config) && existsIn(manager.getLaunchConfigurations(type), config) && config.equals(manager.findLaunchConfiguration("lockConfig")) //$NON-NLS-1$
+							&& manager.getLaunchConfigurationTypes().length > 0 && "String1".equals(config.getAttribute("String1", "Missing")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				} catch (CoreException e) {
+					return Boolean.FALSE;
+				}
+			});
+			assertTrue("Reads should succeed", read.get(10, TimeUnit.SECONDS)); //$NON-NLS-1$
+		} finally {
+			release.countDown();
+			holder.join();
+			config.delete();
+		}
+	}
+
+	/**
+	 * Tests that a relaunch resolves the environment again after a string
+	 * substitution variable it references changed.
+	 */
+	@Test
+	public void testEnvironmentFollowsVariableChanges() throws CoreException {
+		IStringVariableManager variableManager = VariablesPlugin.getDefault().getStringVariableManager();
+		IValueVariable variable = variableManager.newValueVariable("launchEnvironmentTest", null); //$NON-NLS-1$
+		variable.setValue("first"); //$NON-NLS-1$
+		variableManager.addVariables(new IValueVariable[] { variable });
+		try {
+			ILaunchConfigurationWorkingCopy wc = newConfiguration(null, "environmentConfig"); //$NON-NLS-1$
+			Map<String, String> env = new HashMap<>();
+			env.put("LAUNCH_TEST", "${launchEnvironmentTest}/bin"); //$NON-NLS-1$ //$NON-NLS-2$
+			env.put("LAUNCH_LITERAL", "literal"); //$NON-NLS-1$ //$NON-NLS-2$
+			wc.setAttribute(ILaunchManager.ATTR_ENVIRONMENT_VARIABLES, env);
+			wc.setAttribute(ILaunchManager.ATTR_APPEND_ENVIRONMENT_VARIABLES, false);
+			String[] first = getLaunchManager().getEnvironment(wc);
+			Arrays.sort(first);
+			assertArrayEquals(new String[] { "LAUNCH_LITERAL=literal", "LAUNCH_TEST=first/bin" }, first); //$NON-NLS-1$ //$NON-NLS-2$
+
+			variable.setValue("second"); //$NON-NLS-1$
+			String[] second = getLaunchManager().getEnvironment(wc);
+			Arrays.sort(second);
+			assertArrayEquals(new String[] { "LAUNCH_LITERAL=literal", "LAUNCH_TEST=second/bin" }, second); //$NON-NLS-1$ //$NON-NLS-2$
+
+			wc.setAttribute(ILaunchManager.ATTR_APPEND_ENVIRONMENT_VARIABLES, true);
+			String[] appended = getLaunchManager().getEnvironment(wc);
+			assertEquals("Native environment should be appended", getLaunchManager().getNativeEnvironmentCasePreserved().size() + 2, appended.length); //$NON-NLS-1$
+		} finally {
+			variableManager.removeVariables(new IValueVariable[] { variable });
+		}
+	}
+
+	/**
+	 * Tests that a prototype child read from its file shares the attribute
+	 * values equal to the values of its prototype.
+	 */
+	@Test
+	public void testPrototypeChildSharesValues() throws Exception {
+		String longValue = "v".repeat(1000); //$NON-NLS-1$
+		ILaunchConfigurationWorkingCopy wc = newEmptyPrototype(null, "sharedValuesPrototype"); //$NON-NLS-1$
+		wc.setAttribute("Long", longValue); //$NON-NLS-1$
+		wc.setAttribute("List", List.of(longValue)); //$NON-NLS-1$
+		ILaunchConfiguration prototype = wc.doSave();
+		ILaunchConfigurationWorkingCopy childWc = newConfiguration(null, "sharedValuesChild"); //$NON-NLS-1$
+		childWc.setPrototype(prototype, false);
+		childWc.setAttribute("Long", new String(longValue)); //$NON-NLS-1$
+		childWc.setAttribute("List", List.of(new String(longValue))); //$NON-NLS-1$
+		ILaunchConfiguration child = childWc.doSave();
+		IFile copy = getProject().getFile("sharedValuesChildCopy.launch"); //$NON-NLS-1$
+		try {
+			try (InputStream stream = ((LaunchConfiguration) child).getFileStore().openInputStream(EFS.NONE, null)) {
+				copy.create(stream, true, null);
+			}
+			ILaunchConfiguration read = getLaunchManager().getLaunchConfiguration(copy);
+			assertEquals("Should refer to prototype", prototype, read.getPrototype()); //$NON-NLS-1$
+			String prototypeValue = prototype.getAttribute("Long", ""); //$NON-NLS-1$ //$NON-NLS-2$
+			assertSame("String value should be shared", prototypeValue, read.getAttribute("Long", "")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			List<String> prototypeList = prototype.getAttribute("List", Collections.emptyList()); //$NON-NLS-1$
+			List<String> list = read.getAttribute("List", Collections.emptyList()); //$NON-NLS-1$
+			assertNotSame("List should not be shared", prototypeList, list); //$NON-NLS-1$
+			assertSame("List entries should be shared", prototypeList.get(0), list.get(0)); //$NON-NLS-1$
+		} finally {
+			if (copy.exists()) {
+				copy.delete(true, null);
+			}
+			child.delete();
+			prototype.delete();
+		}
+	}
+
 	/**
 	 * @see org.eclipse.debug.core.ILaunchConfigurationListener#launchConfigurationAdded(org.eclipse.debug.core.ILaunchConfiguration)
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2016, 2019 SSI Schaefer IT Solutions GmbH and others.
+ *  Copyright (c) 2016, 2026 SSI Schaefer IT Solutions GmbH and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@
 package org.eclipse.debug.tests.launching;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.lang.reflect.InvocationHandler;
@@ -21,9 +23,12 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -116,6 +121,12 @@ public class LaunchGroupTests extends AbstractLaunchTest {
 		return grp.doSave();
 	}
 
+	private ILaunchConfiguration createDependencyGraphLaunchGroup(String name, GroupLaunchElement... children) throws CoreException {
+		ILaunchConfigurationWorkingCopy grp = createLaunchGroup(name, children).getWorkingCopy();
+		grp.setAttribute(GroupLaunchConfigurationDelegate.ATTR_LAUNCH_DEPENDENCY_GRAPH, true);
+		return grp.doSave();
+	}
+
 	private GroupLaunchElement createLaunchGroupElement(ILaunchConfiguration source, GroupElementPostLaunchAction action, Object param, boolean adopt) {
 		GroupLaunchElement e = new GroupLaunchElement();
 
@@ -328,6 +339,75 @@ public class LaunchGroupTests extends AbstractLaunchTest {
 		assertTrue("history[2] should be Test1", history[2].contentsEqual(t1)); //$NON-NLS-1$
 	}
 
+	@Test
+	public void testDependencyGraph() throws Exception {
+		ILaunchConfiguration t1 = getLaunchConfiguration("Test1"); //$NON-NLS-1$
+		ILaunchConfiguration t2 = getLaunchConfiguration("Test2"); //$NON-NLS-1$
+		ILaunchConfiguration t3 = getLaunchConfiguration("Test3"); //$NON-NLS-1$
+		GroupLaunchElement e3 = createLaunchGroupElement(t3, GroupElementPostLaunchAction.NONE, null, false);
+		e3.dependsOn.add(t1.getName());
+		e3.dependsOn.add(t2.getName());
+		// Test3 is listed first but depends on the others
+		String output = "TestOutput"; //$NON-NLS-1$
+		ILaunchConfiguration grp = createDependencyGraphLaunchGroup(DEF_GRP_NAME, e3, createLaunchGroupElement(t1, GroupElementPostLaunchAction.OUTPUT_REGEXP, output, false), createLaunchGroupElement(t2, GroupElementPostLaunchAction.OUTPUT_REGEXP, output, false));
+
+		List<GroupLaunchElement> elements = GroupLaunchConfigurationDelegate.createLaunchElements(grp);
+		assertEquals("dependencies not stored", Arrays.asList(t1.getName(), t2.getName()), elements.get(0).dependsOn); //$NON-NLS-1$
+		assertTrue("unexpected dependencies", elements.get(1).dependsOn.isEmpty()); //$NON-NLS-1$
+
+		// launches and readiness of the members in the order they happened
+		final List<String> events = Collections.synchronizedList(new ArrayList<>());
+		ILaunchListener orderListener = new ILaunchListener() {
+			@Override
+			public void launchRemoved(ILaunch launch) {
+			}
+
+			@Override
+			public void launchChanged(ILaunch launch) {
+			}
+
+			@Override
+			public void launchAdded(ILaunch launch) {
+				events.add(launch.getLaunchConfiguration().getName());
+			}
+		};
+		final DummyAttachListener attach1 = new DummyAttachListener(t1);
+		final DummyAttachListener attach2 = new DummyAttachListener(t2);
+		getLaunchManager().addLaunchListener(orderListener);
+		getLaunchManager().addLaunchListener(attach1);
+		getLaunchManager().addLaunchListener(attach2);
+		final AtomicReference<Throwable> failure = new AtomicReference<>();
+		Thread launcher = new Thread(() -> {
+			try {
+				grp.launch(ILaunchManager.RUN_MODE, new NullProgressMonitor());
+			} catch (Throwable e) {
+				failure.set(e);
+			}
+		}, "Group Launcher"); //$NON-NLS-1$
+		try {
+			launcher.start();
+			// both members are launched without waiting for each other
+			TestUtil.waitWhile(() -> !attach1.isObserved() || !attach2.isObserved(), testTimeout);
+			assertTrue("independent members were not launched concurrently: " + events, attach1.isObserved() && attach2.isObserved()); //$NON-NLS-1$
+			assertFalse("Test3 launched before its dependencies were ready", events.contains(t3.getName())); //$NON-NLS-1$
+
+			events.add("ready " + t1.getName()); //$NON-NLS-1$
+			attach1.getStream().write(output);
+			events.add("ready " + t2.getName()); //$NON-NLS-1$
+			attach2.getStream().write(output);
+
+			launcher.join(testTimeout);
+			assertFalse("group launch did not finish", launcher.isAlive()); //$NON-NLS-1$
+		} finally {
+			getLaunchManager().removeLaunchListener(orderListener);
+			getLaunchManager().removeLaunchListener(attach1);
+			getLaunchManager().removeLaunchListener(attach2);
+		}
+		assertNull("group launch failed", failure.get()); //$NON-NLS-1$
+		assertEquals("unexpected events: " + events, 6, events.size()); //$NON-NLS-1$
+		assertEquals("Test3 should be launched once its dependencies are ready: " + events, t3.getName(), events.get(5)); //$NON-NLS-1$
+	}
+
 	@Test
 	public void testRename() throws Exception {
 		ILaunchConfiguration t1 = getLaunchConfiguration("Test1"); //$NON-NLS-1$
@@ -448,13 +528,17 @@ public class LaunchGroupTests extends AbstractLaunchTest {
 
 	private static final class DummyStream implements IStreamMonitor {
 
-		private final List<IStreamListener> listeners = new ArrayList<>();
+		private final List<IStreamListener> listeners = new CopyOnWriteArrayList<>();
 
 		@Override
 		public void addListener(IStreamListener listener) {
 			listeners.add(listener);
 		}
 
+		public boolean isObserved() {
+			return !listeners.isEmpty();
+		}
+
 		@Override
 		public String getContents() {
 			return null;
@@ -476,7 +560,7 @@ public class LaunchGroupTests extends AbstractLaunchTest {
 	private static final class DummyAttachListener implements ILaunchListener {
 
 		private ILaunchConfiguration cfg;
-		private DummyStream stream;
+		private volatile DummyStream stream;
 
 		public DummyAttachListener(ILaunchConfiguration cfg) {
 			this.cfg = cfg;
@@ -486,6 +570,11 @@ public class LaunchGroupTests extends AbstractLaunchTest {
 			return stream;
 		}
 
+		public boolean isObserved() {
+			DummyStream s = stream;
+			return s != null && s.isObserved();
+		}
+
 		@Override
 		public void launchRemoved(ILaunch launch) {
 		}
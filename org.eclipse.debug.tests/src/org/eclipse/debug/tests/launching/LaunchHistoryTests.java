@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2009 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,13 +17,21 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.List;
+import java.util.Map;
+
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
 import org.eclipse.debug.core.ILaunchManager;
 import org.eclipse.debug.internal.ui.DebugUIPlugin;
 import org.eclipse.debug.internal.ui.launchConfigurations.LaunchHistory;
+import org.eclipse.debug.internal.ui.launchConfigurations.LaunchHistoryJournal;
+import org.eclipse.debug.internal.ui.launchConfigurations.LaunchHistoryJournal.GroupHistory;
 import org.eclipse.debug.ui.IDebugUIConstants;
 import org.junit.Test;
 
@@ -198,4 +206,42 @@ public class LaunchHistoryTests extends AbstractLaunchTest {
 		assertTrue("there should only be two items in the history", runhistory.getHistory().length == getMaxHistorySize()); //$NON-NLS-1$
 		assertTrue("the complete launch history should be greater than or equal to the history size", runhistory.getCompleteLaunchHistory().length >= runhistory.getHistory().length); //$NON-NLS-1$
 	}
+
+	/**
+	 * Tests that the launch history journal returns the last appended history
+	 * of each launch group, compacts itself and ignores a truncated record.
+	 */
+	@Test
+	public void testLaunchHistoryJournal() throws Exception {
+		File file = File.createTempFile("launchConfigurationHistory", null); //$NON-NLS-1$
+		file.delete();
+		try {
+			LaunchHistoryJournal journal = new LaunchHistoryJournal(Path.fromOSString(file.getAbsolutePath()));
+			journal.write(Map.of(IDebugUIConstants.ID_RUN_LAUNCH_GROUP, new GroupHistory(List.of("a", "b"), List.of("b")))); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			journal.write(Map.of(IDebugUIConstants.ID_DEBUG_LAUNCH_GROUP, new GroupHistory(List.of("c"), List.of()))); //$NON-NLS-1$
+			journal.write(Map.of(IDebugUIConstants.ID_RUN_LAUNCH_GROUP, new GroupHistory(List.of("b", "a"), List.of()))); //$NON-NLS-1$ //$NON-NLS-2$
+			assertEquals("Records should be appended", 3, journal.getRecordCount()); //$NON-NLS-1$
+
+			LaunchHistoryJournal reloaded = new LaunchHistoryJournal(Path.fromOSString(file.getAbsolutePath()));
+			Map<String, GroupHistory> groups = reloaded.read();
+			assertEquals(2, groups.size());
+			assertEquals("Last record should win", List.of("b", "a"), groups.get(IDebugUIConstants.ID_RUN_LAUNCH_GROUP).getHistory()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			assertEquals(List.of(), groups.get(IDebugUIConstants.ID_RUN_LAUNCH_GROUP).getFavorites());
+			assertEquals(List.of("c"), groups.get(IDebugUIConstants.ID_DEBUG_LAUNCH_GROUP).getHistory()); //$NON-NLS-1$
+
+			for (int i = 0; i < 10; i++) {
+				reloaded.write(Map.of(IDebugUIConstants.ID_DEBUG_LAUNCH_GROUP, new GroupHistory(List.of("c" + i), List.of()))); //$NON-NLS-1$
+			}
+			assertTrue("Journal should be compacted", reloaded.getRecordCount() <= 8); //$NON-NLS-1$
+
+			try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) { //$NON-NLS-1$
+				raf.setLength(raf.length() - 3);
+			}
+			groups = new LaunchHistoryJournal(Path.fromOSString(file.getAbsolutePath())).read();
+			assertEquals("Truncated record should be ignored", List.of("b", "a"), groups.get(IDebugUIConstants.ID_RUN_LAUNCH_GROUP).getHistory()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			assertEquals("Truncated record should be ignored", List.of("c8"), groups.get(IDebugUIConstants.ID_DEBUG_LAUNCH_GROUP).getHistory()); //$NON-NLS-1$ //$NON-NLS-2$
+		} finally {
+			file.delete();
+		}
+	}
 }
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.tests.launching;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchConfigurationType;
+import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+import org.junit.Test;
+
+/**
+ * Measures the read API of the launch manager while other threads keep
+ * changing launch configurations.
+ */
+public class LaunchManagerPerformanceTests extends AbstractLaunchTest {
+
+	private static final int CONFIGURATIONS = 200;
+
+	private static final int WRITERS = 2;
+
+	public String getDefaultScenarioId() {
+		return this.getClass().getName() + '#' + name.getMethodName() + "()"; //$NON-NLS-1$
+	}
+
+	@Test
+	public void testReadsWhileConfigurationsChange() throws Exception {
+		ILaunchConfigurationType type = getLaunchManager().getLaunchConfigurationType(LaunchConfigurationTests.ID_TEST_LAUNCH_TYPE);
+		List<ILaunchConfiguration> configs = new ArrayList<>(CONFIGURATIONS);
+		for (int i = 0; i < CONFIGURATIONS; i++) {
+			ILaunchConfigurationWorkingCopy wc = type.newInstance(null, "contention" + i); //$NON-NLS-1$
+			wc.setAttribute("Index", i); //$NON-NLS-1$
+			configs.add(wc.doSave());
+		}
+		AtomicBoolean done = new AtomicBoolean();
+		List<Thread> writers = new ArrayList<>(WRITERS);
+		for (int i = 0; i < WRITERS; i++) {
+			ILaunchConfiguration config = configs.get(i);
+			Thread writer = new Thread(() -> {
+				int count = 0;
+				while (!done.get()) {
+					try {
+						ILaunchConfigurationWorkingCopy wc = config.getWorkingCopy();
+						wc.setAttribute("Count", count++); //$NON-NLS-1$
+						wc.doSave();
+					} catch (CoreException e) {
+						return;
+					}
+				}
+			}, "Launch configuration writer " + i); //$NON-NLS-1$
+			writers.add(writer);
+			writer.start();
+		}
+		Performance perf = Performance.getDefault();
+		PerformanceMeter meter = perf.createPerformanceMeter(getDefaultScenarioId());
+		try {
+			for (int i = 0; i < 10; i++) {
+				meter.start();
+				for (int j = 0; j < 100; j++) {
+					getLaunchManager().getLaunchConfigurations();
+					getLaunchManager().getLaunchConfigurations(type);
+					getLaunchManager().getLaunchConfigurationTypes();
+				}
+				meter.stop();
+			}
+			meter.commit();
+			perf.assertPerformance(meter);
+		} finally {
+			meter.dispose();
+			done.set(true);
+			for (Thread writer : writers) {
+				writer.join();
+			}
+			for (ILaunchConfiguration config : configs) {
+				config.delete();
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2017 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -245,6 +245,7 @@ public class DebugUIMessages extends NLS {
 	//
 	public static String GroupLaunch_Cannot_launch;
 	public static String GroupLaunch_Cycle;
+	public static String GroupLaunch_DependencyCycle;
 	public static String GroupLaunch_Error;
 	public static String GroupLaunchConfigurationSelectionDialog_0;
 	public static String GroupLaunchConfigurationSelectionDialog_1;
@@ -263,6 +264,8 @@ public class DebugUIMessages extends NLS {
 	public static String GroupLaunchConfigurationSelectionDialog_adoptText;
 	public static String GroupLaunchConfigurationSelectionDialog_adoptTooltip;
 	public static String GroupLaunchConfigurationSelectionDialog_errorNoRegexp;
+	public static String GroupLaunchConfigurationSelectionDialog_errorNoPort;
+	public static String GroupLaunchConfigurationSelectionDialog_port;
 	public static String GroupLaunchConfigurationSelectionDialog_regexp;
 	public static String GroupLaunchConfigurationTabGroup_0;
 	public static String GroupLaunchConfigurationTabGroup_1;
@@ -279,6 +282,7 @@ public class DebugUIMessages extends NLS {
 	public static String GroupLaunchConfigurationTabGroup_6;
 	public static String GroupLaunchConfigurationTabGroup_7;
 	public static String GroupLaunchConfigurationTabGroup_lblAdopt;
+	public static String GroupLaunchConfigurationTabGroup_waitForPort;
 
 	//
 	// Blocks
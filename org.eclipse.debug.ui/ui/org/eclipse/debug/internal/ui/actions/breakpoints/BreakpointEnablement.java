@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.ui.actions.breakpoints;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResourceRuleFactory;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRunnable;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.MultiRule;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.model.Breakpoint;
+import org.eclipse.debug.core.model.IBreakpoint;
+import org.eclipse.debug.internal.ui.DebugUIPlugin;
+import org.eclipse.debug.internal.ui.actions.ActionMessages;
+
+/**
+ * Enables or disables breakpoints in a single workspace operation.
+ * <p>
+ * Breakpoints whose class inherits {@link Breakpoint#setEnabled(boolean)} are
+ * updated together with
+ * {@link org.eclipse.debug.core.IBreakpointManager#setAttributes(Map)}, such
+ * that listeners are notified once. Breakpoints that override the setter are
+ * updated by calling it, such that the additional behavior of the override
+ * applies.
+ * </p>
+ */
+public final class BreakpointEnablement {
+
+	/**
+	 * Whether a breakpoint class inherits {@link Breakpoint#setEnabled(boolean)},
+	 * i.e. enabling its breakpoints only sets the enabled attribute.
+	 */
+	private static final ClassValue<Boolean> fgInheritsSetEnabled = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			try {
+				return Boolean.valueOf(type.getMethod("setEnabled", boolean.class).getDeclaringClass() == Breakpoint.class); //$NON-NLS-1$
+			} catch (NoSuchMethodException e) {
+				return Boolean.FALSE;
+			}
+		}
+	};
+
+	private BreakpointEnablement() {
+	}
+
+	/**
+	 * Enables or disables the given breakpoints.
+	 *
+	 * @param breakpoints the breakpoints to enable or disable
+	 * @param enabled whether to enable the breakpoints
+	 * @exception CoreException if enabling or disabling one or more
+	 *                breakpoints fails. The status has one child per failed
+	 *                breakpoint, the other breakpoints are updated.
+	 */
+	public static void setEnabled(IBreakpoint[] breakpoints, boolean enabled) throws CoreException {
+		if (breakpoints.length == 0) {
+			return;
+		}
+		Map<String, Boolean> enabledAttribute = Collections.singletonMap(IBreakpoint.ENABLED, Boolean.valueOf(enabled));
+		Map<IBreakpoint, Map<String, Boolean>> attributes = new LinkedHashMap<>();
+		List<IBreakpoint> overriding = new ArrayList<>();
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		IResourceRuleFactory ruleFactory = workspace.getRuleFactory();
+		ISchedulingRule rule = null;
+		for (IBreakpoint breakpoint : breakpoints) {
+			if (fgInheritsSetEnabled.get(breakpoint.getClass()).booleanValue()) {
+				attributes.put(breakpoint, enabledAttribute);
+			} else {
+				overriding.add(breakpoint);
+			}
+			IMarker marker = breakpoint.getMarker();
+			if (marker != null) {
+				rule = MultiRule.combine(rule, ruleFactory.markerRule(marker.getResource()));
+			}
+		}
+		final MultiStatus status = new MultiStatus(DebugUIPlugin.getUniqueIdentifier(), DebugException.REQUEST_FAILED, ActionMessages.EnableBreakpointAction_Enable_breakpoint_s__failed_2, null);
+		IWorkspaceRunnable runnable = monitor -> {
+			try {
+				DebugPlugin.getDefault().getBreakpointManager().setAttributes(attributes);
+			} catch (CoreException e) {
+				status.merge(e.getStatus());
+			}
+			for (IBreakpoint breakpoint : overriding) {
+				try {
+					breakpoint.setEnabled(enabled);
+				} catch (CoreException e) {
+					status.add(e.getStatus());
+				}
+			}
+		};
+		workspace.run(runnable, rule, IWorkspace.AVOID_UPDATE, null);
+		if (!status.isOK()) {
+			throw new CoreException(status);
+		}
+	}
+}
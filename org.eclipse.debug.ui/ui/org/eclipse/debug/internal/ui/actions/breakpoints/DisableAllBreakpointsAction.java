@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 IBM Corporation and others.
+ * Copyright (c) 2020, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -99,9 +99,7 @@ public class DisableAllBreakpointsAction extends AbstractRemoveAllActionDelegate
 				@Override
 				protected IStatus run(IProgressMonitor monitor) {
 					try {
-						for (IBreakpoint breakpoint : breakpoints) {
-							breakpoint.setEnabled(false);
-						}
+						BreakpointEnablement.setEnabled(breakpoints, false);
 					} catch (CoreException e) {
 						DebugUIPlugin.log(e);
 						return Status.CANCEL_STATUS;
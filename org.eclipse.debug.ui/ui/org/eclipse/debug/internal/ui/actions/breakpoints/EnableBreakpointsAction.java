@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,14 +15,12 @@ package org.eclipse.debug.internal.ui.actions.breakpoints;
 
 
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 import org.eclipse.core.resources.IMarkerDelta;
-import org.eclipse.core.resources.IWorkspaceRunnable;
-import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.MultiStatus;
-import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IBreakpointsListener;
@@ -88,39 +86,23 @@ public class EnableBreakpointsAction implements IViewActionDelegate, IPartListen
 
 		final Iterator<?> itr = selection.iterator();
 		final MultiStatus ms= new MultiStatus(DebugUIPlugin.getUniqueIdentifier(), DebugException.REQUEST_FAILED, ActionMessages.EnableBreakpointAction_Enable_breakpoint_s__failed_2, null);
-		IWorkspaceRunnable runnable = new IWorkspaceRunnable() {
-			@Override
-			public void run(IProgressMonitor monitor) {
-				while (itr.hasNext()) {
-					Object element= itr.next();
-					try {
-						IBreakpoint[] breakpoints= null;
-						IBreakpoint breakpoint = (IBreakpoint)DebugPlugin.getAdapter(element, IBreakpoint.class);
-						if (breakpoint != null) {
-							breakpoints= new IBreakpoint[] { breakpoint };
-						} else if (element instanceof IBreakpointContainer) {
-							breakpoints= ((IBreakpointContainer) element).getBreakpoints();
-						}
-						if (breakpoints != null) {
-							setEnabled(breakpoints);
-						}
-					} catch (CoreException e) {
-						ms.merge(e.getStatus());
-					}
-				}
-			}
-			public void setEnabled(IBreakpoint[] breakpoints) throws CoreException {
-				boolean enable= isEnableAction();
-				for (IBreakpoint breakpoint : breakpoints) {
-					breakpoint.setEnabled(enable);
+		// set all in one workspace operation, which results in a single change notification
+		Set<IBreakpoint> breakpoints = new LinkedHashSet<>();
+		while (itr.hasNext()) {
+			Object element= itr.next();
+			IBreakpoint breakpoint = (IBreakpoint)DebugPlugin.getAdapter(element, IBreakpoint.class);
+			if (breakpoint != null) {
+				breakpoints.add(breakpoint);
+			} else if (element instanceof IBreakpointContainer) {
+				for (IBreakpoint containedBreakpoint : ((IBreakpointContainer) element).getBreakpoints()) {
+					breakpoints.add(containedBreakpoint);
 				}
 			}
-		};
-
+		}
 		try {
-			ResourcesPlugin.getWorkspace().run(runnable, null, 0, new NullProgressMonitor());
+			BreakpointEnablement.setEnabled(breakpoints.toArray(new IBreakpoint[breakpoints.size()]), isEnableAction());
 		} catch (CoreException e) {
-			// Exceptions are handled by runnable
+			ms.merge(e.getStatus());
 		}
 
 		if (!ms.isOK()) {
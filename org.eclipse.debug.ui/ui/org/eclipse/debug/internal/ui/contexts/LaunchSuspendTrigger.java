@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -41,7 +41,7 @@ public class LaunchSuspendTrigger implements ISuspendTrigger, IDebugEventSetList
 	public LaunchSuspendTrigger(ILaunch launch, SuspendTriggerAdapterFactory factory) {
 		fFactory = factory;
 		fLaunch = launch;
-		DebugPlugin.getDefault().addDebugEventListener(this);
+		DebugPlugin.getDefault().addDebugEventListener(this, DebugEvent.SUSPEND, 0, null, launch);
 	}
 
 	public ILaunch getLaunch() {
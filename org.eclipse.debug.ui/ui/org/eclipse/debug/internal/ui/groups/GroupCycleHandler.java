@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2016, 2018 SSI Schaefer and others.
+ *  Copyright (c) 2016, 2026 SSI Schaefer and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -30,7 +30,14 @@ public class GroupCycleHandler implements IStatusHandler {
 
 	@Override
 	public Object handleStatus(IStatus status, final Object source) throws CoreException {
-		PlatformUI.getWorkbench().getDisplay().asyncExec(() -> MessageDialog.openError(PlatformUI.getWorkbench().getActiveWorkbenchWindow().getShell(), DebugUIMessages.GroupLaunch_Error, NLS.bind(DebugUIMessages.GroupLaunch_Cycle, source.toString())));
+		final String message;
+		if (source instanceof String[]) {
+			// group name and members of a dependency cycle
+			message = NLS.bind(DebugUIMessages.GroupLaunch_DependencyCycle, (Object[]) source);
+		} else {
+			message = NLS.bind(DebugUIMessages.GroupLaunch_Cycle, source.toString());
+		}
+		PlatformUI.getWorkbench().getDisplay().asyncExec(() -> MessageDialog.openError(PlatformUI.getWorkbench().getActiveWorkbenchWindow().getShell(), DebugUIMessages.GroupLaunch_Error, message));
 		return null;
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2009, 2018 QNX Software Systems and others.
+ *  Copyright (c) 2009, 2026 QNX Software Systems and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -240,6 +240,7 @@ class GroupLaunchConfigurationSelectionDialog extends TitleAreaDialog implements
 		combo.add(GroupElementPostLaunchAction.WAIT_FOR_TERMINATION.getDescription());
 		combo.add(GroupElementPostLaunchAction.DELAY.getDescription());
 		combo.add(GroupElementPostLaunchAction.OUTPUT_REGEXP.getDescription());
+		combo.add(GroupElementPostLaunchAction.PORT_OPEN.getDescription());
 		combo.addSelectionListener(new SelectionAdapter() {
 			@Override
 			public void widgetSelected(SelectionEvent e) {
@@ -263,7 +264,7 @@ class GroupLaunchConfigurationSelectionDialog extends TitleAreaDialog implements
 				} catch (NumberFormatException exc) {
 					actionParam = null;
 				}
-			} else if (action == GroupElementPostLaunchAction.OUTPUT_REGEXP) {
+			} else if (action == GroupElementPostLaunchAction.OUTPUT_REGEXP || action == GroupElementPostLaunchAction.PORT_OPEN) {
 				actionParam = text;
 			}
 			validate();
@@ -278,7 +279,7 @@ class GroupLaunchConfigurationSelectionDialog extends TitleAreaDialog implements
 	}
 
 	private void showHideDelayAmountWidgets() {
-		final boolean visible = (action == GroupElementPostLaunchAction.DELAY || action == GroupElementPostLaunchAction.OUTPUT_REGEXP);
+		final boolean visible = (action == GroupElementPostLaunchAction.DELAY || action == GroupElementPostLaunchAction.OUTPUT_REGEXP || action == GroupElementPostLaunchAction.PORT_OPEN);
 		fActionParamLabel.setVisible(visible);
 		fActionParamWidget.setVisible(visible);
 
@@ -286,6 +287,8 @@ class GroupLaunchConfigurationSelectionDialog extends TitleAreaDialog implements
 			fActionParamLabel.setText(DebugUIMessages.GroupLaunchConfigurationSelectionDialog_9);
 		} else if (action == GroupElementPostLaunchAction.OUTPUT_REGEXP) {
 			fActionParamLabel.setText(DebugUIMessages.GroupLaunchConfigurationSelectionDialog_regexp);
+		} else if (action == GroupElementPostLaunchAction.PORT_OPEN) {
+			fActionParamLabel.setText(DebugUIMessages.GroupLaunchConfigurationSelectionDialog_port);
 		}
 
 		fActionParamLabel.getParent().layout();
@@ -393,6 +396,11 @@ class GroupLaunchConfigurationSelectionDialog extends TitleAreaDialog implements
 				}
 				setErrorMessage(isValid ? null : DebugUIMessages.GroupLaunchConfigurationSelectionDialog_errorNoRegexp);
 			}
+
+			if (action == GroupElementPostLaunchAction.PORT_OPEN) {
+				isValid = GroupLaunchElement.getPortAddress(actionParam) != null;
+				setErrorMessage(isValid ? null : DebugUIMessages.GroupLaunchConfigurationSelectionDialog_errorNoPort);
+			}
 		}
 
 		if (ok_button != null) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2009, 2018 QNX Software Systems and others.
+ *  Copyright (c) 2009, 2026 QNX Software Systems and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -175,6 +175,8 @@ public class GroupLaunchConfigurationTabGroup extends AbstractLaunchConfiguratio
 						return NLS.bind(DebugUIMessages.GroupLaunchConfigurationTabGroup_13, actionParam instanceof Integer ? Integer.toString((Integer) actionParam) : "?"); //$NON-NLS-1$
 					case OUTPUT_REGEXP:
 						return NLS.bind(DebugUIMessages.GroupLaunchConfigurationTabGroup_0, el.actionParam);
+					case PORT_OPEN:
+						return NLS.bind(DebugUIMessages.GroupLaunchConfigurationTabGroup_waitForPort, el.actionParam);
 					default:
 						assert false : "new post launch action missing logic here"; //$NON-NLS-1$
 						return ""; //$NON-NLS-1$
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,16 +16,15 @@ package org.eclipse.debug.internal.ui.launchConfigurations;
 import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -75,7 +74,6 @@ import org.eclipse.ui.IFileEditorInput;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.activities.IWorkbenchActivitySupport;
 import org.eclipse.ui.activities.WorkbenchActivityHelper;
-import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -185,10 +183,21 @@ public class LaunchConfigurationManager implements ILaunchListener, ISavePartici
 	protected boolean fRestoring = false;
 
 	/**
-	 * The name of the file used to persist the launch history.
+	 * The name of the XML file the launch history was persisted in before the
+	 * journal. It is only read to migrate the launch history.
 	 */
 	private static final String LAUNCH_CONFIGURATION_HISTORY_FILENAME = "launchConfigurationHistory.xml"; //$NON-NLS-1$
 
+	/**
+	 * The name of the journal used to persist the launch history.
+	 */
+	private static final String LAUNCH_CONFIGURATION_HISTORY_JOURNAL = "launchConfigurationHistory.journal"; //$NON-NLS-1$
+
+	/**
+	 * The journal the launch history is persisted in, created on first use.
+	 */
+	private LaunchHistoryJournal fHistoryJournal;
+
 	/**
 	 * performs initialization of the manager when it is started
 	 */
@@ -229,6 +238,19 @@ public class LaunchConfigurationManager implements ILaunchListener, ISavePartici
 		return false;
 	}
 
+	/**
+	 * Reads the attributes of the given configurations in parallel, such that
+	 * accessing them one by one afterwards does not read files.
+	 *
+	 * @param configurations the configurations about to be accessed
+	 */
+	public static void prefetchConfigurations(ILaunchConfiguration[] configurations) {
+		ILaunchManager manager = DebugPlugin.getDefault().getLaunchManager();
+		if (manager instanceof LaunchManager) {
+			((LaunchManager) manager).prefetchLaunchConfigurations(configurations, null);
+		}
+	}
+
 	/**
 	 * Returns a collection of launch configurations that does not contain
 	 * configurations from disabled activities.
@@ -241,6 +263,7 @@ public class LaunchConfigurationManager implements ILaunchListener, ISavePartici
 		if (activitySupport == null) {
 			return configurations;
 		}
+		prefetchConfigurations(configurations);
 		List<ILaunchConfiguration> filteredConfigs = new ArrayList<>();
 		for (ILaunchConfiguration configuration : configurations) {
 			try {
@@ -395,45 +418,19 @@ public class LaunchConfigurationManager implements ILaunchListener, ISavePartici
 	}
 
 	/**
-	 * Returns the history listing as XML
-	 * @return the history listing as XML
-	 * @throws CoreException if an exception occurs
-	 * @throws ParserConfigurationException if there is a problem creating the XML for the launch history
+	 * Returns the mementos of the given configurations that exist.
+	 * @param configurations the configurations
+	 * @return the mementos of the existing configurations
+	 * @throws CoreException if a memento cannot be created
 	 */
-	protected String getHistoryAsXML() throws CoreException, ParserConfigurationException {
-		Document doc = DebugUIPlugin.getDocument();
-		Element historyRootElement = doc.createElement(IConfigurationElementConstants.LAUNCH_HISTORY);
-		doc.appendChild(historyRootElement);
-		for (LaunchHistory history : fLaunchHistories.values()) {
-			Element groupElement = doc.createElement(IConfigurationElementConstants.LAUNCH_GROUP);
-			groupElement.setAttribute(IConfigurationElementConstants.ID, history.getLaunchGroup().getIdentifier());
-			historyRootElement.appendChild(groupElement);
-			Element historyElement = doc.createElement(IConfigurationElementConstants.MRU_HISTORY);
-			groupElement.appendChild(historyElement);
-			createEntry(doc, historyElement, history.getCompleteLaunchHistory());
-			Element favs = doc.createElement(IConfigurationElementConstants.FAVORITES);
-			groupElement.appendChild(favs);
-			createEntry(doc, favs, history.getFavorites());
-			history.setSaved(true);
-		}
-		return DebugPlugin.serializeDocument(doc);
-	}
-
-	/**
-	 * Creates a new launch history element and adds it to the specified <code>Document</code>
-	 * @param doc the <code>Document</code> to add the new element to
-	 * @param historyRootElement the root element
-	 * @param configurations the configurations to create entries for
-	 * @throws CoreException is an exception occurs
-	 */
-	protected void createEntry(Document doc, Element historyRootElement, ILaunchConfiguration[] configurations) throws CoreException {
+	private static List<String> getMementos(ILaunchConfiguration[] configurations) throws CoreException {
+		List<String> mementos = new ArrayList<>(configurations.length);
 		for (ILaunchConfiguration configuration : configurations) {
 			if (configuration.exists()) {
-				Element launch = doc.createElement(IConfigurationElementConstants.LAUNCH);
-				launch.setAttribute(IConfigurationElementConstants.MEMENTO, configuration.getMemento());
-				historyRootElement.appendChild(launch);
+				mementos.add(configuration.getMemento());
 			}
 		}
+		return mementos;
 	}
 
 	/**
@@ -445,47 +442,83 @@ public class LaunchConfigurationManager implements ILaunchListener, ISavePartici
 	}
 
 	/**
-	 * Write out an XML file indicating the entries on the run & debug history lists and
-	 * the most recent launch.
-	 * @throws IOException if writing the history file fails
+	 * Returns the journal the launch history is persisted in.
+	 * @return the launch history journal
+	 */
+	private synchronized LaunchHistoryJournal getHistoryJournal() {
+		if (fHistoryJournal == null) {
+			fHistoryJournal = new LaunchHistoryJournal(DebugUIPlugin.getDefault().getStateLocation().append(LAUNCH_CONFIGURATION_HISTORY_JOURNAL));
+		}
+		return fHistoryJournal;
+	}
+
+	/**
+	 * Appends the entries on the run & debug history lists and the favorites
+	 * of the launch histories that changed to the launch history journal.
+	 * @throws IOException if writing the history journal fails
 	 * @throws CoreException is an exception occurs
-	 * @throws ParserConfigurationException if there is a problem reading the XML
 	 */
-	protected void persistLaunchHistory() throws IOException, CoreException, ParserConfigurationException {
+	protected void persistLaunchHistory() throws IOException, CoreException {
 		synchronized (this) {
 			if (fLaunchHistories == null || fRestoring) {
 				return;
 			}
 		}
-		boolean shouldsave = false;
+		Map<String, LaunchHistoryJournal.GroupHistory> changed = new LinkedHashMap<>();
 		for (LaunchHistory history : fLaunchHistories.values()) {
-			shouldsave |= history.needsSaving();
-		}
-		if(shouldsave) {
-			IPath historyPath = getHistoryFilePath();
-			String osHistoryPath = historyPath.toOSString();
-			String xml = getHistoryAsXML();
-			File file = new File(osHistoryPath);
-			file.createNewFile();
-
-			try (FileOutputStream stream = new FileOutputStream(file)) {
-				stream.write(xml.getBytes(StandardCharsets.UTF_8));
+			if (history.needsSaving()) {
+				List<String> mruHistory = getMementos(history.getCompleteLaunchHistory());
+				List<String> favorites = getMementos(history.getFavorites());
+				changed.put(history.getLaunchGroup().getIdentifier(), new LaunchHistoryJournal.GroupHistory(mruHistory, favorites));
+				history.setSaved(true);
 			}
 		}
+		getHistoryJournal().write(changed);
 	}
 
 	/**
-	 * Find the XML history file and parse it.  Place the corresponding configurations
-	 * in the appropriate history, and set the most recent launch.
+	 * Reads the launch history journal and hands the persisted history of each
+	 * launch group to its launch history, which restores it on first access. If
+	 * there is no journal yet, the XML history file is migrated. The XML file
+	 * is kept, such that earlier versions still find the history after a
+	 * downgrade.
 	 */
 	private void restoreLaunchHistory() {
+		LaunchHistoryJournal journal = getHistoryJournal();
+		Map<String, LaunchHistoryJournal.GroupHistory> groups;
+		if (journal.exists()) {
+			groups = journal.read();
+		} else {
+			groups = readHistoryXML();
+			try {
+				journal.write(groups);
+			} catch (IOException e) {
+				DebugUIPlugin.log(e);
+			}
+		}
+		for (Map.Entry<String, LaunchHistoryJournal.GroupHistory> group : groups.entrySet()) {
+			LaunchHistory history = fLaunchHistories.get(group.getKey());
+			if (history != null) {
+				history.setPersistedHistory(group.getValue());
+			}
+		}
+	}
+
+	/**
+	 * Find the XML history file and parse it. Entries of the launch groups are
+	 * returned, entries of the old format without launch groups are placed in
+	 * the appropriate history.
+	 * @return the persisted history of each launch group
+	 */
+	private Map<String, LaunchHistoryJournal.GroupHistory> readHistoryXML() {
+		Map<String, LaunchHistoryJournal.GroupHistory> groups = new LinkedHashMap<>();
 		// Find the history file
 		IPath historyPath = getHistoryFilePath();
 		String osHistoryPath = historyPath.toOSString();
 		File file = new File(osHistoryPath);
 		// If no history file, nothing to do
 		if (!file.exists()) {
-			return;
+			return groups;
 		}
 
 		Element rootHistoryElement= null;
@@ -497,21 +530,21 @@ public class LaunchConfigurationManager implements ILaunchListener, ISavePartici
 				rootHistoryElement = parser.parse(new InputSource(stream)).getDocumentElement();
 			} catch (SAXException e) {
 				DebugUIPlugin.log(e);
-				return;
+				return groups;
 			} catch (ParserConfigurationException e) {
 				DebugUIPlugin.log(e);
-				return;
+				return groups;
 			}
 		} catch (IOException exception) {
 			DebugUIPlugin.log(exception);
-			return;
+			return groups;
 		}
 		// If root node isn't what we expect, return
 		if (!rootHistoryElement.getNodeName().equalsIgnoreCase(IConfigurationElementConstants.LAUNCH_HISTORY)) {
-			return;
+			return groups;
 		}
-		// For each child of the root node, construct a launch config handle and add it to
-		// the appropriate history, or set the most recent launch
+		// For each child of the root node, collect the mementos of the launch group, or
+		// construct a launch config handle and add it to the appropriate history
 		LaunchHistory[] histories = fLaunchHistories.values().toArray(new LaunchHistory[fLaunchHistories.size()]);
 		NodeList list = rootHistoryElement.getChildNodes();
 		int length = list.getLength();
@@ -529,23 +562,23 @@ public class LaunchConfigurationManager implements ILaunchListener, ISavePartici
 				} else if (entry.getNodeName().equals(IConfigurationElementConstants.LAUNCH_GROUP)) {
 					String id = entry.getAttribute(IConfigurationElementConstants.ID);
 					if (id != null) {
-						LaunchHistory history = getLaunchHistory(id);
-						if (history != null) {
-							restoreHistory(entry, history);
-						}
+						groups.put(id, readGroupHistory(entry));
 					}
 				}
 			}
 		}
+		return groups;
 	}
 
 	/**
-	 * Restores the given launch history.
+	 * Reads the history of a launch group.
 	 *
 	 * @param groupElement launch group history
-	 * @param history associated history cache
+	 * @return the history of the launch group
 	 */
-	private void restoreHistory(Element groupElement, LaunchHistory history) {
+	private LaunchHistoryJournal.GroupHistory readGroupHistory(Element groupElement) {
+		List<String> history = new ArrayList<>();
+		List<String> favorites = new ArrayList<>();
 		NodeList nodes = groupElement.getChildNodes();
 		int length = nodes.getLength();
 		for (int i = 0; i < length; i++) {
@@ -553,29 +586,22 @@ public class LaunchConfigurationManager implements ILaunchListener, ISavePartici
 			if (node.getNodeType() == Node.ELEMENT_NODE) {
 				Element element = (Element)node;
 				if (element.getNodeName().equals(IConfigurationElementConstants.MRU_HISTORY)) {
-					for (ILaunchConfiguration config : getLaunchConfigurations(element)) {
-						history.addHistory(config, false);
-					}
+					history.addAll(getMementos(element));
 				} else if (element.getNodeName().equals(IConfigurationElementConstants.FAVORITES)) {
-					ILaunchConfiguration[] favs = getLaunchConfigurations(element);
-					history.setFavorites(favs);
-					// add any favorites that have been added to the workspace before this plug-in
-					// was loaded - @see bug 231600
-					for (ILaunchConfiguration configuration : getLaunchManager().getLaunchConfigurations()) {
-						history.checkFavorites(configuration);
-					}
+					favorites.addAll(getMementos(element));
 				}
 			}
 		}
+		return new LaunchHistoryJournal.GroupHistory(history, favorites);
 	}
 
 	/**
-	 * Restores a list of configurations.
+	 * Reads a list of configuration mementos.
 	 * @param root element
-	 * @return list of configurations under the element
+	 * @return list of mementos under the element
 	 */
-	private ILaunchConfiguration[] getLaunchConfigurations(Element root) {
-		List<ILaunchConfiguration> configs = new ArrayList<>();
+	private List<String> getMementos(Element root) {
+		List<String> mementos = new ArrayList<>();
 		NodeList nodes = root.getChildNodes();
 		int length = nodes.getLength();
 		for (int i = 0; i < length; i++) {
@@ -585,21 +611,12 @@ public class LaunchConfigurationManager implements ILaunchListener, ISavePartici
 				if (element.getNodeName().equals(IConfigurationElementConstants.LAUNCH)) {
 					String memento = element.getAttribute(IConfigurationElementConstants.MEMENTO);
 					if (memento != null) {
-						try {
-							ILaunchConfiguration configuration = DebugPlugin.getDefault().getLaunchManager().getLaunchConfiguration(memento);
-							//touch the config to see if its type exists
-							configuration.getType();
-							if (configuration.exists()) {
-								configs.add(configuration);
-							}
-						} catch (CoreException e) {
-							//do nothing as we don't care about non-existent, or configs with no type
-						}
+						mementos.add(memento);
 					}
 				}
 			}
 		}
-		return configs.toArray(new ILaunchConfiguration[configs.size()]);
+		return mementos;
 	}
 
 	/**
@@ -1180,8 +1197,6 @@ public class LaunchConfigurationManager implements ILaunchListener, ISavePartici
 			persistLaunchHistory();
 		}  catch (IOException e) {
 			throw new CoreException(new Status(IStatus.ERROR, DebugUIPlugin.getUniqueIdentifier(), "Internal error saving launch history", e)); //$NON-NLS-1$
-		} catch (ParserConfigurationException e) {
-			throw new CoreException(new Status(IStatus.ERROR, DebugUIPlugin.getUniqueIdentifier(), "Internal error saving launch history", e)); //$NON-NLS-1$
 		}
 	}
 
@@ -152,6 +152,8 @@ public class LaunchConfigurationTreeContentProvider implements ITreeContentProvi
 	@Override
 	public Object[] getElements(Object inputElement) {
 		ILaunchConfigurationType[] allTypes = getLaunchManager().getLaunchConfigurationTypes();
+		// the children of the types are about to be read one by one
+		LaunchConfigurationManager.prefetchConfigurations(getLaunchManager().getLaunchConfigurations(ILaunchConfiguration.CONFIGURATION | ILaunchConfiguration.PROTOTYPE));
 		return filterTypes(allTypes).toArray();
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -59,6 +59,12 @@ public class LaunchHistory implements ILaunchListener, ILaunchConfigurationListe
 	 */
 	private boolean fSaved = true;
 
+	/**
+	 * Persisted history that is not yet restored or <code>null</code>. It is
+	 * restored on first access to this history.
+	 */
+	private LaunchHistoryJournal.GroupHistory fPersisted;
+
 	/**
 	 * List of instances of this launch history
 	 */
@@ -102,8 +108,11 @@ public class LaunchHistory implements ILaunchListener, ILaunchConfigurationListe
 	 * @return true if the current history contains the specified configuration, false otherwise
 	 * @since 3.3
 	 */
-	public synchronized boolean contains(ILaunchConfiguration configuration) {
-		return fCompleteHistory.contains(configuration);
+	public boolean contains(ILaunchConfiguration configuration) {
+		restore();
+		synchronized (this) {
+			return fCompleteHistory.contains(configuration);
+		}
 	}
 
 	/**
@@ -114,10 +123,11 @@ public class LaunchHistory implements ILaunchListener, ILaunchConfigurationListe
 	 * the history list
 	 */
 	protected void addHistory(ILaunchConfiguration configuration, boolean prepend) {
+		if (configuration.isWorkingCopy()) {
+			return;
+		}
+		restore();
 		synchronized (this) {
-			if(configuration.isWorkingCopy()) {
-				return;
-			}
 			checkFavorites(configuration);
 			int index = fCompleteHistory.indexOf(configuration);
 			if(index == 0) {
@@ -169,6 +179,99 @@ public class LaunchHistory implements ILaunchListener, ILaunchConfigurationListe
 		fSaved = saved;
 	}
 
+	/**
+	 * Sets the persisted history of this launch group. The mementos are
+	 * resolved to launch configurations on first access to this history, this
+	 * history is not considered changed by the restore.
+	 *
+	 * @param persisted the persisted history
+	 */
+	synchronized void setPersistedHistory(LaunchHistoryJournal.GroupHistory persisted) {
+		fPersisted = persisted;
+	}
+
+	/**
+	 * Restores the persisted history if not yet done. The launch
+	 * configurations are resolved and read without holding the monitor of this
+	 * history, so it is called before acquiring the monitor. Calls made while
+	 * holding the monitor find the history restored already.
+	 */
+	private void restore() {
+		LaunchHistoryJournal.GroupHistory persisted;
+		synchronized (this) {
+			persisted = fPersisted;
+		}
+		if (persisted == null) {
+			return;
+		}
+		List<ILaunchConfiguration> history = getLaunchConfigurations(persisted.getHistory());
+		List<ILaunchConfiguration> favorites = getLaunchConfigurations(persisted.getFavorites());
+		// add any favorites that have been added to the workspace before this plug-in
+		// was loaded - @see bug 231600
+		ILaunchConfiguration[] configurations = DebugPlugin.getDefault().getLaunchManager().getLaunchConfigurations();
+		LaunchConfigurationManager.prefetchConfigurations(configurations);
+		List<ILaunchConfiguration> workspaceFavorites = new ArrayList<>();
+		List<ILaunchConfiguration> noFavorites = new ArrayList<>();
+		for (ILaunchConfiguration configuration : configurations) {
+			try {
+				if (isFavorite(configuration)) {
+					workspaceFavorites.add(configuration);
+				} else {
+					noFavorites.add(configuration);
+				}
+			} catch (CoreException e) {
+				noFavorites.add(configuration);
+			}
+		}
+		synchronized (this) {
+			if (fPersisted != persisted) {
+				// restored concurrently
+				return;
+			}
+			fPersisted = null;
+			for (ILaunchConfiguration configuration : history) {
+				if (!fCompleteHistory.contains(configuration)) {
+					fCompleteHistory.add(configuration);
+				}
+			}
+			for (ILaunchConfiguration configuration : favorites) {
+				if (!fFavorites.contains(configuration)) {
+					fFavorites.add(configuration);
+				}
+			}
+			for (ILaunchConfiguration configuration : workspaceFavorites) {
+				if (!fFavorites.contains(configuration)) {
+					fFavorites.add(configuration);
+				}
+			}
+			fFavorites.removeAll(noFavorites);
+			resizeHistory();
+		}
+	}
+
+	/**
+	 * Resolves the given mementos to existing launch configurations.
+	 *
+	 * @param mementos launch configuration mementos
+	 * @return the existing configurations of the given mementos
+	 */
+	private static List<ILaunchConfiguration> getLaunchConfigurations(List<String> mementos) {
+		List<ILaunchConfiguration> configs = new ArrayList<>(mementos.size());
+		for (String memento : mementos) {
+			try {
+				ILaunchConfiguration configuration = DebugPlugin.getDefault().getLaunchManager().getLaunchConfiguration(memento);
+				//touch the config to see if its type exists
+				configuration.getType();
+				if (configuration.exists()) {
+					configs.add(configuration);
+				}
+			} catch (CoreException e) {
+				//do nothing as we don't care about non-existent, or configs with no type
+			}
+		}
+		return configs;
+	}
+
 	/**
 	 * @see org.eclipse.debug.core.ILaunchListener#launchChanged(org.eclipse.debug.core.ILaunch)
 	 */
@@ -188,7 +291,7 @@ public class LaunchHistory implements ILaunchListener, ILaunchConfigurationListe
 	 * @return the most recently launched configuration in this history, or
 	 * <code>null</code> if none
 	 */
-	public synchronized ILaunchConfiguration getRecentLaunch() {
+	public ILaunchConfiguration getRecentLaunch() {
 		ILaunchConfiguration[] history = getCompleteLaunchHistory();
 		if(history.length > 0) {
 			return history[0];
@@ -202,23 +305,26 @@ public class LaunchHistory implements ILaunchListener, ILaunchConfigurationListe
 	 *
 	 * @return launch history
 	 */
-	public synchronized ILaunchConfiguration[] getHistory() {
-		Vector<ILaunchConfiguration> history = new Vector<>();
-		try {
-			for (ILaunchConfiguration config : fCompleteHistory) {
-				if(config.exists() && !fFavorites.contains(config) &&
-						DebugUIPlugin.doLaunchConfigurationFiltering(config) &&
-						!WorkbenchActivityHelper.filterItem(new LaunchConfigurationTypeContribution(config.getType()))) {
-					history.add(config);
+	public ILaunchConfiguration[] getHistory() {
+		restore();
+		synchronized (this) {
+			Vector<ILaunchConfiguration> history = new Vector<>();
+			try {
+				for (ILaunchConfiguration config : fCompleteHistory) {
+					if(config.exists() && !fFavorites.contains(config) &&
+							DebugUIPlugin.doLaunchConfigurationFiltering(config) &&
+							!WorkbenchActivityHelper.filterItem(new LaunchConfigurationTypeContribution(config.getType()))) {
+						history.add(config);
+					}
+				}
+				//size it to the max specified history size
+				if(history.size() > getMaxHistorySize()) {
+					history.setSize(getMaxHistorySize());
 				}
 			}
-			//size it to the max specified history size
-			if(history.size() > getMaxHistorySize()) {
-				history.setSize(getMaxHistorySize());
-			}
+			catch(CoreException ce) {DebugUIPlugin.log(ce);}
+			return history.toArray(new ILaunchConfiguration[history.size()]);
 		}
-		catch(CoreException ce) {DebugUIPlugin.log(ce);}
-		return history.toArray(new ILaunchConfiguration[history.size()]);
 	}
 
 	/**
@@ -229,18 +335,21 @@ public class LaunchHistory implements ILaunchListener, ILaunchConfigurationListe
 	 *
 	 * @since 3.3
 	 */
-	public synchronized ILaunchConfiguration[] getCompleteLaunchHistory() {
-		ArrayList<ILaunchConfiguration> history = new ArrayList<>();
-		try {
-			for (ILaunchConfiguration config : fCompleteHistory) {
-				if(config.exists() && DebugUIPlugin.doLaunchConfigurationFiltering(config) &&
-				!WorkbenchActivityHelper.filterItem(new LaunchConfigurationTypeContribution(config.getType()))) {
-					history.add(config);
+	public ILaunchConfiguration[] getCompleteLaunchHistory() {
+		restore();
+		synchronized (this) {
+			ArrayList<ILaunchConfiguration> history = new ArrayList<>();
+			try {
+				for (ILaunchConfiguration config : fCompleteHistory) {
+					if(config.exists() && DebugUIPlugin.doLaunchConfigurationFiltering(config) &&
+					!WorkbenchActivityHelper.filterItem(new LaunchConfigurationTypeContribution(config.getType()))) {
+						history.add(config);
+					}
 				}
 			}
+			catch (CoreException ce) {DebugUIPlugin.log(ce);}
+			return history.toArray(new ILaunchConfiguration[history.size()]);
 		}
-		catch (CoreException ce) {DebugUIPlugin.log(ce);}
-		return history.toArray(new ILaunchConfiguration[history.size()]);
 	}
 
 	/**
@@ -249,8 +358,11 @@ public class LaunchHistory implements ILaunchListener, ILaunchConfigurationListe
 	 *
 	 * @return launch favorites
 	 */
-	public synchronized ILaunchConfiguration[] getFavorites() {
-		return fFavorites.toArray(new ILaunchConfiguration[fFavorites.size()]);
+	public ILaunchConfiguration[] getFavorites() {
+		restore();
+		synchronized (this) {
+			return fFavorites.toArray(new ILaunchConfiguration[fFavorites.size()]);
+		}
 	}
 
 	/**
@@ -258,10 +370,13 @@ public class LaunchHistory implements ILaunchListener, ILaunchConfigurationListe
 	 *
 	 * @param favorites
 	 */
-	public synchronized void setFavorites(ILaunchConfiguration[] favorites) {
-		fFavorites = new Vector<>(Arrays.asList(favorites));
-		setSaved(false);
-		fireLaunchHistoryChanged();
+	public void setFavorites(ILaunchConfiguration[] favorites) {
+		restore();
+		synchronized (this) {
+			fFavorites = new Vector<>(Arrays.asList(favorites));
+			setSaved(false);
+			fireLaunchHistoryChanged();
+		}
 	}
 
 	/**
@@ -269,11 +384,14 @@ public class LaunchHistory implements ILaunchListener, ILaunchConfigurationListe
 	 *
 	 * @param configuration
 	 */
-	public synchronized void addFavorite(ILaunchConfiguration configuration) {
-		if (!fFavorites.contains(configuration)) {
-			fFavorites.add(configuration);
-			setSaved(false);
-			fireLaunchHistoryChanged();
+	public void addFavorite(ILaunchConfiguration configuration) {
+		restore();
+		synchronized (this) {
+			if (!fFavorites.contains(configuration)) {
+				fFavorites.add(configuration);
+				setSaved(false);
+				fireLaunchHistoryChanged();
+			}
 		}
 	}
 
@@ -326,10 +444,13 @@ public class LaunchHistory implements ILaunchListener, ILaunchConfigurationListe
 	 * The max history size has changed - remove any histories if current
 	 * collection is too long.
 	 */
-	protected synchronized void resizeHistory() {
-		int max = getMaxHistorySize() + fFavorites.size();
-		if (fCompleteHistory.size() > max) {
-			fCompleteHistory.setSize(max);
+	protected void resizeHistory() {
+		restore();
+		synchronized (this) {
+			int max = getMaxHistorySize() + fFavorites.size();
+			if (fCompleteHistory.size() > max) {
+				fCompleteHistory.setSize(max);
+			}
 		}
 	}
 
@@ -414,10 +535,13 @@ public class LaunchHistory implements ILaunchListener, ILaunchConfigurationListe
 	 *
 	 * @param configuration
 	 */
-	protected synchronized void removeFavorite(ILaunchConfiguration configuration) {
-		fFavorites.remove(configuration);
-		setSaved(false);
-		fireLaunchHistoryChanged();
+	protected void removeFavorite(ILaunchConfiguration configuration) {
+		restore();
+		synchronized (this) {
+			fFavorites.remove(configuration);
+			setSaved(false);
+			fireLaunchHistoryChanged();
+		}
 	}
 
 	/**
@@ -428,18 +552,21 @@ public class LaunchHistory implements ILaunchListener, ILaunchConfigurationListe
 	 *
 	 * @since 3.4
 	 */
-	public synchronized void removeFromHistory(ILaunchConfiguration configuration) {
-		try {
-			boolean removed = fCompleteHistory.remove(configuration);
-			if(isFavorite(configuration)) {
-				removed |= fFavorites.remove(configuration);
-			}
-			if(removed) {
-				setSaved(false);
-				fireLaunchHistoryChanged();
+	public void removeFromHistory(ILaunchConfiguration configuration) {
+		restore();
+		synchronized (this) {
+			try {
+				boolean removed = fCompleteHistory.remove(configuration);
+				if(isFavorite(configuration)) {
+					removed |= fFavorites.remove(configuration);
+				}
+				if(removed) {
+					setSaved(false);
+					fireLaunchHistoryChanged();
+				}
 			}
+			catch(CoreException ce) {}
 		}
-		catch(CoreException ce) {}
 	}
 
 	/**
@@ -455,6 +582,7 @@ public class LaunchHistory implements ILaunchListener, ILaunchConfigurationListe
 	 */
 	@Override
 	public void launchConfigurationRemoved(ILaunchConfiguration configuration) {
+		restore();
 		synchronized (this) {
 			ILaunchConfiguration newConfig = DebugPlugin.getDefault().getLaunchManager().getMovedTo(configuration);
 			if (newConfig == null) {
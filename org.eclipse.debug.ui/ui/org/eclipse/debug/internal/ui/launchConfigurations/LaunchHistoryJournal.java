@@ -0,0 +1,334 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.internal.ui.launchConfigurations;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.eclipse.core.runtime.IPath;
+
+/**
+ * Append-only journal of the launch histories of all launch groups.
+ * <p>
+ * The journal starts with a magic number and a format version followed by
+ * records. Every record is a snapshot of the history and favorites mementos
+ * of one launch group, framed by its length and a CRC32 checksum. Saving a
+ * changed launch group appends one record, the last record of a group wins.
+ * The journal is compacted to one record per group once it holds more than
+ * {@link #COMPACTION_FACTOR} records per group, or if a truncated or corrupt
+ * record was found, which is ignored together with everything following it.
+ * </p>
+ * <p>
+ * Mementos are not resolved to launch configurations, that is left to the
+ * launch histories when they are first accessed.
+ * </p>
+ */
+public class LaunchHistoryJournal {
+
+	/**
+	 * Magic number at the start of the journal.
+	 */
+	private static final int MAGIC = 0x4C48494A; // "LHIJ"
+
+	/**
+	 * Version of the journal format.
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * Length of the magic number and version.
+	 */
+	private static final int HEADER_LENGTH = 8;
+
+	/**
+	 * Length of the length and checksum framing a record.
+	 */
+	private static final int RECORD_FRAME_LENGTH = 8;
+
+	/**
+	 * Number of records per launch group above which the journal is
+	 * compacted.
+	 */
+	private static final int COMPACTION_FACTOR = 4;
+
+	/**
+	 * Persisted history of a single launch group.
+	 */
+	public static final class GroupHistory {
+		private final List<String> fHistory;
+		private final List<String> fFavorites;
+
+		/**
+		 * Creates a group history.
+		 *
+		 * @param history mementos of the launch history, most recent first
+		 * @param favorites mementos of the favorites
+		 */
+		public GroupHistory(List<String> history, List<String> favorites) {
+			fHistory = Collections.unmodifiableList(new ArrayList<>(history));
+			fFavorites = Collections.unmodifiableList(new ArrayList<>(favorites));
+		}
+
+		/**
+		 * @return mementos of the launch history, most recent first
+		 */
+		public List<String> getHistory() {
+			return fHistory;
+		}
+
+		/**
+		 * @return mementos of the favorites
+		 */
+		public List<String> getFavorites() {
+			return fFavorites;
+		}
+	}
+
+	private final File fFile;
+
+	/**
+	 * The latest history of each launch group in the journal.
+	 */
+	private final Map<String, GroupHistory> fGroups = new LinkedHashMap<>();
+
+	/**
+	 * Number of valid records in the journal file.
+	 */
+	private int fRecords;
+
+	/**
+	 * Whether the journal file has to be rewritten before records can be
+	 * appended.
+	 */
+	private boolean fCompact;
+
+	private boolean fLoaded;
+
+	/**
+	 * Creates a journal persisted in the given file.
+	 *
+	 * @param file the journal file
+	 */
+	public LaunchHistoryJournal(IPath file) {
+		fFile = file.toFile();
+	}
+
+	/**
+	 * Returns whether the journal file exists.
+	 *
+	 * @return whether the journal file exists
+	 */
+	public boolean exists() {
+		return fFile.isFile();
+	}
+
+	/**
+	 * Returns the latest persisted history of each launch group.
+	 *
+	 * @return histories keyed by launch group identifier
+	 */
+	public synchronized Map<String, GroupHistory> read() {
+		load();
+		return new LinkedHashMap<>(fGroups);
+	}
+
+	/**
+	 * Appends the given launch group histories to the journal. The journal is
+	 * compacted instead if it grew too large or has a corrupt tail.
+	 *
+	 * @param groups histories keyed by launch group identifier
+	 * @throws IOException if writing the journal fails
+	 */
+	public synchronized void write(Map<String, GroupHistory> groups) throws IOException {
+		load();
+		if (groups.isEmpty()) {
+			return;
+		}
+		fGroups.putAll(groups);
+		if (fCompact || !fFile.isFile() || fRecords + groups.size() > COMPACTION_FACTOR * fGroups.size()) {
+			compact();
+			return;
+		}
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(fFile, true)))) {
+			for (Map.Entry<String, GroupHistory> group : groups.entrySet()) {
+				writeRecord(out, group.getKey(), group.getValue());
+			}
+		} catch (IOException e) {
+			// a partially appended record is dropped when read
+			fCompact = true;
+			throw e;
+		}
+		fRecords += groups.size();
+	}
+
+	/**
+	 * Rewrites the journal with a single record per launch group.
+	 *
+	 * @throws IOException if writing the journal fails
+	 */
+	public synchronized void compact() throws IOException {
+		load();
+		File temp = new File(fFile.getPath() + ".tmp"); //$NON-NLS-1$
+		try {
+			temp.getParentFile().mkdirs();
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				for (Map.Entry<String, GroupHistory> group : fGroups.entrySet()) {
+					writeRecord(out, group.getKey(), group.getValue());
+				}
+			}
+			Files.move(temp.toPath(), fFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			temp.delete();
+			throw e;
+		}
+		fRecords = fGroups.size();
+		fCompact = false;
+	}
+
+	/**
+	 * Returns the number of records in the journal file.
+	 *
+	 * @return number of records
+	 */
+	public synchronized int getRecordCount() {
+		load();
+		return fRecords;
+	}
+
+	/**
+	 * Reads the journal file if not yet done. Reading stops at the first
+	 * truncated or corrupt record.
+	 */
+	private void load() {
+		if (fLoaded) {
+			return;
+		}
+		fLoaded = true;
+		if (!fFile.isFile()) {
+			return;
+		}
+		long size = fFile.length();
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(fFile)))) {
+			if (size < HEADER_LENGTH || in.readInt() != MAGIC || in.readInt() != VERSION) {
+				fCompact = true;
+				return;
+			}
+			long offset = HEADER_LENGTH;
+			while (offset < size) {
+				int length = size - offset >= RECORD_FRAME_LENGTH ? in.readInt() : -1;
+				if (length < 0 || offset + RECORD_FRAME_LENGTH + length > size) {
+					fCompact = true;
+					return;
+				}
+				byte[] record = new byte[length];
+				in.readFully(record);
+				if (in.readInt() != checksum(record)) {
+					fCompact = true;
+					return;
+				}
+				readRecord(record);
+				fRecords++;
+				offset += RECORD_FRAME_LENGTH + length;
+			}
+		} catch (IOException e) {
+			fCompact = true;
+		}
+	}
+
+	private void readRecord(byte[] record) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+		String groupId = readString(in);
+		List<String> history = readStrings(in);
+		List<String> favorites = readStrings(in);
+		fGroups.put(groupId, new GroupHistory(history, favorites));
+	}
+
+	private static void writeRecord(DataOutputStream out, String groupId, GroupHistory group) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream record = new DataOutputStream(bytes);
+		writeString(record, groupId);
+		writeStrings(record, group.getHistory());
+		writeStrings(record, group.getFavorites());
+		record.flush();
+		byte[] data = bytes.toByteArray();
+		out.writeInt(data.length);
+		out.write(data);
+		out.writeInt(checksum(data));
+	}
+
+	private static int checksum(byte[] data) {
+		CRC32 crc = new CRC32();
+		crc.update(data);
+		return (int) crc.getValue();
+	}
+
+	private static List<String> readStrings(DataInputStream in) throws IOException {
+		int count = in.readInt();
+		if (count < 0) {
+			throw new IOException("Invalid launch history record"); //$NON-NLS-1$
+		}
+		List<String> strings = new ArrayList<>(Math.min(count, 64));
+		for (int i = 0; i < count; i++) {
+			strings.add(readString(in));
+		}
+		return strings;
+	}
+
+	private static void writeStrings(DataOutputStream out, List<String> strings) throws IOException {
+		out.writeInt(strings.size());
+		for (String string : strings) {
+			writeString(out, string);
+		}
+	}
+
+	/**
+	 * Reads a string written by {@link #writeString(DataOutputStream, String)}.
+	 * Unlike {@link DataInputStream#readUTF()} the length is not limited to
+	 * 64K bytes, mementos of local configurations may be large.
+	 */
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0 || length > in.available()) {
+			throw new IOException("Invalid launch history record"); //$NON-NLS-1$
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeString(DataOutputStream out, String string) throws IOException {
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+}
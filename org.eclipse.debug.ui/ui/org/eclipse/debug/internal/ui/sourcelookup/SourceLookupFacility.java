@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2018 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -177,7 +177,7 @@ public class SourceLookupFacility implements IPageListener, IPartListener2, IPro
 		fEditorsByPage = new HashMap<>();
 		sourceLookupJob = new SourceLookupJob();
 		DebugUIPlugin.getDefault().getPreferenceStore().addPropertyChangeListener(this);
-		DebugPlugin.getDefault().addDebugEventListener(this);
+		DebugPlugin.getDefault().addDebugEventListener(this, DebugEvent.TERMINATE | DebugEvent.RESUME | DebugEvent.CHANGE);
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*****************************************************************
- * Copyright (c) 2009 Texas Instruments and others
+ * Copyright (c) 2009, 2026 Texas Instruments and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.debug.internal.ui.viewers.update;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.debug.core.model.IBreakpoint;
+import org.eclipse.debug.internal.ui.actions.breakpoints.BreakpointEnablement;
 import org.eclipse.debug.internal.ui.breakpoints.provisional.IBreakpointContainer;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.ICheckboxModelProxy;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IPresentationContext;
@@ -44,14 +45,14 @@ public class BreakpointContainerProxy extends AbstractModelProxy implements	IChe
 
 	@Override
 	public boolean setChecked(IPresentationContext context, Object viewerInput, TreePath path, boolean checked) {
-		boolean atLeastOne = false;
-		for (IBreakpoint breakpoint : fContainer.getBreakpoints()) {
-			try {
-				breakpoint.setEnabled(checked);
-				atLeastOne = true;
-			} catch (CoreException e) {}
+		IBreakpoint[] breakpoints = fContainer.getBreakpoints();
+		try {
+			BreakpointEnablement.setEnabled(breakpoints, checked);
+		} catch (CoreException e) {
+			// one status per breakpoint that failed
+			return e.getStatus().getChildren().length < breakpoints.length;
 		}
-		return atLeastOne;
+		return breakpoints.length > 0;
 	}
 
 }
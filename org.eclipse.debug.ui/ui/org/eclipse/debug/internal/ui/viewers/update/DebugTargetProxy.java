@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2009 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -46,6 +46,11 @@ public class DebugTargetProxy extends EventHandlerModelProxy {
 		fDebugTarget = null;
 	}
 
+	@Override
+	protected ILaunch getEventLaunch() {
+		return fDebugTarget.getLaunch();
+	}
+
 	@Override
 	protected boolean containsEvent(DebugEvent event) {
 		Object source = event.getSource();
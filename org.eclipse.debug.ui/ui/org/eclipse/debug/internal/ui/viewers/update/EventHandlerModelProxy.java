@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2013 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ import java.util.TimerTask;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IDebugEventSetListener;
+import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.internal.ui.viewers.model.provisional.IPresentationContext;
 import org.eclipse.debug.internal.ui.viewers.provisional.AbstractModelProxy;
 
@@ -29,6 +30,11 @@ import org.eclipse.debug.internal.ui.viewers.provisional.AbstractModelProxy;
  */
 public abstract class EventHandlerModelProxy extends AbstractModelProxy implements IDebugEventSetListener {
 
+	/**
+	 * All debug event kinds
+	 */
+	private static final int ALL_KINDS = DebugEvent.RESUME | DebugEvent.SUSPEND | DebugEvent.CREATE | DebugEvent.TERMINATE | DebugEvent.CHANGE | DebugEvent.MODEL_SPECIFIC;
+
 	/**
 	 * Map of elements to timer tasks
 	 */
@@ -104,7 +110,12 @@ public abstract class EventHandlerModelProxy extends AbstractModelProxy implemen
 	@Override
 	public void init(IPresentationContext context) {
 		super.init(context);
-		DebugPlugin.getDefault().addDebugEventListener(this);
+		ILaunch launch = getEventLaunch();
+		if (launch == null) {
+			DebugPlugin.getDefault().addDebugEventListener(this);
+		} else {
+			DebugPlugin.getDefault().addDebugEventListener(this, ALL_KINDS, 0, null, launch);
+		}
 		fHandlers = createEventHandlers();
 	}
 
@@ -146,6 +157,17 @@ public abstract class EventHandlerModelProxy extends AbstractModelProxy implemen
 		}
 	}
 
+	/**
+	 * Returns the launch the events processed by this proxy originate from or
+	 * <code>null</code> to receive events of all launches. Called once when
+	 * this proxy is initialized. Subclasses may override.
+	 *
+	 * @return launch of the processed events or <code>null</code>
+	 */
+	protected ILaunch getEventLaunch() {
+		return null;
+	}
+
 	/**
 	 * Returns whether this event handler should process the event.
 	 *
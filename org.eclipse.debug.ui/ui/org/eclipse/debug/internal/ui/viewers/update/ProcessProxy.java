@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2009 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -75,6 +75,11 @@ public class ProcessProxy extends EventHandlerModelProxy {
 		fProcess = process;
 	}
 
+	@Override
+	protected ILaunch getEventLaunch() {
+		return fProcess.getLaunch();
+	}
+
 	@Override
 	protected synchronized boolean containsEvent(DebugEvent event) {
 		return event.getSource().equals(fProcess);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2020 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -555,7 +555,8 @@ public class ProcessConsole extends IOConsole implements IConsole, IDebugEventSe
 	@Override
 	protected void init() {
 		super.init();
-		DebugPlugin.getDefault().addDebugEventListener(this);
+		// processes do not suspend or resume
+		DebugPlugin.getDefault().addDebugEventListener(this, DebugEvent.CREATE | DebugEvent.TERMINATE | DebugEvent.CHANGE | DebugEvent.MODEL_SPECIFIC, 0, null, fProcess.getLaunch());
 		if (fProcess.isTerminated()) {
 			closeStreams();
 			resetName();
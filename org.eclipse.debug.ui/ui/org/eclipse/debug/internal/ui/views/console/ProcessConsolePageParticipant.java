@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -122,7 +122,8 @@ public class ProcessConsolePageParticipant implements IConsolePageParticipant, I
 
 		fView = (IConsoleView) fPage.getSite().getPage().findView(IConsoleConstants.ID_CONSOLE_VIEW);
 
-		DebugPlugin.getDefault().addDebugEventListener(this);
+		// processes do not suspend or resume
+		DebugPlugin.getDefault().addDebugEventListener(this, DebugEvent.CREATE | DebugEvent.TERMINATE | DebugEvent.CHANGE | DebugEvent.MODEL_SPECIFIC, 0, null, fConsole.getProcess().getLaunch());
 		DebugUITools.getDebugContextManager().getContextService(fPage.getSite().getWorkbenchWindow()).addDebugContextListener(this);
 
 		// contribute to toolbar
@@ -15,7 +15,13 @@
 package org.eclipse.ui.internal.console;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -27,6 +33,8 @@ import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.MultiStringMatcher;
+import org.eclipse.jface.text.MultiStringMatcher.Match;
 import org.eclipse.ui.console.ConsolePlugin;
 import org.eclipse.ui.console.IPatternMatchListener;
 import org.eclipse.ui.console.PatternMatchEvent;
@@ -62,8 +70,6 @@ public class ConsolePatternMatcher implements IDocumentListener {
 		@Override
 		protected IStatus run(IProgressMonitor monitor) {
 			IDocument doc = fConsole.getDocument();
-			String text = null;
-			int prevBaseOffset = -1;
 			if (doc != null && !monitor.isCanceled()) {
 				int endOfSearch = doc.getLength();
 				int indexOfLastChar = endOfSearch;
@@ -79,84 +85,35 @@ public class ConsolePatternMatcher implements IDocumentListener {
 					// perhaps the buffer was re-set
 					return Status.OK_STATUS;
 				}
-				Object[] patterns = null;
+				CompiledPatternMatchListener[] patterns = null;
 				synchronized (fPatterns) {
-					patterns = fPatterns.toArray();
+					patterns = fPatterns.toArray(new CompiledPatternMatchListener[fPatterns.size()]);
 				}
-				for (Object pattern : patterns) {
+				// listeners usually share the offset where their search starts. The text and
+				// the literal qualifier occurrences are computed once for each of those offsets.
+				Map<Integer, List<CompiledPatternMatchListener>> groups = new LinkedHashMap<>();
+				for (CompiledPatternMatchListener notifier : patterns) {
+					if (notifier.end < endOfSearch) {
+						groups.computeIfAbsent(notifier.end, k -> new ArrayList<>()).add(notifier);
+					}
+				}
+				for (Entry<Integer, List<CompiledPatternMatchListener>> group : groups.entrySet()) {
 					if (monitor.isCanceled()) {
 						break;
 					}
-					CompiledPatternMatchListener notifier = (CompiledPatternMatchListener) pattern;
-					int baseOffset = notifier.end;
-					int lengthToSearch = endOfSearch - baseOffset;
-					if (lengthToSearch > 0) {
-						try {
-							if (prevBaseOffset != baseOffset) {
-								// reuse the text string if possible
-								text = doc.get(baseOffset, lengthToSearch);
-							}
-							if(text == null) {
-								continue;
-							}
-							Matcher reg = notifier.pattern.matcher(text);
-							Matcher quick = null;
-							if (notifier.qualifier != null) {
-								quick = notifier.qualifier.matcher(text);
+					int baseOffset = group.getKey();
+					try {
+						String text = doc.get(baseOffset, endOfSearch - baseOffset);
+						findLiteralQualifiers(group.getValue(), text, baseOffset);
+						for (CompiledPatternMatchListener notifier : group.getValue()) {
+							if (monitor.isCanceled()) {
+								break;
 							}
-							int startOfNextSearch = 0;
-							int endOfLastMatch = -1;
-							int lineOfLastMatch = -1;
-							while ((startOfNextSearch < lengthToSearch) && !monitor.isCanceled()) {
-								if (quick != null) {
-									if (quick.find(startOfNextSearch)) {
-										// start searching on the beginning
-										// of the line where the potential
-										// match was found, or after the
-										// last match on the same line
-										int matchLine = doc.getLineOfOffset(baseOffset + quick.start());
-										if (lineOfLastMatch == matchLine) {
-											startOfNextSearch = endOfLastMatch;
-										} else {
-											startOfNextSearch = doc.getLineOffset(matchLine) - baseOffset;
-										}
-									} else {
-										startOfNextSearch = lengthToSearch;
-									}
-								}
-								if (startOfNextSearch < 0) {
-									startOfNextSearch = 0;
-								}
-								if (startOfNextSearch < lengthToSearch) {
-									if (reg.find(startOfNextSearch)) {
-										endOfLastMatch = reg.end();
-										lineOfLastMatch = doc.getLineOfOffset(baseOffset + endOfLastMatch - 1);
-										int regStart = reg.start();
-										IPatternMatchListener listener = notifier.listener;
-										if (listener != null && !monitor.isCanceled()) {
-											listener.matchFound(new PatternMatchEvent(fConsole, baseOffset + regStart, endOfLastMatch - regStart));
-										}
-										startOfNextSearch = endOfLastMatch;
-									} else {
-										startOfNextSearch = lengthToSearch;
-									}
-								}
-							}
-							// update start of next search to the last line
-							// searched
-							// or the end of the last match if it was on the
-							// line that
-							// was last searched
-							if (lastLineToSearch == lineOfLastMatch) {
-								notifier.end = baseOffset + endOfLastMatch;
-							} else {
-								notifier.end = offsetOfLastLineToSearch;
-							}
-						} catch (BadLocationException e) {
-							ConsolePlugin.log(e);
+							match(doc, notifier, text, baseOffset, lastLineToSearch, offsetOfLastLineToSearch, monitor);
 						}
+					} catch (BadLocationException e) {
+						ConsolePlugin.log(e);
 					}
-					prevBaseOffset = baseOffset;
 				}
 			}
 
@@ -171,6 +128,129 @@ public class ConsolePatternMatcher implements IDocumentListener {
 			return Status.OK_STATUS;
 		}
 
+		/**
+		 * Searches the occurrences of all literal qualifiers of the given listeners
+		 * with a single scan over the text. Occurrences are stored in
+		 * {@link CompiledPatternMatchListener#qualifierHits}. Text already searched
+		 * by a previous run is not searched again.
+		 *
+		 * @param notifiers  listeners with the same search start
+		 * @param text       the text to search
+		 * @param baseOffset document offset of the text
+		 */
+		private void findLiteralQualifiers(List<CompiledPatternMatchListener> notifiers, String text, int baseOffset) {
+			Map<String, List<CompiledPatternMatchListener>> byLiteral = new HashMap<>();
+			int scanStart = baseOffset + text.length();
+			for (CompiledPatternMatchListener notifier : notifiers) {
+				if (notifier.literalQualifier != null) {
+					notifier.prepareQualifierScan();
+					byLiteral.computeIfAbsent(notifier.literalQualifier, k -> new ArrayList<>()).add(notifier);
+					scanStart = Math.min(scanStart, notifier.qualifierScanStart);
+				}
+			}
+			if (byLiteral.isEmpty()) {
+				return;
+			}
+			// the matcher only reports the longest literal found at an offset. All
+			// literals which are a prefix of it are found at the same offset.
+			Map<String, List<CompiledPatternMatchListener>> byMatch = new HashMap<>();
+			for (String literal : byLiteral.keySet()) {
+				List<CompiledPatternMatchListener> matching = new ArrayList<>();
+				byLiteral.forEach((other, others) -> {
+					if (literal.startsWith(other)) {
+						matching.addAll(others);
+					}
+				});
+				byMatch.put(literal, matching);
+			}
+			MultiStringMatcher matcher = MultiStringMatcher.create(byLiteral.keySet().toArray(new String[0]));
+			Match match = matcher.indexOf(text, scanStart - baseOffset);
+			while (match != null) {
+				int offset = baseOffset + match.getOffset();
+				for (CompiledPatternMatchListener notifier : byMatch.get(match.getText())) {
+					if (offset >= notifier.qualifierScanStart) {
+						notifier.qualifierHits.add(offset);
+					}
+				}
+				match = matcher.indexOf(text, match.getOffset() + 1);
+			}
+			for (List<CompiledPatternMatchListener> literalNotifiers : byLiteral.values()) {
+				for (CompiledPatternMatchListener notifier : literalNotifiers) {
+					notifier.qualifierHits.sort(null);
+					notifier.qualifierEnd = baseOffset + text.length();
+				}
+			}
+		}
+
+		/**
+		 * Searches the text for matches of a single listener and notifies the
+		 * listener.
+		 */
+		private void match(IDocument doc, CompiledPatternMatchListener notifier, String text, int baseOffset, int lastLineToSearch, int offsetOfLastLineToSearch, IProgressMonitor monitor) throws BadLocationException {
+			int lengthToSearch = text.length();
+			Matcher reg = notifier.pattern.matcher(text);
+			Matcher quick = null;
+			if (notifier.qualifier != null && notifier.literalQualifier == null) {
+				quick = notifier.qualifier.matcher(text);
+			}
+			int startOfNextSearch = 0;
+			int endOfLastMatch = -1;
+			int lineOfLastMatch = -1;
+			while ((startOfNextSearch < lengthToSearch) && !monitor.isCanceled()) {
+				if (notifier.qualifier != null) {
+					int qualifierStart = -1;
+					if (quick != null) {
+						if (quick.find(startOfNextSearch)) {
+							qualifierStart = quick.start();
+						}
+					} else {
+						qualifierStart = notifier.findQualifierHit(baseOffset + startOfNextSearch) - baseOffset;
+					}
+					if (qualifierStart >= 0) {
+						// start searching on the beginning
+						// of the line where the potential
+						// match was found, or after the
+						// last match on the same line
+						int matchLine = doc.getLineOfOffset(baseOffset + qualifierStart);
+						if (lineOfLastMatch == matchLine) {
+							startOfNextSearch = endOfLastMatch;
+						} else {
+							startOfNextSearch = doc.getLineOffset(matchLine) - baseOffset;
+						}
+					} else {
+						startOfNextSearch = lengthToSearch;
+					}
+				}
+				if (startOfNextSearch < 0) {
+					startOfNextSearch = 0;
+				}
+				if (startOfNextSearch < lengthToSearch) {
+					if (reg.find(startOfNextSearch)) {
+						endOfLastMatch = reg.end();
+						lineOfLastMatch = doc.getLineOfOffset(baseOffset + endOfLastMatch - 1);
+						int regStart = reg.start();
+						IPatternMatchListener listener = notifier.listener;
+						if (listener != null && !monitor.isCanceled()) {
+							listener.matchFound(new PatternMatchEvent(fConsole, baseOffset + regStart, endOfLastMatch - regStart));
+						}
+						startOfNextSearch = endOfLastMatch;
+					} else {
+						startOfNextSearch = lengthToSearch;
+					}
+				}
+			}
+			// update start of next search to the last line
+			// searched
+			// or the end of the last match if it was on the
+			// line that
+			// was last searched
+			if (lastLineToSearch == lineOfLastMatch) {
+				notifier.end = baseOffset + endOfLastMatch;
+			} else {
+				notifier.end = offsetOfLastLineToSearch;
+			}
+		}
+
 		@Override
 		public boolean belongsTo(Object family) {
 			return family == fConsole;
@@ -184,6 +264,27 @@ public class ConsolePatternMatcher implements IDocumentListener {
 
 		Pattern qualifier;
 
+		/**
+		 * The qualifier as plain string if the qualifier matches only a literal
+		 * string, otherwise <code>null</code>.
+		 */
+		String literalQualifier;
+
+		/**
+		 * Document offsets of literal qualifier occurrences at or after
+		 * {@link #end} in ascending order.
+		 */
+		final List<Integer> qualifierHits = new ArrayList<>();
+
+		/**
+		 * Document offset up to which the text was searched for the literal
+		 * qualifier. Occurrences before are known in {@link #qualifierHits}.
+		 */
+		int qualifierEnd = 0;
+
+		/** Set if the document changed other than by appending. */
+		volatile boolean qualifierScanInvalid = false;
+
 		IPatternMatchListener listener;
 
 		int end = 0;
@@ -192,16 +293,110 @@ public class ConsolePatternMatcher implements IDocumentListener {
 			this.pattern = pattern;
 			this.listener = matchListener;
 			this.qualifier = qualifier;
+			this.literalQualifier = qualifier != null ? toLiteral(qualifier) : null;
+		}
+
+		/**
+		 * Document offset where the text must be searched for new occurrences of
+		 * the literal qualifier. Set by {@link #prepareQualifierScan()}.
+		 */
+		int qualifierScanStart;
+
+		/**
+		 * Discards known qualifier occurrences before the search start and
+		 * computes {@link #qualifierScanStart}.
+		 */
+		void prepareQualifierScan() {
+			if (qualifierScanInvalid) {
+				qualifierScanInvalid = false;
+				qualifierHits.clear();
+				qualifierEnd = 0;
+			}
+			// occurrences may overlap the end of the previously searched text
+			qualifierScanStart = Math.max(end, qualifierEnd - literalQualifier.length() + 1);
+			// occurrences after the scan start will be found again
+			qualifierHits.removeIf(hit -> hit < end || hit >= qualifierScanStart);
+		}
+
+		/**
+		 * Returns the first known literal qualifier occurrence at or after the
+		 * given offset.
+		 *
+		 * @param offset document offset
+		 * @return document offset of occurrence or <code>-1</code> if none
+		 */
+		int findQualifierHit(int offset) {
+			int index = Collections.binarySearch(qualifierHits, offset);
+			if (index < 0) {
+				index = -index - 1;
+			}
+			return index < qualifierHits.size() ? qualifierHits.get(index) : -1;
+		}
+
+		/**
+		 * Forgets which text was already searched for the literal qualifier. The
+		 * known occurrences are discarded by the match job on its next run.
+		 */
+		void resetQualifierScan() {
+			qualifierScanInvalid = true;
 		}
 
 		public void dispose() {
 			listener.disconnect();
 			pattern = null;
 			qualifier = null;
+			literalQualifier = null;
 			listener = null;
 		}
 	}
 
+	/**
+	 * Returns the string matched by the given pattern if the pattern only matches
+	 * a single literal string.
+	 *
+	 * @param pattern the pattern to check
+	 * @return the literal string or <code>null</code> if the pattern may match
+	 *         anything else or is empty
+	 */
+	static String toLiteral(Pattern pattern) {
+		int flags = pattern.flags();
+		String regex = pattern.pattern();
+		if ((flags & (Pattern.CASE_INSENSITIVE | Pattern.COMMENTS | Pattern.CANON_EQ)) != 0) {
+			return null;
+		}
+		if ((flags & Pattern.LITERAL) != 0) {
+			return regex.isEmpty() ? null : regex;
+		}
+		StringBuilder literal = new StringBuilder();
+		for (int i = 0; i < regex.length(); i++) {
+			char c = regex.charAt(i);
+			if (c == '\\') {
+				if (++i >= regex.length()) {
+					return null;
+				}
+				char escaped = regex.charAt(i);
+				if (escaped == 'Q') {
+					int quoteEnd = regex.indexOf("\\E", i + 1); //$NON-NLS-1$
+					if (quoteEnd < 0) {
+						quoteEnd = regex.length();
+					}
+					literal.append(regex, i + 1, quoteEnd);
+					i = quoteEnd + 1;
+				} else if (Character.isLetterOrDigit(escaped)) {
+					// character classes, back references, anchors, ...
+					return null;
+				} else {
+					literal.append(escaped);
+				}
+			} else if ("^$.|?*+()[]{}".indexOf(c) >= 0) { //$NON-NLS-1$
+				return null;
+			} else {
+				literal.append(c);
+			}
+		}
+		return literal.length() > 0 ? literal.toString() : null;
+	}
+
 	/**
 	 * Adds the given pattern match listener to this console. The listener will
 	 * be connected and receive match notifications.
@@ -269,6 +464,15 @@ public class ConsolePatternMatcher implements IDocumentListener {
 
 	@Override
 	public void documentChanged(DocumentEvent event) {
+		String text = event.getText();
+		if (event.fLength > 0 || event.fOffset + (text != null ? text.length() : 0) != event.fDocument.getLength()) {
+			// not a plain append. Already searched text may have changed.
+			synchronized (fPatterns) {
+				for (CompiledPatternMatchListener notifier : fPatterns) {
+					notifier.resetQualifierScan();
+				}
+			}
+		}
 		if (event.fLength > 0) {
 			synchronized (fPatterns) {
 				if (event.fDocument.getLength() == 0) {
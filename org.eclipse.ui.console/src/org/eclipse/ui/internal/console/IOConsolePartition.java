@@ -32,7 +32,20 @@ public class IOConsolePartition implements ITypedRegion {
 	/** Type for output partitions. */
 	public static final String INPUT_PARTITION_TYPE = ConsolePlugin.getUniqueIdentifier() + ".io_console_input_partition_type"; //$NON-NLS-1$
 
-	private int offset;
+	/**
+	 * Origin shared by all partitions of one partitioner. Moving the origin moves
+	 * all attached partitions at once.
+	 */
+	static final class OffsetOrigin {
+		long value;
+	}
+
+	/**
+	 * This partition's offset relative to {@link #origin} or the absolute offset
+	 * if the partition is not attached to an origin.
+	 */
+	private long offset;
+	private OffsetOrigin origin;
 	private int length;
 	private String type;
 
@@ -118,7 +131,7 @@ public class IOConsolePartition implements ITypedRegion {
 
 	@Override
 	public int getOffset() {
-		return offset;
+		return (int) (origin != null ? offset - origin.value : offset);
 	}
 
 	/**
@@ -127,7 +140,20 @@ public class IOConsolePartition implements ITypedRegion {
 	 * @param offset This partitions offset in the document.
 	 */
 	public void setOffset(int offset) {
-		this.offset = offset;
+		this.offset = origin != null ? offset + origin.value : offset;
+	}
+
+	/**
+	 * Attaches this partition to the given origin without changing its current
+	 * offset.
+	 *
+	 * @param newOrigin the new origin or <code>null</code> to detach this
+	 *                  partition
+	 */
+	void attach(OffsetOrigin newOrigin) {
+		final int currentOffset = getOffset();
+		origin = newOrigin;
+		setOffset(currentOffset);
 	}
 
 	/**
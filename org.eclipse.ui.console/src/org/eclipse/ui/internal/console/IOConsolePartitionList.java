@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.ui.internal.console;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * List of the partitions of an {@link IOConsolePartitioner}.
+ * <p>
+ * Partitions added to this list store their offset relative to an origin
+ * shared by all partitions of the list. Moving all partitions by the same
+ * distance, which is what trimming the start of the console document requires,
+ * is therefore done by {@link #shift(int)} in constant time. Partitions removed
+ * from the list are detached from the origin and keep their last offset.
+ * </p>
+ * <p>
+ * Elements are stored in an array with a movable start so removing partitions
+ * from the start with {@link #removeFirst(int)} only costs time proportional to
+ * the number of removed partitions.
+ * </p>
+ * <p>
+ * This class is not thread safe. Clients must synchronize access.
+ * </p>
+ */
+class IOConsolePartitionList extends AbstractList<IOConsolePartition> implements RandomAccess {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	/** The origin shared by all partitions in this list. */
+	private final IOConsolePartition.OffsetOrigin origin = new IOConsolePartition.OffsetOrigin();
+
+	private IOConsolePartition[] elements = new IOConsolePartition[INITIAL_CAPACITY];
+
+	/** Index of the first element in {@link #elements}. */
+	private int head;
+
+	private int size;
+
+	@Override
+	public IOConsolePartition get(int index) {
+		Objects.checkIndex(index, size);
+		return elements[head + index];
+	}
+
+	@Override
+	public IOConsolePartition set(int index, IOConsolePartition partition) {
+		Objects.checkIndex(index, size);
+		final IOConsolePartition old = elements[head + index];
+		old.attach(null);
+		partition.attach(origin);
+		elements[head + index] = partition;
+		return old;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public void add(int index, IOConsolePartition partition) {
+		Objects.checkIndex(index, size + 1);
+		if (index == 0 && head > 0) {
+			head--;
+		} else {
+			if (head + size == elements.length) {
+				reallocate();
+			}
+			System.arraycopy(elements, head + index, elements, head + index + 1, size - index);
+		}
+		elements[head + index] = partition;
+		partition.attach(origin);
+		size++;
+		modCount++;
+	}
+
+	@Override
+	public IOConsolePartition remove(int index) {
+		Objects.checkIndex(index, size);
+		final IOConsolePartition partition = elements[head + index];
+		if (index == 0) {
+			elements[head++] = null;
+		} else {
+			System.arraycopy(elements, head + index + 1, elements, head + index, size - index - 1);
+			elements[head + size - 1] = null;
+		}
+		size--;
+		if (size == 0) {
+			head = 0;
+		}
+		modCount++;
+		partition.attach(null);
+		return partition;
+	}
+
+	/**
+	 * Removes the given number of partitions from the start of this list.
+	 *
+	 * @param count number of partitions to remove
+	 */
+	public void removeFirst(int count) {
+		Objects.checkFromIndexSize(0, count, size);
+		for (int i = head; i < head + count; i++) {
+			elements[i].attach(null);
+			elements[i] = null;
+		}
+		head += count;
+		size -= count;
+		if (size == 0) {
+			head = 0;
+		}
+		modCount++;
+	}
+
+	@Override
+	public void clear() {
+		for (int i = head; i < head + size; i++) {
+			elements[i].attach(null);
+		}
+		Arrays.fill(elements, head, head + size, null);
+		head = 0;
+		size = 0;
+		modCount++;
+	}
+
+	/**
+	 * Moves all partitions in this list towards the document start.
+	 *
+	 * @param distance the number of characters every partition offset is
+	 *                 decreased by
+	 */
+	public void shift(int distance) {
+		origin.value += distance;
+	}
+
+	/**
+	 * Makes room for at least one more element at the end. Space freed at the
+	 * start is reused if it makes up at least half of the array, otherwise the
+	 * array grows.
+	 */
+	private void reallocate() {
+		final IOConsolePartition[] target = head >= size ? elements : new IOConsolePartition[Math.max(INITIAL_CAPACITY, elements.length * 2)];
+		System.arraycopy(elements, head, target, 0, size);
+		if (target == elements) {
+			Arrays.fill(elements, size, head + size, null);
+		}
+		elements = target;
+		head = 0;
+	}
+}
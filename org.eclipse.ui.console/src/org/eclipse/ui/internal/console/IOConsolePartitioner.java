@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@
 package org.eclipse.ui.internal.console;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -115,7 +116,7 @@ public class IOConsolePartitioner
 	 * {@link IRegion#getOffset()} and not contain <code>null</code> or 0-length
 	 * elements. (see also {@link #checkPartitions()})
 	 */
-	private final ArrayList<IOConsolePartition> partitions = new ArrayList<>();
+	private final IOConsolePartitionList partitions = new IOConsolePartitionList();
 	/**
 	 * max ~ 16MB when debugged application outputs faster then we can handle. Seems
 	 * to be a could compromise between memory and speed we can handle. Eclipse IDE
@@ -129,7 +130,24 @@ public class IOConsolePartitioner
 	 */
 	private final BlockingQueue<PendingPartition> pendingPartitions = new LinkedBlockingQueue<>(
 			MAX_BUFFER_BYTES / 8192);
-	/** Job that appends pending partitions to the document. */
+	/**
+	 * Output prepared by {@link #prepareJob} which is not yet applied to the
+	 * document. Only held to take or add prepared output, never while output is
+	 * prepared.
+	 */
+	private final ArrayDeque<PreparedOutput> preparedOutput = new ArrayDeque<>();
+	/** Number of characters in {@link #preparedOutput}. */
+	private int preparedLength;
+	/**
+	 * Incremented when pending output is discarded. Output prepared from
+	 * partitions drained before is dropped. Guarded by {@link #preparedOutput}.
+	 */
+	private long preparedGeneration;
+	/** Serializes preparing output to keep output order. */
+	private final Object prepareLock = new Object();
+	/** Job that prepares pending partitions off the UI thread. */
+	private final OutputPreparationJob prepareJob = new OutputPreparationJob();
+	/** Job that appends prepared output to the document. */
 	private final QueueProcessingJob queueJob = new QueueProcessingJob();
 	/** Job that trims console content if it exceeds {@link #highWaterMark}. */
 	private final TrimJob trimJob = new TrimJob();
@@ -172,7 +190,7 @@ public class IOConsolePartitioner
 	 * Active pattern to search for supported control characters. If
 	 * <code>null</code> control characters are treated as any other characters.
 	 */
-	private Pattern controlCharacterPattern = null;
+	private volatile Pattern controlCharacterPattern = null;
 	/**
 	 * Whether <code>\r</code> is interpreted as control characters
 	 * (<code>true</code>) or not in console output. If <code>false</code> they are
@@ -225,9 +243,10 @@ public class IOConsolePartitioner
 
 	@Override
 	public void disconnect() {
-		pendingPartitions.clear();
+		clearPendingOutput();
 		synchronized (partitions) {
 			trimJob.cancel();
+			prepareJob.cancel();
 			queueJob.cancel();
 			legalLineDelimiterMatcher = null;
 			document = null;
@@ -290,10 +309,19 @@ public class IOConsolePartitioner
 		if (streamsClosed) {
 			// do not expect new data since all streams are closed
 			// check if pending data is queued
-			final boolean morePending = !pendingPartitions.isEmpty();
+			final boolean morePending;
+			final boolean morePrepared;
+			synchronized (preparedOutput) {
+				morePending = !pendingPartitions.isEmpty();
+				morePrepared = !preparedOutput.isEmpty();
+			}
 			if (morePending) {
+				prepareJob.schedule();
+			}
+			if (morePrepared) {
 				queueJob.schedule();
-			} else {
+			}
+			if (!morePending && !morePrepared) {
 				console.partitionerFinished();
 			}
 		}
@@ -444,7 +472,7 @@ public class IOConsolePartitioner
 	 * Clears the console content.
 	 */
 	public void clearBuffer() {
-		pendingPartitions.clear();
+		clearPendingOutput();
 		synchronized (partitions) {
 			if (document != null) {
 				trimJob.setTrimOffset(document.getLength());
@@ -695,13 +723,13 @@ public class IOConsolePartitioner
 		while (!offer(partition)) {
 			helpProgress();
 		}
-		queueJob.schedule();
+		prepareJob.schedule();
 	}
 
 	private void helpProgress() {
 		if (Display.getCurrent() != null) {
 			// make sure pendingPartitions can take
-			queueJob.processPendingPartitions();
+			queueJob.processPendingPartitions(true);
 		} else {
 			Thread.yield(); // give UI thread chance to proceed
 		}
@@ -733,9 +761,159 @@ public class IOConsolePartitioner
 		}
 	}
 
+	/**
+	 * A batch of pending partitions prepared to be applied to the document.
+	 * <p>
+	 * If the batch content does not require control character interpretation it
+	 * is joined to a single text and a list of consecutive stream runs. Such a
+	 * batch can be appended to the document in one step without further
+	 * processing on the UI thread.
+	 * </p>
+	 */
+	private static final class PreparedOutput {
+		/** The pending partitions of this batch. */
+		private final List<PendingPartition> pending;
+		/** Total number of characters in this batch. */
+		private final int length;
+		/**
+		 * The joined content or <code>null</code> if the content contains control
+		 * characters to interpret.
+		 */
+		private final String text;
+		/** Output streams of consecutive content runs. Only set with {@link #text}. */
+		private final List<IOConsoleOutputStream> runStreams;
+		/** Lengths of consecutive content runs. Only set with {@link #text}. */
+		private final int[] runLengths;
+
+		PreparedOutput(List<PendingPartition> pending, Pattern controlPattern) {
+			this.pending = pending;
+			int totalLength = 0;
+			boolean interpret = false;
+			for (PendingPartition p : pending) {
+				totalLength += p.text.length();
+				if (!interpret && controlPattern != null && controlPattern.matcher(p.text).find()) {
+					interpret = true;
+				}
+			}
+			this.length = totalLength;
+			if (interpret) {
+				text = null;
+				runStreams = null;
+				runLengths = null;
+				return;
+			}
+			final StringBuilder content = new StringBuilder(totalLength);
+			final List<IOConsoleOutputStream> streams = new ArrayList<>();
+			final int[] lengths = new int[pending.size()];
+			for (PendingPartition p : pending) {
+				final int last = streams.size() - 1;
+				if (last >= 0 && streams.get(last) == p.stream) {
+					lengths[last] += p.text.length();
+				} else {
+					lengths[last + 1] = p.text.length();
+					streams.add(p.stream);
+				}
+				content.append(p.text);
+			}
+			text = content.toString();
+			runStreams = streams;
+			runLengths = lengths;
+		}
+	}
+
+	/**
+	 * Moves pending partitions to {@link #preparedOutput}.
+	 *
+	 * @param limit if <code>true</code> nothing is prepared while the prepared
+	 *              output exceeds {@link #MAX_BUFFER_BYTES}
+	 * @return <code>true</code> if there is prepared output to apply
+	 */
+	private boolean prepareOutput(boolean limit) {
+		synchronized (prepareLock) {
+			final List<PendingPartition> pending = new ArrayList<>();
+			final long generation;
+			synchronized (preparedOutput) {
+				if (limit && preparedLength >= MAX_BUFFER_BYTES) {
+					return !preparedOutput.isEmpty();
+				}
+				pendingPartitions.drainTo(pending);
+				generation = preparedGeneration;
+			}
+			// scanning and joining the output may take a while, do not block the UI
+			// thread taking prepared output meanwhile
+			final PreparedOutput output = pending.isEmpty() ? null
+					: new PreparedOutput(pending, controlCharacterPattern);
+			synchronized (preparedOutput) {
+				if (output != null && generation == preparedGeneration) {
+					preparedOutput.add(output);
+					preparedLength += output.length;
+				}
+				return !preparedOutput.isEmpty();
+			}
+		}
+	}
+
+	/**
+	 * Removes and returns all prepared output.
+	 *
+	 * @return the prepared output in order
+	 */
+	private List<PreparedOutput> takePreparedOutput() {
+		synchronized (preparedOutput) {
+			final List<PreparedOutput> result = new ArrayList<>(preparedOutput);
+			preparedOutput.clear();
+			preparedLength = 0;
+			return result;
+		}
+	}
+
+	private boolean hasPreparedOutput() {
+		synchronized (preparedOutput) {
+			return !preparedOutput.isEmpty();
+		}
+	}
+
+	/**
+	 * Discards all output not yet applied to the document.
+	 */
+	private void clearPendingOutput() {
+		synchronized (preparedOutput) {
+			pendingPartitions.clear();
+			preparedOutput.clear();
+			preparedLength = 0;
+			preparedGeneration++;
+		}
+	}
+
+	/**
+	 * Prepares pending partitions off the UI thread. This includes searching for
+	 * control characters and joining the content of consecutive partitions.
+	 */
+	private class OutputPreparationJob extends Job {
+
+		OutputPreparationJob() {
+			super("IOConsole Output Preparation"); //$NON-NLS-1$
+			setSystem(true);
+			setPriority(Job.INTERACTIVE);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			if (prepareOutput(true)) {
+				queueJob.schedule();
+			}
+			return Status.OK_STATUS;
+		}
+
+		@Override
+		public boolean shouldRun() {
+			return !pendingPartitions.isEmpty();
+		}
+	}
+
 	/**
 	 * Updates the document and partitioning structure. Will append everything
-	 * received from output streams that is available before finishing.
+	 * prepared by the {@link OutputPreparationJob} before finishing.
 	 */
 	private class QueueProcessingJob extends UIJob {
 		/** The partition which contains the current output offset. */
@@ -755,7 +933,7 @@ public class IOConsolePartitioner
 
 		@Override
 		public IStatus runInUIThread(IProgressMonitor monitor) {
-			processPendingPartitions();
+			processPendingPartitions(false);
 			if (ASSERT) {
 				checkPartitions();
 			}
@@ -771,37 +949,70 @@ public class IOConsolePartitioner
 		 */
 		@Override
 		public boolean shouldRun() {
-			return !pendingPartitions.isEmpty();
+			return hasPreparedOutput();
 		}
 
 		/**
-		 * Process {@link #pendingPartitions}, append their content to document and
-		 * update partitioning.
+		 * Process {@link #preparedOutput}, append its content to document and update
+		 * partitioning.
+		 *
+		 * @param drainPending if <code>true</code> also process
+		 *                     {@link #pendingPartitions} not yet prepared
 		 */
-		private void processPendingPartitions() {
-			final List<PendingPartition> pendingCopy = new ArrayList<>();
-			// draining the whole buffer here is important - this way we get as much data as
-			// available and may skip to draw text that exceeds the Console buffer size
+		private void processPendingPartitions(boolean drainPending) {
+			if (drainPending) {
+				prepareOutput(false);
+			}
+			// taking all prepared output here is important - this way we get as much data
+			// as available and may skip to draw text that exceeds the Console buffer size
 			// anyway (see checkBufferSize()).
-			pendingPartitions.drainTo(pendingCopy);
-			int sizeHint = 0;
-			if (pendingCopy.isEmpty()) {
+			final List<PreparedOutput> prepared = takePreparedOutput();
+			if (prepared.isEmpty()) {
 				return;
 			}
-			IOConsoleOutputStream stream = pendingCopy.get(0).stream;
-			for (PendingPartition p : pendingCopy) {
-				if (p.stream != stream) {
-					break;
-				}
-				sizeHint += p.text.length();
-			}
 			synchronized (partitions) {
 				if (document != null) {
-					applyStreamOutput(pendingCopy, sizeHint);
+					for (PreparedOutput output : prepared) {
+						if (!appendPreparedOutput(output)) {
+							applyStreamOutput(output.pending, output.length);
+						}
+					}
 				}
 				checkFinished();
 				checkBufferSize(); // needs partitions synchronized
 			}
+			if (!pendingPartitions.isEmpty()) {
+				prepareJob.schedule();
+			}
+		}
+
+		/**
+		 * Append prepared output which requires no further interpretation in one step
+		 * if it is written to the document end.
+		 *
+		 * @param output the prepared output
+		 * @return <code>false</code> if the output was not applied and must be
+		 *         processed with {@link #applyStreamOutput(List, int)}
+		 */
+		private boolean appendPreparedOutput(PreparedOutput output) {
+			final int documentLength = document.getLength();
+			if (output.text == null || outputOffset < documentLength) {
+				return false;
+			}
+			int offset = documentLength;
+			IOConsolePartition lastPartition = getPartitionByIndex(partitions.size() - 1);
+			for (int i = 0; i < output.runStreams.size(); i++) {
+				final IOConsoleOutputStream stream = output.runStreams.get(i);
+				if (lastPartition == null || !lastPartition.belongsTo(stream)) {
+					lastPartition = new IOConsolePartition(offset, stream);
+					partitions.add(lastPartition);
+				}
+				lastPartition.setLength(lastPartition.getLength() + output.runLengths[i]);
+				offset += output.runLengths[i];
+			}
+			outputOffset = offset;
+			applyOutputToDocument(output.text, documentLength, 0);
+			return true;
 		}
 
 		/**
@@ -1204,23 +1415,18 @@ public class IOConsolePartitioner
 						document.set(""); //$NON-NLS-1$
 					} else {
 						// set the new length of the first partition
-						IOConsolePartition partition = getIOPartition(cutOffset);
+						int index = findPartitionCandidate(cutOffset);
+						IOConsolePartition partition = partitions.get(index);
 						partition.setLength(partition.getOffset() + partition.getLength() - cutOffset);
 
 						updateType = DocUpdateType.TRIM;
 						document.replace(0, cutOffset, ""); //$NON-NLS-1$
 
-						// remove partitions and reset Partition offsets
-						int index = partitions.indexOf(partition);
-						for (int i = 0; i < index; i++) {
-							partitions.remove(0);
-						}
-
-						int offset = 0;
-						for (IOConsolePartition p : partitions) {
-							p.setOffset(offset);
-							offset += p.getLength();
-						}
+						// remove partitions and move remaining partitions to new document start.
+						// Both only cost time proportional to the number of removed partitions.
+						partitions.removeFirst(index);
+						partitions.shift(cutOffset);
+						partition.setOffset(0);
 
 						// fix output offset
 						int removedLength = cutOffset;
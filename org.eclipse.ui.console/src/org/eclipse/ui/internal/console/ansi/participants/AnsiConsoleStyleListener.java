@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012-2022 Mihai Nita and others
+ * Copyright (c) 2012-2026 Mihai Nita and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -11,7 +11,6 @@
 package org.eclipse.ui.internal.console.ansi.participants;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.regex.Matcher;
 
@@ -38,8 +37,15 @@ import org.eclipse.ui.internal.console.ansi.utils.AnsiConsoleColorPalette;
 public class AnsiConsoleStyleListener implements LineStyleListener, IPositionUpdater {
 	private static final Font MONO_FONT = new Font(null, "Monospaced", 6, SWT.NORMAL); //$NON-NLS-1$
 
+	/** Maximum number of lines in {@link #offsetToStyleRangeCache}. */
+	private static final int STYLE_CACHE_SIZE = 1000;
+
 	private final DefaultPositionUpdater defaultPositionUpdater = new DefaultPositionUpdater(AnsiPosition.POSITION_NAME);
-	private final HashMap<Integer, List<StyleRange>> offsetToStyleRangeCache = new HashMap<>();
+	/** Least recently used style ranges by line offset. */
+	private final AnsiStyleCache offsetToStyleRangeCache = new AnsiStyleCache(STYLE_CACHE_SIZE);
+	/** Index of the document's ANSI positions. Only valid if {@link #positionIndexValid}. */
+	private final AnsiPositionIndex positionIndex = new AnsiPositionIndex();
+	private boolean positionIndexValid = false;
 	private IDocument document;
 	private boolean documentEverScanned = false;
 	private boolean isCdtBuildConsole = false;
@@ -54,6 +60,7 @@ public class AnsiConsoleStyleListener implements LineStyleListener, IPositionUpd
 
 	private void setDocument(IDocument newDocument) {
 		offsetToStyleRangeCache.clear();
+		positionIndexValid = false;
 		documentEverScanned = false;
 		document = newDocument;
 		isCdtBuildConsole = document.getClass().getSimpleName().equals("BuildConsoleDocument"); //$NON-NLS-1$
@@ -117,9 +124,11 @@ public class AnsiConsoleStyleListener implements LineStyleListener, IPositionUpd
 
 		final int eventOffset = event.lineOffset;
 		final int eventLength = event.lineText.length();
-		final List<StyleRange> cachedRanges = offsetToStyleRangeCache.get(eventOffset);
-		if (cachedRanges != null) {
-			event.styles = cachedRanges.toArray(new StyleRange[0]);
+		// the result depends on the styles of other listeners, e.g. hyperlinks
+		final StyleRange[] incomingStyles = event.styles;
+		final StyleRange[] cachedStyles = offsetToStyleRangeCache.get(eventOffset, eventLength, incomingStyles);
+		if (cachedStyles != null) {
+			event.styles = cachedStyles;
 			return;
 		}
 		if (event.styles == null) { // It looks that in some cases this comes in as null
@@ -130,14 +139,16 @@ public class AnsiConsoleStyleListener implements LineStyleListener, IPositionUpd
 			calculateDocumentAnsiPositions(document, 0, 0, null);
 		}
 
-		Position[] positions;
-		try {
-			positions = document.getPositions(AnsiPosition.POSITION_NAME);
-		} catch (BadPositionCategoryException e) {
-			return;
+		if (!positionIndexValid) {
+			try {
+				positionIndex.reset(document.getPositions(AnsiPosition.POSITION_NAME), lastVisibleAttribute);
+			} catch (BadPositionCategoryException e) {
+				return;
+			}
+			positionIndexValid = true;
 		}
 
-		if (positions.length == 0) {
+		if (positionIndex.size() == 0) {
 			return;
 		}
 
@@ -153,11 +164,13 @@ public class AnsiConsoleStyleListener implements LineStyleListener, IPositionUpd
 		}
 
 		final List<StyleRange> ranges = new ArrayList<>();
-		AnsiConsoleAttributes prevAttr = lastVisibleAttribute;
+		// skip all positions before the line, only their resulting attributes matter
+		int index = positionIndex.findFirstEndingAfter(eventOffset);
+		AnsiConsoleAttributes prevAttr = positionIndex.getAttributesBefore(index);
 		int prevPos = eventOffset;
 
-		for (Position position : positions) {
-			AnsiPosition apos = (AnsiPosition) position;
+		for (; index < positionIndex.size(); index++) {
+			AnsiPosition apos = positionIndex.get(index);
 			if (apos.getOffset() > eventOffset + eventLength) { // we passed the end of line, stop searching
 				break;
 			}
@@ -189,8 +202,9 @@ public class AnsiConsoleStyleListener implements LineStyleListener, IPositionUpd
 					}
 				}
 			}
-			offsetToStyleRangeCache.put(eventOffset, ranges);
-			event.styles = ranges.toArray(new StyleRange[0]);
+			final StyleRange[] styles = ranges.toArray(new StyleRange[0]);
+			offsetToStyleRangeCache.put(eventOffset, eventLength, incomingStyles, styles);
+			event.styles = styles;
 		}
 	}
 
@@ -238,6 +252,10 @@ public class AnsiConsoleStyleListener implements LineStyleListener, IPositionUpd
 			List<AnsiPosition> newPos = findPositions(offset, text);
 			for (AnsiPosition apos : newPos) {
 				eventDocument.addPosition(AnsiPosition.POSITION_NAME, apos);
+				if (positionIndexValid) {
+					// appended positions are always behind all known positions
+					positionIndex.add(apos);
+				}
 			}
 		} catch (BadPositionCategoryException | BadLocationException e) {
 			// ignored
@@ -269,10 +287,17 @@ public class AnsiConsoleStyleListener implements LineStyleListener, IPositionUpd
 				}
 			}
 			defaultPositionUpdater.update(event);
+			final boolean append = length == 0 && text != null && offset + text.length() == eventDocument.getLength();
+			if (!append || eventDocument != document) {
+				// Positions were moved or removed. Cached styles are keyed by offset and the
+				// index may reference removed positions.
+				positionIndexValid = false;
+				offsetToStyleRangeCache.clear();
+			}
 			// This will only do something on new text (appended)
 			calculateDocumentAnsiPositions(eventDocument, offset, length, text);
-			// Would probably be possible to re-calculate things. But let's measure first (premature optimization and all that :-)
-			offsetToStyleRangeCache.clear();
+			// On append only the last line changes. Its cached styles are discarded by the
+			// line length check of the cache.
 		} catch (BadPositionCategoryException e) {
 			// ignored
 		}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.console.ansi.participants;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jface.text.Position;
+import org.eclipse.ui.internal.console.ansi.utils.AnsiConsoleAttributes;
+
+/**
+ * Index of the {@link AnsiPosition}s of a document sorted by offset. For every
+ * position the index also remembers the attributes in effect after the
+ * position, so the attributes in effect at any offset are found without
+ * visiting the preceding positions.
+ * <p>
+ * The index references the positions registered in the document, so offset
+ * updates done by the document's position updaters are reflected. Positions
+ * added to or removed from the document must be passed to the index or the
+ * index must be rebuilt.
+ * </p>
+ */
+public class AnsiPositionIndex {
+
+	private final List<AnsiPosition> positions = new ArrayList<>();
+
+	/** Attributes in effect after the position with the same index. */
+	private final List<AnsiConsoleAttributes> attributesAfter = new ArrayList<>();
+
+	/** Attributes in effect before the first position. */
+	private AnsiConsoleAttributes initialAttributes;
+
+	/**
+	 * Rebuilds the index.
+	 *
+	 * @param documentPositions the positions of the document in offset order
+	 * @param initial           attributes in effect before the first position
+	 */
+	public void reset(Position[] documentPositions, AnsiConsoleAttributes initial) {
+		positions.clear();
+		attributesAfter.clear();
+		initialAttributes = initial;
+		for (Position position : documentPositions) {
+			add((AnsiPosition) position);
+		}
+	}
+
+	/**
+	 * Adds a position to the index. The position must not start before any
+	 * position already in the index.
+	 *
+	 * @param position the position to add
+	 */
+	public void add(AnsiPosition position) {
+		final AnsiConsoleAttributes previous = getAttributesBefore(positions.size());
+		positions.add(position);
+		// Attributes can be null for non \e[..m escapes, for example \e[K
+		// Those kind of escape sequences don't affect the attributes.
+		attributesAfter.add(position.attributes != null ? position.attributes : previous);
+	}
+
+	public int size() {
+		return positions.size();
+	}
+
+	public AnsiPosition get(int index) {
+		return positions.get(index);
+	}
+
+	/**
+	 * Returns the attributes in effect before the position with the given index.
+	 *
+	 * @param index index of a position or {@link #size()}
+	 * @return the attributes in effect
+	 */
+	public AnsiConsoleAttributes getAttributesBefore(int index) {
+		return index == 0 ? initialAttributes : attributesAfter.get(index - 1);
+	}
+
+	/**
+	 * Returns the index of the first position ending after the given offset.
+	 *
+	 * @param offset the document offset
+	 * @return index of the first position whose end is greater than
+	 *         <code>offset</code> or {@link #size()} if there is none
+	 */
+	public int findFirstEndingAfter(int offset) {
+		int low = 0;
+		int high = positions.size();
+		while (low < high) {
+			final int mid = (low + high) >>> 1;
+			final AnsiPosition position = positions.get(mid);
+			if (position.offset + position.length > offset) {
+				high = mid;
+			} else {
+				low = mid + 1;
+			}
+		}
+		return low;
+	}
+}
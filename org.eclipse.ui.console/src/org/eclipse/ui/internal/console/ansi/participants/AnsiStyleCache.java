@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.ui.internal.console.ansi.participants;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.swt.custom.StyleRange;
+
+/**
+ * Least recently used cache of the style ranges computed for console lines.
+ * <p>
+ * The computed styles depend on the line and on the styles other listeners
+ * provided for the line, e.g. hyperlinks or stream colors. An entry is only
+ * used if the line has the same length and the same incoming styles as when
+ * the entry was stored. Entries are keyed by line offset, so they must be
+ * cleared if document content is moved.
+ * </p>
+ */
+public class AnsiStyleCache {
+
+	/** Style ranges computed for a line. */
+	private static final class CachedStyles {
+		final int lineLength;
+		final StyleRange[] incomingStyles;
+		final StyleRange[] styles;
+
+		CachedStyles(int lineLength, StyleRange[] incomingStyles, StyleRange[] styles) {
+			this.lineLength = lineLength;
+			this.incomingStyles = incomingStyles;
+			this.styles = styles;
+		}
+	}
+
+	private final Map<Integer, CachedStyles> cache;
+
+	/**
+	 * Creates a cache.
+	 *
+	 * @param capacity maximum number of cached lines
+	 */
+	public AnsiStyleCache(int capacity) {
+		cache = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Integer, CachedStyles> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	/**
+	 * Returns a copy of the styles cached for a line.
+	 *
+	 * @param lineOffset     document offset of the line
+	 * @param lineLength     length of the line
+	 * @param incomingStyles styles provided by other listeners for the line, may
+	 *                       be <code>null</code>
+	 * @return the cached styles or <code>null</code> if there are none for the
+	 *         given line and incoming styles
+	 */
+	public StyleRange[] get(int lineOffset, int lineLength, StyleRange[] incomingStyles) {
+		final CachedStyles cached = cache.get(lineOffset);
+		if (cached == null || cached.lineLength != lineLength || !Arrays.equals(cached.incomingStyles, incomingStyles)) {
+			return null;
+		}
+		return cached.styles.clone();
+	}
+
+	/**
+	 * Stores the styles computed for a line.
+	 *
+	 * @param lineOffset     document offset of the line
+	 * @param lineLength     length of the line
+	 * @param incomingStyles styles provided by other listeners for the line the
+	 *                       styles were computed from, may be <code>null</code>
+	 * @param styles         the computed styles
+	 */
+	public void put(int lineOffset, int lineLength, StyleRange[] incomingStyles, StyleRange[] styles) {
+		cache.put(lineOffset, new CachedStyles(lineLength, incomingStyles == null ? null : incomingStyles.clone(), styles.clone()));
+	}
+
+	/**
+	 * Removes all cached styles.
+	 */
+	public void clear() {
+		cache.clear();
+	}
+
+	/**
+	 * @return number of cached lines
+	 */
+	public int size() {
+		return cache.size();
+	}
+}